@@ -0,0 +1,103 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.benchmarks;
+
+import static org.sejda.impl.sambox.component.Annotations.processAnnotations;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.sejda.common.LookupTable;
+import org.sejda.impl.sambox.component.AcroFormsMerger;
+import org.sejda.io.SeekableSources;
+import org.sejda.model.pdf.form.AcroFormPolicy;
+import org.sejda.sambox.input.PDFParser;
+import org.sejda.sambox.pdmodel.PDDocument;
+import org.sejda.sambox.pdmodel.PDPage;
+import org.sejda.sambox.pdmodel.interactive.annotation.PDAnnotation;
+
+/**
+ * Merge of the forms of many copies of the same document, all fields having the same names. Time per operation is expected to grow
+ * linearly with the total number of fields, forms × fields.
+ * 
+ * @author agent
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AcroFormsMergerBenchmark {
+
+    @Param({ "50", "100", "200" })
+    public int forms;
+
+    @Param({ "400" })
+    public int fields;
+
+    private byte[] form;
+    private List<PDDocument> documents = new ArrayList<>();
+    private List<LookupTable<PDAnnotation>> lookups = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        form = SyntheticPdfs.generateForm(fields);
+    }
+
+    @Setup(Level.Invocation)
+    public void open() throws IOException {
+        for (int i = 0; i < forms; i++) {
+            PDDocument document = PDFParser.parse(SeekableSources.inMemorySeekableSourceFrom(form));
+            LookupTable<PDPage> pages = new LookupTable<>();
+            for (PDPage page : document.getPages()) {
+                pages.addLookupEntry(page, new PDPage(page.getCOSObject().duplicate()));
+            }
+            documents.add(document);
+            lookups.add(processAnnotations(pages, document));
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void close() {
+        documents.forEach(IOUtils::closeQuietly);
+        documents.clear();
+        lookups.clear();
+    }
+
+    @Benchmark
+    public AcroFormsMerger merge() {
+        AcroFormsMerger merger = new AcroFormsMerger(AcroFormPolicy.MERGE, new PDDocument());
+        for (int i = 0; i < forms; i++) {
+            merger.mergeForm(documents.get(i).getDocumentCatalog().getAcroForm(), lookups.get(i));
+        }
+        return merger;
+    }
+}
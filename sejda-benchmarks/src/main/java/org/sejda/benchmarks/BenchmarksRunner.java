@@ -0,0 +1,52 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks matching the regular expression given as first argument, all of them if no argument is given. Results, including
+ * the allocation rate measured by the GC profiler, are written as JSON to the file given as second argument, sejda-benchmarks.json by
+ * default, so that they can be compared between releases.
+ * 
+ * @author agent
+ *
+ */
+public final class BenchmarksRunner {
+
+    private BenchmarksRunner() {
+        // hide
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder().include(args.length > 0 ? args[0] : ".*Benchmark")
+                .addProfiler(GCProfiler.class).resultFormat(ResultFormatType.JSON)
+                .result(args.length > 1 ? args[1] : "sejda-benchmarks.json").mode(Mode.Throughput)
+                .timeUnit(TimeUnit.SECONDS).forks(1).warmupIterations(3).measurementIterations(5);
+        new Runner(options.build()).run();
+    }
+}
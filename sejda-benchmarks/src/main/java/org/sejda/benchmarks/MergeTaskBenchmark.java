@@ -0,0 +1,48 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.benchmarks;
+
+import java.io.File;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.sejda.impl.sambox.MergeTask;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.input.PdfMergeInput;
+import org.sejda.model.output.ExistingOutputPolicy;
+import org.sejda.model.output.FileTaskOutput;
+import org.sejda.model.parameter.MergeParameters;
+
+/**
+ * Merge of two copies of the synthetic document.
+ * 
+ * @author agent
+ *
+ */
+public class MergeTaskBenchmark {
+
+    @Benchmark
+    public long merge(SyntheticDocument document) throws TaskException {
+        MergeParameters parameters = new MergeParameters();
+        parameters.addInput(new PdfMergeInput(document.source()));
+        parameters.addInput(new PdfMergeInput(document.source()));
+        parameters.setOutput(new FileTaskOutput(new File(document.outputDirectory, "merged.pdf")));
+        parameters.setExistingOutputPolicy(ExistingOutputPolicy.OVERWRITE);
+        return Tasks.execute(new MergeTask(), parameters);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.sejda.impl.sambox.PdfToMultipleImageTask;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.output.ExistingOutputPolicy;
+import org.sejda.model.parameter.image.PdfToJpegParameters;
+
+/**
+ * Conversion of the synthetic document pages to JPEG images.
+ * 
+ * @author agent
+ *
+ */
+public class PdfToMultipleImageTaskBenchmark {
+
+    @Benchmark
+    public long render(SyntheticDocument document) throws TaskException {
+        PdfToJpegParameters parameters = new PdfToJpegParameters();
+        parameters.setSource(document.source());
+        parameters.setResolutionInDpi(72);
+        parameters.setOutputPrefix("[CURRENTPAGE]");
+        parameters.setOutput(document.directoryOutput());
+        parameters.setExistingOutputPolicy(ExistingOutputPolicy.OVERWRITE);
+        return Tasks.execute(new PdfToMultipleImageTask(), parameters);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
+import org.sejda.impl.sambox.component.PDDocumentHandler;
+import org.sejda.model.exception.TaskException;
+
+/**
+ * Save of an already parsed synthetic document, isolating the writer from the parser.
+ * 
+ * @author agent
+ *
+ */
+@State(Scope.Thread)
+public class SavePDDocumentBenchmark {
+
+    private PDDocumentHandler handler;
+    private File output;
+
+    @Setup(Level.Invocation)
+    public void open(SyntheticDocument document) throws TaskException {
+        handler = document.source().open(new DefaultPdfSourceOpener());
+        output = new File(document.outputDirectory, "saved.pdf");
+    }
+
+    @TearDown(Level.Invocation)
+    public void close() throws IOException {
+        handler.close();
+    }
+
+    @Benchmark
+    public long save() throws TaskException {
+        handler.savePDDocument(output);
+        return output.length();
+    }
+}
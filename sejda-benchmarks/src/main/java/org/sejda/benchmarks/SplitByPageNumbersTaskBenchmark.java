@@ -0,0 +1,46 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.sejda.impl.sambox.SplitByPageNumbersTask;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.output.ExistingOutputPolicy;
+import org.sejda.model.parameter.SplitByPagesParameters;
+
+/**
+ * Split of the synthetic document every 10 pages.
+ * 
+ * @author agent
+ *
+ */
+public class SplitByPageNumbersTaskBenchmark {
+
+    @Benchmark
+    public long split(SyntheticDocument document) throws TaskException {
+        SplitByPagesParameters parameters = new SplitByPagesParameters();
+        for (int page = 10; page < document.pages; page += 10) {
+            parameters.addPage(page);
+        }
+        parameters.setSource(document.source());
+        parameters.setOutput(document.directoryOutput());
+        parameters.setExistingOutputPolicy(ExistingOutputPolicy.OVERWRITE);
+        return Tasks.execute(new SplitByPageNumbersTask<SplitByPagesParameters>(), parameters);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.sejda.impl.sambox.SplitBySizeTask;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.output.ExistingOutputPolicy;
+import org.sejda.model.parameter.SplitBySizeParameters;
+
+/**
+ * Split of the synthetic document in files of about 1MB.
+ * 
+ * @author agent
+ *
+ */
+public class SplitBySizeTaskBenchmark {
+
+    private static final long SIZE = 1024 * 1024;
+
+    @Benchmark
+    public long split(SyntheticDocument document) throws TaskException {
+        SplitBySizeParameters parameters = new SplitBySizeParameters(SIZE);
+        parameters.setSource(document.source());
+        parameters.setOutput(document.directoryOutput());
+        parameters.setExistingOutputPolicy(ExistingOutputPolicy.OVERWRITE);
+        return Tasks.execute(new SplitBySizeTask(), parameters);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.sejda.model.input.PdfFileSource;
+import org.sejda.model.output.DirectoryTaskOutput;
+
+/**
+ * Benchmark state holding a synthetic input document, generated once per trial, and a directory where the tasks write their outputs.
+ * 
+ * @author agent
+ *
+ */
+@State(Scope.Benchmark)
+public class SyntheticDocument {
+
+    @Param({ "20", "500" })
+    public int pages;
+
+    @Param({ "0", "0.25" })
+    public double imagesDensity;
+
+    @Param({ "512" })
+    public int imageSize;
+
+    public File file;
+    public File outputDirectory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = SyntheticPdfs.generate(pages, imagesDensity, imageSize);
+        outputDirectory = Files.createTempDirectory("sejda-benchmark").toFile();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        FileUtils.deleteQuietly(file);
+        FileUtils.deleteQuietly(outputDirectory);
+    }
+
+    public PdfFileSource source() {
+        return PdfFileSource.newInstanceNoPassword(file);
+    }
+
+    public DirectoryTaskOutput directoryOutput() {
+        return new DirectoryTaskOutput(outputDirectory);
+    }
+}
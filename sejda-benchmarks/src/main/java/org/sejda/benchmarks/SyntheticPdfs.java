@@ -0,0 +1,146 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.sejda.sambox.pdmodel.PDDocument;
+import org.sejda.sambox.pdmodel.PDPage;
+import org.sejda.sambox.pdmodel.PDPageContentStream;
+import org.sejda.sambox.pdmodel.common.PDRectangle;
+import org.sejda.sambox.pdmodel.font.PDType1Font;
+import org.sejda.sambox.pdmodel.graphics.image.JPEGFactory;
+import org.sejda.sambox.pdmodel.graphics.image.PDImageXObject;
+import org.sejda.sambox.pdmodel.interactive.annotation.PDAnnotation;
+import org.sejda.sambox.pdmodel.interactive.annotation.PDAnnotationWidget;
+import org.sejda.sambox.pdmodel.interactive.form.PDAcroForm;
+import org.sejda.sambox.pdmodel.interactive.form.PDField;
+import org.sejda.sambox.pdmodel.interactive.form.PDTextField;
+
+/**
+ * Generates synthetic PDF documents used as input of the benchmarks. Documents are generated from a fixed seed so that the same
+ * parameters always give the same document.
+ * 
+ * @author agent
+ *
+ */
+public final class SyntheticPdfs {
+
+    private static final int LINES_PER_PAGE = 40;
+
+    private SyntheticPdfs() {
+        // hide
+    }
+
+    /**
+     * Generates a document with text on every page and an image on a share of the pages
+     * 
+     * @param pages
+     *            number of pages
+     * @param imagesDensity
+     *            share of the pages with an image, from 0 (no images) to 1 (an image on every page)
+     * @param imageSize
+     *            width and height in pixels of the images
+     * @return a temporary file, deleted on exit
+     * @throws IOException
+     */
+    public static File generate(int pages, double imagesDensity, int imageSize) throws IOException {
+        Random random = new Random(pages);
+        File file = File.createTempFile("sejda-benchmark", ".pdf");
+        file.deleteOnExit();
+        try (PDDocument document = new PDDocument()) {
+            for (int i = 0; i < pages; i++) {
+                PDPage page = new PDPage(PDRectangle.A4);
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    if (Math.floor((i + 1) * imagesDensity) > Math.floor(i * imagesDensity)) {
+                        PDImageXObject image = JPEGFactory.createFromImage(image(random, imageSize), 0.95f);
+                        content.drawImage(image, 50, 420, 300, 300);
+                    }
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 10);
+                    content.newLineAtOffset(50, 800);
+                    for (int line = 0; line < LINES_PER_PAGE; line++) {
+                        content.showText(String.format("Page %d line %d %08x the quick brown fox jumps over the lazy dog", i + 1,
+                                line + 1, random.nextInt()));
+                        content.newLineAtOffset(0, -9);
+                    }
+                    content.endText();
+                }
+            }
+            document.writeTo(file);
+        }
+        return file;
+    }
+
+    /**
+     * Generates a single page document with a form containing the given number of text fields
+     * 
+     * @param fields
+     * @return the document bytes
+     * @throws IOException
+     */
+    public static byte[] generateForm(int fields) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage(PDRectangle.A4);
+            document.addPage(page);
+            PDAcroForm form = new PDAcroForm(document);
+            document.getDocumentCatalog().setAcroForm(form);
+            List<PDField> formFields = new ArrayList<>(fields);
+            List<PDAnnotation> annotations = new ArrayList<>(fields);
+            for (int i = 0; i < fields; i++) {
+                PDTextField field = new PDTextField(form);
+                field.setPartialName("field" + i);
+                PDAnnotationWidget widget = field.getWidgets().get(0);
+                float y = 800 - (i % 80) * 10;
+                widget.setRectangle(new PDRectangle(50 + (i / 80) * 100, y, 90, 8));
+                widget.setPage(page);
+                annotations.add(widget);
+                formFields.add(field);
+            }
+            page.setAnnotations(annotations);
+            form.setFields(formFields);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.writeTo(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static BufferedImage image(Random random, int size) {
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        int base = random.nextInt(0xFFFFFF);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                // a gradient with some noise, so it compresses like a photo rather than like a flat fill
+                int noise = random.nextInt(32);
+                int r = ((base >> 16) + x + noise) & 0xFF;
+                int g = ((base >> 8) + y + noise) & 0xFF;
+                int b = (base + x + y) & 0xFF;
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+        return image;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.benchmarks;
+
+import org.sejda.core.support.io.DefaultTemporaryBuffersManager;
+import org.sejda.core.support.io.ThreadLocalTemporaryBuffersManager;
+import org.sejda.core.support.metrics.ThreadLocalTaskMetrics;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.parameter.base.TaskParameters;
+import org.sejda.model.task.Task;
+import org.sejda.model.task.TaskExecutionContext;
+import org.sejda.model.task.TemporaryBuffersManager;
+
+/**
+ * Executes tasks the same way the execution service does, minus parameters validation and notifications.
+ * 
+ * @author agent
+ *
+ */
+final class Tasks {
+
+    private Tasks() {
+        // hide
+    }
+
+    /**
+     * Executes the given task
+     * 
+     * @return the number of bytes delivered to the task output
+     * @throws TaskException
+     */
+    static <T extends TaskParameters> long execute(Task<T> task, T parameters) throws TaskException {
+        TemporaryBuffersManager buffers = new DefaultTemporaryBuffersManager();
+        TaskExecutionContext context = new TaskExecutionContext(task, buffers);
+        ThreadLocalTemporaryBuffersManager.bind(buffers);
+        ThreadLocalTaskMetrics.bind(context.metrics());
+        try {
+            task.before(parameters, context);
+            task.execute(parameters);
+        } finally {
+            task.after();
+            ThreadLocalTaskMetrics.unbind();
+            ThreadLocalTemporaryBuffersManager.unbind();
+            buffers.release();
+        }
+        return context.outputDelivery().bytes();
+    }
+}
@@ -38,6 +38,7 @@ public final class Sejda {
     public static final String UNETHICAL_READ_PROPERTY_NAME = "sejda.unethical.read";
     public static final String USER_CONFIG_FILE_PROPERTY_NAME = "sejda.config.file";
     public static final String PERFORM_SCHEMA_VALIDATION_PROPERTY_NAME = "sejda.perform.schema.validation";
+    public static final String MAX_OPEN_STREAMS_PROPERTY_NAME = "sejda.max.open.streams";
 
     private Sejda() {
         // on purpose
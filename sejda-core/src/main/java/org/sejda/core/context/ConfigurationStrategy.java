@@ -20,6 +20,7 @@
  */
 package org.sejda.core.context;
 
+import java.io.File;
 import java.util.Map;
 
 import org.sejda.core.notification.strategy.NotificationStrategy;
@@ -57,4 +58,19 @@ interface ConfigurationStrategy {
      *         allow a typical configuration (Hibernate-validator and JDK5) to run smooth, it would require JAXB otherwise.
      */
     boolean isIgnoreXmlConfiguration();
+
+    /**
+     * @return the directory where temporary buffers are created or null if the default temporary directory should be used
+     */
+    File getTemporaryBuffersDirectory();
+
+    /**
+     * @return the maximum number of bytes the temporary buffers of a task can use, a non positive value means no limit
+     */
+    long getTemporaryBuffersTaskQuota();
+
+    /**
+     * @return the maximum number of bytes the temporary buffers of all the executing tasks can use, a non positive value means no limit
+     */
+    long getTemporaryBuffersGlobalQuota();
 }
@@ -24,10 +24,12 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
 import org.sejda.core.notification.strategy.NotificationStrategy;
+import org.sejda.core.support.io.DefaultTemporaryBuffersManager;
 import org.sejda.model.exception.TaskException;
 import org.sejda.model.exception.TaskNotFoundException;
 import org.sejda.model.parameter.base.TaskParameters;
 import org.sejda.model.task.Task;
+import org.sejda.model.task.TemporaryBuffersManager;
 
 /**
  * Default implementation of the {@link SejdaContext}. It loads Sejda configuration from the xml configuration file specified by the system property <b>sejda.config.file</b> or
@@ -50,6 +52,13 @@ public class DefaultSejdaContext implements SejdaContext {
         return GlobalConfiguration.getInstance().isValidation();
     }
 
+    @Override
+    public TemporaryBuffersManager newTemporaryBuffersManager() {
+        GlobalConfiguration configuration = GlobalConfiguration.getInstance();
+        return new DefaultTemporaryBuffersManager(configuration.getTemporaryBuffersDirectory(),
+                configuration.getTemporaryBuffersTaskQuota(), configuration.getTemporaryBuffersGlobalQuota());
+    }
+
     public boolean isIgnoreXmlConfiguration() {
         return GlobalConfiguration.getInstance().isIgnoreXmlConfiguration();
     }
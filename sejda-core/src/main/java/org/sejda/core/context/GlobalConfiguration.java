@@ -20,6 +20,7 @@
  */
 package org.sejda.core.context;
 
+import java.io.File;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -50,6 +51,9 @@ final class GlobalConfiguration {
     private TasksRegistry tasksRegistry;
     private boolean validation;
     private boolean ignoreXmlConfiguration;
+    private File temporaryBuffersDirectory;
+    private long temporaryBuffersTaskQuota;
+    private long temporaryBuffersGlobalQuota;
 
     private GlobalConfiguration() {
         LOG.info("Configuring Sejda {}", Sejda.VERSION);
@@ -82,6 +86,11 @@ final class GlobalConfiguration {
         LOG.trace("Validation: {}", validation);
         ignoreXmlConfiguration = configStrategy.isIgnoreXmlConfiguration();
         LOG.trace("Validation, ignore xml configuration: {}", ignoreXmlConfiguration);
+        temporaryBuffersDirectory = configStrategy.getTemporaryBuffersDirectory();
+        temporaryBuffersTaskQuota = configStrategy.getTemporaryBuffersTaskQuota();
+        temporaryBuffersGlobalQuota = configStrategy.getTemporaryBuffersGlobalQuota();
+        LOG.trace("Temporary buffers directory: {}, task quota: {}, global quota: {}", temporaryBuffersDirectory,
+                temporaryBuffersTaskQuota, temporaryBuffersGlobalQuota);
         Map<Class<? extends TaskParameters>, Class<? extends Task>> userTasks = configStrategy.getTasksMap();
         for (Entry<Class<? extends TaskParameters>, Class<? extends Task>> entry : userTasks.entrySet()) {
             tasksRegistry.addTask(entry.getKey(), entry.getValue());
@@ -122,6 +131,27 @@ final class GlobalConfiguration {
         return ignoreXmlConfiguration;
     }
 
+    /**
+     * @return the directory where temporary buffers are created, null for the default temporary directory
+     */
+    File getTemporaryBuffersDirectory() {
+        return temporaryBuffersDirectory;
+    }
+
+    /**
+     * @return the maximum number of bytes the temporary buffers of a task can use, a non positive value means no limit
+     */
+    long getTemporaryBuffersTaskQuota() {
+        return temporaryBuffersTaskQuota;
+    }
+
+    /**
+     * @return the maximum number of bytes the temporary buffers of all the executing tasks can use, a non positive value means no limit
+     */
+    long getTemporaryBuffersGlobalQuota() {
+        return temporaryBuffersGlobalQuota;
+    }
+
     /**
      * Lazy initialization holder class idiom (Joshua Bloch, Effective Java second edition, item 71).
      * 
@@ -21,9 +21,11 @@
 package org.sejda.core.context;
 
 import org.sejda.core.notification.strategy.NotificationStrategy;
+import org.sejda.core.support.io.DefaultTemporaryBuffersManager;
 import org.sejda.model.exception.TaskException;
 import org.sejda.model.parameter.base.TaskParameters;
 import org.sejda.model.task.Task;
+import org.sejda.model.task.TemporaryBuffersManager;
 
 /**
  * Context where Sejda tasks are executed.
@@ -53,4 +55,12 @@ public interface SejdaContext {
      * @return true if validation should be performed on parameters instance during the task execution or false if incoming parameters instances are already validate externally.
      */
     boolean isValidation();
+
+    /**
+     * @return a new manager for the temporary buffers of a task execution, configured as requested by the user. By default a
+     *         {@link DefaultTemporaryBuffersManager} without quotas.
+     */
+    default TemporaryBuffersManager newTemporaryBuffersManager() {
+        return new DefaultTemporaryBuffersManager();
+    }
 }
@@ -24,6 +24,7 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.sejda.common.XMLUtils.nullSafeGetBooleanAttribute;
 import static org.sejda.common.XMLUtils.nullSafeGetStringAttribute;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
@@ -70,6 +71,10 @@ final class XmlConfigurationStrategy implements ConfigurationStrategy {
     private static final String TASKS_XPATH = "/tasks/task";
     private static final String TASK_PARAM_ATTRIBUTENAME = "parameters";
     private static final String TASK_VALUE_ATTRIBUTENAME = "task";
+    private static final String TEMPORARY_BUFFERS_XPATH = "/temporary_buffers";
+    private static final String TEMPORARY_BUFFERS_DIRECTORY_ATTRIBUTENAME = "directory";
+    private static final String TEMPORARY_BUFFERS_TASK_QUOTA_ATTRIBUTENAME = "task_quota";
+    private static final String TEMPORARY_BUFFERS_GLOBAL_QUOTA_ATTRIBUTENAME = "global_quota";
     private static final String DEFAULT_SEJDA_CONFIG = "sejda.xsd";
 
     private XPathFactory xpathFactory = XPathFactory.newInstance();
@@ -78,6 +83,9 @@ final class XmlConfigurationStrategy implements ConfigurationStrategy {
     private Map<Class<? extends TaskParameters>, Class<? extends Task>> tasks;
     private boolean validation = false;
     private boolean ignoreXmlConfig = true;
+    private File temporaryBuffersDirectory;
+    private long temporaryBuffersTaskQuota = 0;
+    private long temporaryBuffersGlobalQuota = 0;
 
     /**
      * Creates an instance initialized with the given input stream. The stream is not closed.
@@ -102,6 +110,7 @@ final class XmlConfigurationStrategy implements ConfigurationStrategy {
             tasks = getTasksMap(document);
             validation = getValidation(document);
             ignoreXmlConfig = getIgnoreXmlConfig(document);
+            initializeTemporaryBuffers(document);
         } catch (IOException | SAXException e) {
             throw new ConfigurationException(e);
         } catch (ParserConfigurationException | XPathExpressionException e) {
@@ -141,6 +150,21 @@ final class XmlConfigurationStrategy implements ConfigurationStrategy {
         return ignoreXmlConfig;
     }
 
+    @Override
+    public File getTemporaryBuffersDirectory() {
+        return temporaryBuffersDirectory;
+    }
+
+    @Override
+    public long getTemporaryBuffersTaskQuota() {
+        return temporaryBuffersTaskQuota;
+    }
+
+    @Override
+    public long getTemporaryBuffersGlobalQuota() {
+        return temporaryBuffersGlobalQuota;
+    }
+
     @SuppressWarnings("rawtypes")
     private Map<Class<? extends TaskParameters>, Class<? extends Task>> getTasksMap(Document document)
             throws ConfigurationException, XPathExpressionException {
@@ -216,6 +240,31 @@ final class XmlConfigurationStrategy implements ConfigurationStrategy {
         return nullSafeGetBooleanAttribute(node, IGNORE_XML_CONFIG_VALIDATION_ATTRIBUTENAME, true);
     }
 
+    private void initializeTemporaryBuffers(Document document)
+            throws XPathExpressionException, ConfigurationException {
+        Node node = (Node) xpathFactory.newXPath().evaluate(ROOT_NODE + TEMPORARY_BUFFERS_XPATH, document,
+                XPathConstants.NODE);
+        String directory = nullSafeGetStringAttribute(node, TEMPORARY_BUFFERS_DIRECTORY_ATTRIBUTENAME);
+        if (isNotBlank(directory)) {
+            temporaryBuffersDirectory = new File(directory.trim());
+        }
+        temporaryBuffersTaskQuota = getLongAttribute(node, TEMPORARY_BUFFERS_TASK_QUOTA_ATTRIBUTENAME);
+        temporaryBuffersGlobalQuota = getLongAttribute(node, TEMPORARY_BUFFERS_GLOBAL_QUOTA_ATTRIBUTENAME);
+    }
+
+    private static long getLongAttribute(Node node, String attributeName) throws ConfigurationException {
+        String attributeValue = nullSafeGetStringAttribute(node, attributeName);
+        if (isNotBlank(attributeValue)) {
+            try {
+                return Long.parseLong(attributeValue.trim());
+            } catch (NumberFormatException e) {
+                throw new ConfigurationException(
+                        String.format("Invalid %s configuration parameter %s", attributeName, attributeValue), e);
+            }
+        }
+        return 0;
+    }
+
     /**
      * static factory method.
      * 
@@ -26,7 +26,7 @@ import org.sejda.model.notification.EventListener;
 import org.sejda.model.notification.event.AbstractNotificationEvent;
 
 /**
- * Strategy used to hold the list of registered listeners.
+ * Strategy used to hold the list of registered listeners. Implementations are thread safe.
  * 
  * @author Andrea Vacondio
  * 
@@ -72,7 +72,8 @@ interface EventListenerHoldingStrategy {
 
     /**
      * @param event
-     * @return the list of listeners held for the given {@link AbstractNotificationEvent}
+     * @return the list of listeners held for the given {@link AbstractNotificationEvent}. It can be iterated while listeners are added
+     *         or removed.
      */
     List<EventListener<? extends AbstractNotificationEvent>> get(AbstractNotificationEvent event);
 
@@ -20,43 +20,43 @@
  */
 package org.sejda.core.notification.context;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
-import org.sejda.common.collection.ListValueMap;
 import org.sejda.core.support.util.ReflectionUtils;
 import org.sejda.model.exception.NotificationContextException;
 import org.sejda.model.notification.EventListener;
 import org.sejda.model.notification.event.AbstractNotificationEvent;
 
 /**
- * Holds a list of listeners associated to the event class they are listening to.
+ * Holds a list of listeners associated to the event class they are listening to. Lists are copy on write so listeners can be retrieved
+ * and iterated while other threads add or remove listeners, without locking.
  * 
  * @author Andrea Vacondio
  * 
  */
 class SimpleEventListenerHoldingStrategy implements EventListenerHoldingStrategy {
 
-    private final ListValueMap<Class<? extends AbstractNotificationEvent>, EventListener<? extends AbstractNotificationEvent>> listeners;
-
-    SimpleEventListenerHoldingStrategy() {
-        listeners = new ListValueMap<>();
-    }
+    private final ConcurrentMap<Class<? extends AbstractNotificationEvent>, List<EventListener<? extends AbstractNotificationEvent>>> listeners = new ConcurrentHashMap<>();
 
     @Override
     public <T extends AbstractNotificationEvent> void add(EventListener<T> listener) {
-        Class<T> eventClass = getListenerEventClass(listener);
-        listeners.put(eventClass, listener);
+        add(getListenerEventClass(listener), listener);
     }
 
     @Override
     public <T extends AbstractNotificationEvent> void add(Class<T> eventClass, EventListener<T> listener) {
-        listeners.put(eventClass, listener);
+        listeners.computeIfAbsent(eventClass, k -> new CopyOnWriteArrayList<>()).add(listener);
     }
 
     @Override
     public <T extends AbstractNotificationEvent> boolean remove(EventListener<T> listener) {
-        Class<T> eventClass = getListenerEventClass(listener);
-        return listeners.remove(eventClass, listener);
+        List<EventListener<? extends AbstractNotificationEvent>> eventListeners = listeners
+                .get(getListenerEventClass(listener));
+        return eventListeners != null && eventListeners.remove(listener);
     }
 
     private <T extends AbstractNotificationEvent> Class<T> getListenerEventClass(EventListener<T> listener) {
@@ -75,12 +75,12 @@ class SimpleEventListenerHoldingStrategy implements EventListenerHoldingStrategy
 
     @Override
     public List<EventListener<? extends AbstractNotificationEvent>> get(AbstractNotificationEvent event) {
-        return listeners.get(event.getClass());
+        return listeners.getOrDefault(event.getClass(), Collections.emptyList());
     }
 
     @Override
     public int size() {
-        return listeners.size();
+        return listeners.values().stream().mapToInt(List::size).sum();
     }
 
 }
@@ -33,17 +33,56 @@ public final class ThreadLocalNotificationContext {
         // hide
     }
 
-    private static final ThreadLocal<? extends AbstractNotificationContext> THREAD_LOCAL_CONTEXT = new ThreadLocal<SimpleNotificationContext>() {
+    private static final ThreadLocal<NotificationContext> THREAD_LOCAL_CONTEXT = new ThreadLocal<NotificationContext>() {
         @Override
-        protected SimpleNotificationContext initialValue() {
+        protected NotificationContext initialValue() {
             return new ThreadLocalNotificationContext.SimpleNotificationContext();
         }
     };
 
+    private static final ThreadLocal<Boolean> PROGRESS_SUPPRESSED = new ThreadLocal<>();
+
     public static NotificationContext getContext() {
         return THREAD_LOCAL_CONTEXT.get();
     }
 
+    /**
+     * Binds the given context to the current thread. Worker threads executing part of a task can use this to notify the listeners registered on the thread that is executing the
+     * task.
+     * 
+     * @param context
+     * @see #unbind()
+     */
+    public static void bind(NotificationContext context) {
+        THREAD_LOCAL_CONTEXT.set(context);
+    }
+
+    /**
+     * Suppresses the progress notifications of the current thread, until {@link #unbind()} is called. Worker threads executing part of a
+     * task can use this when the progress of the task is notified by the thread that is executing it, so that the progress of the single
+     * parts doesn't reach the listeners.
+     */
+    public static void suppressProgress() {
+        PROGRESS_SUPPRESSED.set(Boolean.TRUE);
+    }
+
+    /**
+     * @return true if the progress notifications of the current thread are suppressed
+     * @see #suppressProgress()
+     */
+    public static boolean isProgressSuppressed() {
+        return Boolean.TRUE.equals(PROGRESS_SUPPRESSED.get());
+    }
+
+    /**
+     * Removes the context bound to the current thread, a new empty one is created the next time {@link #getContext()} is called. Progress
+     * notifications are not suppressed anymore.
+     */
+    public static void unbind() {
+        THREAD_LOCAL_CONTEXT.remove();
+        PROGRESS_SUPPRESSED.remove();
+    }
+
     /**
      * Simple notification context holding a list of listeners as instance attribute.
      * 
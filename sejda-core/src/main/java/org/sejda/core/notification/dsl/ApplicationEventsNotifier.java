@@ -124,6 +124,10 @@ public final class ApplicationEventsNotifier implements Notifier, OngoingNotific
      * @param event
      */
     private void notifyListeners(AbstractNotificationEvent event) {
+        if (event instanceof PercentageOfWorkDoneChangedEvent && ThreadLocalNotificationContext.isProgressSuppressed()) {
+            LOG.trace("Progress notifications suppressed, skipping event {}", event);
+            return;
+        }
         LOG.trace("Notifing event {}", event);
         GlobalNotificationContext.getContext().notifyListeners(event);
         ThreadLocalNotificationContext.getContext().notifyListeners(event);
@@ -19,16 +19,32 @@
  */
 package org.sejda.core.notification.strategy;
 
+import static org.sejda.core.support.concurrent.WorkerThreads.daemonThreadFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.sejda.model.notification.EventListener;
 import org.sejda.model.notification.event.AbstractNotificationEvent;
+import org.sejda.model.notification.event.PercentageOfWorkDoneChangedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Strategy to notify events asynchronously using a per thread single thread executor.
+ * Strategy to notify events asynchronously using a pool of daemon threads shared by all the instances. Events notified through the same
+ * instance are delivered in the order they are notified, one at a time. When a listener falls behind, consecutive pending
+ * {@link PercentageOfWorkDoneChangedEvent}s of the same task for that listener are coalesced and the listener only receives the most
+ * recent one, progress is never merged across other events queued for the listener or across different tasks. Idle
+ * pool threads terminate after a while, the pool can also be explicitly shut down using {@link #shutdown(long, TimeUnit)}.
  * 
  * @author Andrea Vacondio
  * 
@@ -37,54 +53,144 @@ public final class AsyncNotificationStrategy implements NotificationStrategy {
 
     private static final Logger LOG = LoggerFactory.getLogger(AsyncNotificationStrategy.class);
 
+    private static final int POOL_SIZE = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
     /**
-     * ThreadLocal returning a {@link ExecutorService} (the same instance for the same thread).
+     * Max number of notifications delivered before giving the pool thread back to the other instances
      */
-    private static final ThreadLocal<ExecutorService> THREAD_LOCAL = new ThreadLocal<ExecutorService>() {
-        @Override
-        protected ExecutorService initialValue() {
-            return Executors.newSingleThreadExecutor();
-        }
-    };
+    private static final int BATCH_SIZE = 64;
+    private static ExecutorService executor;
+
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    /**
+     * Guards the queueing order and the progress notifications that can still be merged
+     */
+    private final Object lock = new Object();
+    /**
+     * Progress notification queued last for each listener, as long as it's not delivered and nothing else has been queued for the
+     * listener after it
+     */
+    @SuppressWarnings("rawtypes")
+    private final Map<EventListener, ProgressNotification> mergeableProgress = new HashMap<>();
 
     @Override
     @SuppressWarnings("rawtypes")
     public void notifyListener(final EventListener listener, final AbstractNotificationEvent event) {
         if (listener != null) {
-            THREAD_LOCAL.get().execute(new NotifyRunnable(listener, event));
+            synchronized (lock) {
+                if (event instanceof PercentageOfWorkDoneChangedEvent) {
+                    ProgressNotification last = mergeableProgress.get(listener);
+                    if (last != null && last.isSameTask(event)) {
+                        // the pending notification will deliver this event instead of the one it was created for
+                        last.event = event;
+                    } else {
+                        ProgressNotification notification = new ProgressNotification(listener, event);
+                        mergeableProgress.put(listener, notification);
+                        pending.add(notification);
+                    }
+                } else {
+                    mergeableProgress.remove(listener);
+                    pending.add(() -> notify(listener, event));
+                }
+            }
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            ExecutorService pool = executor();
+            try {
+                pool.execute(() -> deliver(pool));
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Notifications pool is shutting down, delivering on the current thread");
+                deliver(pool);
+            }
+        }
+    }
+
+    private void deliver(ExecutorService pool) {
+        Runnable notification;
+        int delivered = 0;
+        // once the pool is shut down everything pending is delivered, so that shutdown waits for it
+        while ((delivered++ < BATCH_SIZE || pool.isShutdown()) && (notification = pending.poll()) != null) {
+            notification.run();
+        }
+        scheduled.set(false);
+        if (!pending.isEmpty()) {
+            schedule();
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static void notify(EventListener listener, AbstractNotificationEvent event) {
+        try {
+            listener.onEvent(event);
+        } catch (RuntimeException e) {
+            LOG.error(String.format("An error occurred notifying event %s", event), e);
         }
     }
 
     /**
-     * Runnable that can notify a listener of a given event.
-     * 
-     * @author Andrea Vacondio
-     * 
+     * Delivers the most recent progress event merged into it
      */
     @SuppressWarnings("rawtypes")
-    private static final class NotifyRunnable implements Runnable {
-
+    private class ProgressNotification implements Runnable {
         private final EventListener listener;
-        private final AbstractNotificationEvent event;
+        private AbstractNotificationEvent event;
 
-        /**
-         * @param listener
-         * @param event
-         */
-        private NotifyRunnable(EventListener listener, AbstractNotificationEvent event) {
+        ProgressNotification(EventListener listener, AbstractNotificationEvent event) {
             this.listener = listener;
             this.event = event;
         }
 
+        boolean isSameTask(AbstractNotificationEvent other) {
+            return Objects.equals(event.getNotifiableTaskMetadata(), other.getNotifiableTaskMetadata());
+        }
+
         @Override
-        @SuppressWarnings("unchecked")
         public void run() {
-            try {
-                listener.onEvent(event);
-            } catch (RuntimeException e) {
-                LOG.error(String.format("An error occurred notifying event %s", event), e);
-                throw e;
+            AbstractNotificationEvent current;
+            synchronized (lock) {
+                mergeableProgress.remove(listener, this);
+                current = event;
             }
+            AsyncNotificationStrategy.notify(listener, current);
+        }
+    }
+
+    private static synchronized ExecutorService executor() {
+        if (executor == null) {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, 30, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), daemonThreadFactory("sejda-notifications"));
+            pool.allowCoreThreadTimeOut(true);
+            executor = pool;
+        }
+        return executor;
+    }
+
+    /**
+     * Shuts down the pool used to deliver the notifications, waiting for the already notified events to be delivered. Events notified
+     * afterwards are delivered by a new pool.
+     * 
+     * @param timeout
+     *            the maximum time to wait
+     * @param unit
+     *            the time unit of the timeout argument
+     * @return true if all the pending notifications have been delivered, false if the timeout elapsed before
+     * @throws InterruptedException
+     *             if interrupted while waiting
+     */
+    public static boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        ExecutorService current;
+        synchronized (AsyncNotificationStrategy.class) {
+            current = executor;
+            executor = null;
+        }
+        if (current == null) {
+            return true;
         }
+        current.shutdown();
+        return current.awaitTermination(timeout, unit);
     }
 }
@@ -0,0 +1,351 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.service;
+
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import static org.sejda.core.support.concurrent.WorkerThreads.daemonThreadFactory;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.sejda.core.notification.context.NotificationContext;
+import org.sejda.core.notification.context.ThreadLocalNotificationContext;
+import org.sejda.model.parameter.base.TaskParameters;
+import org.sejda.model.task.CancellationOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link TaskExecutionService} executing tasks on a pool of worker threads. Tasks are submitted using {@link #submit(TaskParameters)} or
+ * {@link #submit(TaskParameters, CancellationOption)} and the returned {@link Future} completes when the execution is over, the outcome
+ * of the execution is notified as usual to the registered listeners, including those registered on the submitting thread. Cancelling
+ * the {@link Future} removes the task from the queue or, if the task is running, requests its cancellation through the
+ * {@link CancellationOption}.
+ * <p>
+ * Submissions are rejected with a {@link RejectedExecutionException} when the number of tasks waiting to start reaches the queue
+ * capacity or when less than the configured minimum of heap memory is available. The number of tasks running at the same time can be
+ * limited for specific parameters types, tasks exceeding the limit wait in the queue until a task of the same type completes.
+ * </p>
+ * 
+ * @author agent
+ *
+ */
+public class ConcurrentTaskExecutionService implements TaskExecutionService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConcurrentTaskExecutionService.class);
+
+    private final TaskExecutionService executionService;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final AtomicInteger queued = new AtomicInteger(0);
+    private final ConcurrentMap<Class<? extends TaskParameters>, ConcurrencyLimit> limits = new ConcurrentHashMap<>();
+    private final Set<TaskExecution> submitted = ConcurrentHashMap.newKeySet();
+    private volatile long minimumFreeMemory = 0;
+
+    /**
+     * @param threads
+     *            number of worker threads
+     * @param queueCapacity
+     *            maximum number of submitted tasks waiting to start
+     */
+    public ConcurrentTaskExecutionService(int threads, int queueCapacity) {
+        this(new DefaultTaskExecutionService(), threads, queueCapacity, daemonThreadFactory("sejda-task-executor"));
+    }
+
+    /**
+     * @param executionService
+     *            the service performing the execution on the worker threads
+     * @param threads
+     *            number of worker threads
+     * @param queueCapacity
+     *            maximum number of submitted tasks waiting to start
+     * @param threadFactory
+     *            factory for the worker threads
+     */
+    public ConcurrentTaskExecutionService(TaskExecutionService executionService, int threads, int queueCapacity,
+            ThreadFactory threadFactory) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one worker thread is required");
+        }
+        this.executionService = requireNonNull(executionService);
+        this.queueCapacity = queueCapacity;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                threadFactory);
+    }
+
+    /**
+     * Limits the number of tasks for the given parameters type running at the same time
+     * 
+     * @param parametersType
+     * @param maxConcurrentTasks
+     */
+    public void setConcurrencyLimit(Class<? extends TaskParameters> parametersType, int maxConcurrentTasks) {
+        if (maxConcurrentTasks < 1) {
+            throw new IllegalArgumentException("Concurrency limit must be positive");
+        }
+        limits.computeIfAbsent(parametersType, k -> new ConcurrencyLimit()).setMax(maxConcurrentTasks);
+    }
+
+    /**
+     * @param bytes
+     *            the minimum amount of heap memory that must be available for a submission to be accepted
+     */
+    public void setMinimumFreeMemory(long bytes) {
+        this.minimumFreeMemory = bytes;
+    }
+
+    /**
+     * Submits the task for execution
+     * 
+     * @param parameters
+     * @return a {@link Future} completing when the execution is over
+     * @throws RejectedExecutionException
+     *             if the queue is full, there isn't enough free memory or the service has been shut down
+     */
+    public Future<Void> submit(TaskParameters parameters) {
+        return submit(parameters, new CancellationOption());
+    }
+
+    /**
+     * Submits the task for execution
+     * 
+     * @param parameters
+     * @param cancellationOption
+     *            option that can be used to cancel the task once it started
+     * @return a {@link Future} completing when the execution is over
+     * @throws RejectedExecutionException
+     *             if the queue is full, there isn't enough free memory or the service has been shut down
+     */
+    public Future<Void> submit(TaskParameters parameters, CancellationOption cancellationOption) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Execution service has been shut down");
+        }
+        assertEnoughMemory();
+        if (queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            throw new RejectedExecutionException(String.format("Too many tasks waiting for execution: %d", queueCapacity));
+        }
+        NotificationContext notificationContext = ThreadLocalNotificationContext.getContext();
+        TaskExecution execution = new TaskExecution(() -> {
+            // listeners registered on the submitting thread are notified
+            ThreadLocalNotificationContext.bind(notificationContext);
+            try {
+                executionService.execute(parameters, cancellationOption);
+            } finally {
+                ThreadLocalNotificationContext.unbind();
+            }
+        }, cancellationOption, limits.get(parameters.getClass()));
+        submitted.add(execution);
+        if (execution.limit == null || execution.limit.acquireOrWait(execution)) {
+            try {
+                executor.execute(() -> run(execution));
+            } catch (RejectedExecutionException e) {
+                execution.cancel(false);
+                if (nonNull(execution.limit)) {
+                    // shutting down, there's nobody to hand the slot to
+                    TaskExecution next;
+                    while (nonNull(next = execution.limit.releaseAndNext())) {
+                        next.cancel(false);
+                    }
+                }
+                throw e;
+            }
+        }
+        return execution;
+    }
+
+    /**
+     * Runs the given execution and then, on the same thread, the executions of the same type that were waiting for it to complete
+     */
+    private void run(TaskExecution execution) {
+        TaskExecution current = execution;
+        while (nonNull(current)) {
+            current.run();
+            current = nonNull(current.limit) ? current.limit.releaseAndNext() : null;
+        }
+    }
+
+    private void assertEnoughMemory() {
+        long required = minimumFreeMemory;
+        if (required > 0) {
+            Runtime runtime = Runtime.getRuntime();
+            long available = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+            if (available < required) {
+                throw new RejectedExecutionException(
+                        String.format("Not enough free memory to accept the task: %d bytes available", available));
+            }
+        }
+    }
+
+    /**
+     * Executes the task on the caller thread, regardless of the queue and of the concurrency limits
+     */
+    @Override
+    public void execute(TaskParameters parameters) {
+        executionService.execute(parameters);
+    }
+
+    /**
+     * Executes the task on the caller thread, regardless of the queue and of the concurrency limits
+     */
+    @Override
+    public void execute(TaskParameters parameters, CancellationOption cancellationOption) {
+        executionService.execute(parameters, cancellationOption);
+    }
+
+    /**
+     * @return the number of submitted tasks waiting to start
+     */
+    public int queued() {
+        return queued.get();
+    }
+
+    /**
+     * Stops accepting submissions, already submitted tasks are executed
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Stops accepting submissions, cancels the tasks waiting to start and requests the cancellation of the running ones
+     */
+    public void shutdownNow() {
+        executor.shutdown();
+        submitted.forEach(e -> e.cancel(false));
+    }
+
+    /**
+     * Waits for the submitted tasks to complete after a shutdown request
+     * 
+     * @param timeout
+     * @param unit
+     * @return true if all the tasks completed, false if the timeout elapsed before
+     * @throws InterruptedException
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Execution of a submitted task
+     */
+    private final class TaskExecution extends FutureTask<Void> {
+
+        private final CancellationOption cancellationOption;
+        private final ConcurrencyLimit limit;
+        private final AtomicBoolean dequeued = new AtomicBoolean(false);
+
+        TaskExecution(Runnable execution, CancellationOption cancellationOption, ConcurrencyLimit limit) {
+            super(execution, null);
+            this.cancellationOption = cancellationOption;
+            this.limit = limit;
+        }
+
+        @Override
+        public void run() {
+            dequeued();
+            super.run();
+        }
+
+        /**
+         * Running tasks are never interrupted, they are asked to stop through their {@link CancellationOption}
+         */
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (cancellationOption.isCancellable()) {
+                LOG.debug("Requesting cancellation of a running task");
+                cancellationOption.requestCancel();
+            }
+            boolean cancelled = super.cancel(false);
+            if (cancelled) {
+                dequeued();
+            }
+            return cancelled;
+        }
+
+        private void dequeued() {
+            if (dequeued.compareAndSet(false, true)) {
+                queued.decrementAndGet();
+            }
+        }
+
+        @Override
+        protected void done() {
+            submitted.remove(this);
+        }
+    }
+
+    /**
+     * Number of running tasks of a given type and tasks of that type waiting for one of them to complete
+     */
+    private static final class ConcurrencyLimit {
+        private final Queue<TaskExecution> waiting = new ArrayDeque<>();
+        private int running = 0;
+        private int max = Integer.MAX_VALUE;
+
+        synchronized void setMax(int max) {
+            this.max = max;
+        }
+
+        /**
+         * @return true if the execution can run, false if it has been put on wait
+         */
+        synchronized boolean acquireOrWait(TaskExecution execution) {
+            if (running < max) {
+                running++;
+                return true;
+            }
+            waiting.add(execution);
+            return false;
+        }
+
+        /**
+         * @return the next waiting execution that can run in place of the completed one, null if there is none
+         */
+        synchronized TaskExecution releaseAndNext() {
+            TaskExecution next;
+            while (nonNull(next = waiting.poll())) {
+                if (!next.isDone() && running <= max) {
+                    return next;
+                }
+                if (!next.isDone()) {
+                    // the limit has been lowered in the meantime
+                    waiting.add(next);
+                    break;
+                }
+            }
+            running--;
+            return null;
+        }
+    }
+}
@@ -20,6 +20,7 @@
  */
 package org.sejda.core.service;
 
+import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
 import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
 
@@ -29,6 +30,9 @@ import javax.validation.ConstraintViolation;
 
 import org.sejda.core.context.DefaultSejdaContext;
 import org.sejda.core.context.SejdaContext;
+import org.sejda.core.support.io.ThreadLocalTemporaryBuffersManager;
+import org.sejda.core.support.metrics.TaskMetricsRegistry;
+import org.sejda.core.support.metrics.ThreadLocalTaskMetrics;
 import org.sejda.core.validation.DefaultValidationContext;
 import org.sejda.model.exception.InvalidTaskParametersException;
 import org.sejda.model.exception.TaskException;
@@ -62,7 +66,8 @@ public final class DefaultTaskExecutionService implements TaskExecutionService {
         LOG.trace("Starting exectution for {}", parameters);
         try {
             validate(parameters);
-            executionContext = new TaskExecutionContext(context.getTask(parameters));
+            executionContext = new TaskExecutionContext(context.getTask(parameters),
+                    context.newTemporaryBuffersManager());
             cancellationOption.setExecutionContext(executionContext);
             LOG.info("Starting task ({}) execution.", executionContext.task());
             preExecution(executionContext);
@@ -78,6 +83,10 @@ public final class DefaultTaskExecutionService implements TaskExecutionService {
         } catch (RuntimeException e) {
             executionFailed(e, executionContext);
             throw e;
+        } finally {
+            if (nonNull(executionContext)) {
+                TaskMetricsRegistry.publish(executionContext.notifiableTaskMetadata(), executionContext.metrics());
+            }
         }
     }
 
@@ -124,6 +133,16 @@ public final class DefaultTaskExecutionService implements TaskExecutionService {
         notifyEvent(context.notifiableTaskMetadata()).taskCompleted(context.executionTime());
     }
 
+    /**
+     * deletes the temporary buffers left by the task, once the task released its resources
+     */
+    private void releaseTemporaryBuffers(TaskExecutionContext context) {
+        ThreadLocalTemporaryBuffersManager.unbind();
+        if (nonNull(context.temporaryBuffers())) {
+            context.temporaryBuffers().release();
+        }
+    }
+
     /**
      * actual execution of the task
      * 
@@ -134,6 +153,8 @@ public final class DefaultTaskExecutionService implements TaskExecutionService {
     @SuppressWarnings("unchecked")
     private void actualExecution(TaskParameters parameters, TaskExecutionContext executionContext)
             throws TaskException {
+        ThreadLocalTemporaryBuffersManager.bind(executionContext.temporaryBuffers());
+        ThreadLocalTaskMetrics.bind(executionContext.metrics());
         try {
             executionContext.task().before(parameters, executionContext);
             executionContext.task().execute(parameters);
@@ -142,6 +163,9 @@ public final class DefaultTaskExecutionService implements TaskExecutionService {
                 executionContext.task().after();
             } catch (RuntimeException e) {
                 LOG.warn("An unexpected error occurred during the execution of the 'after' phase.", e);
+            } finally {
+                ThreadLocalTaskMetrics.unbind();
+                releaseTemporaryBuffers(executionContext);
             }
         }
     }
@@ -0,0 +1,122 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.support.concurrent;
+
+import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
+import static org.sejda.core.support.concurrent.WorkerThreads.newFixedThreadPool;
+import static org.sejda.core.support.concurrent.WorkerThreads.shutdownAndWait;
+import static org.sejda.core.support.concurrent.WorkerThreads.waitFor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.sejda.core.notification.context.ThreadLocalNotificationContext;
+import org.sejda.core.support.io.MultipleOutputWriter;
+import org.sejda.core.support.io.model.PopulatedFileOutput;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.task.TaskExecutionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Component processing the sources of a task, each one independently of the others. When a parallelism greater than one is
+ * specified, up to that number of sources are processed at the same time by a pool of worker threads, otherwise sources are processed
+ * sequentially on the caller thread. In both cases the generated outputs are added to the {@link MultipleOutputWriter} and the
+ * progress is notified in the order of the sources, from the caller thread. When sources are processed in parallel, the progress
+ * notified while processing a single source is suppressed, while warnings reach the listeners of the caller thread.
+ * 
+ * @author agent
+ * @param <S>
+ *            type of the source
+ */
+public class MultipleSourcesProcessor<S> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MultipleSourcesProcessor.class);
+
+    private final TaskExecutionContext executionContext;
+    private final int parallelism;
+
+    /**
+     * @param executionContext
+     *            context of the executing task
+     * @param parallelism
+     *            maximum number of sources processed at the same time
+     */
+    public MultipleSourcesProcessor(TaskExecutionContext executionContext, int parallelism) {
+        this.executionContext = executionContext;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Processes the given sources using the given processor
+     * 
+     * @param sources
+     * @param processor
+     * @param outputWriter
+     *            the writer where the generated outputs are added
+     * @throws TaskException
+     *             the first error, in the order of the sources, occurred processing the sources
+     */
+    public void process(List<S> sources, SourceProcessor<S> processor, MultipleOutputWriter outputWriter)
+            throws TaskException {
+        int totalSteps = sources.size();
+        if (parallelism <= 1 || totalSteps <= 1) {
+            int currentStep = 0;
+            for (S source : sources) {
+                executionContext.assertTaskNotCancelled();
+                currentStep++;
+                processor.process(source, currentStep, outputWriter::addOutput);
+                notifyEvent(executionContext.notifiableTaskMetadata()).stepsCompleted(currentStep).outOf(totalSteps);
+            }
+        } else {
+            int threads = Math.min(parallelism, totalSteps);
+            LOG.debug("Processing {} sources using {} threads", totalSteps, threads);
+            ExecutorService executor = newFixedThreadPool(threads, "sejda-sources-processor");
+            try {
+                List<Future<List<PopulatedFileOutput>>> results = new ArrayList<>(totalSteps);
+                int sourceNumber = 0;
+                for (S source : sources) {
+                    int currentSourceNumber = ++sourceNumber;
+                    results.add(executor.submit(() -> {
+                        // warnings notified by the workers reach the listeners registered on the caller thread, the progress
+                        // of the single sources is suppressed since sources are processed at the same time and the caller
+                        // notifies the progress of the task
+                        ThreadLocalNotificationContext.suppressProgress();
+                        executionContext.assertTaskNotCancelled();
+                        List<PopulatedFileOutput> outputs = new ArrayList<>();
+                        processor.process(source, currentSourceNumber, outputs::add);
+                        return outputs;
+                    }));
+                }
+                int currentStep = 0;
+                for (Future<List<PopulatedFileOutput>> result : results) {
+                    currentStep++;
+                    waitFor(result, "processing the source").forEach(outputWriter::addOutput);
+                    notifyEvent(executionContext.notifiableTaskMetadata()).stepsCompleted(currentStep)
+                            .outOf(totalSteps);
+                }
+            } finally {
+                // waits for the running sources so that no document is left open once the task is over
+                shutdownAndWait(executor);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.support.concurrent;
+
+import java.io.Closeable;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.sejda.common.ComponentsUtility;
+
+/**
+ * Thread safe set of the resources opened while processing the sources of a task, possibly from multiple threads.
+ * Resources are closed once processed and those still open when the task ends, because of an error or a cancellation,
+ * are closed when this is closed.
+ * 
+ * @author agent
+ *
+ */
+public class OpenResources implements Closeable {
+
+    private final Set<Closeable> resources = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param resource
+     * @return the given resource, added to the open ones
+     */
+    public <T extends Closeable> T add(T resource) {
+        resources.add(resource);
+        return resource;
+    }
+
+    /**
+     * Closes the given resource, logging exceptions, and removes it from the open ones
+     * 
+     * @param resource
+     */
+    public void close(Closeable resource) {
+        if (resource != null) {
+            resources.remove(resource);
+            ComponentsUtility.nullSafeCloseQuietly(resource);
+        }
+    }
+
+    /**
+     * Closes all the resources still open, logging exceptions
+     */
+    @Override
+    public void close() {
+        resources.forEach(this::close);
+    }
+}
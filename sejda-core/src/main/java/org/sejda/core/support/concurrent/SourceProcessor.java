@@ -0,0 +1,48 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.support.concurrent;
+
+import java.util.function.Consumer;
+
+import org.sejda.core.support.io.model.PopulatedFileOutput;
+import org.sejda.model.exception.TaskException;
+
+/**
+ * Processes a single source of a task, independently of the other sources.
+ * 
+ * @author agent
+ * @param <S>
+ *            type of the source
+ */
+@FunctionalInterface
+public interface SourceProcessor<S> {
+
+    /**
+     * Processes the given source. Implementations can be invoked concurrently from different threads, each invocation is responsible
+     * for opening and closing its own documents.
+     * 
+     * @param source
+     * @param sourceNumber
+     *            the 1-based position of the source in the task sources list
+     * @param outputs
+     *            where the generated outputs have to be sent
+     * @throws TaskException
+     */
+    void process(S source, int sourceNumber, Consumer<PopulatedFileOutput> outputs) throws TaskException;
+}
@@ -0,0 +1,163 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.support.concurrent;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.sejda.core.notification.context.NotificationContext;
+import org.sejda.core.notification.context.ThreadLocalNotificationContext;
+import org.sejda.core.support.io.ThreadLocalTemporaryBuffersManager;
+import org.sejda.core.support.metrics.ThreadLocalTaskMetrics;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.exception.TaskExecutionException;
+import org.sejda.model.task.TaskMetrics;
+import org.sejda.model.task.TemporaryBuffersManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Utility methods to create, wait for and dispose the pools of worker threads used by the components to process in parallel.
+ * 
+ * @author agent
+ *
+ */
+public final class WorkerThreads {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkerThreads.class);
+    private static final AtomicInteger THREADS_COUNTER = new AtomicInteger(0);
+
+    private WorkerThreads() {
+        // hide
+    }
+
+    /**
+     * @param name
+     *            prefix of the threads names
+     * @return a factory creating daemon threads, so that a pool that hasn't been shut down doesn't prevent the JVM from exiting
+     */
+    public static ThreadFactory daemonThreadFactory(String name) {
+        return r -> {
+            Thread thread = new Thread(r, name + "-" + THREADS_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * @param threads
+     *            number of worker threads
+     * @param name
+     *            prefix of the threads names
+     * @return a pool with the given fixed number of daemon worker threads. Each submitted work is executed with the notification context, task
+     *         metrics and temporary buffers manager of the submitting thread bound to the worker thread, so that what the worker does is accounted to the task that submitted it.
+     */
+    public static ExecutorService newFixedThreadPool(int threads, String name) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                daemonThreadFactory(name)) {
+            @Override
+            public void execute(Runnable command) {
+                super.execute(new TaskContextBoundRunnable(command));
+            }
+        };
+    }
+
+    /**
+     * Waits for the given result, rethrowing what the worker thread has thrown
+     * 
+     * @param result
+     * @param activity
+     *            what the worker is doing, used in the exception message
+     * @return the result
+     * @throws TaskException
+     *             the exception thrown by the worker or a {@link TaskExecutionException} wrapping it when it's a checked one
+     */
+    public static <T> T waitFor(Future<T> result, String activity) throws TaskException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TaskExecutionException("Interrupted while " + activity, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TaskException) {
+                throw (TaskException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new TaskExecutionException("An error occurred " + activity, cause);
+        }
+    }
+
+    /**
+     * Discards the work not yet started and waits for the running one to complete, so that no resource used by the workers is
+     * released while they are still using it
+     * 
+     * @param executor
+     */
+    public static void shutdownAndWait(ExecutorService executor) {
+        executor.shutdownNow();
+        try {
+            while (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                LOG.debug("Waiting for the running workers to complete");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runnable executing the wrapped one with the task context of the thread that created it bound to the executing thread
+     */
+    private static class TaskContextBoundRunnable implements Runnable {
+
+        private final Runnable wrapped;
+        private final NotificationContext notificationContext = ThreadLocalNotificationContext.getContext();
+        private final TaskMetrics metrics = ThreadLocalTaskMetrics.getMetrics();
+        private final TemporaryBuffersManager buffers = ThreadLocalTemporaryBuffersManager.getManager();
+
+        TaskContextBoundRunnable(Runnable wrapped) {
+            this.wrapped = wrapped;
+        }
+
+        @Override
+        public void run() {
+            ThreadLocalNotificationContext.bind(notificationContext);
+            ThreadLocalTaskMetrics.bind(metrics);
+            ThreadLocalTemporaryBuffersManager.bind(buffers);
+            try {
+                wrapped.run();
+            } finally {
+                ThreadLocalTemporaryBuffersManager.unbind();
+                ThreadLocalTaskMetrics.unbind();
+                ThreadLocalNotificationContext.unbind();
+            }
+        }
+    }
+}
@@ -20,6 +20,8 @@
  */
 package org.sejda.core.support.io;
 
+import static java.util.Optional.ofNullable;
+
 import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
@@ -64,13 +66,20 @@ abstract class BaseOutputWriter implements TaskOutputDispatcher {
 
     }
 
+    TaskExecutionContext executionContext() {
+        return executionContext;
+    }
+
     /**
      * adds the input {@link PopulatedFileOutput} to the collection of files awaiting to be flushed.
      * 
      * @param fileOutput
      */
     void add(PopulatedFileOutput fileOutput) {
-        fileOutput.getFile().deleteOnExit();
+        // the buffer is complete, its size counts for the temporary buffers quotas until it's delivered. If it never is, the manager
+        // deletes it when released
+        ofNullable(executionContext).map(TaskExecutionContext::temporaryBuffers)
+                .ifPresent(b -> b.written(fileOutput.getFile()));
         multipleFiles.put(fileOutput.getName(), fileOutput.getFile());
     }
 
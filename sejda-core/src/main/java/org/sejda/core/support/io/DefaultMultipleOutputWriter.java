@@ -47,7 +47,8 @@ class DefaultMultipleOutputWriter extends BaseOutputWriter implements MultipleOu
 
     @Override
     public void dispatch(StreamTaskOutput output) throws IOException {
-        OutputWriterHelper.copyToStreamZipped(multipleFiles, output.getDestination());
+        OutputWriterHelper.copyToStreamZipped(multipleFiles, output.getDestination(), output.isStoreCompressedFormats(),
+                executionContext());
     }
 
     @Override
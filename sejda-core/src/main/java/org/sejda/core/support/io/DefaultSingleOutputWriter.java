@@ -41,7 +41,8 @@ class DefaultSingleOutputWriter extends BaseOutputWriter implements SingleOutput
 
     @Override
     public void dispatch(StreamTaskOutput output) throws IOException {
-        OutputWriterHelper.copyToStream(multipleFiles.values().iterator().next(), output.getDestination());
+        OutputWriterHelper.copyToStream(multipleFiles.values().iterator().next(), output.getDestination(),
+                executionContext());
     }
 
     @Override
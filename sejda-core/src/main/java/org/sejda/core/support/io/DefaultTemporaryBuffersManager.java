@@ -0,0 +1,161 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.support.io;
+
+import static java.util.Objects.nonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.io.FileUtils;
+import org.sejda.core.Sejda;
+import org.sejda.model.exception.TaskIOException;
+import org.sejda.model.task.TemporaryBuffersManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link TemporaryBuffersManager} creating buffers in a configurable directory and keeping track of them so they can be deleted when the
+ * task execution is completed, rather than when the JVM exits. A quota can be set on the bytes used by the buffers of the task and on the
+ * bytes used by the buffers of all the tasks currently executing. Quotas are checked when a new buffer is requested, against running totals
+ * that are updated when a buffer is reported as written or discarded, so no file system access is needed to check them. The bytes of a
+ * buffer are accounted only once it's reported as written, so quotas prevent new buffers from being created but a single buffer being
+ * written can grow past them. The number of
+ * streams the task can keep open at the same time is configurable using the {@value org.sejda.core.Sejda#MAX_OPEN_STREAMS_PROPERTY_NAME}
+ * system property, 64 by default.
+ * 
+ * @author agent
+ * 
+ */
+public class DefaultTemporaryBuffersManager implements TemporaryBuffersManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultTemporaryBuffersManager.class);
+    private static final String BUFFER_NAME = "SejdaTmpBuffer";
+    private static final AtomicLong GLOBAL_USED = new AtomicLong();
+
+    private final File directory;
+    private final long taskQuota;
+    private final long globalQuota;
+    // accounted size of the buffers still owned by this manager
+    private final Map<File, Long> buffers = new ConcurrentHashMap<>();
+    private final AtomicLong used = new AtomicLong();
+    private final Semaphore openStreams = new Semaphore(
+            Math.max(1, Integer.getInteger(Sejda.MAX_OPEN_STREAMS_PROPERTY_NAME, 64)));
+
+    /**
+     * Manager creating buffers in the default temporary directory without any quota
+     */
+    public DefaultTemporaryBuffersManager() {
+        this(null, 0, 0);
+    }
+
+    /**
+     * @param directory
+     *            directory where buffers are created, if null the default temporary directory is used
+     * @param taskQuota
+     *            maximum number of bytes used by the buffers of this manager, a non positive value means no limit
+     * @param globalQuota
+     *            maximum number of bytes used by the buffers of all the active managers, a non positive value means no limit
+     */
+    public DefaultTemporaryBuffersManager(File directory, long taskQuota, long globalQuota) {
+        this.directory = directory;
+        this.taskQuota = taskQuota;
+        this.globalQuota = globalQuota;
+    }
+
+    @Override
+    public File newBuffer(String extension) throws TaskIOException {
+        assertWithinQuota();
+        try {
+            if (nonNull(directory) && !directory.isDirectory() && !directory.mkdirs()) {
+                throw new TaskIOException("Unable to create temporary buffers directory " + directory);
+            }
+            File buffer = File.createTempFile(BUFFER_NAME, extension, directory);
+            buffers.put(buffer, 0L);
+            return buffer;
+        } catch (IOException e) {
+            throw new TaskIOException("Unable to create temporary buffer", e);
+        }
+    }
+
+    private void assertWithinQuota() throws TaskIOException {
+        if (taskQuota > 0) {
+            long taskUsed = used.get();
+            if (taskUsed >= taskQuota) {
+                throw new TaskIOException(String.format("Temporary buffers are using %d bytes, task quota is %d bytes",
+                        taskUsed, taskQuota));
+            }
+        }
+        if (globalQuota > 0) {
+            long globalUsed = GLOBAL_USED.get();
+            if (globalUsed >= globalQuota) {
+                throw new TaskIOException(String.format(
+                        "Temporary buffers are using %d bytes, global quota is %d bytes", globalUsed, globalQuota));
+            }
+        }
+    }
+
+    @Override
+    public void written(File buffer) {
+        long size = buffer.length();
+        // buffers not created by this manager are ignored
+        Long previous = buffers.replace(buffer, size);
+        if (nonNull(previous)) {
+            account(size - previous);
+        }
+    }
+
+    @Override
+    public void discarded(File buffer) {
+        Long size = buffers.remove(buffer);
+        if (nonNull(size)) {
+            account(-size);
+        }
+    }
+
+    private void account(long delta) {
+        used.addAndGet(delta);
+        GLOBAL_USED.addAndGet(delta);
+    }
+
+    @Override
+    public long usedBytes() {
+        return used.get();
+    }
+
+    @Override
+    public Semaphore openStreams() {
+        return openStreams;
+    }
+
+    @Override
+    public void release() {
+        buffers.keySet().forEach(b -> {
+            if (b.exists()) {
+                LOG.trace("Deleting temporary buffer {}", b);
+                FileUtils.deleteQuietly(b);
+            }
+            discarded(b);
+        });
+    }
+}
@@ -19,10 +19,13 @@
  */
 package org.sejda.core.support.io;
 
+import static java.util.Objects.nonNull;
+
 import java.io.File;
 import java.io.IOException;
 
 import org.sejda.model.exception.TaskIOException;
+import org.sejda.model.task.TemporaryBuffersManager;
 
 /**
  * Provides IO utility methods.
@@ -54,7 +57,19 @@ public final class IOUtils {
         return createTemporaryBuffer(".tmp");
     }
 
+    /**
+     * @param extension
+     * @return a temporary file created by the {@link TemporaryBuffersManager} bound to the current thread, if any, or a temporary file
+     *         deleted on exit otherwise. A manager is bound to the threads executing a task and to the worker threads of the pools created
+     *         by {@link org.sejda.core.support.concurrent.WorkerThreads}, so the fallback is only used outside of a task execution.
+     * @throws TaskIOException
+     * @see ThreadLocalTemporaryBuffersManager
+     */
     public static File createTemporaryBuffer(String extension) throws TaskIOException {
+        TemporaryBuffersManager manager = ThreadLocalTemporaryBuffersManager.getManager();
+        if (nonNull(manager)) {
+            return manager.newBuffer(extension);
+        }
         try {
             File buffer = File.createTempFile(BUFFER_NAME, extension);
             buffer.deleteOnExit();
@@ -20,25 +20,34 @@
  */
 package org.sejda.core.support.io;
 
+import static java.util.Objects.nonNull;
 import static java.util.Optional.of;
+import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.sejda.model.output.ExistingOutputPolicy.FAIL;
 import static org.sejda.model.output.ExistingOutputPolicy.SKIP;
 
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
-import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOUtils;
+import org.sejda.model.SejdaFileExtensions;
 import org.sejda.model.output.ExistingOutputPolicy;
 import org.sejda.model.task.TaskExecutionContext;
 import org.slf4j.Logger;
@@ -53,6 +62,8 @@ import org.slf4j.LoggerFactory;
 final class OutputWriterHelper {
 
     private static final Logger LOG = LoggerFactory.getLogger(OutputWriterHelper.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+    static final String[] COMPRESSED_FORMATS = { SejdaFileExtensions.PDF_EXTENSION, "jpg", "jpeg", "png", "gif" };
 
     private OutputWriterHelper() {
         // util class
@@ -135,7 +146,11 @@ final class OutputWriterHelper {
             switch (existingOutputPolicy) {
             case OVERWRITE:
                 LOG.debug("Moving {} to {}.", input, output);
+                long start = System.nanoTime();
+                long size = input.length();
                 Files.move(input.toPath(), output.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                discarded(input, executionContext);
+                executionContext.outputDelivery().delivered(size, System.nanoTime() - start);
                 executionContext.notifiableTaskMetadata().addTaskOutput(output);
                 break;
             case SKIP:
@@ -148,7 +163,16 @@ final class OutputWriterHelper {
             }
         } else {
             LOG.debug("Moving {} to {}.", input, output);
-            FileUtils.moveFile(input, output);
+            long start = System.nanoTime();
+            long size = input.length();
+            Path parent = output.toPath().toAbsolutePath().getParent();
+            if (nonNull(parent)) {
+                Files.createDirectories(parent);
+            }
+            // renamed when on the same file system, copied otherwise
+            Files.move(input.toPath(), output.toPath());
+            discarded(input, executionContext);
+            executionContext.outputDelivery().delivered(size, System.nanoTime() - start);
             executionContext.notifiableTaskMetadata().addTaskOutput(output);
         }
     }
@@ -158,45 +182,102 @@ final class OutputWriterHelper {
      * 
      * @param files
      * @param out
+     * @param storeCompressedFormats
+     *            if true files in an already compressed format are stored in the zip without compressing them again
+     * @param executionContext
+     *            current execution context
      * @throws IOException
      */
-    static void copyToStreamZipped(Map<String, File> files, OutputStream out) throws IOException {
+    static void copyToStreamZipped(Map<String, File> files, OutputStream out, boolean storeCompressedFormats,
+            TaskExecutionContext executionContext) throws IOException {
         ZipOutputStream zipOut = new ZipOutputStream(out);
+        WritableByteChannel zipChannel = Channels.newChannel(zipOut);
         for (Entry<String, File> entry : files.entrySet()) {
-            FileInputStream input = null;
             if (isBlank(entry.getKey())) {
                 throw new IOException(String.format("Unable to copy %s to the output stream, no output name specified.",
                         entry.getValue()));
             }
-            try {
-                input = new FileInputStream(entry.getValue());
-                zipOut.putNextEntry(new ZipEntry(entry.getKey()));
+            long start = System.nanoTime();
+            try (FileChannel input = FileChannel.open(entry.getValue().toPath(), StandardOpenOption.READ)) {
+                ZipEntry zipEntry = new ZipEntry(entry.getKey());
+                if (storeCompressedFormats && FilenameUtils.isExtension(entry.getKey().toLowerCase(), COMPRESSED_FORMATS)) {
+                    stored(zipEntry, input);
+                }
+                zipOut.putNextEntry(zipEntry);
                 LOG.debug("Copying {} to zip stream {}.", entry.getValue(), entry.getKey());
-                IOUtils.copy(input, zipOut);
+                long size = transfer(input, zipChannel);
+                executionContext.outputDelivery().delivered(size, System.nanoTime() - start);
             } finally {
-                IOUtils.closeQuietly(input);
                 delete(entry.getValue());
+                discarded(entry.getValue(), executionContext);
             }
         }
         IOUtils.closeQuietly(zipOut);
     }
 
+    /**
+     * Sets the given entry as {@link ZipEntry#STORED}, with the size and CRC of the given input
+     */
+    private static void stored(ZipEntry entry, FileChannel input) throws IOException {
+        CRC32 crc = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        while (input.read(buffer) != -1) {
+            buffer.flip();
+            crc.update(buffer);
+            buffer.clear();
+        }
+        input.position(0);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(input.size());
+        entry.setCompressedSize(input.size());
+        entry.setCrc(crc.getValue());
+    }
+
     /**
      * Copies the contents of the file to the specified outputstream, without zipping or applying any other changes.
      * 
      * @param file
      * @param out
+     * @param executionContext
+     *            current execution context
      * @throws IOException
      */
-    static void copyToStream(File file, OutputStream out) throws IOException {
-        InputStream in = null;
-        try {
-            in = new FileInputStream(file);
-            IOUtils.copy(in, out);
+    static void copyToStream(File file, OutputStream out, TaskExecutionContext executionContext) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel input = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = transfer(input, channel(out));
+            executionContext.outputDelivery().delivered(size, System.nanoTime() - start);
         } finally {
-            IOUtils.closeQuietly(in);
             delete(file);
+            discarded(file, executionContext);
+        }
+    }
+
+    /**
+     * Tells the temporary buffers manager of the execution, if any, that the given buffer is not there anymore
+     */
+    private static void discarded(File buffer, TaskExecutionContext executionContext) {
+        ofNullable(executionContext).map(TaskExecutionContext::temporaryBuffers).ifPresent(b -> b.discarded(buffer));
+    }
+
+    /**
+     * @return a channel writing to the given stream. File streams have their own channel that allows the file system to transfer bytes
+     *         directly, any other stream is wrapped and not closed when the channel is.
+     */
+    private static WritableByteChannel channel(OutputStream out) {
+        if (out instanceof FileOutputStream) {
+            return ((FileOutputStream) out).getChannel();
+        }
+        return Channels.newChannel(out);
+    }
+
+    private static long transfer(FileChannel input, WritableByteChannel output) throws IOException {
+        long size = input.size();
+        long position = input.position();
+        while (position < size) {
+            position += input.transferTo(position, size - position, output);
         }
+        return size;
     }
 
     private static void delete(File file) {
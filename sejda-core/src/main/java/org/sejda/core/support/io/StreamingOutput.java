@@ -0,0 +1,205 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.support.io;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.sejda.core.support.io.OutputWriterHelper.COMPRESSED_FORMATS;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.io.FilenameUtils;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.exception.TaskIOException;
+import org.sejda.model.output.StreamTaskOutput;
+import org.sejda.model.task.TaskExecutionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes task outputs directly to the stream of a {@link StreamTaskOutput} while they are generated, instead of generating them in a
+ * temporary buffer that the output writers later copy to the stream. Multiple outputs are written as entries of a zip stream, in the order
+ * they are written. Once an output is written to the stream it cannot be taken back, if the task fails the destination may have been
+ * partially written.
+ * 
+ * @author agent
+ * 
+ */
+public final class StreamingOutput {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StreamingOutput.class);
+
+    private final OutputStream destination;
+    private final ZipOutputStream zip;
+    private final boolean storeCompressedFormats;
+    private final TaskExecutionContext executionContext;
+    private boolean written = false;
+
+    private StreamingOutput(OutputStream destination, ZipOutputStream zip, boolean storeCompressedFormats,
+            TaskExecutionContext executionContext) {
+        this.destination = destination;
+        this.zip = zip;
+        this.storeCompressedFormats = storeCompressedFormats;
+        this.executionContext = executionContext;
+    }
+
+    /**
+     * @param output
+     * @param executionContext
+     *            the current execution context
+     * @return a {@link StreamingOutput} where a single output is written as is to the stream of the given output
+     */
+    public static StreamingOutput single(StreamTaskOutput output, TaskExecutionContext executionContext) {
+        return new StreamingOutput(output.getDestination(), null, false, executionContext);
+    }
+
+    /**
+     * @param output
+     * @param executionContext
+     *            the current execution context
+     * @return a {@link StreamingOutput} where outputs are written as entries of a zip to the stream of the given output
+     */
+    public static StreamingOutput zipped(StreamTaskOutput output, TaskExecutionContext executionContext) {
+        return new StreamingOutput(output.getDestination(), new ZipOutputStream(output.getDestination()),
+                output.isStoreCompressedFormats(), executionContext);
+    }
+
+    /**
+     * Writes an output to the stream
+     * 
+     * @param name
+     *            name of the output, used as name of the zip entry when outputs are zipped
+     * @param content
+     *            writes the output content
+     * @throws TaskException
+     */
+    public void write(String name, OutputContent content) throws TaskException {
+        try (OutputStream out = newOutput(name)) {
+            content.writeTo(out);
+        } catch (IOException e) {
+            throw new TaskIOException(String.format("Unable to write %s to the output stream.", name), e);
+        }
+    }
+
+    private OutputStream newOutput(String name) throws IOException {
+        if (zip == null) {
+            if (written) {
+                throw new IOException("Only one output can be written to a not zipped stream.");
+            }
+            written = true;
+            LOG.debug("Writing {} to the output stream.", name);
+            return new CountingOutput(destination);
+        }
+        if (isBlank(name)) {
+            throw new IOException("Unable to write to the zip stream, no output name specified.");
+        }
+        // the size and CRC are not known in advance so entries cannot be stored, not compressing them is the closest we can get
+        if (storeCompressedFormats && FilenameUtils.isExtension(name.toLowerCase(), COMPRESSED_FORMATS)) {
+            zip.setLevel(Deflater.NO_COMPRESSION);
+        } else {
+            zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+        }
+        zip.putNextEntry(new ZipEntry(name));
+        LOG.debug("Writing zip stream entry {}.", name);
+        return new CountingOutput(zip);
+    }
+
+    /**
+     * Completes the written outputs. When outputs are zipped, the zip is finished and the stream closed.
+     * 
+     * @throws TaskIOException
+     */
+    public void finish() throws TaskIOException {
+        try {
+            if (zip != null) {
+                zip.close();
+            } else {
+                destination.flush();
+            }
+        } catch (IOException e) {
+            throw new TaskIOException("Unable to complete the output stream.", e);
+        }
+    }
+
+    /**
+     * Stream of a single output, counting the bytes written. Closing it completes the output without closing the destination.
+     */
+    private class CountingOutput extends OutputStream {
+        private final OutputStream out;
+        private final long start = System.nanoTime();
+        private long count = 0;
+        private boolean closed = false;
+
+        CountingOutput(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                if (zip != null) {
+                    zip.closeEntry();
+                } else {
+                    out.flush();
+                }
+                // encoding and delivery happen together here, the time includes both
+                executionContext.outputDelivery().delivered(count, System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Content of an output
+     * 
+     * @author agent
+     * 
+     */
+    @FunctionalInterface
+    public static interface OutputContent {
+        /**
+         * Writes the content to the given stream. The stream may be closed once the content is written but closing it doesn't close the
+         * destination.
+         * 
+         * @param out
+         * @throws TaskException
+         */
+        void writeTo(OutputStream out) throws TaskException;
+    }
+}
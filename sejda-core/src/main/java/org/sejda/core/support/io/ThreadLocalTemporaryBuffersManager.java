@@ -0,0 +1,62 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.support.io;
+
+import org.sejda.model.task.TemporaryBuffersManager;
+
+/**
+ * Holds the {@link TemporaryBuffersManager} of the task executed by the current thread, it's used by {@link IOUtils} to create temporary
+ * buffers.
+ * 
+ * @author agent
+ * 
+ */
+public final class ThreadLocalTemporaryBuffersManager {
+
+    private ThreadLocalTemporaryBuffersManager() {
+        // hide
+    }
+
+    private static final ThreadLocal<TemporaryBuffersManager> THREAD_LOCAL_MANAGER = new ThreadLocal<>();
+
+    /**
+     * @return the manager bound to the current thread or null if there is none
+     */
+    public static TemporaryBuffersManager getManager() {
+        return THREAD_LOCAL_MANAGER.get();
+    }
+
+    /**
+     * Binds the given manager to the current thread. Worker threads executing part of a task can use this to create buffers using the
+     * manager of the task.
+     * 
+     * @param manager
+     * @see #unbind()
+     */
+    public static void bind(TemporaryBuffersManager manager) {
+        THREAD_LOCAL_MANAGER.set(manager);
+    }
+
+    /**
+     * Removes the manager bound to the current thread
+     */
+    public static void unbind() {
+        THREAD_LOCAL_MANAGER.remove();
+    }
+}
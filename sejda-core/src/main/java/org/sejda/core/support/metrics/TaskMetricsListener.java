@@ -0,0 +1,42 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.support.metrics;
+
+import org.sejda.model.task.NotifiableTaskMetadata;
+import org.sejda.model.task.TaskMetrics;
+
+/**
+ * Listener notified with the metrics of every executed task, successful or not.
+ * 
+ * @author agent
+ * @see TaskMetricsRegistry
+ */
+@FunctionalInterface
+public interface TaskMetricsListener {
+
+    /**
+     * Called on the thread that executed the task, once the execution is over
+     * 
+     * @param taskMetadata
+     *            metadata of the executed task
+     * @param metrics
+     *            metrics of the execution
+     */
+    void onMetrics(NotifiableTaskMetadata taskMetadata, TaskMetrics metrics);
+}
@@ -0,0 +1,76 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.support.metrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.sejda.model.task.NotifiableTaskMetadata;
+import org.sejda.model.task.TaskMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of the {@link TaskMetricsListener}s notified with the metrics of the tasks executed in the current VM. To publish the metrics to
+ * a metrics library, register a listener recording the values of {@link TaskMetrics#toMap()} or of the single phases and counters.
+ * 
+ * @author agent
+ * 
+ */
+public final class TaskMetricsRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TaskMetricsRegistry.class);
+    private static final List<TaskMetricsListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private TaskMetricsRegistry() {
+        // hide
+    }
+
+    public static void addListener(TaskMetricsListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * @param listener
+     * @return true if the listener was found and removed
+     */
+    public static boolean removeListener(TaskMetricsListener listener) {
+        return LISTENERS.remove(listener);
+    }
+
+    public static void clearListeners() {
+        LISTENERS.clear();
+    }
+
+    /**
+     * Notifies the registered listeners with the given metrics
+     * 
+     * @param taskMetadata
+     * @param metrics
+     */
+    public static void publish(NotifiableTaskMetadata taskMetadata, TaskMetrics metrics) {
+        for (TaskMetricsListener listener : LISTENERS) {
+            try {
+                listener.onMetrics(taskMetadata, metrics);
+            } catch (RuntimeException e) {
+                LOG.warn("An error occurred publishing the task metrics", e);
+            }
+        }
+    }
+}
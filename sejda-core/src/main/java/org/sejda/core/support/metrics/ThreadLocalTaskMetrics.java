@@ -0,0 +1,104 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.support.metrics;
+
+import static java.util.Objects.nonNull;
+
+import org.sejda.model.task.TaskCounter;
+import org.sejda.model.task.TaskMetrics;
+import org.sejda.model.task.TaskPhase;
+
+/**
+ * Holds the {@link TaskMetrics} of the task executed by the current thread, it's used by components that don't have access to the
+ * execution context to update the metrics. Updates are ignored when no metrics are bound to the current thread.
+ * 
+ * @author agent
+ * 
+ */
+public final class ThreadLocalTaskMetrics {
+
+    private ThreadLocalTaskMetrics() {
+        // hide
+    }
+
+    private static final ThreadLocal<TaskMetrics> THREAD_LOCAL_METRICS = new ThreadLocal<>();
+
+    /**
+     * @return the metrics bound to the current thread or null if there are none
+     */
+    public static TaskMetrics getMetrics() {
+        return THREAD_LOCAL_METRICS.get();
+    }
+
+    /**
+     * Binds the given metrics to the current thread. Worker threads executing part of a task can use this to update the metrics of the
+     * task.
+     * 
+     * @param metrics
+     * @see #unbind()
+     */
+    public static void bind(TaskMetrics metrics) {
+        THREAD_LOCAL_METRICS.set(metrics);
+    }
+
+    /**
+     * Removes the metrics bound to the current thread
+     */
+    public static void unbind() {
+        THREAD_LOCAL_METRICS.remove();
+    }
+
+    /**
+     * Adds the time elapsed since the given start, as returned by {@link System#nanoTime()}, to the given phase
+     * 
+     * @param phase
+     * @param startNanos
+     */
+    public static void phaseSince(TaskPhase phase, long startNanos) {
+        TaskMetrics metrics = THREAD_LOCAL_METRICS.get();
+        if (nonNull(metrics)) {
+            metrics.phase(phase, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Adds the given value to the given counter
+     * 
+     * @param counter
+     * @param value
+     */
+    public static void count(TaskCounter counter, long value) {
+        TaskMetrics metrics = THREAD_LOCAL_METRICS.get();
+        if (nonNull(metrics)) {
+            metrics.count(counter, value);
+        }
+    }
+
+    /**
+     * Increments the given counter by one
+     * 
+     * @param counter
+     */
+    public static void increment(TaskCounter counter) {
+        TaskMetrics metrics = THREAD_LOCAL_METRICS.get();
+        if (nonNull(metrics)) {
+            metrics.increment(counter);
+        }
+    }
+}
@@ -22,6 +22,9 @@ package org.sejda.core.support.prefix;
 
 import static org.sejda.core.support.prefix.model.NameGenerationRequest.nameRequest;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.sejda.core.support.prefix.model.NameGenerationRequest;
@@ -35,20 +38,27 @@ import org.sejda.core.support.prefix.processor.PrefixUtils;
  */
 public final class NameGenerator {
 
-    private String prefix;
-    private PrefixTypesChain prefixTypesChain;
+    // generators by prefix, so the same prefix is not compiled again for every generated name. The cache is emptied when it's full, a
+    // task uses few prefixes so it's simpler than an LRU policy
+    private static final int MAX_CACHED_GENERATORS = 256;
+    private static final Map<String, NameGenerator> GENERATORS = new ConcurrentHashMap<>();
+
+    private final PrefixTypesChain prefixTypesChain;
 
     private NameGenerator(String prefix) {
-        this.prefix = StringUtils.defaultString(prefix);
         this.prefixTypesChain = new PrefixTypesChain(prefix);
     }
 
     /**
      * @param prefix
-     * @return a new instance of a NameGenerator
+     * @return a NameGenerator for the given prefix. Instances are immutable and cached by prefix.
      */
     public static NameGenerator nameGenerator(String prefix) {
-        return new NameGenerator(prefix);
+        String key = StringUtils.defaultString(prefix);
+        if (GENERATORS.size() >= MAX_CACHED_GENERATORS && !GENERATORS.containsKey(key)) {
+            GENERATORS.clear();
+        }
+        return GENERATORS.computeIfAbsent(key, NameGenerator::new);
     }
 
     /**
@@ -60,7 +70,7 @@ public final class NameGenerator {
         if (request == null) {
             throw new IllegalArgumentException("Unable to generate a name for a null request.");
         }
-        String result = prefixTypesChain.process(prefix, preProcessRequest(request));
+        String result = prefixTypesChain.process(preProcessRequest(request));
 
         if(result.length() > 255) {
             String baseName = FilenameUtils.getBaseName(result);
@@ -19,6 +19,9 @@
  */
 package org.sejda.core.support.prefix.processor;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import org.apache.commons.lang3.StringUtils;
 import org.sejda.core.support.prefix.model.NameGenerationRequest;
 
@@ -31,21 +34,21 @@ import org.sejda.core.support.prefix.model.NameGenerationRequest;
  */
 class BaseBookmarkPrefixProcessor implements PrefixProcessor {
 
-    private String prefixNameRegex;
-    private String toBeReplacedRegex;
+    private final Pattern prefixNamePattern;
+    private final Pattern toBeReplacedPattern;
 
     BaseBookmarkPrefixProcessor(String prefixNameRegex, String toBeReplacedRegex) {
-        this.prefixNameRegex = prefixNameRegex;
-        this.toBeReplacedRegex = toBeReplacedRegex;
+        this.prefixNamePattern = Pattern.compile(prefixNameRegex);
+        this.toBeReplacedPattern = Pattern.compile(toBeReplacedRegex);
     }
 
     @Override
     public String process(String inputPrefix, NameGenerationRequest request) {
         String retVal = inputPrefix;
         if (request != null && StringUtils.isNotBlank(request.getBookmark())) {
-            String bookmarkName = request.getBookmark().replaceAll(toBeReplacedRegex, "");
+            String bookmarkName = toBeReplacedPattern.matcher(request.getBookmark()).replaceAll("");
             if (StringUtils.isNotBlank(bookmarkName)) {
-                return retVal.replaceAll(prefixNameRegex, bookmarkName);
+                return prefixNamePattern.matcher(retVal).replaceAll(Matcher.quoteReplacement(bookmarkName));
             }
         }
         return retVal;
@@ -20,13 +20,10 @@
  */
 package org.sejda.core.support.prefix.processor;
 
-import java.text.DecimalFormat;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Abstract prefix processor with number formatting capabilities and skeletal implementation for number based {@link PrefixProcessor}. Provides help method to handle "####" like
@@ -42,14 +39,13 @@ import org.slf4j.LoggerFactory;
  * 
  */
 abstract class NumberPrefixProcessor implements PrefixProcessor {
-    private static final Logger LOG = LoggerFactory.getLogger(NumberPrefixProcessor.class);
-    private final String findRegexp;
+    private final Pattern findPattern;
 
     NumberPrefixProcessor(String prefix) {
         if (StringUtils.isBlank(prefix)) {
             throw new IllegalArgumentException("Prefix cannot be blank");
         }
-        findRegexp = String.format("\\[%s(#*)(-?[0-9]*)\\]", prefix);
+        findPattern = Pattern.compile(String.format("\\[%s(#*)(-?[0-9]*)\\]", prefix));
     }
 
     /**
@@ -61,7 +57,7 @@ abstract class NumberPrefixProcessor implements PrefixProcessor {
      */
     protected String findAndReplace(String inputString, Integer num) {
         StringBuffer sb = new StringBuffer();
-        Matcher m = Pattern.compile(findRegexp).matcher(inputString);
+        Matcher m = findPattern.matcher(inputString);
         while (m.find()) {
             String replacement = getReplacement(m.group(1), m.group(2), num);
             m.appendReplacement(sb, replacement);
@@ -77,14 +73,11 @@ abstract class NumberPrefixProcessor implements PrefixProcessor {
      * @return the string the processor will use to perform replacement
      */
     private String getReplacement(String numberPatter, String startingNumber, Integer num) {
-        String replacement = "";
         Integer number = getReplacementNumber(startingNumber, num);
         if (StringUtils.isNotBlank(numberPatter)) {
-            replacement = formatter(numberPatter).format(number);
-        } else {
-            replacement = number.toString();
+            return format(number, numberPatter.length());
         }
-        return replacement;
+        return number.toString();
     }
 
     /**
@@ -100,22 +93,18 @@ abstract class NumberPrefixProcessor implements PrefixProcessor {
     }
 
     /**
-     * @param numberPattern
-     *            the input number pattern of the type "####"
-     * @return the {@link DecimalFormat} with the applied pattern
+     * @param number
+     * @param digits
+     *            minimum number of digits, given by the number of # in the pattern
+     * @return the number left padded with zeros to the given number of digits, the same a "000" like {@link java.text.DecimalFormat}
+     *         pattern would return
      */
-    private DecimalFormat formatter(String numberPattern) {
-        DecimalFormat retVal = new DecimalFormat();
-        try {
-            if (StringUtils.isNotBlank(numberPattern)) {
-                retVal.applyPattern(numberPattern.replaceAll("#", "0"));
-                return retVal;
-            }
-        } catch (IllegalArgumentException iae) {
-            LOG.error(String.format("Error applying pattern %s", numberPattern), iae);
+    private static String format(int number, int digits) {
+        String value = Long.toString(Math.abs((long) number));
+        if (number < 0) {
+            return "-" + StringUtils.leftPad(value, digits, '0');
         }
-        retVal.applyPattern("00000");
-        return retVal;
+        return StringUtils.leftPad(value, digits, '0');
     }
 
 }
@@ -65,6 +65,13 @@ enum PrefixType {
         return pattern.matcher(toBeSearched).find();
     }
 
+    /**
+     * @return the pattern matching this prefix type
+     */
+    Pattern getPattern() {
+        return pattern;
+    }
+
     /**
      * @return the processor for this prefix type
      */
@@ -20,8 +20,12 @@
  */
 package org.sejda.core.support.prefix.processor;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
 
 import org.apache.commons.lang3.StringUtils;
 import org.sejda.core.support.prefix.model.NameGenerationRequest;
@@ -29,8 +33,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Holds information about the {@link PrefixType}s contained in the input prefix string. Expose methods to apply the processors {@link PrefixType} chain to an input prefix and
- * request.
+ * Template compiled from an input prefix string. The prefix is split once in a list of literal parts and {@link PrefixType} placeholders,
+ * each placeholder is then processed on its own when a name is requested, without scanning the whole prefix again. Instances are immutable
+ * and can be reused to process any number of requests.
  * 
  * @author Andrea Vacondio
  * 
@@ -39,56 +44,92 @@ public class PrefixTypesChain {
 
     private static final Logger LOG = LoggerFactory.getLogger(PrefixTypesChain.class);
 
-    // prefix types ensuring unique output names
-    private Set<PrefixType> firstLevelPrefixChain = new HashSet<>();
-    // prefix types processed only if the first level processors performed some changed (ensuring unique name)
-    private Set<PrefixType> secondLevelPrefixChain = new HashSet<>();
+    private final String prefix;
+    private final List<Part> parts;
+    // true if the prefix contains prefix types ensuring unique output names
+    private final boolean firstLevel;
     // processor used in case the processors chain did not perform any change
-    private PrefixProcessor fallBackProcessor = new LoggingPrefixProcessorDecorator(new PrependPrefixProcessor());
-    private PrefixProcessor extensionProcessor = new LoggingPrefixProcessorDecorator(
+    private final PrefixProcessor fallBackProcessor = new LoggingPrefixProcessorDecorator(new PrependPrefixProcessor());
+    private final PrefixProcessor extensionProcessor = new LoggingPrefixProcessorDecorator(
             new AppendExtensionPrefixProcessor());
 
     public PrefixTypesChain(String prefix) {
+        this.prefix = StringUtils.defaultString(prefix);
+        TreeMap<Integer, Part> placeholders = new TreeMap<>();
         if (StringUtils.isNotBlank(prefix)) {
             for (PrefixType type : PrefixType.values()) {
-                if (type.isFoundIn(prefix)) {
-                    if (type.isEnsureUniqueNames()) {
-                        firstLevelPrefixChain.add(type);
-                    } else {
-                        secondLevelPrefixChain.add(type);
-                    }
+                Matcher matcher = type.getPattern().matcher(prefix);
+                while (matcher.find()) {
+                    placeholders.put(matcher.start(), new Part(matcher.group(), type));
                 }
             }
         }
+        List<Part> parts = new ArrayList<>();
+        int position = 0;
+        for (Entry<Integer, Part> placeholder : placeholders.entrySet()) {
+            int start = placeholder.getKey();
+            if (start > position) {
+                parts.add(new Part(this.prefix.substring(position, start), null));
+            }
+            parts.add(placeholder.getValue());
+            position = start + placeholder.getValue().text.length();
+        }
+        if (position < this.prefix.length()) {
+            parts.add(new Part(this.prefix.substring(position), null));
+        }
+        this.parts = Collections.unmodifiableList(parts);
+        this.firstLevel = parts.stream().anyMatch(p -> p.type != null && p.type.isEnsureUniqueNames());
     }
 
     /**
-     * the chain process the input prefix and the request
+     * the chain process the request
      * 
-     * @param prefix
-     *            input prefix to be processed
      * @param request
      *            process request
      * @return the processed string
      */
-    public String process(String prefix, NameGenerationRequest request) {
-        LOG.trace("Performing prefix processing with first level prefix chain");
-        String retVal = processChain(prefix, request, firstLevelPrefixChain);
-        // if the first level performed some change
-        if (!prefix.equals(retVal)) {
-            LOG.trace("Performing prefix processing with second level prefix chain");
-            retVal = processChain(retVal, request, secondLevelPrefixChain);
-        } else {
-            retVal = fallBackProcessor.process(retVal, request);
+    public String process(NameGenerationRequest request) {
+        if (firstLevel) {
+            LOG.trace("Performing prefix processing with first level prefix chain");
+            String[] values = new String[parts.size()];
+            boolean changed = false;
+            for (int i = 0; i < values.length; i++) {
+                Part part = parts.get(i);
+                values[i] = part.text;
+                if (part.type != null && part.type.isEnsureUniqueNames()) {
+                    values[i] = part.processor.process(part.text, request);
+                    changed |= !part.text.equals(values[i]);
+                }
+            }
+            // if the first level performed some change
+            if (changed) {
+                LOG.trace("Performing prefix processing with second level prefix chain");
+                StringBuilder builder = new StringBuilder(prefix.length() + 32);
+                for (int i = 0; i < values.length; i++) {
+                    Part part = parts.get(i);
+                    if (part.type != null && !part.type.isEnsureUniqueNames()) {
+                        values[i] = part.processor.process(part.text, request);
+                    }
+                    builder.append(values[i]);
+                }
+                return extensionProcessor.process(builder.toString(), request);
+            }
         }
-        return extensionProcessor.process(retVal, request);
+        return extensionProcessor.process(fallBackProcessor.process(prefix, request), request);
     }
 
-    private String processChain(String prefix, NameGenerationRequest request, Set<PrefixType> chain) {
-        String retVal = prefix;
-        for (PrefixType type : chain) {
-            retVal = new LoggingPrefixProcessorDecorator(type.getProcessor()).process(retVal, request);
+    /**
+     * A literal part of the prefix or a placeholder for a {@link PrefixType}
+     */
+    private static final class Part {
+        final String text;
+        final PrefixType type;
+        final PrefixProcessor processor;
+
+        Part(String text, PrefixType type) {
+            this.text = text;
+            this.type = type;
+            this.processor = type == null ? null : new LoggingPrefixProcessorDecorator(type.getProcessor());
         }
-        return retVal;
     }
 }
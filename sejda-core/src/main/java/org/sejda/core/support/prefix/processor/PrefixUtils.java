@@ -18,9 +18,14 @@
  */
 package org.sejda.core.support.prefix.processor;
 
+import java.util.regex.Pattern;
+
 import org.apache.commons.lang3.StringUtils;
 
 public final class PrefixUtils {
+    private static final Pattern UNSAFE_CHARS = Pattern.compile("[`\0\f\t\n\r\\\\/:*?\\\"<>|]");
+    private static final Pattern NOT_STRICT_CHARS = Pattern.compile("[^A-Za-z0-9_ .-]");
+
     private PrefixUtils() {
         // hide
     }
@@ -29,14 +34,14 @@ public final class PrefixUtils {
      * Strips characters deemed usafe for a filename
      */
     public static String toSafeFilename(String input) {
-        return StringUtils.defaultIfBlank(input, "").replaceAll("[`\0\f\t\n\r\\\\/:*?\\\"<>|]", "");
+        return UNSAFE_CHARS.matcher(StringUtils.defaultIfBlank(input, "")).replaceAll("");
     }
 
     /**
      * Strips all but characters that are known to be safe: alphanumerics for now.
      */
     public static String toStrictFilename(String input) {
-        String safe = StringUtils.defaultIfBlank(input, "").replaceAll("[^A-Za-z0-9_ .-]", "");
+        String safe = NOT_STRICT_CHARS.matcher(StringUtils.defaultIfBlank(input, "")).replaceAll("");
         if (safe.length() > 255) {
             safe = safe.substring(0, 255);
         }
@@ -22,6 +22,7 @@ package org.sejda.core.context;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
@@ -29,6 +30,7 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -68,6 +70,9 @@ public class XmlConfigurationStrategyTest {
         assertEquals(1, victim.getTasksMap().size());
         assertTrue(victim.isValidation());
         assertTrue(victim.isIgnoreXmlConfiguration());
+        assertNull(victim.getTemporaryBuffersDirectory());
+        assertEquals(0, victim.getTemporaryBuffersTaskQuota());
+        assertEquals(0, victim.getTemporaryBuffersGlobalQuota());
     }
 
     @Test
@@ -123,4 +128,24 @@ public class XmlConfigurationStrategyTest {
         verify(stream, atLeastOnce()).close();
         assertEquals(AsyncNotificationStrategy.class, victim.getNotificationStrategy());
     }
+
+    @Test
+    public void testPositiveTemporaryBuffers() throws ConfigurationException, IOException {
+        InputStream stream = spy(getClass().getClassLoader().getResourceAsStream("sejda-temporary-buffers.xml"));
+        when(provider.getConfigurationStream()).thenReturn(stream);
+        XmlConfigurationStrategy victim = XmlConfigurationStrategy.newInstance(provider);
+        verify(stream, atLeastOnce()).close();
+        assertEquals(new File("/tmp/sejda"), victim.getTemporaryBuffersDirectory());
+        assertEquals(1048576, victim.getTemporaryBuffersTaskQuota());
+        assertEquals(10485760, victim.getTemporaryBuffersGlobalQuota());
+    }
+
+    @Test
+    public void testNegativeTemporaryBuffersQuota() throws ConfigurationException {
+        InputStream stream = getClass().getClassLoader()
+                .getResourceAsStream("failing-temporary-buffers-quota-sejda-config.xml");
+        expected.expectMessage(new Contains("Invalid task_quota configuration parameter 1MB"));
+        when(provider.getConfigurationStream()).thenReturn(stream);
+        XmlConfigurationStrategy.newInstance(provider);
+    }
 }
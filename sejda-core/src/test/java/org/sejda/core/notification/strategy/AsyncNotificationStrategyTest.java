@@ -20,16 +20,28 @@
  */
 package org.sejda.core.notification.strategy;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.Test;
 import org.mockito.Matchers;
 import org.sejda.model.notification.EventListener;
 import org.sejda.model.notification.event.AbstractNotificationEvent;
+import org.sejda.model.notification.event.PercentageOfWorkDoneChangedEvent;
 import org.sejda.model.notification.event.TaskExecutionCompletedEvent;
+import org.sejda.model.notification.event.TaskExecutionStartedEvent;
 import org.sejda.model.task.NotifiableTaskMetadata;
+import org.sejda.model.task.Task;
 
 /**
  * Test unit for {@link AsyncNotificationStrategy}
@@ -46,9 +58,100 @@ public class AsyncNotificationStrategyTest {
     public void testNotifyEvent() throws InterruptedException {
         EventListener listener = mock(EventListener.class);
         victim.notifyListener(listener, new TaskExecutionCompletedEvent(1L, NotifiableTaskMetadata.NULL));
-        // FIXME
-        // ugly but needed to give time for the async notification
-        Thread.sleep(1000);
+        assertTrue(AsyncNotificationStrategy.shutdown(1, TimeUnit.SECONDS));
+        verify(listener, times(1)).onEvent(Matchers.any(AbstractNotificationEvent.class));
+    }
+
+    @Test
+    public void notifiedInOrder() throws InterruptedException {
+        List<Long> received = new CopyOnWriteArrayList<>();
+        EventListener<TaskExecutionCompletedEvent> listener = e -> received.add(e.getExecutionTime());
+        for (long i = 0; i < 500; i++) {
+            victim.notifyListener(listener, new TaskExecutionCompletedEvent(i, NotifiableTaskMetadata.NULL));
+        }
+        assertTrue(AsyncNotificationStrategy.shutdown(5, TimeUnit.SECONDS));
+        assertEquals(500, received.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i, received.get(i).longValue());
+        }
+    }
+
+    @Test
+    public void progressCoalesced() throws InterruptedException {
+        CountDownLatch first = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<BigDecimal> received = new CopyOnWriteArrayList<>();
+        EventListener<PercentageOfWorkDoneChangedEvent> listener = e -> {
+            received.add(e.getPercentage());
+            first.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        victim.notifyListener(listener, new PercentageOfWorkDoneChangedEvent(BigDecimal.ZERO, NotifiableTaskMetadata.NULL));
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i <= 100; i++) {
+            victim.notifyListener(listener,
+                    new PercentageOfWorkDoneChangedEvent(new BigDecimal(i), NotifiableTaskMetadata.NULL));
+        }
+        release.countDown();
+        assertTrue(AsyncNotificationStrategy.shutdown(5, TimeUnit.SECONDS));
+        assertEquals(2, received.size());
+        assertEquals(BigDecimal.ZERO, received.get(0));
+        assertEquals(new BigDecimal(100), received.get(1));
+    }
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public void progressNotMergedAcrossTasksOrOtherEvents() throws InterruptedException {
+        CountDownLatch first = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<AbstractNotificationEvent> received = new CopyOnWriteArrayList<>();
+        EventListener listener = e -> {
+            received.add((AbstractNotificationEvent) e);
+            first.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        NotifiableTaskMetadata taskA = new NotifiableTaskMetadata(mock(Task.class));
+        NotifiableTaskMetadata taskB = new NotifiableTaskMetadata(mock(Task.class));
+        victim.notifyListener(listener, new TaskExecutionStartedEvent(taskA));
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+        victim.notifyListener(listener, new PercentageOfWorkDoneChangedEvent(BigDecimal.ONE, taskA));
+        victim.notifyListener(listener, new PercentageOfWorkDoneChangedEvent(BigDecimal.ONE, taskB));
+        victim.notifyListener(listener, new PercentageOfWorkDoneChangedEvent(BigDecimal.TEN, taskB));
+        victim.notifyListener(listener, new TaskExecutionCompletedEvent(1L, taskB));
+        victim.notifyListener(listener, new PercentageOfWorkDoneChangedEvent(BigDecimal.TEN, taskA));
+        release.countDown();
+        assertTrue(AsyncNotificationStrategy.shutdown(5, TimeUnit.SECONDS));
+        assertEquals(5, received.size());
+        assertProgress(received.get(1), BigDecimal.ONE, taskA);
+        assertProgress(received.get(2), BigDecimal.TEN, taskB);
+        assertTrue(received.get(3) instanceof TaskExecutionCompletedEvent);
+        assertProgress(received.get(4), BigDecimal.TEN, taskA);
+    }
+
+    private static void assertProgress(AbstractNotificationEvent event, BigDecimal percentage,
+            NotifiableTaskMetadata task) {
+        assertEquals(percentage, ((PercentageOfWorkDoneChangedEvent) event).getPercentage());
+        assertEquals(task, event.getNotifiableTaskMetadata());
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void failingListenerDoesntStopDelivery() throws InterruptedException {
+        EventListener failing = mock(EventListener.class);
+        EventListener listener = mock(EventListener.class);
+        doThrow(new RuntimeException()).when(failing)
+                .onEvent(Matchers.any(AbstractNotificationEvent.class));
+        victim.notifyListener(failing, new TaskExecutionCompletedEvent(1L, NotifiableTaskMetadata.NULL));
+        victim.notifyListener(listener, new TaskExecutionCompletedEvent(1L, NotifiableTaskMetadata.NULL));
+        assertTrue(AsyncNotificationStrategy.shutdown(1, TimeUnit.SECONDS));
         verify(listener, times(1)).onEvent(Matchers.any(AbstractNotificationEvent.class));
     }
 }
@@ -0,0 +1,173 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sejda.core.notification.context.NotificationContext;
+import org.sejda.core.notification.context.ThreadLocalNotificationContext;
+import org.sejda.model.parameter.base.TaskParameters;
+import org.sejda.model.task.CancellationOption;
+import org.sejda.model.task.TestTaskParameter;
+
+/**
+ * @author agent
+ *
+ */
+public class ConcurrentTaskExecutionServiceTest {
+
+    private TaskExecutionService executionService = mock(TaskExecutionService.class);
+    private CountDownLatch release = new CountDownLatch(1);
+    private ConcurrentTaskExecutionService victim;
+
+    @Before
+    public void setUp() {
+        doAnswer(i -> release.await(5, TimeUnit.SECONDS)).when(executionService).execute(any(TaskParameters.class),
+                any(CancellationOption.class));
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        release.countDown();
+        victim.shutdown();
+        assertTrue(victim.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void submit() throws Exception {
+        victim = new ConcurrentTaskExecutionService(executionService, 1, 10, Executors.defaultThreadFactory());
+        NotificationContext notificationContext = ThreadLocalNotificationContext.getContext();
+        AtomicReference<NotificationContext> workerContext = new AtomicReference<>();
+        doAnswer(i -> {
+            workerContext.set(ThreadLocalNotificationContext.getContext());
+            return null;
+        }).when(executionService).execute(any(TaskParameters.class), any(CancellationOption.class));
+        TestTaskParameter parameters = new TestTaskParameter();
+        victim.submit(parameters).get(5, TimeUnit.SECONDS);
+        verify(executionService).execute(same(parameters), any(CancellationOption.class));
+        assertSame(notificationContext, workerContext.get());
+    }
+
+    @Test
+    public void queueFull() throws Exception {
+        victim = new ConcurrentTaskExecutionService(executionService, 1, 1, Executors.defaultThreadFactory());
+        victim.submit(new TestTaskParameter());
+        while (victim.queued() > 0) {
+            Thread.sleep(10);
+        }
+        victim.submit(new TestTaskParameter());
+        assertEquals(1, victim.queued());
+        try {
+            victim.submit(new TestTaskParameter());
+            throw new AssertionError("Expected rejection");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+        assertEquals(1, victim.queued());
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void notEnoughMemory() {
+        victim = new ConcurrentTaskExecutionService(executionService, 1, 10, Executors.defaultThreadFactory());
+        victim.setMinimumFreeMemory(Long.MAX_VALUE);
+        victim.submit(new TestTaskParameter());
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void shutDown() {
+        victim = new ConcurrentTaskExecutionService(executionService, 1, 10, Executors.defaultThreadFactory());
+        victim.shutdown();
+        victim.submit(new TestTaskParameter());
+    }
+
+    @Test
+    public void concurrencyLimit() throws Exception {
+        victim = new ConcurrentTaskExecutionService(executionService, 4, 10, Executors.defaultThreadFactory());
+        victim.setConcurrencyLimit(TestTaskParameter.class, 1);
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+        doAnswer(i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return null;
+        }).when(executionService).execute(any(TaskParameters.class), any(CancellationOption.class));
+        Future<Void> first = victim.submit(new TestTaskParameter());
+        Future<Void> second = victim.submit(new TestTaskParameter());
+        Future<Void> third = victim.submit(new TestTaskParameter());
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        third.get(5, TimeUnit.SECONDS);
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    public void cancelQueued() throws Exception {
+        victim = new ConcurrentTaskExecutionService(executionService, 1, 10, Executors.defaultThreadFactory());
+        victim.submit(new TestTaskParameter());
+        TestTaskParameter parameters = new TestTaskParameter();
+        Future<Void> queued = victim.submit(parameters);
+        assertTrue(queued.cancel(true));
+        assertTrue(queued.isCancelled());
+        release.countDown();
+        victim.shutdown();
+        assertTrue(victim.awaitTermination(5, TimeUnit.SECONDS));
+        verify(executionService, never()).execute(same(parameters), any(CancellationOption.class));
+        assertEquals(0, victim.queued());
+    }
+
+    @Test
+    public void cancelRunning() throws Exception {
+        victim = new ConcurrentTaskExecutionService(executionService, 1, 10, Executors.defaultThreadFactory());
+        CancellationOption cancellationOption = mock(CancellationOption.class);
+        CountDownLatch started = new CountDownLatch(1);
+        doAnswer(i -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }).when(executionService).execute(any(TaskParameters.class), eq(cancellationOption));
+        when(cancellationOption.isCancellable()).thenReturn(Boolean.TRUE);
+        Future<Void> running = victim.submit(new TestTaskParameter(), cancellationOption);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        running.cancel(true);
+        verify(cancellationOption).requestCancel();
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+}
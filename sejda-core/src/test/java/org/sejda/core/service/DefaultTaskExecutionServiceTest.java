@@ -20,9 +20,13 @@
  */
 package org.sejda.core.service;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -31,9 +35,12 @@ import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Matchers;
 import org.sejda.TestUtils;
 import org.sejda.core.TestListenerFactory;
@@ -41,6 +48,12 @@ import org.sejda.core.TestListenerFactory.TestListenerStart;
 import org.sejda.core.context.DefaultSejdaContext;
 import org.sejda.core.context.SejdaContext;
 import org.sejda.core.notification.context.GlobalNotificationContext;
+import org.sejda.core.support.io.DefaultTemporaryBuffersManager;
+import org.sejda.core.support.io.IOUtils;
+import org.sejda.core.support.io.ThreadLocalTemporaryBuffersManager;
+import org.sejda.core.support.metrics.TaskMetricsListener;
+import org.sejda.core.support.metrics.TaskMetricsRegistry;
+import org.sejda.core.support.metrics.ThreadLocalTaskMetrics;
 import org.sejda.model.exception.TaskException;
 import org.sejda.model.exception.TaskExecutionException;
 import org.sejda.model.output.FileTaskOutput;
@@ -48,8 +61,11 @@ import org.sejda.model.output.SingleTaskOutput;
 import org.sejda.model.output.StreamTaskOutput;
 import org.sejda.model.parameter.base.TaskParameters;
 import org.sejda.model.pdf.PdfVersion;
+import org.sejda.model.task.NotifiableTaskMetadata;
 import org.sejda.model.task.Task;
+import org.sejda.model.task.TaskCounter;
 import org.sejda.model.task.TaskExecutionContext;
+import org.sejda.model.task.TaskMetrics;
 import org.sejda.model.task.TestTaskParameter;
 
 /**
@@ -117,4 +133,37 @@ public class DefaultTaskExecutionServiceTest {
         verify(task, never()).after();
         verify(task, never()).execute(parameters);
     }
+
+    @Test
+    public void temporaryBuffersReleased() throws TaskException {
+        TestUtils.setProperty(victim, "context", context);
+        when(context.newTemporaryBuffersManager()).thenReturn(new DefaultTemporaryBuffersManager());
+        List<File> buffers = new ArrayList<>();
+        doAnswer(i -> buffers.add(IOUtils.createTemporaryPdfBuffer())).when(task).execute(parameters);
+        victim.execute(parameters);
+        verify(task).after();
+        assertEquals(1, buffers.size());
+        assertFalse(buffers.get(0).exists());
+        assertNull(ThreadLocalTemporaryBuffersManager.getManager());
+    }
+
+    @Test
+    public void metricsPublished() throws TaskException {
+        TestUtils.setProperty(victim, "context", context);
+        doAnswer(i -> {
+            ThreadLocalTaskMetrics.increment(TaskCounter.PAGES_PROCESSED);
+            return null;
+        }).when(task).execute(parameters);
+        TaskMetricsListener listener = mock(TaskMetricsListener.class);
+        TaskMetricsRegistry.addListener(listener);
+        try {
+            victim.execute(parameters);
+        } finally {
+            TaskMetricsRegistry.removeListener(listener);
+        }
+        ArgumentCaptor<TaskMetrics> metrics = ArgumentCaptor.forClass(TaskMetrics.class);
+        verify(listener).onMetrics(any(NotifiableTaskMetadata.class), metrics.capture());
+        assertEquals(1, metrics.getValue().value(TaskCounter.PAGES_PROCESSED));
+        assertNull(ThreadLocalTaskMetrics.getMetrics());
+    }
 }
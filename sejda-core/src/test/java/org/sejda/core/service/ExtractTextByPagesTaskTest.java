@@ -106,4 +106,26 @@ public abstract class ExtractTextByPagesTaskTest extends BaseTaskTest<ExtractTex
                     }
                 });
     }
+
+    @Test
+    public void testExecuteRangesNotInDocumentOrder() throws IOException {
+        setUpParameters();
+        parameters.addPageRange(new PageRange(3, 3));
+        parameters.addPageRange(new PageRange(1, 1));
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertOutputSize(2).assertOutputContainsFilenames("1_test_file.txt", "2_test_file.txt")
+                .forEachRawOutput(p -> {
+                    try {
+                        if (p.getFileName().toString().equals("1_test_file.txt")) {
+                            assertEquals("and installation of the library.", Files.lines(p).findFirst().get().trim());
+                        }
+                        if (p.getFileName().toString().equals("2_test_file.txt")) {
+                            assertEquals("GNU LIBRARY GENERAL PUBLIC LICENSE", Files.lines(p).findFirst().get().trim());
+                        }
+                    } catch (IOException e) {
+                        fail(e.getMessage());
+                    }
+                });
+    }
 }
@@ -90,6 +90,19 @@ public abstract class MergeTaskTest extends BaseTaskTest<MergeParameters> {
         doExecuteMergeAll(true, 311, setUpParameters(getInputWithOutline()));
     }
 
+    @Test
+    public void executeMergeAllRetainingOutlineInputsLookAhead() throws IOException {
+        List<PdfMergeInput> input = getInput();
+        input.add(new PdfMergeInput(largeOutlineInput()));
+        input.add(new PdfMergeInput(customInput("pdf/forms/simple_form.pdf")));
+        input.add(new PdfMergeInput(mediumInput()));
+        MergeParameters parameters = setUpParameters(input);
+        parameters.setAcroFormPolicy(AcroFormPolicy.MERGE);
+        parameters.setInputsLookAhead(2);
+        doExecuteMergeAll(true, 53, parameters);
+        testContext.assertHasAcroforms(true);
+    }
+
     @Test
     public void executeMergeAllWithEncryptedRetainingOutline() throws IOException {
         doExecuteMergeAll(true, 310, setUpParameters(getInputWithEncrypted()));
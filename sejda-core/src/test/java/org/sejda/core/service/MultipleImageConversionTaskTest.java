@@ -19,21 +19,37 @@
  */
 package org.sejda.core.service;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.awt.image.RenderedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.sejda.ImageTestUtils;
 import org.sejda.core.TestListenerFactory;
 import org.sejda.core.TestListenerFactory.TestListenerFailed;
 import org.sejda.core.notification.context.ThreadLocalNotificationContext;
 import org.sejda.core.support.io.IOUtils;
+import org.sejda.model.image.RasterizationMode;
+import org.sejda.model.input.PdfFileSource;
 import org.sejda.model.output.DirectoryTaskOutput;
+import org.sejda.model.output.StreamTaskOutput;
 import org.sejda.model.parameter.image.AbstractPdfToMultipleImageParameters;
 import org.sejda.model.pdf.page.PageRange;
 import org.slf4j.Logger;
@@ -48,7 +64,10 @@ public abstract class MultipleImageConversionTaskTest<T extends AbstractPdfToMul
         extends BaseTaskTest<T> implements TestableTask<T> {
     private static Logger LOG = LoggerFactory.getLogger(MultipleImageConversionTaskTest.class);
 
-    abstract T getMultipleImageParametersWithoutSource();
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    protected abstract T getMultipleImageParametersWithoutSource();
 
     @Test
     public void testExecuteEncryptedStreamToMultipleImage() throws IOException {
@@ -72,6 +91,68 @@ public abstract class MultipleImageConversionTaskTest<T extends AbstractPdfToMul
         doExecute(parameters, 2);
     }
 
+    @Test
+    public void testExecuteStreamToMultipleImagePooled() throws IOException {
+        AbstractPdfToMultipleImageParameters parameters = getMultipleImageParametersWithoutSource();
+        parameters.setSource(shortInput());
+        parameters.setRasterizationMode(RasterizationMode.POOLED);
+        doExecute(parameters, 4);
+    }
+
+    @Test
+    public void testExecuteStreamToMultipleImageBanded() throws IOException {
+        AbstractPdfToMultipleImageParameters parameters = getMultipleImageParametersWithoutSource();
+        parameters.setSource(shortInput());
+        parameters.setRasterizationMode(RasterizationMode.BANDED);
+        doExecute(parameters, 4);
+    }
+
+    @Test
+    public void testExecuteFileToMultipleImageRenderingInParallel() throws IOException {
+        AbstractPdfToMultipleImageParameters parameters = getMultipleImageParametersWithoutSource();
+        File source = folder.newFile("short-test-file.pdf");
+        Files.copy(getClass().getClassLoader().getResourceAsStream("pdf/short-test-file.pdf"), source.toPath(),
+                StandardCopyOption.REPLACE_EXISTING);
+        parameters.setSource(PdfFileSource.newInstanceNoPassword(source));
+        parameters.setOutputPrefix("[FILENUMBER]_[CURRENTPAGE]");
+        parameters.addPageRange(new PageRange(3, 4));
+        parameters.addPageRange(new PageRange(1, 2));
+        parameters.setRenderingParallelism(3);
+        doExecute(parameters, 4);
+        String extension = parameters.getOutputImageType().getExtension();
+        testContext.assertOutputContainsFilenames("1_3." + extension, "2_4." + extension, "3_1." + extension,
+                "4_2." + extension);
+    }
+
+    @Test
+    public void testExecuteToZippedStream() throws IOException {
+        AbstractPdfToMultipleImageParameters parameters = getMultipleImageParametersWithoutSource();
+        parameters.setSource(shortInput());
+        parameters.setOutputPrefix("[CURRENTPAGE]");
+        parameters.addPageRange(new PageRange(3, 4));
+        parameters.addPageRange(new PageRange(1, 1));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        parameters.setOutput(new StreamTaskOutput(out));
+        TestListenerFailed failListener = TestListenerFactory.newFailedListener();
+        ThreadLocalNotificationContext.getContext().addListener(failListener);
+        execute(parameters);
+        assertFalse(failListener.isFailed());
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                names.add(entry.getName());
+                File image = folder.newFile(entry.getName());
+                Files.copy(zip, image.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                RenderedImage ri = ImageTestUtils.loadImage(image);
+                assertTrue(ri.getHeight() > 0);
+                assertTrue(ri.getWidth() > 0);
+            }
+        }
+        String extension = parameters.getOutputImageType().getExtension();
+        // entries are written as the pages are converted
+        assertEquals(Arrays.asList("3." + extension, "4." + extension, "1." + extension), names);
+    }
+
     @Test
     public void testWrongPageSelection() {
         AbstractPdfToMultipleImageParameters parameters = getMultipleImageParametersWithoutSource();
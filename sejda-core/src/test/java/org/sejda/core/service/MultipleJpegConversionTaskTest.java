@@ -31,7 +31,7 @@ import org.sejda.model.parameter.image.PdfToJpegParameters;
 public abstract class MultipleJpegConversionTaskTest extends MultipleImageConversionTaskTest<PdfToJpegParameters> {
 
     @Override
-    PdfToJpegParameters getMultipleImageParametersWithoutSource() {
+    protected PdfToJpegParameters getMultipleImageParametersWithoutSource() {
         PdfToJpegParameters parameters = new PdfToJpegParameters();
         parameters.setOutputPrefix("[CURRENTPAGE]");
         parameters.setResolutionInDpi(300);
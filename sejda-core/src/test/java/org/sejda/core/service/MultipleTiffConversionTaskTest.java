@@ -34,7 +34,7 @@ public abstract class MultipleTiffConversionTaskTest extends
         MultipleImageConversionTaskTest<PdfToMultipleTiffParameters> {
 
     @Override
-    PdfToMultipleTiffParameters getMultipleImageParametersWithoutSource() {
+    protected PdfToMultipleTiffParameters getMultipleImageParametersWithoutSource() {
         PdfToMultipleTiffParameters parameters = new PdfToMultipleTiffParameters(ImageColorType.GRAY_SCALE);
         parameters.setCompressionType(TiffCompressionType.PACKBITS);
         parameters.setOutputPrefix("[CURRENTPAGE]");
@@ -146,4 +146,23 @@ public abstract class RotateTaskTest extends BaseTaskTest<RotateParameters> {
         });
 
     }
+
+    @Test
+    public void testMultipleInputsInParallel() throws IOException {
+        parameters = new RotateParameters(Rotation.DEGREES_90, PredefinedSetOfPages.ALL_PAGES);
+        parameters.addSource(shortInput());
+        parameters.addSource(mediumInput());
+        parameters.addSource(regularInput());
+        parameters.addSource(shortInput());
+        parameters.setOutputPrefix("[FILENUMBER]_[BASENAME]");
+        parameters.setSourcesParallelism(3);
+        parameters.setExistingOutputPolicy(ExistingOutputPolicy.OVERWRITE);
+        testContext.directoryOutputTo(parameters);
+        execute(parameters);
+        testContext.assertTaskCompleted();
+        testContext.assertOutputSize(4).assertPages("1_short-test-file.pdf", 4)
+                .assertPages("2_medium-test-file.pdf", 33).assertPages("3_test-file.pdf", 11)
+                .assertPages("4_short-test-file.pdf", 4)
+                .forEachPdfOutput(d -> d.getPages().forEach(p -> assertEquals(90, p.getRotation())));
+    }
 }
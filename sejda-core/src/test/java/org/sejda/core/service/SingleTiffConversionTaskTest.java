@@ -19,18 +19,32 @@
  */
 package org.sejda.core.service;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.awt.image.RenderedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 
 import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.sejda.ImageTestUtils;
+import org.sejda.core.TestListenerFactory;
+import org.sejda.core.TestListenerFactory.TestListenerFailed;
+import org.sejda.core.notification.context.ThreadLocalNotificationContext;
 import org.sejda.model.image.ImageColorType;
+import org.sejda.model.image.RasterizationMode;
 import org.sejda.model.image.TiffCompressionType;
+import org.sejda.model.input.PdfFileSource;
 import org.sejda.model.output.ExistingOutputPolicy;
+import org.sejda.model.output.StreamTaskOutput;
 import org.sejda.model.parameter.image.AbstractPdfToImageParameters;
 import org.sejda.model.parameter.image.AbstractPdfToSingleImageParameters;
 import org.sejda.model.parameter.image.PdfToSingleTiffParameters;
@@ -46,6 +60,9 @@ public abstract class SingleTiffConversionTaskTest extends BaseTaskTest<PdfToSin
 
     private static final Logger LOG = LoggerFactory.getLogger(SingleTiffConversionTaskTest.class);
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     private AbstractPdfToSingleImageParameters getSingleTiffParams() {
         PdfToSingleTiffParameters parameters = new PdfToSingleTiffParameters(ImageColorType.GRAY_SCALE);
         parameters.setCompressionType(TiffCompressionType.PACKBITS);
@@ -61,7 +78,55 @@ public abstract class SingleTiffConversionTaskTest extends BaseTaskTest<PdfToSin
 
     @Test
     public void testExecuteStreamToSingleTiff() throws IOException {
+        doExecute(getSingleTiffParams());
+    }
+
+    @Test
+    public void testExecuteFileToSingleTiffRenderingInParallel() throws IOException {
+        AbstractPdfToSingleImageParameters parameters = getSingleTiffParams();
+        parameters.setSource(fileSource());
+        parameters.setRenderingParallelism(3);
+        doExecute(parameters);
+    }
+
+    @Test
+    public void testExecuteFileToSingleTiffPooledRenderingInParallel() throws IOException {
+        AbstractPdfToSingleImageParameters parameters = getSingleTiffParams();
+        parameters.setSource(fileSource());
+        parameters.setRenderingParallelism(3);
+        parameters.setRasterizationMode(RasterizationMode.POOLED);
+        doExecute(parameters);
+    }
+
+    @Test
+    public void testExecuteStreamToSingleTiffBanded() throws IOException {
+        AbstractPdfToSingleImageParameters parameters = getSingleTiffParams();
+        parameters.setRasterizationMode(RasterizationMode.BANDED);
+        doExecute(parameters);
+    }
+
+    @Test
+    public void testExecuteToStream() throws IOException {
         AbstractPdfToSingleImageParameters parameters = getSingleTiffParams();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        parameters.setOutput(new StreamTaskOutput(out));
+        TestListenerFailed failListener = TestListenerFactory.newFailedListener();
+        ThreadLocalNotificationContext.getContext().addListener(failListener);
+        execute(parameters);
+        assertFalse(failListener.isFailed());
+        RenderedImage ri = ImageTestUtils.loadImage(new ByteArrayInputStream(out.toByteArray()), "out.tiff");
+        assertTrue(ri.getHeight() > 0);
+        assertTrue(ri.getWidth() > 0);
+    }
+
+    private PdfFileSource fileSource() throws IOException {
+        File source = folder.newFile("test_file.pdf");
+        Files.copy(getClass().getClassLoader().getResourceAsStream("pdf/enc_test_test_file.pdf"), source.toPath(),
+                StandardCopyOption.REPLACE_EXISTING);
+        return PdfFileSource.newInstanceWithPassword(source, "test");
+    }
+
+    private void doExecute(AbstractPdfToSingleImageParameters parameters) throws IOException {
         testContext.fileOutputTo(parameters, ".tiff");
         execute(parameters);
         testContext.assertTaskCompleted();
@@ -76,5 +141,4 @@ public abstract class SingleTiffConversionTaskTest extends BaseTaskTest<PdfToSin
             }
         });
     }
-
 }
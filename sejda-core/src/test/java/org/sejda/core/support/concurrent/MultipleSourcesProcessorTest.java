@@ -0,0 +1,160 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.support.concurrent;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.argThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatcher;
+import org.mockito.InOrder;
+import org.sejda.core.notification.context.ThreadLocalNotificationContext;
+import org.sejda.core.support.io.MultipleOutputWriter;
+import org.sejda.core.support.io.model.FileOutput;
+import org.sejda.core.support.io.model.PopulatedFileOutput;
+import org.sejda.model.exception.TaskCancelledException;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.exception.TaskExecutionException;
+import org.sejda.model.notification.event.PercentageOfWorkDoneChangedEvent;
+import org.sejda.model.notification.event.TaskExecutionWarningEvent;
+import org.sejda.model.task.Task;
+import org.sejda.model.task.TaskExecutionContext;
+
+/**
+ * @author agent
+ *
+ */
+public class MultipleSourcesProcessorTest {
+
+    private TaskExecutionContext context;
+    private MultipleOutputWriter writer;
+    private List<Integer> sources = asList(1, 2, 3, 4, 5, 6);
+
+    @Before
+    public void setUp() {
+        context = new TaskExecutionContext(mock(Task.class));
+        writer = mock(MultipleOutputWriter.class);
+    }
+
+    @After
+    public void tearDown() {
+        ThreadLocalNotificationContext.getContext().clearListeners();
+    }
+
+    @Test
+    public void sequential() throws TaskException {
+        new MultipleSourcesProcessor<Integer>(context, 1).process(sources, this::process, writer);
+        assertOutputsInOrder();
+    }
+
+    @Test
+    public void parallel() throws TaskException {
+        new MultipleSourcesProcessor<Integer>(context, 3).process(sources, this::process, writer);
+        assertOutputsInOrder();
+    }
+
+    @Test
+    public void parallelSourcesProgressSuppressed() throws TaskException {
+        List<BigDecimal> progress = Collections.synchronizedList(new ArrayList<>());
+        List<String> warnings = Collections.synchronizedList(new ArrayList<>());
+        ThreadLocalNotificationContext.getContext().addListener(PercentageOfWorkDoneChangedEvent.class,
+                e -> progress.add(e.getPercentage()));
+        ThreadLocalNotificationContext.getContext().addListener(TaskExecutionWarningEvent.class,
+                e -> warnings.add(e.getWarning()));
+        new MultipleSourcesProcessor<Integer>(context, 3).process(sources, (s, n, o) -> {
+            notifyEvent(context.notifiableTaskMetadata()).stepsCompleted(1).outOf(2);
+            notifyEvent(context.notifiableTaskMetadata()).taskWarning("warning " + s);
+            process(s, n, o);
+        }, writer);
+        assertEquals(sources.size(), progress.size());
+        for (int i = 1; i < progress.size(); i++) {
+            assertTrue(progress.get(i - 1).compareTo(progress.get(i)) < 0);
+        }
+        assertEquals(0, new BigDecimal(100).compareTo(progress.get(progress.size() - 1)));
+        assertEquals(sources.size(), warnings.size());
+    }
+
+    @Test
+    public void failurePropagated() throws TaskException {
+        try {
+            new MultipleSourcesProcessor<Integer>(context, 3).process(sources, (s, n, o) -> {
+                if (s == 2) {
+                    throw new TaskExecutionException("Failed");
+                }
+                process(s, n, o);
+            }, writer);
+            fail("Exception expected");
+        } catch (TaskExecutionException e) {
+            assertEquals("Failed", e.getMessage());
+        }
+        verify(writer, never()).addOutput(argThat(hasName("2")));
+        verify(writer, never()).addOutput(argThat(hasName("3")));
+    }
+
+    @Test(expected = TaskCancelledException.class)
+    public void cancelled() throws TaskException {
+        context.cancelTask();
+        new MultipleSourcesProcessor<Integer>(context, 3).process(sources, this::process, writer);
+    }
+
+    private void process(Integer source, int sourceNumber, Consumer<PopulatedFileOutput> outputs) throws TaskException {
+        assertEquals(source.intValue(), sourceNumber);
+        try {
+            // make later sources complete first
+            Thread.sleep(10 * (sources.size() - source));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        outputs.accept(FileOutput.file(new File(source + ".pdf")).name(source.toString()));
+    }
+
+    private void assertOutputsInOrder() {
+        InOrder inOrder = inOrder(writer);
+        for (Integer source : sources) {
+            inOrder.verify(writer).addOutput(argThat(hasName(source.toString())));
+        }
+    }
+
+    private static ArgumentMatcher<PopulatedFileOutput> hasName(String name) {
+        return new ArgumentMatcher<PopulatedFileOutput>() {
+            @Override
+            public boolean matches(Object argument) {
+                return argument instanceof PopulatedFileOutput
+                        && name.equals(((PopulatedFileOutput) argument).getName());
+            }
+        };
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.support.concurrent;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ *
+ */
+public class OpenResourcesTest {
+
+    @Test
+    public void closeSingle() throws IOException {
+        Closeable first = mock(Closeable.class);
+        Closeable second = mock(Closeable.class);
+        OpenResources victim = new OpenResources();
+        victim.add(first);
+        victim.add(second);
+        victim.close(first);
+        verify(first).close();
+        victim.close();
+        verify(first, times(1)).close();
+        verify(second).close();
+    }
+
+    @Test
+    public void closeNull() {
+        new OpenResources().close(null);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.support.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.sejda.core.support.concurrent.WorkerThreads.waitFor;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.Test;
+import org.sejda.core.notification.context.NotificationContext;
+import org.sejda.core.notification.context.ThreadLocalNotificationContext;
+import org.sejda.core.support.io.DefaultTemporaryBuffersManager;
+import org.sejda.core.support.io.ThreadLocalTemporaryBuffersManager;
+import org.sejda.core.support.metrics.ThreadLocalTaskMetrics;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.exception.TaskExecutionException;
+import org.sejda.model.task.OutputDeliveryCounters;
+import org.sejda.model.task.TaskMetrics;
+import org.sejda.model.task.TemporaryBuffersManager;
+
+/**
+ * @author agent
+ *
+ */
+public class WorkerThreadsTest {
+
+    @Test
+    public void daemonThreads() throws Exception {
+        ExecutorService executor = WorkerThreads.newFixedThreadPool(1, "test-workers");
+        try {
+            assertTrue(executor.submit(() -> Thread.currentThread().isDaemon()).get());
+            assertTrue(executor.submit(() -> Thread.currentThread().getName().startsWith("test-workers-")).get());
+        } finally {
+            WorkerThreads.shutdownAndWait(executor);
+        }
+        assertTrue(executor.isTerminated());
+    }
+
+    @Test
+    public void taskContextOfTheSubmittingThread() throws Exception {
+        TaskMetrics metrics = new TaskMetrics(new OutputDeliveryCounters());
+        ExecutorService executor = WorkerThreads.newFixedThreadPool(1, "test-workers");
+        try {
+            assertNull(executor.submit(ThreadLocalTaskMetrics::getMetrics).get());
+            ThreadLocalTaskMetrics.bind(metrics);
+            try {
+                assertSame(metrics, executor.submit(ThreadLocalTaskMetrics::getMetrics).get());
+            } finally {
+                ThreadLocalTaskMetrics.unbind();
+            }
+            assertNull(executor.submit(ThreadLocalTaskMetrics::getMetrics).get());
+        } finally {
+            WorkerThreads.shutdownAndWait(executor);
+        }
+    }
+
+    @Test
+    public void temporaryBuffersManagerOfTheSubmittingThread() throws Exception {
+        TemporaryBuffersManager manager = new DefaultTemporaryBuffersManager();
+        ExecutorService executor = WorkerThreads.newFixedThreadPool(1, "test-workers");
+        try {
+            ThreadLocalTemporaryBuffersManager.bind(manager);
+            try {
+                assertSame(manager, executor.submit(ThreadLocalTemporaryBuffersManager::getManager).get());
+            } finally {
+                ThreadLocalTemporaryBuffersManager.unbind();
+            }
+            assertNull(executor.submit(ThreadLocalTemporaryBuffersManager::getManager).get());
+        } finally {
+            WorkerThreads.shutdownAndWait(executor);
+        }
+    }
+
+    @Test
+    public void notificationContextOfTheSubmittingThread() throws Exception {
+        NotificationContext context = ThreadLocalNotificationContext.getContext();
+        ExecutorService executor = WorkerThreads.newFixedThreadPool(1, "test-workers");
+        try {
+            assertSame(context, executor.submit(ThreadLocalNotificationContext::getContext).get());
+        } finally {
+            WorkerThreads.shutdownAndWait(executor);
+        }
+    }
+
+    @Test
+    public void result() throws TaskException {
+        assertEquals("result", waitFor(CompletableFuture.completedFuture("result"), "testing"));
+    }
+
+    @Test(expected = TaskExecutionException.class)
+    public void taskExceptionRethrown() throws TaskException {
+        waitFor(failed(new TaskExecutionException("failed")), "testing");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void runtimeExceptionRethrown() throws TaskException {
+        waitFor(failed(new IllegalStateException()), "testing");
+    }
+
+    @Test
+    public void checkedExceptionWrapped() {
+        IOException cause = new IOException();
+        try {
+            waitFor(failed(cause), "testing");
+            fail("Exception expected");
+        } catch (TaskException e) {
+            assertEquals(cause, e.getCause());
+            assertEquals("An error occurred testing", e.getMessage());
+        }
+    }
+
+    private static CompletableFuture<String> failed(Throwable e) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+        return future;
+    }
+}
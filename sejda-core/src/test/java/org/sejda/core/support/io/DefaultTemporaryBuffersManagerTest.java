@@ -0,0 +1,137 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.support.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sejda.model.exception.TaskIOException;
+
+/**
+ * @author agent
+ *
+ */
+public class DefaultTemporaryBuffersManagerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void configuredDirectory() throws TaskIOException {
+        File directory = new File(folder.getRoot(), "buffers");
+        DefaultTemporaryBuffersManager victim = new DefaultTemporaryBuffersManager(directory, 0, 0);
+        File buffer = victim.newBuffer(".pdf");
+        assertTrue(buffer.exists());
+        assertEquals(directory, buffer.getParentFile());
+        assertTrue(buffer.getName().endsWith(".pdf"));
+        victim.release();
+    }
+
+    @Test
+    public void release() throws TaskIOException {
+        DefaultTemporaryBuffersManager victim = new DefaultTemporaryBuffersManager(folder.getRoot(), 0, 0);
+        File first = victim.newBuffer(".pdf");
+        File second = victim.newBuffer(".tmp");
+        victim.release();
+        assertFalse(first.exists());
+        assertFalse(second.exists());
+    }
+
+    @Test
+    public void usedBytes() throws TaskIOException, IOException {
+        DefaultTemporaryBuffersManager victim = new DefaultTemporaryBuffersManager(folder.getRoot(), 0, 0);
+        File first = victim.newBuffer(".pdf");
+        File second = victim.newBuffer(".pdf");
+        Files.write(first.toPath(), new byte[10]);
+        Files.write(second.toPath(), new byte[5]);
+        assertEquals(0, victim.usedBytes());
+        victim.written(first);
+        victim.written(second);
+        assertEquals(15, victim.usedBytes());
+        Files.write(first.toPath(), new byte[12]);
+        victim.written(first);
+        assertEquals(17, victim.usedBytes());
+        FileUtils.moveFile(second, new File(folder.getRoot(), "moved.pdf"));
+        victim.discarded(second);
+        assertEquals(12, victim.usedBytes());
+        victim.release();
+        assertEquals(0, victim.usedBytes());
+        assertTrue(new File(folder.getRoot(), "moved.pdf").exists());
+    }
+
+    @Test
+    public void foreignBuffersIgnored() throws IOException {
+        DefaultTemporaryBuffersManager victim = new DefaultTemporaryBuffersManager(folder.getRoot(), 0, 0);
+        File foreign = folder.newFile();
+        Files.write(foreign.toPath(), new byte[10]);
+        victim.written(foreign);
+        assertEquals(0, victim.usedBytes());
+        victim.discarded(foreign);
+        assertEquals(0, victim.usedBytes());
+        victim.release();
+        assertTrue(foreign.exists());
+    }
+
+    @Test(expected = TaskIOException.class)
+    public void taskQuota() throws TaskIOException, IOException {
+        DefaultTemporaryBuffersManager victim = new DefaultTemporaryBuffersManager(folder.getRoot(), 10, 0);
+        try {
+            File buffer = victim.newBuffer(".pdf");
+            Files.write(buffer.toPath(), new byte[10]);
+            victim.written(buffer);
+            victim.newBuffer(".pdf");
+        } finally {
+            victim.release();
+        }
+    }
+
+    @Test
+    public void globalQuota() throws TaskIOException, IOException {
+        DefaultTemporaryBuffersManager first = new DefaultTemporaryBuffersManager(folder.getRoot(), 0, 15);
+        DefaultTemporaryBuffersManager second = new DefaultTemporaryBuffersManager(folder.getRoot(), 0, 15);
+        try {
+            File firstBuffer = first.newBuffer(".pdf");
+            Files.write(firstBuffer.toPath(), new byte[10]);
+            first.written(firstBuffer);
+            File secondBuffer = second.newBuffer(".pdf");
+            Files.write(secondBuffer.toPath(), new byte[10]);
+            second.written(secondBuffer);
+            try {
+                second.newBuffer(".pdf");
+                throw new AssertionError("Global quota not enforced");
+            } catch (TaskIOException e) {
+                // expected
+            }
+            first.release();
+            assertTrue(second.newBuffer(".pdf").exists());
+        } finally {
+            first.release();
+            second.release();
+        }
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.sejda.core.support.io;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
@@ -51,4 +52,18 @@ public class IOUtilsTest {
         assertTrue(tmp.isFile());
         assertTrue(FilenameUtils.isExtension(tmp.getName(), Collections.singleton(SejdaFileExtensions.PDF_EXTENSION)));
     }
+
+    @Test
+    public void testCreateBufferBoundManager() throws TaskIOException {
+        DefaultTemporaryBuffersManager manager = new DefaultTemporaryBuffersManager();
+        ThreadLocalTemporaryBuffersManager.bind(manager);
+        try {
+            File tmp = IOUtils.createTemporaryPdfBuffer();
+            assertTrue(tmp.exists());
+            manager.release();
+            assertFalse(tmp.exists());
+        } finally {
+            ThreadLocalTemporaryBuffersManager.unbind();
+        }
+    }
 }
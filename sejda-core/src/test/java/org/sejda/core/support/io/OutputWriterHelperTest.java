@@ -20,6 +20,7 @@
  */
 package org.sejda.core.support.io;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -27,16 +28,24 @@ import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.apache.commons.io.IOUtils;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.sejda.model.exception.TaskIOException;
 import org.sejda.model.output.ExistingOutputPolicy;
 import org.sejda.model.task.Task;
 import org.sejda.model.task.TaskExecutionContext;
@@ -65,7 +74,7 @@ public class OutputWriterHelperTest {
         Map<String, File> files = new HashMap<String, File>();
         files.put("newName", tempFile);
         ByteArrayOutputStream out = new ByteArrayOutputStream();
-        OutputWriterHelper.copyToStreamZipped(files, out);
+        OutputWriterHelper.copyToStreamZipped(files, out, false, context);
         assertFalse("temporary file not deleted", tempFile.exists());
         assertTrue(out.size() > 0);
     }
@@ -76,11 +85,52 @@ public class OutputWriterHelperTest {
         Map<String, File> files = new HashMap<String, File>();
         files.put("newName", tempFile);
         ByteArrayOutputStream out = new ByteArrayOutputStream();
-        OutputWriterHelper.copyToStream(files.values().iterator().next(), out);
+        OutputWriterHelper.copyToStream(files.values().iterator().next(), out, context);
         assertFalse("temporary file not deleted", tempFile.exists());
         assertEquals(out.size(), tempFile.length());
     }
 
+    @Test
+    public void copyFileStreamSingleFile() throws IOException {
+        File tempFile = folder.newFile();
+        Files.write(tempFile.toPath(), new byte[] { 1, 2, 3, 4 });
+        File outFile = folder.newFile();
+        try (FileOutputStream out = new FileOutputStream(outFile)) {
+            out.write(0);
+            OutputWriterHelper.copyToStream(tempFile, out, context);
+        }
+        assertFalse("temporary file not deleted", tempFile.exists());
+        assertArrayEquals(new byte[] { 0, 1, 2, 3, 4 }, Files.readAllBytes(outFile.toPath()));
+        assertEquals(1, context.outputDelivery().files());
+        assertEquals(4, context.outputDelivery().bytes());
+    }
+
+    @Test
+    public void copyStreamZippedStored() throws IOException {
+        File pdf = folder.newFile();
+        Files.write(pdf.toPath(), new byte[] { 1, 2, 3, 4 });
+        File txt = folder.newFile();
+        Files.write(txt.toPath(), new byte[] { 5, 6 });
+        Map<String, File> files = new HashMap<String, File>();
+        files.put("file.pdf", pdf);
+        files.put("file.txt", txt);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OutputWriterHelper.copyToStreamZipped(files, out, true, context);
+        assertEquals(2, context.outputDelivery().files());
+        assertEquals(6, context.outputDelivery().bytes());
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                if ("file.pdf".equals(entry.getName())) {
+                    assertEquals(ZipEntry.STORED, entry.getMethod());
+                    assertArrayEquals(new byte[] { 1, 2, 3, 4 }, IOUtils.toByteArray(zip));
+                } else {
+                    assertEquals(ZipEntry.DEFLATED, entry.getMethod());
+                    assertArrayEquals(new byte[] { 5, 6 }, IOUtils.toByteArray(zip));
+                }
+            }
+        }
+    }
+
     @Test
     public void copyFailsMapSize() {
         Map<String, File> files = new HashMap<String, File>();
@@ -160,6 +210,19 @@ public class OutputWriterHelperTest {
         }
     }
 
+    @Test
+    public void moveSingleFileToMissingDirectory() throws IOException {
+        File tempFile = folder.newFile();
+        Files.write(tempFile.toPath(), new byte[] { 1, 2, 3 });
+        Map<String, File> files = new HashMap<String, File>();
+        files.put("newName", tempFile);
+        File outFile = new File(folder.getRoot(), "missing/nested/out.pdf");
+        OutputWriterHelper.moveToFile(files, outFile, ExistingOutputPolicy.FAIL, context);
+        assertFalse("temporary file not moved", tempFile.exists());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, Files.readAllBytes(outFile.toPath()));
+        assertEquals(1, context.notifiableTaskMetadata().taskOutput().size());
+    }
+
     @Test
     public void copyDirectorySkips() throws IOException {
         File dest = folder.newFolder();
@@ -180,6 +243,24 @@ public class OutputWriterHelperTest {
         assertEquals(2, context.notifiableTaskMetadata().taskOutput().size());
     }
 
+    @Test
+    public void movedBuffersAreDiscarded() throws IOException, TaskIOException {
+        DefaultTemporaryBuffersManager buffers = new DefaultTemporaryBuffersManager(folder.newFolder(), 0, 0);
+        TaskExecutionContext context = new TaskExecutionContext(mock(Task.class), buffers);
+        try {
+            File buffer = buffers.newBuffer(".pdf");
+            Files.write(buffer.toPath(), new byte[] { 1, 2, 3 });
+            buffers.written(buffer);
+            assertEquals(3, buffers.usedBytes());
+            Map<String, File> files = new HashMap<String, File>();
+            files.put("newName", buffer);
+            OutputWriterHelper.moveToDirectory(files, folder.newFolder(), ExistingOutputPolicy.OVERWRITE, context);
+            assertEquals(0, buffers.usedBytes());
+        } finally {
+            buffers.release();
+        }
+    }
+
     @Test(expected = IOException.class)
     public void copyDirectoryFail() throws IOException {
         File dest = folder.newFolder();
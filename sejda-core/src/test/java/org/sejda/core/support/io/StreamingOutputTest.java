@@ -0,0 +1,110 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.support.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.exception.TaskIOException;
+import org.sejda.model.output.StreamTaskOutput;
+import org.sejda.model.task.Task;
+import org.sejda.model.task.TaskExecutionContext;
+
+/**
+ * @author agent
+ *
+ */
+public class StreamingOutputTest {
+
+    private TaskExecutionContext context;
+    private ByteArrayOutputStream out;
+
+    @Before
+    public void setUp() {
+        context = new TaskExecutionContext(mock(Task.class));
+        out = new ByteArrayOutputStream();
+    }
+
+    @Test
+    public void single() throws TaskException {
+        StreamingOutput victim = StreamingOutput.single(new StreamTaskOutput(out), context);
+        victim.write("image.tiff", o -> write(o, new byte[] { 1, 2, 3 }));
+        victim.finish();
+        assertArrayEquals(new byte[] { 1, 2, 3 }, out.toByteArray());
+        assertEquals(1, context.outputDelivery().files());
+        assertEquals(3, context.outputDelivery().bytes());
+    }
+
+    @Test(expected = TaskIOException.class)
+    public void singleOnlyOnce() throws TaskException {
+        StreamingOutput victim = StreamingOutput.single(new StreamTaskOutput(out), context);
+        victim.write("image.tiff", o -> {
+        });
+        victim.write("image2.tiff", o -> {
+        });
+    }
+
+    @Test
+    public void zipped() throws TaskException, IOException {
+        StreamingOutput victim = StreamingOutput.zipped(new StreamTaskOutput(out, true), context);
+        victim.write("1.jpg", o -> write(o, new byte[] { 1, 2, 3, 4 }));
+        victim.write("2.txt", o -> write(o, new byte[] { 5, 6 }));
+        victim.finish();
+        assertEquals(2, context.outputDelivery().files());
+        assertEquals(6, context.outputDelivery().bytes());
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry = zip.getNextEntry();
+            assertEquals("1.jpg", entry.getName());
+            assertArrayEquals(new byte[] { 1, 2, 3, 4 }, IOUtils.toByteArray(zip));
+            entry = zip.getNextEntry();
+            assertEquals("2.txt", entry.getName());
+            assertArrayEquals(new byte[] { 5, 6 }, IOUtils.toByteArray(zip));
+            assertNull(zip.getNextEntry());
+        }
+    }
+
+    @Test(expected = TaskIOException.class)
+    public void zippedBlankName() throws TaskException {
+        StreamingOutput victim = StreamingOutput.zipped(new StreamTaskOutput(out), context);
+        victim.write(" ", o -> write(o, new byte[] { 1 }));
+    }
+
+    private static void write(OutputStream o, byte[] bytes) throws TaskIOException {
+        try {
+            o.write(bytes);
+            // writers close the destination they are given
+            o.close();
+        } catch (IOException e) {
+            throw new TaskIOException(e);
+        }
+    }
+}
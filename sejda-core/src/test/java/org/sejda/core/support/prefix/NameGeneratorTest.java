@@ -23,6 +23,7 @@ package org.sejda.core.support.prefix;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.StringEndsWith.endsWith;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.sejda.core.support.prefix.NameGenerator.nameGenerator;
 import static org.sejda.core.support.prefix.model.NameGenerationRequest.nameRequest;
 
@@ -95,4 +96,21 @@ public class NameGeneratorTest {
         String generatedFilename = nameGenerator("[CURRENTPAGE]-[BASENAME]").generate(nameRequest("pdf").page(99).originalName("My file 6-04-2015 $1234-56"));
         assertEquals(generatedFilename, "99-My file 6-04-2015 $1234-56.pdf");
     }
+
+    @Test
+    public void testCachedByPrefix() {
+        assertSame(nameGenerator("BLA_[CURRENTPAGE]"), nameGenerator("BLA_[CURRENTPAGE]"));
+        assertSame(nameGenerator(null), nameGenerator(""));
+    }
+
+    @Test
+    public void testReusedForManyRequests() {
+        NameGenerator victim = nameGenerator("[FILENUMBER###]_[BOOKMARK_NAME]-[CURRENTPAGE]_[BASENAME]");
+        assertEquals("001_Chapter $1-3_Original.pdf", victim
+                .generate(nameRequest().fileNumber(1).page(3).bookmark("Chapter $1").originalName("Original")));
+        assertEquals("002_[BOOKMARK_NAME]-4_Original.pdf",
+                victim.generate(nameRequest().fileNumber(2).page(4).originalName("Original")));
+        assertEquals("[FILENUMBER###]_[BOOKMARK_NAME]-[CURRENTPAGE]_[BASENAME]Original.pdf",
+                victim.generate(nameRequest().originalName("Original")));
+    }
 }
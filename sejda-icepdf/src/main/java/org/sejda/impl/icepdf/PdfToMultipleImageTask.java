@@ -22,21 +22,34 @@ package org.sejda.impl.icepdf;
 import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
 import static org.sejda.core.support.io.IOUtils.createTemporaryBuffer;
 import static org.sejda.core.support.io.OutputWriters.newMultipleOutputWriter;
+import static org.sejda.core.support.io.StreamingOutput.zipped;
 import static org.sejda.core.support.io.model.FileOutput.file;
 import static org.sejda.core.support.prefix.NameGenerator.nameGenerator;
 import static org.sejda.core.support.prefix.model.NameGenerationRequest.nameRequest;
+import static org.sejda.impl.icepdf.component.ParallelPagesRenderer.maxRenderedImages;
+import static org.sejda.impl.icepdf.component.PdfToBufferedImageProvider.toBandedImage;
 import static org.sejda.impl.icepdf.component.PdfToBufferedImageProvider.toBufferedImage;
 
 import java.awt.image.BufferedImage;
+import java.awt.image.RenderedImage;
 import java.io.File;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.apache.commons.lang3.mutable.MutableInt;
 import org.icepdf.core.pobjects.Document;
 import org.sejda.core.support.io.MultipleOutputWriter;
+import org.sejda.core.support.io.StreamingOutput;
+import org.sejda.impl.icepdf.component.BufferedImagesPool;
 import org.sejda.impl.icepdf.component.DefaultPdfSourceOpener;
+import org.sejda.impl.icepdf.component.ParallelPagesRenderer;
+import org.sejda.impl.icepdf.component.ParallelPagesRenderer.RenderedPageHandler;
 import org.sejda.model.exception.TaskException;
 import org.sejda.model.exception.TaskExecutionException;
+import org.sejda.model.image.RasterizationMode;
+import org.sejda.model.input.PdfFileSource;
 import org.sejda.model.input.PdfSourceOpener;
+import org.sejda.model.output.StreamTaskOutput;
 import org.sejda.model.parameter.image.AbstractPdfToMultipleImageParameters;
 import org.sejda.model.task.TaskExecutionContext;
 import org.slf4j.Logger;
@@ -55,6 +68,7 @@ public class PdfToMultipleImageTask<T extends AbstractPdfToMultipleImageParamete
     private static final Logger LOG = LoggerFactory.getLogger(PdfToMultipleImageTask.class);
 
     private MultipleOutputWriter outputWriter;
+    private StreamingOutput streamingOutput;
     private PdfSourceOpener<Document> sourceOpener = new DefaultPdfSourceOpener();
     private Document pdfDocument = null;
 
@@ -62,6 +76,11 @@ public class PdfToMultipleImageTask<T extends AbstractPdfToMultipleImageParamete
     public void before(T parameters, TaskExecutionContext executionContext) throws TaskException {
         super.before(parameters, executionContext);
         outputWriter = newMultipleOutputWriter(parameters.getExistingOutputPolicy(), executionContext);
+        streamingOutput = null;
+        if (parameters.getOutput() instanceof StreamTaskOutput) {
+            // images are encoded directly to the destination zip stream, no temporary buffers to copy them from
+            streamingOutput = zipped((StreamTaskOutput) parameters.getOutput(), executionContext);
+        }
     }
 
     @Override
@@ -73,38 +92,82 @@ public class PdfToMultipleImageTask<T extends AbstractPdfToMultipleImageParamete
             throw new TaskExecutionException("No page has been selected for conversion.");
         }
 
-        int currentStep = 0;
         int totalSteps = requestedPages.size();
         LOG.trace("Found {} pages to convert", totalSteps);
+        boolean banded = parameters.getRasterizationMode() == RasterizationMode.BANDED;
+        int parallelism = Math.min(parameters.getRenderingParallelism(), totalSteps);
+        // bands are painted from the document while written and each rendering thread opens its own instance of the document, so the
+        // source must be one we can open multiple times
+        boolean parallel = !banded && parallelism > 1 && parameters.getSource() instanceof PdfFileSource;
+        BufferedImagesPool pool = null;
+        if (parameters.getRasterizationMode() == RasterizationMode.POOLED) {
+            pool = new BufferedImagesPool(parallel ? maxRenderedImages(parallelism) : 1);
+        }
 
-        for (int currentPage : requestedPages) {
-            currentStep++;
+        RenderedPageHandler pageWriter = newPageWriter(parameters, totalSteps, pool);
+        if (parallel) {
+            // pages are rendered ahead by the workers and written here, in the requested order, by a single writer
+            try (ParallelPagesRenderer renderer = new ParallelPagesRenderer(parameters.getSource(), sourceOpener,
+                    parallelism, pool)) {
+                renderer.render(requestedPages.stream().map(this::zeroBased).collect(Collectors.toList()), parameters,
+                        pageWriter);
+            }
+        } else {
+            for (int currentPage : requestedPages) {
+                int zeroBasedPageNumber = zeroBased(currentPage);
+                RenderedImage pageImage = banded ? toBandedImage(pdfDocument, zeroBasedPageNumber, parameters)
+                        : toBufferedImage(pdfDocument, zeroBasedPageNumber, parameters, pool);
+                pageWriter.onPage(zeroBasedPageNumber, pageImage);
+            }
+        }
+
+        if (streamingOutput != null) {
+            streamingOutput.finish();
+        } else {
+            parameters.getOutput().accept(outputWriter);
+        }
+        LOG.debug("Document converted to {} and saved to {}", parameters.getOutputImageType(), parameters.getOutput());
+    }
+
+    private RenderedPageHandler newPageWriter(T parameters, int totalSteps, BufferedImagesPool pool) {
+        MutableInt currentStep = new MutableInt(0);
+        return (zeroBasedPageNumber, pageImage) -> {
+            currentStep.increment();
             executionContext().assertTaskNotCancelled();
 
-            BufferedImage pageImage = toBufferedImage(pdfDocument, zeroBased(currentPage), parameters);
+            int currentPage = zeroBasedPageNumber + 1;
             if (pageImage == null) {
                 LOG.debug("Failed to convert page {} to image", currentPage);
-                continue;
+                return;
             }
 
-            File tmpFile = createTemporaryBuffer();
-            LOG.debug("Created output temporary buffer {} ", tmpFile);
-
-            getWriter().openWriteDestination(tmpFile, parameters);
-            LOG.trace("Writing page {}", currentPage);
-            getWriter().write(pageImage, parameters);
-            getWriter().closeDestination();
-
             String outName = nameGenerator(parameters.getOutputPrefix())
                     .generate(nameRequest(parameters.getOutputImageType().getExtension()).page(currentPage)
-                            .originalName(parameters.getSource().getName()).fileNumber(currentStep));
-            outputWriter.addOutput(file(tmpFile).name(outName));
-
-            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(currentStep).outOf(totalSteps);
-        }
+                            .originalName(parameters.getSource().getName()).fileNumber(currentStep.intValue()));
+            if (streamingOutput != null) {
+                streamingOutput.write(outName, out -> {
+                    getWriter().openWriteDestination(out, parameters);
+                    LOG.trace("Writing page {}", currentPage);
+                    getWriter().write(pageImage, parameters);
+                    getWriter().closeDestination();
+                });
+            } else {
+                File tmpFile = createTemporaryBuffer();
+                LOG.debug("Created output temporary buffer {} ", tmpFile);
+
+                getWriter().openWriteDestination(tmpFile, parameters);
+                LOG.trace("Writing page {}", currentPage);
+                getWriter().write(pageImage, parameters);
+                getWriter().closeDestination();
+                outputWriter.addOutput(file(tmpFile).name(outName));
+            }
+            if (pool != null) {
+                pool.release((BufferedImage) pageImage);
+            }
 
-        parameters.getOutput().accept(outputWriter);
-        LOG.debug("Document converted to {} and saved to {}", parameters.getOutputImageType(), parameters.getOutput());
+            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(currentStep.intValue())
+                    .outOf(totalSteps);
+        };
     }
 
     @Override
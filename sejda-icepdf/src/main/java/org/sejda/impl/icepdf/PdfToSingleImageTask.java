@@ -22,7 +22,10 @@ package org.sejda.impl.icepdf;
 import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
 import static org.sejda.core.support.io.IOUtils.createTemporaryBuffer;
 import static org.sejda.core.support.io.OutputWriters.newSingleOutputWriter;
+import static org.sejda.core.support.io.StreamingOutput.single;
 import static org.sejda.core.support.io.model.FileOutput.file;
+import static org.sejda.impl.icepdf.component.ParallelPagesRenderer.maxRenderedImages;
+import static org.sejda.impl.icepdf.component.PdfToBufferedImageProvider.toBandedImage;
 import static org.sejda.impl.icepdf.component.PdfToBufferedImageProvider.toBufferedImage;
 
 import java.awt.image.BufferedImage;
@@ -30,10 +33,18 @@ import java.io.File;
 
 import org.icepdf.core.pobjects.Document;
 import org.sejda.core.support.io.SingleOutputWriter;
+import org.sejda.core.support.io.StreamingOutput;
+import org.sejda.impl.icepdf.component.BufferedImagesPool;
 import org.sejda.impl.icepdf.component.DefaultPdfSourceOpener;
+import org.sejda.impl.icepdf.component.ParallelPagesRenderer;
+import org.sejda.impl.icepdf.component.ParallelPagesRenderer.RenderedPageHandler;
 import org.sejda.model.exception.TaskException;
 import org.sejda.model.exception.TaskExecutionException;
+import org.sejda.model.image.RasterizationMode;
+import org.sejda.model.input.PdfFileSource;
 import org.sejda.model.input.PdfSourceOpener;
+import org.sejda.model.output.StreamTaskOutput;
+import org.sejda.model.parameter.image.AbstractPdfToImageParameters;
 import org.sejda.model.parameter.image.AbstractPdfToSingleImageParameters;
 import org.sejda.model.task.TaskExecutionContext;
 import org.slf4j.Logger;
@@ -67,34 +78,75 @@ public class PdfToSingleImageTask<T extends AbstractPdfToSingleImageParameters>
     @Override
     public void execute(T parameters) throws TaskException {
 
-        File tmpFile = createTemporaryBuffer();
-        LOG.debug("Created output temporary buffer {} ", tmpFile);
-
         pdfDocument = parameters.getSource().open(sourceOpener);
 
         int numberOfPages = pdfDocument.getNumberOfPages();
         LOG.trace("Found {} pages", numberOfPages);
 
-        getWriter().openWriteDestination(tmpFile, parameters);
-        for (int zeroBasedPageNumber = 0; zeroBasedPageNumber < pdfDocument.getNumberOfPages(); zeroBasedPageNumber++) {
+        if (parameters.getOutput() instanceof StreamTaskOutput) {
+            // the image is encoded directly to the destination stream, no temporary buffer to copy it from
+            StreamingOutput output = single((StreamTaskOutput) parameters.getOutput(), executionContext());
+            output.write(parameters.getOutputName(), out -> {
+                getWriter().openWriteDestination(out, parameters);
+                writePages(parameters, numberOfPages);
+                getWriter().closeDestination();
+            });
+            output.finish();
+        } else {
+            File tmpFile = createTemporaryBuffer();
+            LOG.debug("Created output temporary buffer {} ", tmpFile);
+
+            getWriter().openWriteDestination(tmpFile, parameters);
+            writePages(parameters, numberOfPages);
+            getWriter().closeDestination();
+
+            outputWriter.setOutput(file(tmpFile).name(parameters.getOutputName()));
+            parameters.getOutput().accept(outputWriter);
+        }
+        LOG.debug("Document converted to {} and saved to {}", parameters.getOutputImageType(), parameters.getOutput());
+    }
+
+    private void writePages(T parameters, int numberOfPages) throws TaskException {
+        boolean parallel = parameters.getRenderingParallelism() > 1 && parameters.getSource() instanceof PdfFileSource;
+        BufferedImagesPool pool = newImagesPool(parameters, parallel ? parameters.getRenderingParallelism() : 1);
+        RenderedPageHandler pageWriter = (zeroBasedPageNumber, pageImage) -> {
             LOG.trace("Writing page {}", zeroBasedPageNumber + 1);
             executionContext().assertTaskNotCancelled();
-
-            BufferedImage pageImage = toBufferedImage(pdfDocument, zeroBasedPageNumber, parameters);
             if (pageImage == null) {
                 LOG.debug("Failed to convert page {} to image", zeroBasedPageNumber + 1);
-                continue;
+                return;
             }
-
             getWriter().write(pageImage, parameters);
+            if (pool != null) {
+                pool.release((BufferedImage) pageImage);
+            }
             notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(zeroBasedPageNumber + 1)
                     .outOf(numberOfPages);
+        };
+        if (parameters.getRasterizationMode() == RasterizationMode.BANDED) {
+            // bands are painted from the document while written, so pages are rendered here one at a time
+            for (int zeroBasedPageNumber = 0; zeroBasedPageNumber < numberOfPages; zeroBasedPageNumber++) {
+                pageWriter.onPage(zeroBasedPageNumber, toBandedImage(pdfDocument, zeroBasedPageNumber, parameters));
+            }
+        } else if (parallel) {
+            // pages are rendered ahead by the workers and written here, in page order, by a single writer
+            try (ParallelPagesRenderer renderer = new ParallelPagesRenderer(parameters.getSource(), sourceOpener,
+                    parameters.getRenderingParallelism(), pool)) {
+                renderer.render(numberOfPages, parameters, pageWriter);
+            }
+        } else {
+            for (int zeroBasedPageNumber = 0; zeroBasedPageNumber < numberOfPages; zeroBasedPageNumber++) {
+                pageWriter.onPage(zeroBasedPageNumber,
+                        toBufferedImage(pdfDocument, zeroBasedPageNumber, parameters, pool));
+            }
         }
-        getWriter().closeDestination();
+    }
 
-        outputWriter.setOutput(file(tmpFile).name(parameters.getOutputName()));
-        parameters.getOutput().accept(outputWriter);
-        LOG.debug("Document converted to {} and saved to {}", parameters.getOutputImageType(), parameters.getOutput());
+    private static BufferedImagesPool newImagesPool(AbstractPdfToImageParameters parameters, int parallelism) {
+        if (parameters.getRasterizationMode() == RasterizationMode.POOLED) {
+            return new BufferedImagesPool(maxRenderedImages(parallelism));
+        }
+        return null;
     }
 
     @Override
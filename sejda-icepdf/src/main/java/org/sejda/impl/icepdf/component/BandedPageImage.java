@@ -0,0 +1,199 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.impl.icepdf.component;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.Raster;
+import java.awt.image.RenderedImage;
+import java.awt.image.SampleModel;
+import java.awt.image.WritableRaster;
+import java.util.Vector;
+
+import org.icepdf.core.pobjects.Page;
+import org.icepdf.core.util.GraphicsRenderingHints;
+import org.sejda.model.image.ImageColorType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link RenderedImage} of a page made of horizontal bands, each one is a tile of the image and it's painted when it's requested. Only one
+ * band is kept in memory, so writers requesting the image tile by tile never hold the whole page raster. Every band paints the page clipped
+ * to its area, trading some rendering time for memory. Not thread safe.
+ * 
+ * @author agent
+ * 
+ */
+class BandedPageImage implements RenderedImage {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BandedPageImage.class);
+
+    private final Page page;
+    private final float zoom;
+    private final int width;
+    private final int height;
+    private final int bandHeight;
+    private final BufferedImage band;
+    private int paintedBand = -1;
+
+    BandedPageImage(Page page, float zoom, int width, int height, int bandHeight, ImageColorType colorType) {
+        this.page = page;
+        this.zoom = zoom;
+        this.width = width;
+        this.height = height;
+        this.bandHeight = Math.max(1, Math.min(bandHeight, height));
+        this.band = colorType.createBufferedImage(width, this.bandHeight);
+    }
+
+    @Override
+    public Raster getTile(int tileX, int tileY) {
+        if (paintedBand != tileY) {
+            Graphics2D g = band.createGraphics();
+            try {
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, width, bandHeight);
+                g.translate(0, -tileY * bandHeight);
+                g.clipRect(0, tileY * bandHeight, width, bandHeight);
+                page.paint(g, GraphicsRenderingHints.PRINT, Page.BOUNDARY_CROPBOX, 0, zoom);
+            } catch (NullPointerException ex) {
+                // works around an ICEPdf bug: if one page fails to convert, don't fail the complete task
+                LOG.warn("Failed to convert page band to image", ex);
+            } finally {
+                g.dispose();
+            }
+            paintedBand = tileY;
+        }
+        return band.getRaster().createChild(0, 0, width, bandHeight, 0, tileY * bandHeight, null);
+    }
+
+    @Override
+    public Raster getData() {
+        return getData(new Rectangle(0, 0, width, height));
+    }
+
+    @Override
+    public Raster getData(Rectangle rect) {
+        return copyData(band.getRaster().createCompatibleWritableRaster(rect.x, rect.y, rect.width, rect.height));
+    }
+
+    @Override
+    public WritableRaster copyData(WritableRaster raster) {
+        if (raster == null) {
+            raster = band.getRaster().createCompatibleWritableRaster(0, 0, width, height);
+        }
+        Rectangle bounds = raster.getBounds().intersection(new Rectangle(0, 0, width, height));
+        if (!bounds.isEmpty()) {
+            for (int tileY = bounds.y / bandHeight; tileY <= (bounds.y + bounds.height - 1) / bandHeight; tileY++) {
+                Raster tile = getTile(0, tileY);
+                Rectangle area = tile.getBounds().intersection(bounds);
+                raster.setRect(tile.createChild(area.x, area.y, area.width, area.height, area.x, area.y, null));
+            }
+        }
+        return raster;
+    }
+
+    @Override
+    public Vector<RenderedImage> getSources() {
+        return null;
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        return Image.UndefinedProperty;
+    }
+
+    @Override
+    public String[] getPropertyNames() {
+        return null;
+    }
+
+    @Override
+    public ColorModel getColorModel() {
+        return band.getColorModel();
+    }
+
+    @Override
+    public SampleModel getSampleModel() {
+        return band.getSampleModel();
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getMinX() {
+        return 0;
+    }
+
+    @Override
+    public int getMinY() {
+        return 0;
+    }
+
+    @Override
+    public int getNumXTiles() {
+        return 1;
+    }
+
+    @Override
+    public int getNumYTiles() {
+        return (height + bandHeight - 1) / bandHeight;
+    }
+
+    @Override
+    public int getMinTileX() {
+        return 0;
+    }
+
+    @Override
+    public int getMinTileY() {
+        return 0;
+    }
+
+    @Override
+    public int getTileWidth() {
+        return width;
+    }
+
+    @Override
+    public int getTileHeight() {
+        return bandHeight;
+    }
+
+    @Override
+    public int getTileGridXOffset() {
+        return 0;
+    }
+
+    @Override
+    public int getTileGridYOffset() {
+        return 0;
+    }
+}
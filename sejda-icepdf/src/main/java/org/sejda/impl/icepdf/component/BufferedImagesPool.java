@@ -0,0 +1,84 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.impl.icepdf.component;
+
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+import org.sejda.model.image.ImageColorType;
+
+/**
+ * Bounded pool of {@link BufferedImage}s that can be reused to render pages of the same size. Images are taken from the pool when a page is
+ * rendered and given back once they have been written. It's safe to use from multiple threads.
+ * 
+ * @author agent
+ * 
+ */
+public class BufferedImagesPool {
+
+    private final int maxSize;
+    private final LinkedList<BufferedImage> images = new LinkedList<>();
+
+    /**
+     * @param maxSize
+     *            maximum number of images kept in the pool
+     */
+    public BufferedImagesPool(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @param width
+     * @param height
+     * @param colorType
+     * @return an image from the pool with the given size and color type or a new one if there is no such image in the pool. Returned images
+     *         are not cleared.
+     */
+    public BufferedImage get(int width, int height, ImageColorType colorType) {
+        synchronized (images) {
+            Iterator<BufferedImage> iterator = images.iterator();
+            while (iterator.hasNext()) {
+                BufferedImage image = iterator.next();
+                if (image.getWidth() == width && image.getHeight() == height
+                        && image.getType() == colorType.getBufferedImageType()) {
+                    iterator.remove();
+                    return image;
+                }
+            }
+        }
+        return colorType.createBufferedImage(width, height);
+    }
+
+    /**
+     * Gives the image back to the pool. When the pool is full the least recently released image is discarded.
+     * 
+     * @param image
+     */
+    public void release(BufferedImage image) {
+        if (image != null && maxSize > 0) {
+            synchronized (images) {
+                images.addFirst(image);
+                if (images.size() > maxSize) {
+                    images.removeLast();
+                }
+            }
+        }
+    }
+}
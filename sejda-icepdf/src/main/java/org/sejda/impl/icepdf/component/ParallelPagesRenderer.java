@@ -0,0 +1,178 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.impl.icepdf.component;
+
+import static java.util.Objects.isNull;
+import static org.sejda.core.support.concurrent.WorkerThreads.newFixedThreadPool;
+import static org.sejda.core.support.concurrent.WorkerThreads.shutdownAndWait;
+import static org.sejda.core.support.concurrent.WorkerThreads.waitFor;
+import static org.sejda.impl.icepdf.component.PdfToBufferedImageProvider.toBufferedImage;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.RenderedImage;
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.icepdf.core.pobjects.Document;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.input.PdfSource;
+import org.sejda.model.input.PdfSourceOpener;
+import org.sejda.model.parameter.image.AbstractPdfToImageParameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ICEpdf component rendering the pages of a {@link PdfSource} to images using a pool of worker threads. Each worker opens its own
+ * {@link Document} and renders pages only from it. Rendered images are handed to the caller, on the caller thread, in page order, and only a
+ * bounded number of pages is rendered ahead of the one currently handled, so memory is capped by the number of workers rather than by the
+ * number of pages. The source must be one that can be opened multiple times.
+ * 
+ * @author agent
+ * 
+ */
+public class ParallelPagesRenderer implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelPagesRenderer.class);
+
+    private final PdfSource<?> source;
+    private final PdfSourceOpener<Document> opener;
+    private final int parallelism;
+    private final BufferedImagesPool pool;
+    private final ExecutorService executor;
+    private final ThreadLocal<Document> documents = new ThreadLocal<>();
+    private final List<Document> opened = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param source
+     *            the source to render
+     * @param opener
+     *            the opener used by each worker to open its own instance of the source
+     * @param parallelism
+     *            number of worker threads
+     * @param pool
+     *            pool where images are taken from, if null a new image is created for every page
+     */
+    public ParallelPagesRenderer(PdfSource<?> source, PdfSourceOpener<Document> opener, int parallelism,
+            BufferedImagesPool pool) {
+        this.source = source;
+        this.opener = opener;
+        this.parallelism = Math.max(1, parallelism);
+        this.pool = pool;
+        this.executor = newFixedThreadPool(this.parallelism, "sejda-icepdf-renderer");
+    }
+
+    /**
+     * @param parallelism
+     *            number of worker threads
+     * @return the maximum number of rendered images existing at the same time, including the one being handled
+     */
+    public static int maxRenderedImages(int parallelism) {
+        return Math.max(1, parallelism) * 2 + 1;
+    }
+
+    /**
+     * Renders the pages from zero to the given number of pages
+     * 
+     * @param numberOfPages
+     * @param parameters
+     *            rendering parameters
+     * @param handler
+     *            receives each rendered image, in page order
+     * @throws TaskException
+     *             the first error, in page order, occurred rendering or handling the pages
+     */
+    public void render(int numberOfPages, AbstractPdfToImageParameters parameters, RenderedPageHandler handler)
+            throws TaskException {
+        render(IntStream.range(0, numberOfPages).boxed().collect(Collectors.toList()), parameters, handler);
+    }
+
+    /**
+     * Renders the given pages
+     * 
+     * @param zeroBasedPageNumbers
+     *            the pages to render, in the order they are handed to the handler
+     * @param parameters
+     *            rendering parameters
+     * @param handler
+     *            receives each rendered image, in the given order
+     * @throws TaskException
+     *             the first error, in the given order, occurred rendering or handling the pages
+     */
+    public void render(Collection<Integer> zeroBasedPageNumbers, AbstractPdfToImageParameters parameters,
+            RenderedPageHandler handler) throws TaskException {
+        LOG.debug("Rendering {} pages using {} threads", zeroBasedPageNumbers.size(), parallelism);
+        Deque<Future<BufferedImage>> rendering = new LinkedList<>();
+        Iterator<Integer> next = zeroBasedPageNumbers.iterator();
+        for (int zeroBasedPageNumber : zeroBasedPageNumbers) {
+            while (rendering.size() < maxRenderedImages(parallelism) - 1 && next.hasNext()) {
+                int current = next.next();
+                rendering.add(executor.submit(() -> toBufferedImage(document(), current, parameters, pool)));
+            }
+            handler.onPage(zeroBasedPageNumber, waitFor(rendering.poll(), "rendering page " + (zeroBasedPageNumber + 1)));
+        }
+    }
+
+    private Document document() throws TaskException {
+        Document document = documents.get();
+        if (isNull(document)) {
+            LOG.trace("Opening {} on {}", source, Thread.currentThread().getName());
+            document = source.open(opener);
+            opened.add(document);
+            documents.set(document);
+        }
+        return document;
+    }
+
+    /**
+     * Discards the pages not yet rendered, waits for the workers to complete and disposes the documents they opened
+     */
+    @Override
+    public void close() {
+        shutdownAndWait(executor);
+        opened.forEach(Document::dispose);
+        opened.clear();
+    }
+
+    /**
+     * Handler for the rendered pages
+     * 
+     * @author agent
+     * 
+     */
+    @FunctionalInterface
+    public static interface RenderedPageHandler {
+        /**
+         * @param zeroBasedPageNumber
+         *            the rendered page number
+         * @param image
+         *            the rendered image or null if the page failed to render
+         * @throws TaskException
+         */
+        void onPage(int zeroBasedPageNumber, RenderedImage image) throws TaskException;
+    }
+}
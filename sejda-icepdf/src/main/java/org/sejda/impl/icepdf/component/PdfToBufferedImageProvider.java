@@ -19,14 +19,18 @@
  */
 package org.sejda.impl.icepdf.component;
 
+import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
+import java.awt.image.RenderedImage;
 
 import org.icepdf.core.pobjects.Document;
 import org.icepdf.core.pobjects.PDimension;
 import org.icepdf.core.pobjects.Page;
 import org.icepdf.core.util.GraphicsRenderingHints;
+import org.sejda.core.support.metrics.ThreadLocalTaskMetrics;
 import org.sejda.model.parameter.image.AbstractPdfToImageParameters;
+import org.sejda.model.task.TaskCounter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,6 +43,7 @@ import org.slf4j.LoggerFactory;
 public final class PdfToBufferedImageProvider {
 
     private static final Logger LOG = LoggerFactory.getLogger(PdfToBufferedImageProvider.class);
+    private static final int BAND_HEIGHT = 512;
 
     private PdfToBufferedImageProvider() {
         // hide
@@ -53,15 +58,42 @@ public final class PdfToBufferedImageProvider {
      * @return the corresponding {@link BufferedImage}
      */
     public static BufferedImage toBufferedImage(Document document, int page, AbstractPdfToImageParameters parameters) {
+        return toBufferedImage(document, page, parameters, null);
+    }
+
+    /**
+     * Converts the given {@link Document} page to a {@link BufferedImage} taken from the given pool
+     * 
+     * @param document
+     * @param page
+     * @param parameters
+     * @param pool
+     *            pool where to take the image from, if null a new image is created
+     * @return the corresponding {@link BufferedImage}
+     */
+    public static BufferedImage toBufferedImage(Document document, int page, AbstractPdfToImageParameters parameters,
+            BufferedImagesPool pool) {
         try {
             Page currentPage = document.getPageTree().getPage(page);
             currentPage.init();
             PDimension pageDimensions = currentPage.getSize(0, parameters.getUserZoom());
-            BufferedImage currentImage = parameters.getOutputImageColorType().createBufferedImage(
-                    (int) pageDimensions.getWidth(), (int) pageDimensions.getHeight());
-            Graphics2D g = currentImage.createGraphics();
+            int width = (int) pageDimensions.getWidth();
+            int height = (int) pageDimensions.getHeight();
+            BufferedImage currentImage;
+            Graphics2D g;
+            if (pool == null) {
+                currentImage = parameters.getOutputImageColorType().createBufferedImage(width, height);
+                g = currentImage.createGraphics();
+            } else {
+                currentImage = pool.get(width, height, parameters.getOutputImageColorType());
+                g = currentImage.createGraphics();
+                // the image might contain a previous page
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, width, height);
+            }
             currentPage.paint(g, GraphicsRenderingHints.PRINT, Page.BOUNDARY_CROPBOX, 0, parameters.getUserZoom());
             g.dispose();
+            ThreadLocalTaskMetrics.increment(TaskCounter.PAGES_PROCESSED);
             return currentImage;
         } catch (NullPointerException ex) {
             // works around an ICEPdf bug: if one page fails to convert, don't fail the complete task
@@ -69,4 +101,28 @@ public final class PdfToBufferedImageProvider {
             return null;
         }
     }
+
+    /**
+     * Converts the given {@link Document} page to a {@link RenderedImage} painted in horizontal bands while it's read. The returned image
+     * paints from the document, so it has to be written before the document is used for anything else.
+     * 
+     * @param document
+     * @param page
+     * @param parameters
+     * @return the corresponding {@link RenderedImage}
+     */
+    public static RenderedImage toBandedImage(Document document, int page, AbstractPdfToImageParameters parameters) {
+        try {
+            Page currentPage = document.getPageTree().getPage(page);
+            currentPage.init();
+            PDimension pageDimensions = currentPage.getSize(0, parameters.getUserZoom());
+            ThreadLocalTaskMetrics.increment(TaskCounter.PAGES_PROCESSED);
+            return new BandedPageImage(currentPage, parameters.getUserZoom(), (int) pageDimensions.getWidth(),
+                    (int) pageDimensions.getHeight(), BAND_HEIGHT, parameters.getOutputImageColorType());
+        } catch (NullPointerException ex) {
+            // works around an ICEPdf bug: if one page fails to convert, don't fail the complete task
+            LOG.warn("Failed to convert page to image", ex);
+            return null;
+        }
+    }
 }
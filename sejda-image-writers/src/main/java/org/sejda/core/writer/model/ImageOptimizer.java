@@ -1,10 +1,10 @@
 package org.sejda.core.writer.model;
 
 import java.awt.Color;
+import java.awt.Dimension;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
@@ -13,9 +13,11 @@ import javax.imageio.ImageTypeSpecifier;
 import javax.imageio.metadata.IIOMetadata;
 import javax.imageio.plugins.jpeg.JPEGImageWriteParam;
 import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
 
 import org.apache.commons.io.IOUtils;
 import org.imgscalr.Scalr;
+import org.sejda.model.task.TemporaryBuffersManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Element;
@@ -29,13 +31,34 @@ public class ImageOptimizer {
      *
      * If the image is larger than maxWidthOrHeight pixels, it is downsized to fit the maxWidthOrHeight rectangle (keeping its aspect ratio). Image is saved as JPEG with specified
      * quality (1.0 is best/leave unchanged, 0.0 is worst). Image DPI is changed to dpi specified.
+     * 
+     * The optimized image is kept in memory, and its hash computed, while it's encoded. It's moved to a temporary file only if its size
+     * exceeds the given threshold. The optimized image is always an 8 bits per component RGB JPEG.
+     * 
+     * @param maxInMemorySize
+     *            size in bytes over which the optimized image is moved to a temporary file
+     * @param buffers
+     *            manager creating the temporary file and accounting for its size, if null the file is created in the default temporary
+     *            directory
+     * @return the optimized image, it's up to the caller to close it once it's not needed anymore, deleting its temporary file
      */
-    public static File optimize(BufferedImage bufferedImage, float quality, int dpi, int width, int height)
-            throws IOException {
-        File outputFile = File.createTempFile("pdfimage", ".jpeg");
-        outputFile.deleteOnExit();
-        FileOutputStream fos = new FileOutputStream(outputFile);
+    public static OptimizedImage optimize(BufferedImage bufferedImage, float quality, int dpi, int width, int height,
+            long maxInMemorySize, TemporaryBuffersManager buffers) throws IOException {
+        SpillingDigestOutputStream out = new SpillingDigestOutputStream(maxInMemorySize, buffers);
+        try {
+            Dimension size = write(bufferedImage, quality, dpi, width, height, out);
+            return out.toOptimizedImage(size.width, size.height);
+        } catch (IOException | RuntimeException e) {
+            out.discard();
+            throw e;
+        }
+    }
 
+    /**
+     * @return the dimensions of the written image
+     */
+    private static Dimension write(BufferedImage bufferedImage, float quality, int dpi, int width, int height,
+            OutputStream out) throws IOException {
         try {
             int relevantDelta = 20;
             boolean isResizeRelevant = Math.abs(bufferedImage.getWidth() - width) > relevantDelta && Math.abs(bufferedImage.getHeight() - height) > relevantDelta;
@@ -53,7 +76,8 @@ public class ImageOptimizer {
             imageRGB.createGraphics().drawImage(bufferedImage, 0, 0, Color.WHITE, null);
 
             ImageWriter imageWriter = ImageIO.getImageWritersBySuffix("jpeg").next();
-            ImageOutputStream ios = ImageIO.createImageOutputStream(fos);
+            // we don't want ImageIO to cache the encoded image in yet another temporary file
+            ImageOutputStream ios = new MemoryCacheImageOutputStream(out);
             imageWriter.setOutput(ios);
 
             IIOMetadata imageMetaData = null;
@@ -78,10 +102,8 @@ public class ImageOptimizer {
                 IOUtils.closeQuietly(ios);
                 imageWriter.dispose();
             }
-
-            return outputFile;
+            return new Dimension(imageRGB.getWidth(), imageRGB.getHeight());
         } finally {
-            IOUtils.closeQuietly(fos);
             bufferedImage.flush();
         }
     }
@@ -0,0 +1,119 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.writer.model;
+
+import static java.util.Objects.nonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.commons.io.FileUtils;
+import org.sejda.model.task.TemporaryBuffersManager;
+
+/**
+ * The encoded bytes of an 8 bits per component RGB JPEG image optimized by the {@link ImageOptimizer}, together with their MD5 hash. Bytes are kept in memory unless they
+ * exceeded the threshold given to the optimizer, in which case they are in a temporary file that is deleted when this image is closed.
+ *
+ * @author agent
+ *
+ */
+public final class OptimizedImage implements Closeable {
+
+    private final byte[] data;
+    private final File file;
+    private final TemporaryBuffersManager buffers;
+    private final long size;
+    private final String hash;
+    private final int width;
+    private final int height;
+
+    OptimizedImage(byte[] data, String hash, int width, int height) {
+        this.data = data;
+        this.file = null;
+        this.buffers = null;
+        this.size = data.length;
+        this.hash = hash;
+        this.width = width;
+        this.height = height;
+    }
+
+    OptimizedImage(File file, TemporaryBuffersManager buffers, String hash, int width, int height) {
+        this.data = null;
+        this.file = file;
+        this.buffers = buffers;
+        this.size = file.length();
+        this.hash = hash;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * @return the size in bytes of the encoded image
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return the Base64 encoded MD5 hash of the encoded image
+     */
+    public String hash() {
+        return hash;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public boolean isInMemory() {
+        return nonNull(data);
+    }
+
+    /**
+     * @return a new stream on the encoded image bytes
+     * @throws IOException
+     */
+    public InputStream openStream() throws IOException {
+        if (isInMemory()) {
+            return new ByteArrayInputStream(data);
+        }
+        return new FileInputStream(file);
+    }
+
+    /**
+     * Deletes the temporary file, if any
+     */
+    @Override
+    public void close() {
+        if (nonNull(file)) {
+            FileUtils.deleteQuietly(file);
+            if (nonNull(buffers)) {
+                buffers.discarded(file);
+            }
+        }
+    }
+}
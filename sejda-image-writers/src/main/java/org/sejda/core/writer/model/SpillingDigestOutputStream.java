@@ -0,0 +1,176 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.writer.model;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.ByteArrayOutputStream;
+import org.sejda.model.exception.TaskIOException;
+import org.sejda.model.task.TemporaryBuffersManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link OutputStream} computing the MD5 hash of what is written and keeping it in a memory buffer, reused by following instances created
+ * on the same thread unless it grew larger than {@value #MAX_REUSED_BUFFER_SIZE} bytes. Once the written bytes exceed a threshold, they
+ * are moved to a temporary file and the following writes go to the file.
+ *
+ * @author agent
+ *
+ */
+class SpillingDigestOutputStream extends OutputStream {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpillingDigestOutputStream.class);
+    static final ThreadLocal<ByteArrayOutputStream> BUFFERS = ThreadLocal.withInitial(ByteArrayOutputStream::new);
+    // larger buffers are not kept by the thread, so long lived threads don't pin them
+    static final int MAX_REUSED_BUFFER_SIZE = 1024 * 1024;
+
+    private final long threshold;
+    private final TemporaryBuffersManager buffers;
+    private final MessageDigest digest;
+    private ByteArrayOutputStream memory;
+    private File file;
+    private OutputStream fileStream;
+    private long count = 0;
+
+    /**
+     * @param threshold
+     *            number of bytes over which the content is moved to a temporary file
+     * @param buffers
+     *            manager creating the temporary file, if null the file is created in the default temporary directory
+     */
+    SpillingDigestOutputStream(long threshold, TemporaryBuffersManager buffers) {
+        this.threshold = threshold;
+        this.buffers = buffers;
+        try {
+            this.digest = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not available", e);
+        }
+        this.memory = BUFFERS.get();
+        this.memory.reset();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        beforeWriting(1);
+        digest.update((byte) b);
+        target().write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        beforeWriting(len);
+        digest.update(b, off, len);
+        target().write(b, off, len);
+    }
+
+    private void beforeWriting(int len) throws IOException {
+        count += len;
+        if (isNull(file) && count > threshold) {
+            file = newBuffer();
+            LOG.trace("Image exceeded {} bytes, moving it to {}", threshold, file);
+            fileStream = new BufferedOutputStream(new FileOutputStream(file));
+            memory.writeTo(fileStream);
+            releaseMemory();
+        }
+    }
+
+    private File newBuffer() throws IOException {
+        if (nonNull(buffers)) {
+            try {
+                return buffers.newBuffer(".jpeg");
+            } catch (TaskIOException e) {
+                throw new IOException(e);
+            }
+        }
+        return File.createTempFile("pdfimage", ".jpeg");
+    }
+
+    private void releaseMemory() {
+        if (memory.size() > MAX_REUSED_BUFFER_SIZE) {
+            BUFFERS.remove();
+        }
+        memory.reset();
+    }
+
+    private OutputStream target() {
+        if (nonNull(fileStream)) {
+            return fileStream;
+        }
+        return memory;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        target().flush();
+    }
+
+    @Override
+    public void close() {
+        IOUtils.closeQuietly(fileStream);
+    }
+
+    /**
+     * @param width
+     *            width of the written image
+     * @param height
+     *            height of the written image
+     * @return the written image. The stream is closed and the in memory buffer is released to be reused.
+     */
+    OptimizedImage toOptimizedImage(int width, int height) {
+        close();
+        String hash = Base64.getEncoder().encodeToString(digest.digest());
+        if (nonNull(file)) {
+            if (nonNull(buffers)) {
+                buffers.written(file);
+            }
+            return new OptimizedImage(file, buffers, hash, width, height);
+        }
+        byte[] data = memory.toByteArray();
+        releaseMemory();
+        return new OptimizedImage(data, hash, width, height);
+    }
+
+    /**
+     * Releases the in memory buffer and deletes the temporary file, if any, discarding what was written
+     */
+    void discard() {
+        close();
+        releaseMemory();
+        if (nonNull(file)) {
+            FileUtils.deleteQuietly(file);
+            if (nonNull(buffers)) {
+                buffers.discarded(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.core.writer.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.ByteArrayOutputStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sejda.model.exception.TaskIOException;
+import org.sejda.model.task.TemporaryBuffersManager;
+
+/**
+ * @author agent
+ *
+ */
+public class ImageOptimizerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void inMemory() throws IOException {
+        try (OptimizedImage victim = ImageOptimizer.optimize(image(), 0.8f, 72, 100, 80, Integer.MAX_VALUE, null)) {
+            assertTrue(victim.isInMemory());
+            assertEquals(100, victim.getWidth());
+            assertEquals(80, victim.getHeight());
+            try (InputStream stream = victim.openStream()) {
+                assertEquals(victim.size(), IOUtils.toByteArray(stream).length);
+            }
+        }
+    }
+
+    @Test
+    public void spilledSameContent() throws IOException {
+        try (OptimizedImage inMemory = ImageOptimizer.optimize(image(), 0.8f, 72, 100, 80, Integer.MAX_VALUE, null);
+                OptimizedImage spilled = ImageOptimizer.optimize(image(), 0.8f, 72, 100, 80, 10, null)) {
+            assertTrue(inMemory.isInMemory());
+            assertFalse(spilled.isInMemory());
+            assertEquals(inMemory.size(), spilled.size());
+            assertEquals(inMemory.hash(), spilled.hash());
+            try (InputStream expected = inMemory.openStream(); InputStream actual = spilled.openStream()) {
+                assertArrayEquals(IOUtils.toByteArray(expected), IOUtils.toByteArray(actual));
+            }
+        }
+    }
+
+    @Test
+    public void resized() throws IOException {
+        try (OptimizedImage victim = ImageOptimizer.optimize(image(), 0.8f, 72, 90, 70, Integer.MAX_VALUE, null)) {
+            assertEquals(100, victim.getWidth());
+            assertEquals(80, victim.getHeight());
+        }
+        try (OptimizedImage victim = ImageOptimizer.optimize(image(), 0.8f, 72, 50, 40, Integer.MAX_VALUE, null)) {
+            assertEquals(50, victim.getWidth());
+            assertEquals(40, victim.getHeight());
+        }
+    }
+
+    @Test
+    public void spilledToManagerBuffer() throws IOException, TaskIOException {
+        File buffer = folder.newFile();
+        TemporaryBuffersManager buffers = mock(TemporaryBuffersManager.class);
+        when(buffers.newBuffer(".jpeg")).thenReturn(buffer);
+        OptimizedImage victim = ImageOptimizer.optimize(image(), 0.8f, 72, 100, 80, 10, buffers);
+        assertFalse(victim.isInMemory());
+        assertEquals(buffer.length(), victim.size());
+        verify(buffers).written(buffer);
+        victim.close();
+        assertFalse(buffer.exists());
+        verify(buffers).discarded(buffer);
+    }
+
+    @Test
+    public void largeBuffersNotRetained() throws IOException {
+        SpillingDigestOutputStream victim = new SpillingDigestOutputStream(Long.MAX_VALUE, null);
+        victim.write(new byte[10]);
+        victim.toOptimizedImage(1, 1).close();
+        ByteArrayOutputStream retained = SpillingDigestOutputStream.BUFFERS.get();
+        victim = new SpillingDigestOutputStream(Long.MAX_VALUE, null);
+        victim.write(new byte[SpillingDigestOutputStream.MAX_REUSED_BUFFER_SIZE + 1]);
+        victim.toOptimizedImage(1, 1).close();
+        assertNotSame(retained, SpillingDigestOutputStream.BUFFERS.get());
+    }
+
+    private static BufferedImage image() {
+        BufferedImage image = new BufferedImage(100, 80, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(10, 10, 50, 30);
+        graphics.dispose();
+        return image;
+    }
+}
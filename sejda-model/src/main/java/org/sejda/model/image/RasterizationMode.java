@@ -0,0 +1,53 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.model.image;
+
+import org.sejda.common.FriendlyNamed;
+
+/**
+ * How pages are rasterized when converted to images.
+ * 
+ * @author agent
+ * 
+ */
+public enum RasterizationMode implements FriendlyNamed {
+    /**
+     * a new image is created for every page
+     */
+    FULL_PAGE("full_page"),
+    /**
+     * images are reused among pages of the same size once written
+     */
+    POOLED("pooled"),
+    /**
+     * pages are painted in horizontal bands while they are written, so that only one band is in memory if the image writer supports it
+     */
+    BANDED("banded");
+
+    private String displayName;
+
+    private RasterizationMode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    @Override
+    public String getFriendlyName() {
+        return displayName;
+    }
+}
@@ -30,6 +30,7 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.sejda.common.collection.NullSafeSet;
+import org.sejda.model.pdf.page.OrderedPagesSet;
 import org.sejda.model.pdf.page.PageRange;
 import org.sejda.model.pdf.page.PageRangeSelection;
 import org.sejda.model.pdf.page.PagesSelection;
@@ -98,11 +99,9 @@ public class PdfMergeInput implements PageRangeSelection, PagesSelection {
      */
     @Override
     public Set<Integer> getPages(int totalNumberOfPage) {
-        Set<Integer> retSet = new NullSafeSet<Integer>();
+        OrderedPagesSet retSet = new OrderedPagesSet();
         if (isAllPages()) {
-            for (int i = 1; i <= totalNumberOfPage; i++) {
-                retSet.add(i);
-            }
+            retSet.addRange(1, totalNumberOfPage);
         } else {
             for (PageRange range : getPageSelection()) {
                 retSet.addAll(range.getPages(totalNumberOfPage));
@@ -40,6 +40,7 @@ public class StreamTaskOutput implements MultipleTaskOutput<OutputStream>, Singl
 
     @NotNull
     private final OutputStream stream;
+    private final boolean storeCompressedFormats;
 
     /**
      * Creates a new instance of a {@link StreamTaskOutput} using the input stream
@@ -49,10 +50,25 @@ public class StreamTaskOutput implements MultipleTaskOutput<OutputStream>, Singl
      *             if the input stream is null
      */
     public StreamTaskOutput(OutputStream stream) {
+        this(stream, false);
+    }
+
+    /**
+     * Creates a new instance of a {@link StreamTaskOutput} using the input stream
+     * 
+     * @param stream
+     * @param storeCompressedFormats
+     *            if true and multiple outputs are zipped to the stream, outputs in an already compressed format (pdf and images) are stored
+     *            in the zip without compressing them again
+     * @throws IllegalArgumentException
+     *             if the input stream is null
+     */
+    public StreamTaskOutput(OutputStream stream, boolean storeCompressedFormats) {
         if (stream == null) {
             throw new IllegalArgumentException("A not null stream instance is expected.");
         }
         this.stream = stream;
+        this.storeCompressedFormats = storeCompressedFormats;
     }
 
     @Override
@@ -60,6 +76,13 @@ public class StreamTaskOutput implements MultipleTaskOutput<OutputStream>, Singl
         return stream;
     }
 
+    /**
+     * @return true if outputs in an already compressed format are stored in the zip without compressing them again
+     */
+    public boolean isStoreCompressedFormats() {
+        return storeCompressedFormats;
+    }
+
     @Override
     public void accept(TaskOutputDispatcher writer) throws TaskOutputVisitException {
         try {
@@ -76,7 +99,7 @@ public class StreamTaskOutput implements MultipleTaskOutput<OutputStream>, Singl
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder().append(stream).toHashCode();
+        return new HashCodeBuilder().append(stream).append(storeCompressedFormats).toHashCode();
     }
 
     @Override
@@ -88,6 +111,7 @@ public class StreamTaskOutput implements MultipleTaskOutput<OutputStream>, Singl
             return false;
         }
         StreamTaskOutput output = (StreamTaskOutput) other;
-        return new EqualsBuilder().append(stream, output.getDestination()).isEquals();
+        return new EqualsBuilder().append(stream, output.getDestination())
+                .append(storeCompressedFormats, output.isStoreCompressedFormats()).isEquals();
     }
 }
@@ -22,7 +22,7 @@ package org.sejda.model.parameter;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.sejda.model.parameter.base.MultiplePdfSourceMultipleOutputParameters;
+import org.sejda.model.parameter.base.ParallelPdfSourcesMultipleOutputParameters;
 
 /**
  * Parameter class for the decrypt manipulation. Accepts multiple {@link org.sejda.model.input.PdfSource} to be decrypted.
@@ -30,7 +30,7 @@ import org.sejda.model.parameter.base.MultiplePdfSourceMultipleOutputParameters;
  * @author Andrea Vacondio
  * 
  */
-public class DecryptParameters extends MultiplePdfSourceMultipleOutputParameters {
+public class DecryptParameters extends ParallelPdfSourcesMultipleOutputParameters {
 
     @Override
     public int hashCode() {
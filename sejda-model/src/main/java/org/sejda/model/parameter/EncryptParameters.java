@@ -28,7 +28,7 @@ import javax.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.sejda.model.parameter.base.MultiplePdfSourceMultipleOutputParameters;
+import org.sejda.model.parameter.base.ParallelPdfSourcesMultipleOutputParameters;
 import org.sejda.model.pdf.PdfVersion;
 import org.sejda.model.pdf.encryption.PdfAccessPermission;
 import org.sejda.model.pdf.encryption.PdfEncryption;
@@ -41,7 +41,7 @@ import org.sejda.model.validation.constraint.HasAPassword;
  * 
  */
 @HasAPassword
-public class EncryptParameters extends MultiplePdfSourceMultipleOutputParameters {
+public class EncryptParameters extends ParallelPdfSourcesMultipleOutputParameters {
 
     private String ownerPassword = "";
     private String userPassword = "";
@@ -31,8 +31,9 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.sejda.common.collection.NullSafeSet;
 import org.sejda.model.optimization.OptimizationPolicy;
 import org.sejda.model.parameter.base.DiscardableOutlineTaskParameters;
-import org.sejda.model.parameter.base.MultiplePdfSourceMultipleOutputParameters;
 import org.sejda.model.parameter.base.OptimizableOutputTaskParameters;
+import org.sejda.model.parameter.base.ParallelPdfSourcesMultipleOutputParameters;
+import org.sejda.model.pdf.page.OrderedPagesSet;
 import org.sejda.model.pdf.page.PageRange;
 import org.sejda.model.pdf.page.PageRangeSelection;
 import org.sejda.model.pdf.page.PagesSelection;
@@ -50,7 +51,7 @@ import org.sejda.model.validation.constraint.NotAllowed;
  */
 @NoIntersections
 @HasSelectedPages
-public class ExtractPagesParameters extends MultiplePdfSourceMultipleOutputParameters implements PageRangeSelection,
+public class ExtractPagesParameters extends ParallelPdfSourcesMultipleOutputParameters implements PageRangeSelection,
         PagesSelection, OptimizableOutputTaskParameters, DiscardableOutlineTaskParameters {
 
     @NotNull
@@ -108,7 +109,7 @@ public class ExtractPagesParameters extends MultiplePdfSourceMultipleOutputParam
      */
     @Override
     public Set<Integer> getPages(int upperLimit) {
-        Set<Integer> pages = new NullSafeSet<Integer>();
+        Set<Integer> pages = new OrderedPagesSet();
         if (predefinedSetOfPages != PredefinedSetOfPages.NONE) {
             pages = predefinedSetOfPages.getPages(upperLimit);
         } else {
@@ -121,7 +122,7 @@ public class ExtractPagesParameters extends MultiplePdfSourceMultipleOutputParam
             return pages;
         }
 
-        Set<Integer> invertedPages = new NullSafeSet<Integer>();
+        Set<Integer> invertedPages = new OrderedPagesSet();
         for(int i = 1; i <= upperLimit; i++) {
             if(!pages.contains(i)) {
                 invertedPages.add(i);
@@ -28,6 +28,7 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.sejda.common.collection.NullSafeSet;
 import org.sejda.model.parameter.base.SinglePdfSourceMultipleOutputParameters;
+import org.sejda.model.pdf.page.OrderedPagesSet;
 import org.sejda.model.pdf.page.PageRange;
 import org.sejda.model.pdf.page.PageRangeSelection;
 import org.sejda.model.pdf.page.PagesSelection;
@@ -84,7 +85,7 @@ public class ExtractTextByPagesParameters extends SinglePdfSourceMultipleOutputP
         if (pageSelection.isEmpty()) {
             return new PageRange(1).getPages(totalNumberOfPage);
         }
-        Set<Integer> retSet = new NullSafeSet<Integer>();
+        Set<Integer> retSet = new OrderedPagesSet();
         for (PageRange range : getPageSelection()) {
             retSet.addAll(range.getPages(totalNumberOfPage));
         }
@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.List;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
@@ -33,6 +34,7 @@ import org.sejda.model.output.MultipleTaskOutput;
 import org.sejda.model.parameter.base.AbstractParameters;
 import org.sejda.model.parameter.base.MultipleOutputTaskParameters;
 import org.sejda.model.parameter.base.MultiplePdfSourceTaskParameters;
+import org.sejda.model.parameter.base.ParallelSourcesTaskParameters;
 import org.sejda.model.validation.constraint.NotEmpty;
 
 /**
@@ -42,7 +44,7 @@ import org.sejda.model.validation.constraint.NotEmpty;
  * 
  */
 public class ExtractTextParameters extends AbstractParameters
-        implements MultiplePdfSourceTaskParameters, MultipleOutputTaskParameters {
+        implements MultiplePdfSourceTaskParameters, MultipleOutputTaskParameters, ParallelSourcesTaskParameters {
 
     private String outputPrefix = "";
     @Valid
@@ -53,6 +55,8 @@ public class ExtractTextParameters extends AbstractParameters
     private List<PdfSource<?>> sourceList = new ArrayList<PdfSource<?>>();
     @NotEmpty
     private String textEncoding = "UTF-8";
+    @Min(1)
+    private int sourcesParallelism = 1;
 
     public String getTextEncoding() {
         return textEncoding;
@@ -62,6 +66,16 @@ public class ExtractTextParameters extends AbstractParameters
         this.textEncoding = textEncoding;
     }
 
+    @Override
+    public int getSourcesParallelism() {
+        return sourcesParallelism;
+    }
+
+    @Override
+    public void setSourcesParallelism(int sourcesParallelism) {
+        this.sourcesParallelism = sourcesParallelism;
+    }
+
     @Override
     public MultipleTaskOutput<?> getOutput() {
         return output;
@@ -103,7 +117,7 @@ public class ExtractTextParameters extends AbstractParameters
     @Override
     public int hashCode() {
         return new HashCodeBuilder().appendSuper(super.hashCode()).append(output).append(sourceList)
-                .append(textEncoding).append(outputPrefix).toHashCode();
+                .append(textEncoding).append(outputPrefix).append(sourcesParallelism).toHashCode();
     }
 
     @Override
@@ -117,7 +131,8 @@ public class ExtractTextParameters extends AbstractParameters
         ExtractTextParameters parameter = (ExtractTextParameters) other;
         return new EqualsBuilder().appendSuper(super.equals(other)).append(output, parameter.output)
                 .append(sourceList, parameter.sourceList).append(textEncoding, parameter.textEncoding)
-                .append(outputPrefix, parameter.outputPrefix).isEquals();
+                .append(outputPrefix, parameter.outputPrefix)
+                .append(sourcesParallelism, parameter.sourcesParallelism).isEquals();
     }
 
 }
@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.List;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
@@ -62,6 +63,8 @@ public class MergeParameters extends AbstractPdfOutputParameters implements Sing
     @NotNull
     private ToCPolicy tocPolicy = ToCPolicy.NONE;
     private boolean filenameFooter = false;
+    @Min(0)
+    private int inputsLookAhead = 0;
 
     @Override
     public SingleTaskOutput<?> getOutput() {
@@ -157,11 +160,26 @@ public class MergeParameters extends AbstractPdfOutputParameters implements Sing
         this.filenameFooter = filenameFooter;
     }
 
+    public int getInputsLookAhead() {
+        return inputsLookAhead;
+    }
+
+    /**
+     * Sets the number of upcoming inputs that are opened and pre-loaded in parallel while the current one is merged. The merged document
+     * is still assembled in the inputs order, so the result is the same as with a sequential merge. Default is 0, meaning that inputs are
+     * opened sequentially.
+     * 
+     * @param inputsLookAhead
+     */
+    public void setInputsLookAhead(int inputsLookAhead) {
+        this.inputsLookAhead = inputsLookAhead;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().appendSuper(super.hashCode()).append(inputList).append(acroFormPolicy)
                 .append(blankPageIfOdd).append(outlinePolicy).append(tocPolicy).append(outputName)
-                .append(filenameFooter).toHashCode();
+                .append(filenameFooter).append(inputsLookAhead).toHashCode();
     }
 
     @Override
@@ -178,6 +196,7 @@ public class MergeParameters extends AbstractPdfOutputParameters implements Sing
                 .append(blankPageIfOdd, params.isBlankPageIfOdd())
                 .append(outlinePolicy, params.getOutlinePolicy())
                 .append(tocPolicy, params.getTableOfContentsPolicy()).append(outputName, params.getOutputName())
-                .append(filenameFooter, params.isFilenameFooter()).isEquals();
+                .append(filenameFooter, params.isFilenameFooter())
+                .append(inputsLookAhead, params.getInputsLookAhead()).isEquals();
     }
 }
@@ -24,7 +24,7 @@ import javax.validation.constraints.NotNull;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.sejda.model.nup.PageOrder;
-import org.sejda.model.parameter.base.MultiplePdfSourceMultipleOutputParameters;
+import org.sejda.model.parameter.base.ParallelPdfSourcesMultipleOutputParameters;
 
 /**
  * N-up task
@@ -35,7 +35,7 @@ import org.sejda.model.parameter.base.MultiplePdfSourceMultipleOutputParameters;
  *
  * https://en.wikipedia.org/wiki/N-up
  */
-public class NupParameters extends MultiplePdfSourceMultipleOutputParameters {
+public class NupParameters extends ParallelPdfSourcesMultipleOutputParameters {
     @Min(2)
     private final int n;
     @NotNull
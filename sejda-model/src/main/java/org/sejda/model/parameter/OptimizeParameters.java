@@ -18,22 +18,30 @@ package org.sejda.model.parameter;
 
 import java.util.Set;
 
+import javax.validation.constraints.Min;
+
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.sejda.common.collection.NullSafeSet;
 import org.sejda.model.optimization.Optimization;
-import org.sejda.model.parameter.base.MultiplePdfSourceMultipleOutputParameters;
+import org.sejda.model.parameter.base.ParallelPdfSourcesMultipleOutputParameters;
 
 /**
  * Parameters for the optimize task, which compresses images found in the PDF changing their DPI to 144 by default. Depending on JPG codecs found on the system, this might not work
  * as expected: PDF files containing images already compressed using better algorithms.
  */
-public class OptimizeParameters extends MultiplePdfSourceMultipleOutputParameters {
+public class OptimizeParameters extends ParallelPdfSourcesMultipleOutputParameters {
 
     private float imageQuality = 0.65f;
     private int imageDpi = 72;
     private int imageMinBytesSize = 0; // images under this threshold are not optimized
     private Set<Optimization> optimizations = new NullSafeSet<>();
+    @Min(1)
+    private int imageCompressionParallelism = 1;
+    @Min(0)
+    private int maxInMemoryImageSize = 4 * 1024 * 1024;
+    @Min(0)
+    private long maxInMemoryImagesSize = 64 * 1024 * 1024;
 
     public float getImageQuality() {
         return imageQuality;
@@ -71,10 +79,48 @@ public class OptimizeParameters extends MultiplePdfSourceMultipleOutputParameter
         this.imageMinBytesSize = imageMinBytesSize;
     }
 
+    public int getImageCompressionParallelism() {
+        return imageCompressionParallelism;
+    }
+
+    /**
+     * @param imageCompressionParallelism
+     *            maximum number of images of a document compressed at the same time. Default is 1.
+     */
+    public void setImageCompressionParallelism(int imageCompressionParallelism) {
+        this.imageCompressionParallelism = imageCompressionParallelism;
+    }
+
+    public int getMaxInMemoryImageSize() {
+        return maxInMemoryImageSize;
+    }
+
+    /**
+     * @param maxInMemoryImageSize
+     *            size in bytes over which a compressed image is stored in a temporary file instead of being kept in memory until the
+     *            document is written. Default is 4MB.
+     */
+    public void setMaxInMemoryImageSize(int maxInMemoryImageSize) {
+        this.maxInMemoryImageSize = maxInMemoryImageSize;
+    }
+
+    public long getMaxInMemoryImagesSize() {
+        return maxInMemoryImagesSize;
+    }
+
+    /**
+     * @param maxInMemoryImagesSize
+     *            total size in bytes of the compressed images of a document kept in memory until the document is written, including
+     *            the ones being compressed in parallel. Once reached, compressed images are stored in temporary files. Default is 64MB.
+     */
+    public void setMaxInMemoryImagesSize(long maxInMemoryImagesSize) {
+        this.maxInMemoryImagesSize = maxInMemoryImagesSize;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().appendSuper(super.hashCode()).append(optimizations).append(imageQuality).append(imageMinBytesSize)
-                .toHashCode();
+                .append(imageCompressionParallelism).append(maxInMemoryImageSize).append(maxInMemoryImagesSize).toHashCode();
     }
 
     @Override
@@ -90,6 +136,9 @@ public class OptimizeParameters extends MultiplePdfSourceMultipleOutputParameter
                 .append(getOptimizations(), parameter.getOptimizations())
                 .append(getImageQuality(), parameter.getImageQuality()).append(getImageDpi(), parameter.getImageDpi())
                 .append(getImageMinBytesSize(), parameter.getImageMinBytesSize())
+                .append(getImageCompressionParallelism(), parameter.getImageCompressionParallelism())
+                .append(getMaxInMemoryImageSize(), parameter.getMaxInMemoryImageSize())
+                .append(getMaxInMemoryImagesSize(), parameter.getMaxInMemoryImagesSize())
                 .isEquals();
     }
 }
@@ -31,8 +31,8 @@ import javax.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.sejda.common.collection.NullSafeSet;
-import org.sejda.model.parameter.base.MultiplePdfSourceMultipleOutputParameters;
+import org.sejda.model.parameter.base.ParallelPdfSourcesMultipleOutputParameters;
+import org.sejda.model.pdf.page.OrderedPagesSet;
 import org.sejda.model.pdf.page.PageRange;
 import org.sejda.model.pdf.page.PageRangeSelection;
 import org.sejda.model.pdf.page.PagesSelection;
@@ -46,7 +46,7 @@ import org.sejda.model.rotation.Rotation;
  * @author Andrea Vacondio
  * 
  */
-public class RotateParameters extends MultiplePdfSourceMultipleOutputParameters
+public class RotateParameters extends ParallelPdfSourcesMultipleOutputParameters
         implements PagesSelection, PageRangeSelection {
 
     @Valid
@@ -117,7 +117,7 @@ public class RotateParameters extends MultiplePdfSourceMultipleOutputParameters
         if (predefinedSetOfPages != PredefinedSetOfPages.NONE) {
             return predefinedSetOfPages.getPages(upperLimit);
         }
-        Set<Integer> retSet = new NullSafeSet<Integer>();
+        Set<Integer> retSet = new OrderedPagesSet();
         for (PageRange range : getPageSelection()) {
             retSet.addAll(range.getPages(upperLimit));
         }
@@ -20,10 +20,10 @@ package org.sejda.model.parameter;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.sejda.model.parameter.base.MultiplePdfSourceMultipleOutputParameters;
+import org.sejda.model.parameter.base.ParallelPdfSourcesMultipleOutputParameters;
 import org.sejda.model.repaginate.Repagination;
 
-public class SplitDownTheMiddleParameters extends MultiplePdfSourceMultipleOutputParameters {
+public class SplitDownTheMiddleParameters extends ParallelPdfSourcesMultipleOutputParameters {
 
     private Repagination repagination = Repagination.NONE;
 
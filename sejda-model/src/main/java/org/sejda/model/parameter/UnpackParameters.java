@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.List;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
@@ -32,6 +33,7 @@ import org.sejda.model.input.PdfSource;
 import org.sejda.model.output.MultipleTaskOutput;
 import org.sejda.model.parameter.base.AbstractParameters;
 import org.sejda.model.parameter.base.MultiplePdfSourceTaskParameters;
+import org.sejda.model.parameter.base.ParallelSourcesTaskParameters;
 import org.sejda.model.validation.constraint.NotEmpty;
 
 /**
@@ -40,7 +42,8 @@ import org.sejda.model.validation.constraint.NotEmpty;
  * @author Andrea Vacondio
  * 
  */
-public class UnpackParameters extends AbstractParameters implements MultiplePdfSourceTaskParameters {
+public class UnpackParameters extends AbstractParameters implements MultiplePdfSourceTaskParameters,
+        ParallelSourcesTaskParameters {
 
     @Valid
     @NotNull
@@ -48,6 +51,8 @@ public class UnpackParameters extends AbstractParameters implements MultiplePdfS
     @NotEmpty
     @Valid
     private final List<PdfSource<?>> sourceList = new ArrayList<PdfSource<?>>();
+    @Min(1)
+    private int sourcesParallelism = 1;
 
     public UnpackParameters(MultipleTaskOutput<?> output) {
         this.output = output;
@@ -76,9 +81,20 @@ public class UnpackParameters extends AbstractParameters implements MultiplePdfS
         return Collections.unmodifiableList(sourceList);
     }
 
+    @Override
+    public int getSourcesParallelism() {
+        return sourcesParallelism;
+    }
+
+    @Override
+    public void setSourcesParallelism(int sourcesParallelism) {
+        this.sourcesParallelism = sourcesParallelism;
+    }
+
     @Override
     public int hashCode() {
-        return new HashCodeBuilder().appendSuper(super.hashCode()).append(output).append(sourceList).toHashCode();
+        return new HashCodeBuilder().appendSuper(super.hashCode()).append(output).append(sourceList).append(sourcesParallelism)
+                .toHashCode();
     }
 
     @Override
@@ -91,6 +107,7 @@ public class UnpackParameters extends AbstractParameters implements MultiplePdfS
         }
         UnpackParameters parameter = (UnpackParameters) other;
         return new EqualsBuilder().appendSuper(super.equals(other)).append(output, parameter.getOutput())
-                .append(sourceList, parameter.getSourceList()).isEquals();
+                .append(sourceList, parameter.getSourceList())
+                .append(sourcesParallelism, parameter.sourcesParallelism).isEquals();
     }
 }
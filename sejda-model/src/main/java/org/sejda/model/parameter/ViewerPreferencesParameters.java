@@ -28,7 +28,7 @@ import javax.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.sejda.model.parameter.base.MultiplePdfSourceMultipleOutputParameters;
+import org.sejda.model.parameter.base.ParallelPdfSourcesMultipleOutputParameters;
 import org.sejda.model.pdf.MinRequiredVersion;
 import org.sejda.model.pdf.PdfVersion;
 import org.sejda.model.pdf.viewerpreference.PdfBooleanPreference;
@@ -45,7 +45,7 @@ import org.sejda.model.pdf.viewerpreference.PdfPrintScaling;
  * @author Andrea Vacondio
  * 
  */
-public class ViewerPreferencesParameters extends MultiplePdfSourceMultipleOutputParameters {
+public class ViewerPreferencesParameters extends ParallelPdfSourcesMultipleOutputParameters {
 
     @NotNull
     private PdfPageMode pageMode = PdfPageMode.USE_NONE;
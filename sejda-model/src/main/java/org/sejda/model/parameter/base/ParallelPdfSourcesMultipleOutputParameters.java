@@ -0,0 +1,67 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.model.parameter.base;
+
+import javax.validation.constraints.Min;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+/**
+ * Provides a skeletal implementation for parameter classes having multiple pdf source as input, each one processed independently of the
+ * others, and generating multiple output.
+ * 
+ * @author agent
+ * 
+ */
+public class ParallelPdfSourcesMultipleOutputParameters extends MultiplePdfSourceMultipleOutputParameters
+        implements ParallelSourcesTaskParameters {
+
+    @Min(1)
+    private int sourcesParallelism = 1;
+
+    @Override
+    public int getSourcesParallelism() {
+        return sourcesParallelism;
+    }
+
+    @Override
+    public void setSourcesParallelism(int sourcesParallelism) {
+        this.sourcesParallelism = sourcesParallelism;
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder().appendSuper(super.hashCode()).append(sourcesParallelism).toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ParallelPdfSourcesMultipleOutputParameters)) {
+            return false;
+        }
+        ParallelPdfSourcesMultipleOutputParameters parameter = (ParallelPdfSourcesMultipleOutputParameters) other;
+        return new EqualsBuilder().appendSuper(super.equals(other))
+                .append(sourcesParallelism, parameter.sourcesParallelism).isEquals();
+    }
+
+}
@@ -0,0 +1,35 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.model.parameter.base;
+
+/**
+ * Task parameters for tasks where each source is processed independently and multiple sources can be processed at the same time.
+ * 
+ * @author agent
+ *
+ */
+public interface ParallelSourcesTaskParameters extends TaskParameters {
+
+    /**
+     * @return the maximum number of sources processed at the same time. A value of 1 means sources are processed sequentially.
+     */
+    int getSourcesParallelism();
+
+    void setSourcesParallelism(int sourcesParallelism);
+}
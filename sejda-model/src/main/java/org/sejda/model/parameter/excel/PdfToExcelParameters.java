@@ -20,11 +20,11 @@ package org.sejda.model.parameter.excel;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.sejda.model.parameter.base.MultiplePdfSourceMultipleOutputParameters;
+import org.sejda.model.parameter.base.ParallelPdfSourcesMultipleOutputParameters;
 
 import java.util.*;
 
-public class PdfToExcelParameters extends MultiplePdfSourceMultipleOutputParameters {
+public class PdfToExcelParameters extends ParallelPdfSourcesMultipleOutputParameters {
     private Map<Integer, List<Table>> tables = new HashMap<>();
 
     public void addTable(int pageNumber, Table table) {
@@ -27,6 +27,7 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.sejda.model.image.ImageColorType;
 import org.sejda.model.image.ImageType;
+import org.sejda.model.image.RasterizationMode;
 import org.sejda.model.input.PdfSource;
 import org.sejda.model.parameter.base.AbstractParameters;
 import org.sejda.model.parameter.base.SinglePdfSourceTaskParameters;
@@ -51,6 +52,10 @@ public abstract class AbstractPdfToImageParameters extends AbstractParameters im
     private PdfSource<?> source;
     @Positive
     private float userZoom = 1.0f;
+    @Min(1)
+    private int renderingParallelism = 1;
+    @NotNull
+    private RasterizationMode rasterizationMode = RasterizationMode.FULL_PAGE;
 
     @Override
     public PdfSource<?> getSource() {
@@ -98,10 +103,42 @@ public abstract class AbstractPdfToImageParameters extends AbstractParameters im
         this.resolutionInDpi = resolutionInDpi;
     }
 
+    public int getRenderingParallelism() {
+        return renderingParallelism;
+    }
+
+    /**
+     * Sets the maximum number of pages rendered at the same time. Pages are rendered in parallel only when the source can be opened multiple
+     * times, a file source, and they are rendered one at a time with {@link RasterizationMode#BANDED}.
+     * 
+     * @param renderingParallelism
+     *            a value greater than one to render pages in parallel. Default is 1.
+     */
+    public void setRenderingParallelism(int renderingParallelism) {
+        this.renderingParallelism = renderingParallelism;
+    }
+
+    public RasterizationMode getRasterizationMode() {
+        return rasterizationMode;
+    }
+
+    /**
+     * Sets how pages are rasterized. Only the ICEpdf implementations support {@link RasterizationMode#POOLED} and
+     * {@link RasterizationMode#BANDED}, other implementations fail the task when a mode other than {@link RasterizationMode#FULL_PAGE} is
+     * selected.
+     * 
+     * @param rasterizationMode
+     *            Default is {@link RasterizationMode#FULL_PAGE}.
+     */
+    public void setRasterizationMode(RasterizationMode rasterizationMode) {
+        this.rasterizationMode = rasterizationMode;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().appendSuper(super.hashCode()).append(resolutionInDpi).append(outputImageColorType)
-                .append(getOutputImageType()).append(source).append(userZoom).toHashCode();
+                .append(getOutputImageType()).append(source).append(userZoom).append(renderingParallelism).append(rasterizationMode)
+                .toHashCode();
     }
 
     @Override
@@ -117,6 +154,8 @@ public abstract class AbstractPdfToImageParameters extends AbstractParameters im
                 .append(resolutionInDpi, parameter.getResolutionInDpi())
                 .append(outputImageColorType, parameter.getOutputImageColorType())
                 .append(userZoom, parameter.getUserZoom()).append(getOutputImageType(), parameter.getOutputImageType())
-                .append(source, parameter.getSource()).isEquals();
+                .append(source, parameter.getSource())
+                .append(renderingParallelism, parameter.getRenderingParallelism())
+                .append(rasterizationMode, parameter.getRasterizationMode()).isEquals();
     }
 }
@@ -32,6 +32,7 @@ import org.sejda.common.collection.NullSafeSet;
 import org.sejda.model.image.ImageColorType;
 import org.sejda.model.output.MultipleTaskOutput;
 import org.sejda.model.parameter.base.MultipleOutputTaskParameters;
+import org.sejda.model.pdf.page.OrderedPagesSet;
 import org.sejda.model.pdf.page.PageRange;
 import org.sejda.model.pdf.page.PageRangeSelection;
 import org.sejda.model.pdf.page.PagesSelection;
@@ -87,7 +88,7 @@ public abstract class AbstractPdfToMultipleImageParameters extends AbstractPdfTo
             return PredefinedSetOfPages.ALL_PAGES.getPages(upperLimit);
         }
 
-        Set<Integer> retSet = new NullSafeSet<Integer>();
+        Set<Integer> retSet = new OrderedPagesSet();
         for (PageRange range : getPageSelection()) {
             retSet.addAll(range.getPages(upperLimit));
         }
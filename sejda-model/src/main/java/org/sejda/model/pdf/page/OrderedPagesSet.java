@@ -0,0 +1,240 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.model.pdf.page;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * {@link Set} of page numbers with predictable iteration order, the order in which pages were inserted, stored as a list of ranges of
+ * consecutive pages instead of one boxed {@link Integer} per page. Adding a page already in the set doesn't change its position. Memory
+ * and iteration cost scale with the number of ranges rather than with the number of pages. Null elements are ignored.
+ *
+ * @author agent
+ *
+ */
+public class OrderedPagesSet extends AbstractSet<Integer> {
+
+    // pages in the set, to find duplicates
+    private final SortedPagesSet pages = new SortedPagesSet();
+    // ranges in insertion order
+    private int[] starts = new int[4];
+    private int[] ends = new int[4];
+    private int count = 0;
+    private int modifications = 0;
+
+    public OrderedPagesSet() {
+        // empty set
+    }
+
+    /**
+     * Creates a set containing the given pages, in the iteration order of the given collection
+     *
+     * @param pages
+     */
+    public OrderedPagesSet(Collection<Integer> pages) {
+        addAll(pages);
+    }
+
+    /**
+     * Adds all the pages from start to end (comprehended), in ascending order, that are not already in the set
+     *
+     * @param start
+     * @param end
+     * @return true if the set changed
+     */
+    public boolean addRange(int start, int end) {
+        if (start > end) {
+            return false;
+        }
+        boolean changed = false;
+        long current = start;
+        while (current <= end) {
+            if (pages.contains((int) current)) {
+                // skip the pages already in the set
+                current = pages.rangeEnd((int) current) + 1L;
+            } else {
+                long next = Math.min(pages.ceiling(current), (long) end + 1);
+                append((int) current, (int) (next - 1));
+                changed = true;
+                current = next;
+            }
+        }
+        if (changed) {
+            pages.addRange(start, end);
+            modifications++;
+        }
+        return changed;
+    }
+
+    private void append(int start, int end) {
+        if (count > 0 && (long) ends[count - 1] + 1 == start) {
+            ends[count - 1] = end;
+            return;
+        }
+        if (count == starts.length) {
+            starts = Arrays.copyOf(starts, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+        }
+        starts[count] = start;
+        ends[count] = end;
+        count++;
+    }
+
+    @Override
+    public boolean add(Integer page) {
+        if (page == null) {
+            return false;
+        }
+        return addRange(page, page);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Integer> pages) {
+        if (pages instanceof SortedPagesSet) {
+            boolean changed = false;
+            int[] ranges = ((SortedPagesSet) pages).toRanges();
+            for (int i = 0; i < ranges.length; i += 2) {
+                changed |= addRange(ranges[i], ranges[i + 1]);
+            }
+            return changed;
+        }
+        return super.addAll(pages);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return pages.contains(o);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!pages.remove(o)) {
+            return false;
+        }
+        int page = (Integer) o;
+        for (int i = 0; i < count; i++) {
+            if (starts[i] <= page && page <= ends[i]) {
+                if (starts[i] == ends[i]) {
+                    System.arraycopy(starts, i + 1, starts, i, count - i - 1);
+                    System.arraycopy(ends, i + 1, ends, i, count - i - 1);
+                    count--;
+                } else if (page == starts[i]) {
+                    starts[i]++;
+                } else if (page == ends[i]) {
+                    ends[i]--;
+                } else {
+                    if (count == starts.length) {
+                        starts = Arrays.copyOf(starts, count * 2);
+                        ends = Arrays.copyOf(ends, count * 2);
+                    }
+                    System.arraycopy(starts, i + 1, starts, i + 2, count - i - 1);
+                    System.arraycopy(ends, i + 1, ends, i + 2, count - i - 1);
+                    starts[i + 1] = page + 1;
+                    ends[i + 1] = ends[i];
+                    ends[i] = page - 1;
+                    count++;
+                }
+                break;
+            }
+        }
+        modifications++;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        pages.clear();
+        count = 0;
+        modifications++;
+    }
+
+    @Override
+    public int size() {
+        return pages.size();
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<Integer>() {
+            private int range = 0;
+            private long next = count > 0 ? starts[0] : 0;
+            private Integer last = null;
+            private int expectedModifications = modifications;
+
+            @Override
+            public boolean hasNext() {
+                return range < count;
+            }
+
+            @Override
+            public Integer next() {
+                if (expectedModifications != modifications) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                last = (int) next;
+                if (next < ends[range]) {
+                    next++;
+                } else {
+                    range++;
+                    if (range < count) {
+                        next = starts[range];
+                    }
+                }
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                if (expectedModifications != modifications) {
+                    throw new ConcurrentModificationException();
+                }
+                boolean more = hasNext();
+                OrderedPagesSet.this.remove(last);
+                expectedModifications = modifications;
+                last = null;
+                // ranges may have been split or removed, position again on the next page
+                range = more ? rangeOf(next) : count;
+            }
+        };
+    }
+
+    /**
+     * @return index of the range containing the given page, the number of ranges if there is no such range
+     */
+    private int rangeOf(long page) {
+        for (int i = 0; i < count; i++) {
+            if (starts[i] <= page && page <= ends[i]) {
+                return i;
+            }
+        }
+        return count;
+    }
+}
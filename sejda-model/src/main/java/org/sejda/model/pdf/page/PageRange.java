@@ -21,7 +21,6 @@
 package org.sejda.model.pdf.page;
 
 import java.util.SortedSet;
-import java.util.TreeSet;
 
 import javax.validation.constraints.Min;
 
@@ -102,10 +101,8 @@ public class PageRange implements PagesSelection {
      */
     @Override
     public SortedSet<Integer> getPages(int totalNumberOfPage) {
-        SortedSet<Integer> retSet = new TreeSet<Integer>();
-        for (int i = start; i <= totalNumberOfPage && i <= end; i++) {
-            retSet.add(i);
-        }
+        SortedPagesSet retSet = new SortedPagesSet();
+        retSet.addRange(start, Math.min(totalNumberOfPage, end));
         return retSet;
     }
 
@@ -1,7 +1,6 @@
 package org.sejda.model.pdf.page;
 
 import java.util.SortedSet;
-import java.util.TreeSet;
 
 import org.sejda.common.FriendlyNamed;
 
@@ -15,17 +14,15 @@ public enum PredefinedSetOfPages implements PagesSelection, FriendlyNamed {
     ALL_PAGES("all") {
         @Override
         public SortedSet<Integer> getPages(int totalNumberOfPage) {
-            SortedSet<Integer> retSet = new TreeSet<Integer>();
-            for (int i = 1; i <= totalNumberOfPage; i++) {
-                retSet.add(i);
-            }
+            SortedPagesSet retSet = new SortedPagesSet();
+            retSet.addRange(1, totalNumberOfPage);
             return retSet;
         }
     },
     EVEN_PAGES("even") {
         @Override
         public SortedSet<Integer> getPages(int totalNumberOfPage) {
-            SortedSet<Integer> retSet = new TreeSet<Integer>();
+            SortedSet<Integer> retSet = new SortedPagesSet();
             for (int i = 2; i <= totalNumberOfPage; i = i + 2) {
                 retSet.add(i);
             }
@@ -35,7 +32,7 @@ public enum PredefinedSetOfPages implements PagesSelection, FriendlyNamed {
     ODD_PAGES("odd") {
         @Override
         public SortedSet<Integer> getPages(int totalNumberOfPage) {
-            SortedSet<Integer> retSet = new TreeSet<Integer>();
+            SortedSet<Integer> retSet = new SortedPagesSet();
             for (int i = 1; i <= totalNumberOfPage; i = i + 2) {
                 retSet.add(i);
             }
@@ -46,7 +43,7 @@ public enum PredefinedSetOfPages implements PagesSelection, FriendlyNamed {
     NONE("none") {
         @Override
         public SortedSet<Integer> getPages(int totalNumberOfPage) {
-            return new TreeSet<Integer>();
+            return new SortedPagesSet();
         }
     };
 
@@ -0,0 +1,389 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.model.pdf.page;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+
+/**
+ * {@link SortedSet} of page numbers in their natural ordering, stored as a sorted list of ranges of consecutive pages instead of one
+ * boxed {@link Integer} per page. Memory and iteration cost scale with the number of ranges rather than with the number of pages. Null
+ * elements are ignored. Views returned by {@link #subSet(Integer, Integer)}, {@link #headSet(Integer)} and {@link #tailSet(Integer)} are
+ * backed by this set.
+ *
+ * @author agent
+ *
+ */
+public class SortedPagesSet extends AbstractSet<Integer> implements SortedSet<Integer> {
+
+    private final Ranges ranges;
+    // bounds of the view, from inclusive and to exclusive
+    private final long from;
+    private final long to;
+
+    public SortedPagesSet() {
+        this(new Ranges(), Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a set containing the given pages
+     *
+     * @param pages
+     */
+    public SortedPagesSet(Collection<Integer> pages) {
+        this();
+        addAll(pages);
+    }
+
+    private SortedPagesSet(Ranges ranges, long from, long to) {
+        this.ranges = ranges;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Adds all the pages from start to end (comprehended)
+     *
+     * @param start
+     * @param end
+     * @return true if the set changed
+     */
+    public boolean addRange(int start, int end) {
+        if (start > end) {
+            return false;
+        }
+        if (!inBounds(start) || !inBounds(end)) {
+            throw new IllegalArgumentException("Range out of the bounds of the set");
+        }
+        return ranges.add(start, end);
+    }
+
+    @Override
+    public boolean add(Integer page) {
+        if (page == null) {
+            return false;
+        }
+        return addRange(page, page);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Integer> pages) {
+        if (pages instanceof SortedPagesSet) {
+            boolean changed = false;
+            int[] other = ((SortedPagesSet) pages).toRanges();
+            for (int i = 0; i < other.length; i += 2) {
+                changed |= addRange(other[i], other[i + 1]);
+            }
+            return changed;
+        }
+        return super.addAll(pages);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o instanceof Integer) {
+            int page = (Integer) o;
+            return inBounds(page) && ranges.contains(page);
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o instanceof Integer) {
+            int page = (Integer) o;
+            return inBounds(page) && ranges.remove(page);
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        if (from == Long.MIN_VALUE && to == Long.MAX_VALUE) {
+            ranges.clear();
+        } else {
+            super.clear();
+        }
+    }
+
+    @Override
+    public int size() {
+        if (from == Long.MIN_VALUE && to == Long.MAX_VALUE) {
+            return ranges.size;
+        }
+        long size = 0;
+        for (int i = 0; i < ranges.count; i++) {
+            long start = Math.max(ranges.starts[i], from);
+            long end = Math.min(ranges.ends[i], to - 1);
+            if (start <= end) {
+                size += end - start + 1;
+            }
+        }
+        return (int) size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ranges.ceiling(from) >= to;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<Integer>() {
+            private long next = ranges.ceiling(from);
+            private long last = Long.MAX_VALUE;
+
+            @Override
+            public boolean hasNext() {
+                return next < to;
+            }
+
+            @Override
+            public Integer next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                last = next;
+                next = ranges.ceiling(next + 1);
+                return (int) last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == Long.MAX_VALUE) {
+                    throw new IllegalStateException();
+                }
+                ranges.remove((int) last);
+                last = Long.MAX_VALUE;
+            }
+        };
+    }
+
+    @Override
+    public Comparator<? super Integer> comparator() {
+        return null;
+    }
+
+    @Override
+    public SortedSet<Integer> subSet(Integer fromElement, Integer toElement) {
+        if (fromElement > toElement) {
+            throw new IllegalArgumentException("fromElement greater than toElement");
+        }
+        return new SortedPagesSet(ranges, Math.max(from, fromElement), Math.min(to, toElement));
+    }
+
+    @Override
+    public SortedSet<Integer> headSet(Integer toElement) {
+        return new SortedPagesSet(ranges, from, Math.min(to, toElement));
+    }
+
+    @Override
+    public SortedSet<Integer> tailSet(Integer fromElement) {
+        return new SortedPagesSet(ranges, Math.max(from, fromElement), to);
+    }
+
+    @Override
+    public Integer first() {
+        long first = ranges.ceiling(from);
+        if (first >= to) {
+            throw new NoSuchElementException();
+        }
+        return (int) first;
+    }
+
+    @Override
+    public Integer last() {
+        long last = ranges.floor(to - 1);
+        if (last < from) {
+            throw new NoSuchElementException();
+        }
+        return (int) last;
+    }
+
+    /**
+     * @return the ranges of consecutive pages of this set, in ascending order, as start and end (comprehended) pairs
+     */
+    int[] toRanges() {
+        int[] result = new int[ranges.count * 2];
+        int length = 0;
+        for (int i = 0; i < ranges.count; i++) {
+            long start = Math.max(ranges.starts[i], from);
+            long end = Math.min(ranges.ends[i], to - 1);
+            if (start <= end) {
+                result[length++] = (int) start;
+                result[length++] = (int) end;
+            }
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+    /**
+     * @return the lowest page in the underlying set greater than or equal to the given one, {@link Long#MAX_VALUE} if there is no such page
+     */
+    long ceiling(long page) {
+        return ranges.ceiling(page);
+    }
+
+    /**
+     * @return the last page of the range of consecutive pages in the underlying set containing the given page
+     */
+    int rangeEnd(int page) {
+        return ranges.ends[ranges.indexOf(page)];
+    }
+
+    private boolean inBounds(long page) {
+        return page >= from && page < to;
+    }
+
+    /**
+     * Sorted, disjoint and not adjacent ranges of pages
+     */
+    private static final class Ranges {
+        private int[] starts = new int[4];
+        private int[] ends = new int[4];
+        private int count = 0;
+        private int size = 0;
+
+        /**
+         * @return the index of the last range starting before or at the given page, -1 if there is no such range
+         */
+        private int indexOf(long page) {
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] <= page) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return high;
+        }
+
+        boolean contains(int page) {
+            int index = indexOf(page);
+            return index >= 0 && page <= ends[index];
+        }
+
+        /**
+         * @return the lowest page greater than or equal to the given one, {@link Long#MAX_VALUE} if there is no such page
+         */
+        long ceiling(long page) {
+            int index = indexOf(page);
+            if (index >= 0 && page <= ends[index]) {
+                return page;
+            }
+            if (index + 1 < count) {
+                return starts[index + 1];
+            }
+            return Long.MAX_VALUE;
+        }
+
+        /**
+         * @return the highest page lower than or equal to the given one, {@link Long#MIN_VALUE} if there is no such page
+         */
+        long floor(long page) {
+            int index = indexOf(page);
+            if (index < 0) {
+                return Long.MIN_VALUE;
+            }
+            return Math.min(page, ends[index]);
+        }
+
+        boolean add(int start, int end) {
+            // ranges overlapping or adjacent to the new one are merged with it
+            int first = indexOf((long) start - 1);
+            if (first < 0 || ends[first] < (long) start - 1) {
+                first++;
+            }
+            int last = indexOf((long) end + 1);
+            if (first > last) {
+                ensureCapacity(count + 1);
+                System.arraycopy(starts, first, starts, first + 1, count - first);
+                System.arraycopy(ends, first, ends, first + 1, count - first);
+                starts[first] = start;
+                ends[first] = end;
+                count++;
+                size += end - start + 1;
+                return true;
+            }
+            int mergedStart = Math.min(start, starts[first]);
+            int mergedEnd = Math.max(end, ends[last]);
+            int previousSize = size;
+            for (int i = first; i <= last; i++) {
+                size -= ends[i] - starts[i] + 1;
+            }
+            size += mergedEnd - mergedStart + 1;
+            starts[first] = mergedStart;
+            ends[first] = mergedEnd;
+            int removed = last - first;
+            if (removed > 0) {
+                System.arraycopy(starts, last + 1, starts, first + 1, count - last - 1);
+                System.arraycopy(ends, last + 1, ends, first + 1, count - last - 1);
+                count -= removed;
+            }
+            return size != previousSize;
+        }
+
+        boolean remove(int page) {
+            int index = indexOf(page);
+            if (index < 0 || page > ends[index]) {
+                return false;
+            }
+            if (starts[index] == ends[index]) {
+                System.arraycopy(starts, index + 1, starts, index, count - index - 1);
+                System.arraycopy(ends, index + 1, ends, index, count - index - 1);
+                count--;
+            } else if (page == starts[index]) {
+                starts[index]++;
+            } else if (page == ends[index]) {
+                ends[index]--;
+            } else {
+                ensureCapacity(count + 1);
+                System.arraycopy(starts, index + 1, starts, index + 2, count - index - 1);
+                System.arraycopy(ends, index + 1, ends, index + 2, count - index - 1);
+                starts[index + 1] = page + 1;
+                ends[index + 1] = ends[index];
+                ends[index] = page - 1;
+                count++;
+            }
+            size--;
+            return true;
+        }
+
+        void clear() {
+            count = 0;
+            size = 0;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > starts.length) {
+                int newLength = Math.max(capacity, starts.length * 2);
+                starts = Arrays.copyOf(starts, newLength);
+                ends = Arrays.copyOf(ends, newLength);
+            }
+        }
+    }
+}
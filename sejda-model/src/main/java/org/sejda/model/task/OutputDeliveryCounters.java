@@ -0,0 +1,90 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.model.task;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Counters of the outputs delivered by a task to their final destination.
+ * 
+ * @author agent
+ * 
+ */
+public class OutputDeliveryCounters {
+
+    private final LongAdder files = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    /**
+     * Adds a delivered output to the counters
+     * 
+     * @param deliveredBytes
+     *            size of the delivered output
+     * @param elapsedNanos
+     *            time it took to deliver it
+     */
+    public void delivered(long deliveredBytes, long elapsedNanos) {
+        files.increment();
+        bytes.add(deliveredBytes);
+        nanos.add(elapsedNanos);
+    }
+
+    /**
+     * @return number of delivered outputs
+     */
+    public long files() {
+        return files.sum();
+    }
+
+    /**
+     * @return total size of the delivered outputs
+     */
+    public long bytes() {
+        return bytes.sum();
+    }
+
+    /**
+     * @param unit
+     * @return total time spent delivering the outputs
+     */
+    public long time(TimeUnit unit) {
+        return unit.convert(nanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return average delivery throughput in bytes per second, 0 if nothing has been delivered
+     */
+    public long bytesPerSecond() {
+        long elapsed = nanos.sum();
+        if (elapsed <= 0) {
+            return 0;
+        }
+        return (long) (bytes.sum() / (elapsed / 1_000_000_000d));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).append("files", files()).append("bytes", bytes())
+                .append("millis", time(TimeUnit.MILLISECONDS)).append("bytesPerSecond", bytesPerSecond()).toString();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.model.task;
+
+/**
+ * Quantities counted by the {@link TaskMetrics} during a task execution.
+ * 
+ * @author agent
+ * 
+ */
+public enum TaskCounter {
+    /**
+     * Size of the parsed input documents
+     */
+    BYTES_READ("bytes.read"),
+    /**
+     * Size of the saved documents
+     */
+    BYTES_WRITTEN("bytes.written"),
+    /**
+     * Pages handled by the task: imported in the generated documents, rotated, optimized, rendered or whose text has been extracted
+     */
+    PAGES_PROCESSED("pages.processed"),
+    /**
+     * Images replaced by a recompressed version
+     */
+    IMAGES_RECOMPRESSED("images.recompressed"),
+    /**
+     * Fonts loaded and embedded in the generated documents
+     */
+    FONTS_LOADED("fonts.loaded");
+
+    private final String key;
+
+    private TaskCounter(String key) {
+        this.key = key;
+    }
+
+    /**
+     * @return a dotted key identifying the counter, suitable as part of a metric name
+     */
+    public String key() {
+        return key;
+    }
+}
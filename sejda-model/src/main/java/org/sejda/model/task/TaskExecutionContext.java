@@ -37,15 +37,28 @@ public class TaskExecutionContext {
 
     private StopWatch stopWatch = new StopWatch();
     private NotifiableTaskMetadata taskMetadata;
-    private boolean cancelled = false;
+    private volatile boolean cancelled = false;
     private Task<? extends TaskParameters> task;
+    private TemporaryBuffersManager temporaryBuffers;
+    private final OutputDeliveryCounters outputDelivery = new OutputDeliveryCounters();
+    private final TaskMetrics metrics = new TaskMetrics(outputDelivery);
 
     public TaskExecutionContext(Task<? extends TaskParameters> task) {
+        this(task, null);
+    }
+
+    /**
+     * @param task
+     * @param temporaryBuffers
+     *            manager of the temporary buffers created during the execution, null if buffers are not managed
+     */
+    public TaskExecutionContext(Task<? extends TaskParameters> task, TemporaryBuffersManager temporaryBuffers) {
         if (isNull(task)) {
             throw new IllegalArgumentException("Task cannot be null");
         }
         this.taskMetadata = new NotifiableTaskMetadata(task);
         this.task = task;
+        this.temporaryBuffers = temporaryBuffers;
     }
 
     public NotifiableTaskMetadata notifiableTaskMetadata() {
@@ -66,6 +79,27 @@ public class TaskExecutionContext {
         return task;
     }
 
+    /**
+     * @return the manager of the temporary buffers created during the execution or null if buffers are not managed
+     */
+    public TemporaryBuffersManager temporaryBuffers() {
+        return temporaryBuffers;
+    }
+
+    /**
+     * @return counters of the outputs delivered to their final destination
+     */
+    public OutputDeliveryCounters outputDelivery() {
+        return outputDelivery;
+    }
+
+    /**
+     * @return metrics of the execution
+     */
+    public TaskMetrics metrics() {
+        return metrics;
+    }
+
     public void taskStart() {
         stopWatch.start();
     }
@@ -74,6 +108,7 @@ public class TaskExecutionContext {
         stopWatch.stop();
         LOG.info("Task ({}) executed in {}", task,
                 DurationFormatUtils.formatDurationWords(stopWatch.getTime(), true, true));
+        LOG.debug("Task metrics {}", metrics);
     }
 
     public long executionTime() {
@@ -0,0 +1,146 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.model.task;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Metrics of a task execution: time spent in each {@link TaskPhase} and values of the {@link TaskCounter}s. The time spent in
+ * {@link TaskPhase#OUTPUT_DELIVERY} is the one measured by the {@link OutputDeliveryCounters} of the execution. Metrics can be updated
+ * concurrently by the threads working on the task.
+ * 
+ * @author agent
+ * 
+ */
+public class TaskMetrics {
+
+    private static final String PREFIX = "sejda.task.";
+
+    private final Map<TaskPhase, LongAdder> phases = new EnumMap<>(TaskPhase.class);
+    private final Map<TaskCounter, LongAdder> counters = new EnumMap<>(TaskCounter.class);
+    private final OutputDeliveryCounters outputDelivery;
+
+    /**
+     * @param outputDelivery
+     *            counters of the outputs delivered by the task
+     */
+    public TaskMetrics(OutputDeliveryCounters outputDelivery) {
+        this.outputDelivery = outputDelivery;
+        // maps are never modified after this point so they can be read concurrently
+        for (TaskPhase phase : TaskPhase.values()) {
+            phases.put(phase, new LongAdder());
+        }
+        for (TaskCounter counter : TaskCounter.values()) {
+            counters.put(counter, new LongAdder());
+        }
+    }
+
+    /**
+     * Adds the given time to the time spent in the given phase
+     * 
+     * @param phase
+     * @param elapsedNanos
+     */
+    public void phase(TaskPhase phase, long elapsedNanos) {
+        phases.get(phase).add(elapsedNanos);
+    }
+
+    /**
+     * Adds the given value to the given counter
+     * 
+     * @param counter
+     * @param value
+     */
+    public void count(TaskCounter counter, long value) {
+        counters.get(counter).add(value);
+    }
+
+    /**
+     * Increments the given counter by one
+     * 
+     * @param counter
+     */
+    public void increment(TaskCounter counter) {
+        counters.get(counter).increment();
+    }
+
+    /**
+     * @param phase
+     * @param unit
+     * @return the time spent in the given phase
+     */
+    public long time(TaskPhase phase, TimeUnit unit) {
+        long nanos = phases.get(phase).sum();
+        if (phase == TaskPhase.OUTPUT_DELIVERY) {
+            nanos += outputDelivery.time(TimeUnit.NANOSECONDS);
+        }
+        return unit.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param counter
+     * @return the value of the given counter
+     */
+    public long value(TaskCounter counter) {
+        return counters.get(counter).sum();
+    }
+
+    /**
+     * @return counters of the outputs delivered by the task
+     */
+    public OutputDeliveryCounters outputDelivery() {
+        return outputDelivery;
+    }
+
+    /**
+     * @return a snapshot of the metrics as metric names and values, phases times are in milliseconds. Names are stable and can be used to
+     *         publish the values to a metrics registry.
+     */
+    public Map<String, Long> toMap() {
+        Map<String, Long> values = new LinkedHashMap<>();
+        for (TaskPhase phase : TaskPhase.values()) {
+            values.put(PREFIX + "phase." + phase.key() + ".millis", time(phase, TimeUnit.MILLISECONDS));
+        }
+        for (TaskCounter counter : TaskCounter.values()) {
+            values.put(PREFIX + counter.key(), value(counter));
+        }
+        values.put(PREFIX + "outputs.delivered", outputDelivery.files());
+        values.put(PREFIX + "outputs.bytes", outputDelivery.bytes());
+        return Collections.unmodifiableMap(values);
+    }
+
+    @Override
+    public String toString() {
+        ToStringBuilder builder = new ToStringBuilder(this);
+        for (TaskPhase phase : TaskPhase.values()) {
+            builder.append(phase.key() + ".millis", time(phase, TimeUnit.MILLISECONDS));
+        }
+        for (TaskCounter counter : TaskCounter.values()) {
+            builder.append(counter.key(), value(counter));
+        }
+        return builder.append("outputDelivery", outputDelivery).toString();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.model.task;
+
+/**
+ * Phases of a task execution whose duration is measured by the {@link TaskMetrics}.
+ * 
+ * @author agent
+ * 
+ */
+public enum TaskPhase {
+    /**
+     * Parsing of the input documents
+     */
+    PARSE("parse"),
+    /**
+     * Import of pages in the generated documents
+     */
+    PAGES_IMPORT("pages.import"),
+    /**
+     * Optimization of the document resources, like images recompression
+     */
+    OPTIMIZATION("optimization"),
+    /**
+     * Save of the generated documents to their temporary buffers
+     */
+    SAVE("save"),
+    /**
+     * Delivery of the outputs to their final destination
+     */
+    OUTPUT_DELIVERY("output.delivery");
+
+    private final String key;
+
+    private TaskPhase(String key) {
+        this.key = key;
+    }
+
+    /**
+     * @return a dotted key identifying the phase, suitable as part of a metric name
+     */
+    public String key() {
+        return key;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.model.task;
+
+import java.io.File;
+import java.util.concurrent.Semaphore;
+
+import org.sejda.model.exception.TaskIOException;
+
+/**
+ * Manager of the temporary buffers where a task writes its outputs before they are moved to their final destination. A manager is bound to
+ * a single task execution and it's released once the execution is completed.
+ * 
+ * @author agent
+ * 
+ */
+public interface TemporaryBuffersManager {
+
+    /**
+     * @param extension
+     *            extension of the buffer (ex. ".pdf")
+     * @return a new empty temporary file
+     * @throws TaskIOException
+     *             if the buffer cannot be created or if a configured quota is already exceeded by the bytes reported through
+     *             {@link #written(File)}. Buffers are not accounted while they are written, so a single buffer can grow past the quota.
+     */
+    File newBuffer(String extension) throws TaskIOException;
+
+    /**
+     * Notifies the manager that the given buffer has been written and its current size should be accounted for quotas
+     * 
+     * @param buffer
+     */
+    void written(File buffer);
+
+    /**
+     * Notifies the manager that the given buffer has been moved to its destination or deleted and it's not accounted anymore
+     * 
+     * @param buffer
+     */
+    void discarded(File buffer);
+
+    /**
+     * @return the number of bytes accounted for the buffers created by this manager and not yet discarded
+     */
+    long usedBytes();
+
+    /**
+     * @return the permits bounding how many streams the task can keep open at the same time while writing its outputs. Permits are
+     *         released as soon as the stream is closed.
+     */
+    Semaphore openStreams();
+
+    /**
+     * Deletes every buffer created by this manager that is still there. Buffers cannot be used after they are released.
+     */
+    void release();
+}
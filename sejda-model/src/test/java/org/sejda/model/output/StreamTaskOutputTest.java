@@ -55,4 +55,14 @@ public class StreamTaskOutputTest {
         StreamTaskOutput diff = new StreamTaskOutput(diffStream);
         TestUtils.testEqualsAndHashCodes(eq1, eq2, eq3, diff);
     }
+
+    @Test
+    public void testEqualsStoreCompressedFormats() {
+        OutputStream stream = mock(OutputStream.class);
+        StreamTaskOutput eq1 = new StreamTaskOutput(stream, true);
+        StreamTaskOutput eq2 = new StreamTaskOutput(stream, true);
+        StreamTaskOutput eq3 = new StreamTaskOutput(stream, true);
+        StreamTaskOutput diff = new StreamTaskOutput(stream);
+        TestUtils.testEqualsAndHashCodes(eq1, eq2, eq3, diff);
+    }
 }
@@ -55,6 +55,7 @@ public class ExtractTextParametersTest {
         ExtractTextParameters diff = new ExtractTextParameters();
         diff.setExistingOutputPolicy(ExistingOutputPolicy.SKIP);
         diff.setTextEncoding("UTF-8");
+        diff.setSourcesParallelism(4);
         TestUtils.testEqualsAndHashCodes(eq1, eq2, eq3, diff);
     }
 
@@ -72,4 +73,13 @@ public class ExtractTextParametersTest {
         victim.setTextEncoding("");
         TestUtils.assertInvalidParameters(victim);
     }
+
+    @Test
+    public void testInvalidParametersSourcesParallelism() {
+        ExtractTextParameters victim = new ExtractTextParameters();
+        victim.setOutput(output);
+        victim.addSource(input);
+        victim.setSourcesParallelism(0);
+        TestUtils.assertInvalidParameters(victim);
+    }
 }
@@ -54,9 +54,21 @@ public class MergeParametersTest {
         MergeParameters diff = new MergeParameters();
         diff.setBlankPageIfOdd(true);
         diff.setAcroFormPolicy(AcroFormPolicy.MERGE);
+        diff.setInputsLookAhead(4);
         TestUtils.testEqualsAndHashCodes(eq1, eq2, eq3, diff);
     }
 
+    @Test
+    public void testInvalidParametersNegativeLookAhead() {
+        MergeParameters victim = new MergeParameters();
+        victim.setOutput(output);
+        InputStream stream = mock(InputStream.class);
+        PdfSource<InputStream> input = PdfStreamSource.newInstanceNoPassword(stream, "name");
+        victim.addInput(new PdfMergeInput(input));
+        victim.setInputsLookAhead(-1);
+        TestUtils.assertInvalidParameters(victim);
+    }
+
     @Test
     public void testInvalidParametersNullSource() {
         MergeParameters victim = new MergeParameters();
@@ -44,6 +44,7 @@ public class RotateParametersTest {
         RotateParameters eq3 = new RotateParameters(Rotation.DEGREES_0, PredefinedSetOfPages.ALL_PAGES);
         RotateParameters diff = new RotateParameters(Rotation.DEGREES_0, PredefinedSetOfPages.ALL_PAGES);
         diff.setOutputPrefix("prefix");
+        diff.setSourcesParallelism(2);
         TestUtils.testEqualsAndHashCodes(eq1, eq2, eq3, diff);
     }
 
@@ -57,4 +58,13 @@ public class RotateParametersTest {
         victim.addSource(input);
         TestUtils.assertInvalidParameters(victim);
     }
+
+    @Test
+    public void testInvalidParametersSourcesParallelism() {
+        RotateParameters victim = new RotateParameters(Rotation.DEGREES_90, PredefinedSetOfPages.ALL_PAGES);
+        victim.setOutput(mock(MultipleTaskOutput.class));
+        victim.addSource(PdfStreamSource.newInstanceNoPassword(mock(InputStream.class), "name"));
+        victim.setSourcesParallelism(0);
+        TestUtils.assertInvalidParameters(victim);
+    }
 }
@@ -21,9 +21,12 @@ package org.sejda.model.parameter;
 
 import static org.mockito.Mockito.mock;
 
+import java.io.InputStream;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.sejda.TestUtils;
+import org.sejda.model.input.PdfStreamSource;
 import org.sejda.model.output.ExistingOutputPolicy;
 import org.sejda.model.output.MultipleTaskOutput;
 
@@ -47,6 +50,7 @@ public class UnpackParametersTest {
         UnpackParameters eq3 = new UnpackParameters(output);
         UnpackParameters diff = new UnpackParameters(output);
         diff.setExistingOutputPolicy(ExistingOutputPolicy.OVERWRITE);
+        diff.setSourcesParallelism(4);
         TestUtils.testEqualsAndHashCodes(eq1, eq2, eq3, diff);
     }
 
@@ -55,4 +59,12 @@ public class UnpackParametersTest {
         UnpackParameters victim = new UnpackParameters(output);
         TestUtils.assertInvalidParameters(victim);
     }
+
+    @Test
+    public void testInvalidParametersSourcesParallelism() {
+        UnpackParameters victim = new UnpackParameters(output);
+        victim.addSource(PdfStreamSource.newInstanceNoPassword(mock(InputStream.class), "name"));
+        victim.setSourcesParallelism(0);
+        TestUtils.assertInvalidParameters(victim);
+    }
 }
@@ -21,6 +21,7 @@ package org.sejda.model.parameter.image;
 
 import org.junit.Test;
 import org.sejda.TestUtils;
+import org.sejda.model.image.RasterizationMode;
 import org.sejda.model.pdf.page.PageRange;
 
 import static org.junit.Assert.assertEquals;
@@ -42,6 +43,26 @@ public class PdfToJpegParametersTest {
         TestUtils.testEqualsAndHashCodes(eq1, eq2, eq3, diff);
     }
 
+    @Test
+    public void testEqualsRenderingParallelism() {
+        PdfToJpegParameters eq1 = new PdfToJpegParameters();
+        PdfToJpegParameters eq2 = new PdfToJpegParameters();
+        PdfToJpegParameters eq3 = new PdfToJpegParameters();
+        PdfToJpegParameters diff = new PdfToJpegParameters();
+        diff.setRenderingParallelism(4);
+        TestUtils.testEqualsAndHashCodes(eq1, eq2, eq3, diff);
+    }
+
+    @Test
+    public void testEqualsRasterizationMode() {
+        PdfToJpegParameters eq1 = new PdfToJpegParameters();
+        PdfToJpegParameters eq2 = new PdfToJpegParameters();
+        PdfToJpegParameters eq3 = new PdfToJpegParameters();
+        PdfToJpegParameters diff = new PdfToJpegParameters();
+        diff.setRasterizationMode(RasterizationMode.BANDED);
+        TestUtils.testEqualsAndHashCodes(eq1, eq2, eq3, diff);
+    }
+
     @Test
     public void testGetPageSelection() {
         PdfToJpegParameters victim = new PdfToJpegParameters();
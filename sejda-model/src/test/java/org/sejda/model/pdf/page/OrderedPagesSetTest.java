@@ -0,0 +1,115 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.model.pdf.page;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ *
+ */
+public class OrderedPagesSetTest {
+
+    @Test
+    public void insertionOrder() {
+        OrderedPagesSet victim = new OrderedPagesSet();
+        assertTrue(victim.addRange(5, 7));
+        assertTrue(victim.add(1));
+        assertTrue(victim.addRange(3, 9));
+        assertFalse(victim.add(6));
+        assertFalse(victim.add(null));
+        assertEquals(Arrays.asList(5, 6, 7, 1, 3, 4, 8, 9), new ArrayList<>(victim));
+        assertEquals(8, victim.size());
+        assertTrue(victim.contains(4));
+        assertFalse(victim.contains(2));
+    }
+
+    @Test
+    public void removeSplitsRanges() {
+        OrderedPagesSet victim = new OrderedPagesSet();
+        victim.addRange(10, 15);
+        victim.addRange(1, 2);
+        assertTrue(victim.remove(12));
+        assertFalse(victim.remove(12));
+        assertEquals(Arrays.asList(10, 11, 13, 14, 15, 1, 2), new ArrayList<>(victim));
+        victim.add(12);
+        assertEquals(Arrays.asList(10, 11, 13, 14, 15, 1, 2, 12), new ArrayList<>(victim));
+    }
+
+    @Test
+    public void iteratorRemove() {
+        OrderedPagesSet victim = new OrderedPagesSet();
+        victim.addRange(4, 8);
+        victim.addRange(1, 2);
+        Iterator<Integer> iterator = victim.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertEquals(Arrays.asList(5, 7, 1), new ArrayList<>(victim));
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void concurrentModification() {
+        OrderedPagesSet victim = new OrderedPagesSet();
+        victim.addRange(1, 3);
+        for (Integer page : victim) {
+            victim.add(page + 10);
+        }
+    }
+
+    @Test
+    public void sameAsLinkedHashSet() {
+        Random random = new Random(11);
+        OrderedPagesSet victim = new OrderedPagesSet();
+        LinkedHashSet<Integer> expected = new LinkedHashSet<>();
+        for (int i = 0; i < 2000; i++) {
+            int page = random.nextInt(200);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(page), victim.remove(page));
+            } else {
+                assertEquals(expected.add(page), victim.add(page));
+            }
+        }
+        assertEquals(expected, victim);
+        assertEquals(expected.hashCode(), victim.hashCode());
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(victim));
+    }
+
+    @Test
+    public void addAllSorted() {
+        SortedPagesSet sorted = new SortedPagesSet();
+        sorted.addRange(3, 6);
+        OrderedPagesSet victim = new OrderedPagesSet(Arrays.asList(5, 1));
+        assertTrue(victim.addAll(sorted));
+        assertEquals(Arrays.asList(5, 1, 3, 4, 6), new ArrayList<>(victim));
+    }
+}
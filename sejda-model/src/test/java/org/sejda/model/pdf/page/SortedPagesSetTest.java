@@ -0,0 +1,137 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.model.pdf.page;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ *
+ */
+public class SortedPagesSetTest {
+
+    @Test
+    public void addMergesRanges() {
+        SortedPagesSet victim = new SortedPagesSet();
+        assertTrue(victim.addRange(1, 3));
+        assertTrue(victim.addRange(7, 9));
+        assertTrue(victim.add(5));
+        assertTrue(victim.addRange(4, 6));
+        assertFalse(victim.addRange(2, 8));
+        assertFalse(victim.add(null));
+        assertEquals(9, victim.size());
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9), new ArrayList<>(victim));
+        assertEquals(1, victim.toRanges().length / 2);
+    }
+
+    @Test
+    public void removeSplitsRanges() {
+        SortedPagesSet victim = new SortedPagesSet();
+        victim.addRange(1, 10);
+        assertTrue(victim.remove(5));
+        assertFalse(victim.remove(5));
+        assertTrue(victim.remove(1));
+        assertTrue(victim.remove(10));
+        assertEquals(Arrays.asList(2, 3, 4, 6, 7, 8, 9), new ArrayList<>(victim));
+        assertEquals(2, victim.toRanges().length / 2);
+        assertFalse(victim.contains(5));
+        assertTrue(victim.contains(6));
+    }
+
+    @Test
+    public void iteratorRemove() {
+        SortedPagesSet victim = new SortedPagesSet();
+        victim.addRange(1, 6);
+        Iterator<Integer> iterator = victim.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertEquals(Arrays.asList(1, 3, 5), new ArrayList<>(victim));
+    }
+
+    @Test
+    public void views() {
+        SortedPagesSet victim = new SortedPagesSet();
+        victim.addRange(1, 3);
+        victim.addRange(10, 20);
+        SortedSet<Integer> sub = victim.subSet(2, 12);
+        assertEquals(Arrays.asList(2, 3, 10, 11), new ArrayList<>(sub));
+        assertEquals(4, sub.size());
+        assertEquals(2, sub.first().intValue());
+        assertEquals(11, sub.last().intValue());
+        assertEquals(3, victim.headSet(10).size());
+        assertEquals(11, victim.tailSet(4).size());
+        assertTrue(victim.subSet(4, 10).isEmpty());
+        sub.remove(10);
+        assertFalse(victim.contains(10));
+        victim.add(10);
+        assertTrue(sub.contains(10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addOutOfView() {
+        SortedPagesSet victim = new SortedPagesSet();
+        victim.addRange(1, 10);
+        victim.headSet(5).add(6);
+    }
+
+    @Test
+    public void sameAsTreeSet() {
+        Random random = new Random(7);
+        SortedPagesSet victim = new SortedPagesSet();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 2000; i++) {
+            int page = random.nextInt(200);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(page), victim.remove(page));
+            } else {
+                assertEquals(expected.add(page), victim.add(page));
+            }
+        }
+        assertEquals(expected, victim);
+        assertEquals(victim, expected);
+        assertEquals(expected.hashCode(), victim.hashCode());
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(victim));
+        assertEquals(expected.first(), victim.first());
+        assertEquals(expected.last(), victim.last());
+        assertEquals(new ArrayList<>(expected.subSet(50, 150)), new ArrayList<>(victim.subSet(50, 150)));
+    }
+
+    @Test
+    public void copy() {
+        SortedPagesSet source = new SortedPagesSet();
+        source.addRange(5, 8);
+        source.addRange(1, 2);
+        assertEquals(source, new SortedPagesSet(source));
+        assertEquals(source, new SortedPagesSet(Arrays.asList(8, 7, 6, 5, 2, 1)));
+    }
+}
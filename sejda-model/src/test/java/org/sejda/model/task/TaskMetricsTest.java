@@ -0,0 +1,65 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.model.task;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ *
+ */
+public class TaskMetricsTest {
+
+    @Test
+    public void phasesAndCounters() {
+        OutputDeliveryCounters delivery = new OutputDeliveryCounters();
+        TaskMetrics victim = new TaskMetrics(delivery);
+        victim.phase(TaskPhase.PARSE, TimeUnit.MILLISECONDS.toNanos(3));
+        victim.phase(TaskPhase.PARSE, TimeUnit.MILLISECONDS.toNanos(2));
+        victim.phase(TaskPhase.OUTPUT_DELIVERY, TimeUnit.MILLISECONDS.toNanos(1));
+        delivery.delivered(100, TimeUnit.MILLISECONDS.toNanos(4));
+        victim.increment(TaskCounter.PAGES_PROCESSED);
+        victim.count(TaskCounter.PAGES_PROCESSED, 9);
+        assertEquals(5, victim.time(TaskPhase.PARSE, TimeUnit.MILLISECONDS));
+        assertEquals(0, victim.time(TaskPhase.SAVE, TimeUnit.MILLISECONDS));
+        assertEquals(5, victim.time(TaskPhase.OUTPUT_DELIVERY, TimeUnit.MILLISECONDS));
+        assertEquals(10, victim.value(TaskCounter.PAGES_PROCESSED));
+        assertEquals(0, victim.value(TaskCounter.FONTS_LOADED));
+    }
+
+    @Test
+    public void toMap() {
+        OutputDeliveryCounters delivery = new OutputDeliveryCounters();
+        TaskMetrics victim = new TaskMetrics(delivery);
+        victim.phase(TaskPhase.PAGES_IMPORT, TimeUnit.MILLISECONDS.toNanos(7));
+        victim.count(TaskCounter.BYTES_READ, 1024);
+        delivery.delivered(100, 1);
+        Map<String, Long> values = victim.toMap();
+        assertEquals(7, values.get("sejda.task.phase.pages.import.millis").longValue());
+        assertEquals(1024, values.get("sejda.task.bytes.read").longValue());
+        assertEquals(1, values.get("sejda.task.outputs.delivered").longValue());
+        assertEquals(100, values.get("sejda.task.outputs.bytes").longValue());
+        assertEquals(TaskPhase.values().length + TaskCounter.values().length + 2, values.size());
+    }
+}
@@ -19,7 +19,6 @@
 package org.sejda.impl.sambox;
 
 import static org.sejda.common.ComponentsUtility.nullSafeCloseQuietly;
-import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
 import static org.sejda.core.support.io.IOUtils.createTemporaryPdfBuffer;
 import static org.sejda.core.support.io.model.FileOutput.file;
 import static org.sejda.core.support.prefix.NameGenerator.nameGenerator;
@@ -27,6 +26,8 @@ import static org.sejda.core.support.prefix.model.NameGenerationRequest.nameRequ
 
 import java.io.File;
 
+import org.sejda.core.support.concurrent.MultipleSourcesProcessor;
+import org.sejda.core.support.concurrent.OpenResources;
 import org.sejda.core.support.io.MultipleOutputWriter;
 import org.sejda.core.support.io.OutputWriters;
 import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
@@ -50,28 +51,24 @@ public class DecryptTask extends BaseTask<DecryptParameters> {
 
     private static final Logger LOG = LoggerFactory.getLogger(DecryptTask.class);
 
-    private int totalSteps;
-    private PDDocumentHandler documentHandler = null;
+    private final OpenResources documents = new OpenResources();
     private MultipleOutputWriter outputWriter;
     private PdfSourceOpener<PDDocumentHandler> documentLoader;
+    private MultipleSourcesProcessor<PdfSource<?>> sourcesProcessor;
 
     @Override
     public void before(DecryptParameters parameters, TaskExecutionContext executionContext) throws TaskException {
         super.before(parameters, executionContext);
-        totalSteps = parameters.getSourceList().size();
         documentLoader = new DefaultPdfSourceOpener();
         outputWriter = OutputWriters.newMultipleOutputWriter(parameters.getExistingOutputPolicy(), executionContext);
+        sourcesProcessor = new MultipleSourcesProcessor<>(executionContext, parameters.getSourcesParallelism());
     }
 
     @Override
     public void execute(DecryptParameters parameters) throws TaskException {
-        int currentStep = 0;
-        for (PdfSource<?> source : parameters.getSourceList()) {
-            executionContext().assertTaskNotCancelled();
-
-            currentStep++;
+        sourcesProcessor.process(parameters.getSourceList(), (source, fileNumber, outputs) -> {
             LOG.debug("Opening {}", source);
-            documentHandler = source.open(documentLoader);
+            PDDocumentHandler documentHandler = documents.add(source.open(documentLoader));
             documentHandler.getPermissions().ensureOwnerPermissions();
             documentHandler.setCreatorOnPDDocument();
 
@@ -83,13 +80,11 @@ public class DecryptTask extends BaseTask<DecryptParameters> {
             documentHandler.savePDDocument(tmpFile);
 
             String outName = nameGenerator(parameters.getOutputPrefix()).generate(
-                    nameRequest().originalName(source.getName()).fileNumber(currentStep));
-            outputWriter.addOutput(file(tmpFile).name(outName));
-
-            nullSafeCloseQuietly(documentHandler);
+                    nameRequest().originalName(source.getName()).fileNumber(fileNumber));
+            outputs.accept(file(tmpFile).name(outName));
 
-            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(currentStep).outOf(totalSteps);
-        }
+            documents.close(documentHandler);
+        }, outputWriter);
 
         parameters.getOutput().accept(outputWriter);
         LOG.debug("Input documents decrypted and written to {}", parameters.getOutput());
@@ -97,7 +92,7 @@ public class DecryptTask extends BaseTask<DecryptParameters> {
 
     @Override
     public void after() {
-        nullSafeCloseQuietly(documentHandler);
+        nullSafeCloseQuietly(documents);
     }
 
 }
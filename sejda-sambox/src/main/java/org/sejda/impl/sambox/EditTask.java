@@ -16,7 +16,6 @@
  */
 package org.sejda.impl.sambox;
 
-import static java.util.Comparator.reverseOrder;
 import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
 import static org.sejda.common.ComponentsUtility.nullSafeCloseQuietly;
 import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
@@ -27,18 +26,22 @@ import static org.sejda.core.support.prefix.model.NameGenerationRequest.nameRequ
 import static org.sejda.impl.sambox.util.FontUtils.getStandardType1Font;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.SortedSet;
-import java.util.TreeSet;
 
 import org.sejda.core.support.io.MultipleOutputWriter;
 import org.sejda.core.support.io.OutputWriters;
 import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
 import org.sejda.impl.sambox.component.PDDocumentHandler;
+import org.sejda.impl.sambox.component.PageContentStreams;
 import org.sejda.impl.sambox.component.PageGeometricalShapeWriter;
 import org.sejda.impl.sambox.component.PageImageWriter;
 import org.sejda.impl.sambox.component.PageTextWriter;
 import org.sejda.model.RectangularBox;
 import org.sejda.model.exception.TaskException;
+import org.sejda.model.exception.TaskIOException;
 import org.sejda.model.input.PdfSource;
 import org.sejda.model.input.PdfSourceOpener;
 import org.sejda.model.parameter.EditParameters;
@@ -49,6 +52,7 @@ import org.sejda.model.parameter.edit.DeletePageOperation;
 import org.sejda.model.parameter.edit.HighlightTextOperation;
 import org.sejda.model.parameter.edit.InsertPageOperation;
 import org.sejda.model.pdf.encryption.PdfAccessPermission;
+import org.sejda.model.pdf.page.SortedPagesSet;
 import org.sejda.model.task.BaseTask;
 import org.sejda.model.task.TaskExecutionContext;
 import org.sejda.sambox.pdmodel.PDPage;
@@ -103,61 +107,82 @@ public class EditTask extends BaseTask<EditParameters> {
             // before we start removing pages, keep track of page size
             PDRectangle firstPageMediaBox = documentHandler.getPage(1).getMediaBox();
 
-            // to be able to delete multiple pages without having issues due to index shift
-            // remove them in descending order, one by one
-            TreeSet<Integer> pagesToDeleteSorted = new TreeSet<>(reverseOrder());
-
-            for(DeletePageOperation deleteOperation: parameters.getDeletePageOperations()) {
-                pagesToDeleteSorted.add(deleteOperation.getPageNumber());
-            }
-
-            for(Integer pageNumber : pagesToDeleteSorted) {
-                LOG.debug("Deleting page {}", pageNumber);
-                documentHandler.removePage(pageNumber);
+            // all the pages are removed at once, page numbers are not shifted by the ones removed before
+            SortedPagesSet pagesToDelete = new SortedPagesSet();
+            for (DeletePageOperation deleteOperation : parameters.getDeletePageOperations()) {
+                pagesToDelete.add(deleteOperation.getPageNumber());
             }
+            LOG.debug("Deleting pages {}", pagesToDelete);
+            documentHandler.removePages(pagesToDelete);
 
-            for(InsertPageOperation insertPageOperation : parameters.getInsertPageOperations()) {
-                int pageNumber = insertPageOperation.getPageNumber();
-                if(documentHandler.getNumberOfPages() == 0) {
-                    // strange place to be, right? Eg: document had 1 page, user removed it and inserted a new one in place
-                    documentHandler.addBlankPage(firstPageMediaBox);
-                } else {
-                    if (pageNumber > 1) {
-                        LOG.debug("Adding new page after page {}", pageNumber - 1);
-                        documentHandler.addBlankPageAfter(pageNumber - 1);
-                    } else {
-                        LOG.debug("Adding new page before page {}", pageNumber);
-                        documentHandler.addBlankPageBefore(pageNumber);
-                    }
-                }
-            }
+            SortedPagesSet blankPages = blankPagesNumbers(parameters.getInsertPageOperations(),
+                    documentHandler.getNumberOfPages());
+            LOG.debug("Adding new pages {}", blankPages);
+            documentHandler.addBlankPages(blankPages, firstPageMediaBox);
 
             int totalPages = documentHandler.getNumberOfPages();
 
-            for (AddTextOperation textOperation : parameters.getTextOperations()) {
-                PageTextWriter textWriter = new PageTextWriter(documentHandler.getUnderlyingPDDocument());
+            // all the content added to a page goes to a single appended content stream
+            PageContentStreams streams = new PageContentStreams(documentHandler.getUnderlyingPDDocument());
+            PageTextWriter textWriter = new PageTextWriter(documentHandler.getUnderlyingPDDocument(), streams);
+            PageImageWriter imageWriter = new PageImageWriter(streams);
+            PageGeometricalShapeWriter shapeWriter = new PageGeometricalShapeWriter(streams);
 
-                SortedSet<Integer> pageNumbers = textOperation.getPageRange().getPages(totalPages);
-
-                for (int pageNumber : pageNumbers) {
-                    PDPage page = documentHandler.getPage(pageNumber);
-                    PDFont font = defaultIfNull(getStandardType1Font(textOperation.getFont()), PDType1Font.HELVETICA);
-                    textWriter.write(page, textOperation.getPosition(), textOperation.getText(), font, textOperation.getFontSize(), textOperation.getColor());
-                }
+            List<AddTextOperation> textOperations = parameters.getTextOperations();
+            List<SortedSet<Integer>> textPages = new ArrayList<>();
+            for (AddTextOperation textOperation : textOperations) {
+                textPages.add(textOperation.getPageRange().getPages(totalPages));
+            }
+            List<AddImageOperation> imageOperations = parameters.getImageOperations();
+            List<SortedSet<Integer>> imagePages = new ArrayList<>();
+            List<PDImageXObject> images = new ArrayList<>();
+            for (AddImageOperation imageOperation : imageOperations) {
+                imagePages.add(imageOperation.getPageRange().getPages(totalPages));
+                images.add(PageImageWriter.toPDXImageObject(imageOperation.getImageSource()));
+            }
+            List<AddShapeOperation> shapeOperations = parameters.getShapeOperations();
+            List<SortedSet<Integer>> shapePages = new ArrayList<>();
+            for (AddShapeOperation shapeOperation : shapeOperations) {
+                shapePages.add(shapeOperation.getPageRange().getPages(totalPages));
             }
 
-            for(AddImageOperation imageOperation: parameters.getImageOperations()) {
-                PageImageWriter imageWriter = new PageImageWriter(documentHandler.getUnderlyingPDDocument());
-                PDImageXObject image = PageImageWriter.toPDXImageObject(imageOperation.getImageSource());
-
-                SortedSet<Integer> pageNumbers = imageOperation.getPageRange().getPages(totalPages);
-
-                for (int pageNumber : pageNumbers) {
-                    PDPage page = documentHandler.getPage(pageNumber);
-                    imageWriter.write(page, image, imageOperation.getPosition(), imageOperation.getWidth(), imageOperation.getHeight());
+            SortedSet<Integer> pages = new SortedPagesSet();
+            textPages.forEach(pages::addAll);
+            imagePages.forEach(pages::addAll);
+            shapePages.forEach(pages::addAll);
+            for (int pageNumber : pages) {
+                PDPage page = documentHandler.getPage(pageNumber);
+                for (int i = 0; i < textOperations.size(); i++) {
+                    if (textPages.get(i).contains(pageNumber)) {
+                        AddTextOperation textOperation = textOperations.get(i);
+                        PDFont font = defaultIfNull(getStandardType1Font(textOperation.getFont()), PDType1Font.HELVETICA);
+                        textWriter.write(page, textOperation.getPosition(), textOperation.getText(), font,
+                                textOperation.getFontSize(), textOperation.getColor());
+                    }
+                }
+                for (int i = 0; i < imageOperations.size(); i++) {
+                    if (imagePages.get(i).contains(pageNumber)) {
+                        AddImageOperation imageOperation = imageOperations.get(i);
+                        imageWriter.write(page, images.get(i), imageOperation.getPosition(), imageOperation.getWidth(),
+                                imageOperation.getHeight());
+                    }
                 }
+                for (int i = 0; i < shapeOperations.size(); i++) {
+                    if (shapePages.get(i).contains(pageNumber)) {
+                        AddShapeOperation shapeOperation = shapeOperations.get(i);
+                        shapeWriter.drawShape(shapeOperation.getShape(), page, shapeOperation.getPosition(),
+                                shapeOperation.getWidth(), shapeOperation.getHeight(), shapeOperation.getBorderColor(),
+                                shapeOperation.getBackgroundColor(), shapeOperation.getBorderWidth());
+                    }
+                }
+            }
+            try {
+                streams.close();
+            } catch (IOException e) {
+                throw new TaskIOException("An error occurred writing to the pages.", e);
             }
 
+            // highlights are annotations, painted above the page content, so they stay on top of the shapes drawn before them
             for(HighlightTextOperation highlightTextOperation: parameters.getHighlightTextOperations()) {
                 for(RectangularBox boundingBox: highlightTextOperation.getBoundingBoxes()){
                     PDAnnotationTextMarkup markup = new PDAnnotationTextMarkup(PDAnnotationTextMarkup.SUB_TYPE_HIGHLIGHT);
@@ -175,22 +200,6 @@ public class EditTask extends BaseTask<EditParameters> {
                 }
             }
 
-            PageGeometricalShapeWriter shapeWriter = new PageGeometricalShapeWriter(documentHandler.getUnderlyingPDDocument());
-            for(AddShapeOperation shapeOperation: parameters.getShapeOperations()) {
-                SortedSet<Integer> pageNumbers = shapeOperation.getPageRange().getPages(totalPages);
-                for (int pageNumber : pageNumbers) {
-                    PDPage page = documentHandler.getPage(pageNumber);
-                    shapeWriter.drawShape(
-                            shapeOperation.getShape(),
-                            page,
-                            shapeOperation.getPosition(),
-                            shapeOperation.getWidth(), shapeOperation.getHeight(),
-                            shapeOperation.getBorderColor(), shapeOperation.getBackgroundColor(),
-                            shapeOperation.getBorderWidth()
-                    );
-                }
-            }
-
             documentHandler.savePDDocument(tmpFile);
             String outName = nameGenerator(parameters.getOutputPrefix()).generate(
                     nameRequest().originalName(source.getName()).fileNumber(currentStep));
@@ -207,6 +216,55 @@ public class EditTask extends BaseTask<EditParameters> {
         nullSafeCloseQuietly(documentHandler);
     }
 
+    /**
+     * Insert operations are applied one after the other, each one shifting the pages following it, this gives the page numbers the
+     * inserted blank pages end up with once all the operations have been applied.
+     * 
+     * @param operations
+     * @param pages
+     *            number of pages of the document before the blank pages are inserted
+     * @return the page numbers of the blank pages in the resulting document
+     */
+    static SortedPagesSet blankPagesNumbers(List<InsertPageOperation> operations, int pages) {
+        // a blank page ends up in the n-th page number, n being the position it's inserted at, not taken by the blank pages inserted after
+        // it. Operations are applied from the last one, counting the free page numbers with a Fenwick tree.
+        int size = pages + operations.size();
+        int[] free = new int[size + 1];
+        for (int i = 1; i <= size; i++) {
+            free[i]++;
+            int parent = i + (i & -i);
+            if (parent <= size) {
+                free[parent] += free[i];
+            }
+        }
+        SortedPagesSet numbers = new SortedPagesSet();
+        for (int i = operations.size() - 1; i >= 0; i--) {
+            // in a document without pages the blank page is just added
+            int position = (pages + i == 0) ? 1 : operations.get(i).getPageNumber();
+            int number = nthFree(free, position);
+            numbers.add(number);
+            for (int j = number; j <= size; j += j & -j) {
+                free[j]--;
+            }
+        }
+        return numbers;
+    }
+
+    /**
+     * @return the n-th free page number counted by the given Fenwick tree
+     */
+    private static int nthFree(int[] free, int n) {
+        int number = 0;
+        int remaining = n;
+        for (int step = Integer.highestOneBit(Math.max(1, free.length - 1)); step > 0; step >>= 1) {
+            if (number + step < free.length && free[number + step] < remaining) {
+                number += step;
+                remaining -= free[number];
+            }
+        }
+        return number + 1;
+    }
+
     private float[] quadsOf(PDRectangle position) {
         // work out the points forming the four corners of the annotations
         // set out in anti clockwise form (Completely wraps the text)
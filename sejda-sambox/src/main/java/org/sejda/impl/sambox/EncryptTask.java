@@ -19,7 +19,6 @@
 package org.sejda.impl.sambox;
 
 import static org.sejda.common.ComponentsUtility.nullSafeCloseQuietly;
-import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
 import static org.sejda.core.support.io.IOUtils.createTemporaryPdfBuffer;
 import static org.sejda.core.support.io.model.FileOutput.file;
 import static org.sejda.core.support.prefix.NameGenerator.nameGenerator;
@@ -29,6 +28,8 @@ import static org.sejda.impl.sambox.util.EncryptionUtils.securityFromParams;
 import java.io.File;
 import java.util.stream.Collectors;
 
+import org.sejda.core.support.concurrent.MultipleSourcesProcessor;
+import org.sejda.core.support.concurrent.OpenResources;
 import org.sejda.core.support.io.MultipleOutputWriter;
 import org.sejda.core.support.io.OutputWriters;
 import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
@@ -53,31 +54,27 @@ import org.slf4j.LoggerFactory;
 public class EncryptTask extends BaseTask<EncryptParameters> {
     private static final Logger LOG = LoggerFactory.getLogger(EncryptTask.class);
 
-    private int totalSteps;
-    private PDDocumentHandler documentHandler = null;
+    private final OpenResources documents = new OpenResources();
     private MultipleOutputWriter outputWriter;
     private PdfSourceOpener<PDDocumentHandler> documentLoader;
+    private MultipleSourcesProcessor<PdfSource<?>> sourcesProcessor;
     private StandardSecurity security;
 
     @Override
     public void before(EncryptParameters parameters, TaskExecutionContext executionContext) throws TaskException {
         super.before(parameters, executionContext);
-        totalSteps = parameters.getSourceList().size();
         documentLoader = new DefaultPdfSourceOpener();
         outputWriter = OutputWriters.newMultipleOutputWriter(parameters.getExistingOutputPolicy(), executionContext);
+        sourcesProcessor = new MultipleSourcesProcessor<>(executionContext, parameters.getSourcesParallelism());
         security = securityFromParams(parameters);
     }
 
     @Override
     public void execute(EncryptParameters parameters) throws TaskException {
-        int currentStep = 0;
-
-        for (PdfSource<?> source : parameters.getSourceList()) {
-            executionContext().assertTaskNotCancelled();
-            currentStep++;
+        sourcesProcessor.process(parameters.getSourceList(), (source, fileNumber, outputs) -> {
             LOG.debug("Opening {}", source);
+            PDDocumentHandler documentHandler = documents.add(source.open(documentLoader));
             try {
-                documentHandler = source.open(documentLoader);
                 documentHandler.setCreatorOnPDDocument();
 
                 File tmpFile = createTemporaryPdfBuffer();
@@ -88,14 +85,12 @@ public class EncryptTask extends BaseTask<EncryptParameters> {
                 documentHandler.savePDDocument(tmpFile, security);
 
                 String outName = nameGenerator(parameters.getOutputPrefix())
-                        .generate(nameRequest().originalName(source.getName()).fileNumber(currentStep));
-                outputWriter.addOutput(file(tmpFile).name(outName));
+                        .generate(nameRequest().originalName(source.getName()).fileNumber(fileNumber));
+                outputs.accept(file(tmpFile).name(outName));
             } finally {
-                nullSafeCloseQuietly(documentHandler);
+                documents.close(documentHandler);
             }
-
-            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(currentStep).outOf(totalSteps);
-        }
+        }, outputWriter);
 
         parameters.getOutput().accept(outputWriter);
         LOG.debug("Input documents encrypted using {}, standard security handler revision {} and written to {}",
@@ -106,6 +101,6 @@ public class EncryptTask extends BaseTask<EncryptParameters> {
 
     @Override
     public void after() {
-        nullSafeCloseQuietly(documentHandler);
+        nullSafeCloseQuietly(documents);
     }
 }
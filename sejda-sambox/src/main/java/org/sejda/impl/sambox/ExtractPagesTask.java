@@ -19,7 +19,6 @@
 package org.sejda.impl.sambox;
 
 import static org.sejda.common.ComponentsUtility.nullSafeCloseQuietly;
-import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
 import static org.sejda.core.support.io.IOUtils.createTemporaryPdfBuffer;
 import static org.sejda.core.support.io.model.FileOutput.file;
 import static org.sejda.core.support.prefix.NameGenerator.nameGenerator;
@@ -28,6 +27,8 @@ import static org.sejda.core.support.prefix.model.NameGenerationRequest.nameRequ
 import java.io.File;
 import java.util.Set;
 
+import org.sejda.core.support.concurrent.MultipleSourcesProcessor;
+import org.sejda.core.support.concurrent.OpenResources;
 import org.sejda.core.support.io.MultipleOutputWriter;
 import org.sejda.core.support.io.OutputWriters;
 import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
@@ -55,37 +56,31 @@ public class ExtractPagesTask extends BaseTask<ExtractPagesParameters> {
 
     private static final Logger LOG = LoggerFactory.getLogger(ExtractPagesTask.class);
 
-    private PagesExtractor extractor = null;
+    private final OpenResources documents = new OpenResources();
     private MultipleOutputWriter outputWriter;
     private PdfSourceOpener<PDDocumentHandler> documentLoader;
-    private PDDocumentHandler sourceDocumentHandler;
+    private MultipleSourcesProcessor<PdfSource<?>> sourcesProcessor;
 
     @Override
     public void before(ExtractPagesParameters parameters, TaskExecutionContext executionContext) throws TaskException {
         super.before(parameters, executionContext);
         documentLoader = new DefaultPdfSourceOpener();
         outputWriter = OutputWriters.newMultipleOutputWriter(parameters.getExistingOutputPolicy(), executionContext);
+        sourcesProcessor = new MultipleSourcesProcessor<>(executionContext, parameters.getSourcesParallelism());
     }
 
     @Override
     public void execute(ExtractPagesParameters parameters) throws TaskException {
-        int currentStep = 0;
-        int totalSteps = parameters.getSourceList().size();
-
-        for(PdfSource<?> source : parameters.getSourceList()) {
-            executionContext().assertTaskNotCancelled();
-
-            currentStep++;
-
+        sourcesProcessor.process(parameters.getSourceList(), (source, fileNumber, outputs) -> {
             LOG.debug("Opening {}", source);
-            sourceDocumentHandler = source.open(documentLoader);
+            PDDocumentHandler sourceDocumentHandler = documents.add(source.open(documentLoader));
             sourceDocumentHandler.getPermissions().ensurePermission(PdfAccessPermission.ASSEMBLE);
 
             Set<Integer> pages = parameters.getPages(sourceDocumentHandler.getNumberOfPages());
             if (pages == null || pages.isEmpty()) {
                 throw new TaskExecutionException("No page has been selected for extraction.");
             }
-            extractor = new PagesExtractor(sourceDocumentHandler.getUnderlyingPDDocument());
+            PagesExtractor extractor = documents.add(new PagesExtractor(sourceDocumentHandler.getUnderlyingPDDocument()));
             extractor.setVersion(parameters.getVersion());
             extractor.setCompress(parameters.isCompress());
 
@@ -100,14 +95,13 @@ public class ExtractPagesTask extends BaseTask<ExtractPagesParameters> {
             }
             extractor.save(tmpFile, parameters.discardOutline());
 
-            nullSafeCloseQuietly(sourceDocumentHandler);
+            documents.close(sourceDocumentHandler);
+            documents.close(extractor);
 
             String outName = nameGenerator(parameters.getOutputPrefix()).generate(
-                    nameRequest().originalName(source.getName()).fileNumber(currentStep));
-            outputWriter.addOutput(file(tmpFile).name(outName));
-
-            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(currentStep).outOf(totalSteps);
-        }
+                    nameRequest().originalName(source.getName()).fileNumber(fileNumber));
+            outputs.accept(file(tmpFile).name(outName));
+        }, outputWriter);
 
         parameters.getOutput().accept(outputWriter);
         LOG.debug("Pages extracted and written to {}", parameters.getOutput());
@@ -115,12 +109,7 @@ public class ExtractPagesTask extends BaseTask<ExtractPagesParameters> {
 
     @Override
     public void after() {
-        closeResource();
-    }
-
-    private void closeResource() {
-        nullSafeCloseQuietly(sourceDocumentHandler);
-        nullSafeCloseQuietly(extractor);
+        nullSafeCloseQuietly(documents);
     }
 
 }
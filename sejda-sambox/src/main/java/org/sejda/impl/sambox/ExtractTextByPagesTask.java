@@ -20,19 +20,21 @@ package org.sejda.impl.sambox;
 
 import static org.sejda.common.ComponentsUtility.nullSafeCloseQuietly;
 import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
-import static org.sejda.core.support.io.IOUtils.createTemporaryBuffer;
 import static org.sejda.core.support.io.model.FileOutput.file;
 import static org.sejda.core.support.prefix.NameGenerator.nameGenerator;
 import static org.sejda.core.support.prefix.model.NameGenerationRequest.nameRequest;
 
-import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
+import org.apache.commons.lang3.mutable.MutableInt;
+
 import org.sejda.core.support.io.MultipleOutputWriter;
 import org.sejda.core.support.io.OutputWriters;
 import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
 import org.sejda.impl.sambox.component.PDDocumentHandler;
-import org.sejda.impl.sambox.component.PdfTextExtractor;
+import org.sejda.impl.sambox.component.PagesTextExtractor;
 import org.sejda.model.SejdaFileExtensions;
 import org.sejda.model.exception.TaskException;
 import org.sejda.model.exception.TaskExecutionException;
@@ -81,28 +83,25 @@ public class ExtractTextByPagesTask extends BaseTask<ExtractTextByPagesParameter
             throw new TaskExecutionException("No page has been selected for extraction.");
         }
 
-        int currentStep = 0;
-        int totalSteps = pages.size();
-
+        // file numbers follow the pages selection order, while pages are extracted in document order
+        Map<Integer, Integer> fileNumbers = new HashMap<>();
         for (Integer current : pages) {
-            executionContext().assertTaskNotCancelled();
-            currentStep++;
-            LOG.debug("Extracting text from page {}", current);
-
-            File tmpFile = createTemporaryBuffer();
-            LOG.debug("Created output on temporary buffer {}", tmpFile);
-
-            PdfTextExtractor textExtractor = new PdfTextExtractor(parameters.getTextEncoding(), current, current);
-            textExtractor.extract(documentHandler.getUnderlyingPDDocument(), tmpFile);
-            String outName = nameGenerator(parameters.getOutputPrefix()).generate(
-                    nameRequest(SejdaFileExtensions.TXT_EXTENSION).page(current)
-                            .originalName(parameters.getSource().getName()).fileNumber(currentStep));
-            outputWriter.addOutput(file(tmpFile).name(outName));
-
-            // close resource
-            nullSafeCloseQuietly(textExtractor);
-            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(currentStep).outOf(totalSteps);
+            fileNumbers.put(current, fileNumbers.size() + 1);
         }
+        int totalSteps = pages.size();
+        MutableInt currentStep = new MutableInt(0);
+
+        new PagesTextExtractor(parameters.getTextEncoding()).extract(documentHandler.getUnderlyingPDDocument(), pages,
+                (page, tmpFile) -> {
+                    executionContext().assertTaskNotCancelled();
+                    String outName = nameGenerator(parameters.getOutputPrefix())
+                            .generate(nameRequest(SejdaFileExtensions.TXT_EXTENSION).page(page)
+                                    .originalName(parameters.getSource().getName()).fileNumber(fileNumbers.get(page)));
+                    outputWriter.addOutput(file(tmpFile).name(outName));
+                    currentStep.increment();
+                    notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(currentStep.intValue())
+                            .outOf(totalSteps);
+                });
 
         parameters.getOutput().accept(outputWriter);
         LOG.debug("Text extracted from input documents and written to {}", parameters.getOutput());
@@ -19,7 +19,6 @@
 package org.sejda.impl.sambox;
 
 import static org.sejda.common.ComponentsUtility.nullSafeCloseQuietly;
-import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
 import static org.sejda.core.support.io.IOUtils.createTemporaryBuffer;
 import static org.sejda.core.support.io.model.FileOutput.file;
 import static org.sejda.core.support.prefix.NameGenerator.nameGenerator;
@@ -27,6 +26,8 @@ import static org.sejda.core.support.prefix.model.NameGenerationRequest.nameRequ
 
 import java.io.File;
 
+import org.sejda.core.support.concurrent.MultipleSourcesProcessor;
+import org.sejda.core.support.concurrent.OpenResources;
 import org.sejda.core.support.io.MultipleOutputWriter;
 import org.sejda.core.support.io.OutputWriters;
 import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
@@ -52,45 +53,39 @@ public class ExtractTextTask extends BaseTask<ExtractTextParameters> {
 
     private static final Logger LOG = LoggerFactory.getLogger(ExtractTextTask.class);
 
-    private int totalSteps;
-    private PDDocumentHandler documentHandler = null;
+    private final OpenResources documents = new OpenResources();
     private MultipleOutputWriter outputWriter;
     private PdfSourceOpener<PDDocumentHandler> documentLoader;
-    private PdfTextExtractor textExtractor;
+    private MultipleSourcesProcessor<PdfSource<?>> sourcesProcessor;
 
     @Override
     public void before(ExtractTextParameters parameters, TaskExecutionContext executionContext) throws TaskException {
         super.before(parameters, executionContext);
-        totalSteps = parameters.getSourceList().size();
         documentLoader = new DefaultPdfSourceOpener();
-        textExtractor = new PdfTextExtractor(parameters.getTextEncoding());
         outputWriter = OutputWriters.newMultipleOutputWriter(parameters.getExistingOutputPolicy(), executionContext);
+        sourcesProcessor = new MultipleSourcesProcessor<>(executionContext, parameters.getSourcesParallelism());
     }
 
     @Override
     public void execute(ExtractTextParameters parameters) throws TaskException {
-        int currentStep = 0;
-        for (PdfSource<?> source : parameters.getSourceList()) {
-            executionContext().assertTaskNotCancelled();
-
-            currentStep++;
+        sourcesProcessor.process(parameters.getSourceList(), (source, fileNumber, outputs) -> {
             LOG.debug("Opening {}", source);
-            documentHandler = source.open(documentLoader);
+            PDDocumentHandler documentHandler = documents.add(source.open(documentLoader));
             documentHandler.getPermissions().ensurePermission(PdfAccessPermission.COPY_AND_EXTRACT);
 
             File tmpFile = createTemporaryBuffer();
             LOG.debug("Created output on temporary buffer {}", tmpFile);
 
+            PdfTextExtractor textExtractor = documents.add(new PdfTextExtractor(parameters.getTextEncoding()));
             textExtractor.extract(documentHandler.getUnderlyingPDDocument(), tmpFile);
             String outName = nameGenerator(parameters.getOutputPrefix()).generate(
                     nameRequest(SejdaFileExtensions.TXT_EXTENSION).originalName(source.getName()).fileNumber(
-                            currentStep));
-            outputWriter.addOutput(file(tmpFile).name(outName));
-
-            closeResources();
+                            fileNumber));
+            outputs.accept(file(tmpFile).name(outName));
 
-            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(currentStep).outOf(totalSteps);
-        }
+            documents.close(documentHandler);
+            documents.close(textExtractor);
+        }, outputWriter);
 
         parameters.getOutput().accept(outputWriter);
         LOG.debug("Text extracted from input documents and written to {}", parameters.getOutput());
@@ -99,11 +94,6 @@ public class ExtractTextTask extends BaseTask<ExtractTextParameters> {
 
     @Override
     public void after() {
-        closeResources();
-    }
-
-    private void closeResources() {
-        nullSafeCloseQuietly(documentHandler);
-        nullSafeCloseQuietly(textExtractor);
+        nullSafeCloseQuietly(documents);
     }
 }
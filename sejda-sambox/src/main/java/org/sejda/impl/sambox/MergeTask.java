@@ -39,6 +39,7 @@ import org.sejda.core.support.io.SingleOutputWriter;
 import org.sejda.impl.sambox.component.AcroFormsMerger;
 import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
 import org.sejda.impl.sambox.component.FilenameFooterWriter;
+import org.sejda.impl.sambox.component.MergeInputsPreloader;
 import org.sejda.impl.sambox.component.OutlineMerger;
 import org.sejda.impl.sambox.component.PDDocumentHandler;
 import org.sejda.impl.sambox.component.TableOfContentsCreator;
@@ -108,9 +109,12 @@ public class MergeTask extends BaseTask<MergeParameters> {
         this.footerWriter = new FilenameFooterWriter(parameters.isFilenameFooter(),
                 this.destinationDocument.getUnderlyingPDDocument());
 
+        MergeInputsPreloader inputsLoader = new MergeInputsPreloader(parameters.getInputList(), sourceOpener,
+                parameters.getInputsLookAhead());
+        toClose.add(inputsLoader);
+
         for (PdfMergeInput input : parameters.getInputList()) {
-            LOG.debug("Opening {}", input.getSource());
-            PDDocumentHandler sourceDocumentHandler = input.getSource().open(sourceOpener);
+            PDDocumentHandler sourceDocumentHandler = inputsLoader.next();
             toClose.add(sourceDocumentHandler);
 
             LOG.debug("Adding pages");
@@ -19,6 +19,8 @@
 package org.sejda.impl.sambox;
 
 import org.sejda.common.LookupTable;
+import org.sejda.core.support.concurrent.MultipleSourcesProcessor;
+import org.sejda.core.support.concurrent.OpenResources;
 import org.sejda.core.support.io.MultipleOutputWriter;
 import org.sejda.core.support.io.OutputWriters;
 import org.sejda.impl.sambox.component.AcroFormsMerger;
@@ -46,7 +48,6 @@ import java.io.File;
 import java.io.IOException;
 
 import static org.sejda.common.ComponentsUtility.nullSafeCloseQuietly;
-import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
 import static org.sejda.core.support.io.IOUtils.createTemporaryPdfBuffer;
 import static org.sejda.core.support.io.model.FileOutput.file;
 import static org.sejda.core.support.prefix.NameGenerator.nameGenerator;
@@ -57,41 +58,34 @@ import static org.sejda.impl.sambox.component.SignatureClipper.clipSignatures;
 public class NupTask extends BaseTask<NupParameters> {
     private static final Logger LOG = LoggerFactory.getLogger(NupTask.class);
 
-    private PDDocumentHandler sourceDocumentHandler = null;
-    private PDDocumentHandler destinationDocument = null;
+    private final OpenResources documents = new OpenResources();
     private MultipleOutputWriter outputWriter;
     private PdfSourceOpener<PDDocumentHandler> documentLoader;
-    private LookupTable<PDPage> pagesLookup = new LookupTable<>();
-    private AcroFormsMerger acroFormsMerger;
+    private MultipleSourcesProcessor<PdfSource<?>> sourcesProcessor;
 
     @Override
     public void before(NupParameters parameters, TaskExecutionContext executionContext) throws TaskException {
         super.before(parameters, executionContext);
         documentLoader = new DefaultPdfSourceOpener();
         outputWriter = OutputWriters.newMultipleOutputWriter(parameters.getExistingOutputPolicy(), executionContext);
+        sourcesProcessor = new MultipleSourcesProcessor<>(executionContext, parameters.getSourcesParallelism());
     }
 
     @Override
     public void execute(NupParameters parameters) throws TaskException {
-        int currentStep = 0;
-        int totalSteps = parameters.getSourceList().size();
-        for (PdfSource<?> source : parameters.getSourceList()) {
-            executionContext().assertTaskNotCancelled();
-
-            currentStep++;
-
+        sourcesProcessor.process(parameters.getSourceList(), (source, fileNumber, outputs) -> {
             LOG.debug("Opening {}", source);
-            sourceDocumentHandler = source.open(documentLoader);
+            PDDocumentHandler sourceDocumentHandler = documents.add(source.open(documentLoader));
 
             File tmpFile = createTemporaryPdfBuffer();
             LOG.debug("Created output temporary buffer {}", tmpFile);
-            this.destinationDocument = new PDDocumentHandler();
+            PDDocumentHandler destinationDocument = documents.add(new PDDocumentHandler());
             destinationDocument.setVersionOnPDDocument(parameters.getVersion());
             destinationDocument.initialiseBasedOn(sourceDocumentHandler.getUnderlyingPDDocument());
             destinationDocument.setCompress(parameters.isCompress());
 
-            this.acroFormsMerger = new AcroFormsMerger(AcroFormPolicy.MERGE_RENAMING_EXISTING_FIELDS,
-                    this.destinationDocument.getUnderlyingPDDocument());
+            AcroFormsMerger acroFormsMerger = new AcroFormsMerger(AcroFormPolicy.MERGE_RENAMING_EXISTING_FIELDS,
+                    destinationDocument.getUnderlyingPDDocument());
 
             int numberOfPages = sourceDocumentHandler.getNumberOfPages();
 
@@ -197,7 +191,7 @@ public class NupTask extends BaseTask<NupParameters> {
             }
 
 
-            LookupTable<PDAnnotation> annotations = processAnnotations(pagesLookup,
+            LookupTable<PDAnnotation> annotations = processAnnotations(new LookupTable<PDPage>(),
                     sourceDocumentHandler.getUnderlyingPDDocument());
             clipSignatures(annotations.values());
 
@@ -210,14 +204,13 @@ public class NupTask extends BaseTask<NupParameters> {
             }
 
             destinationDocument.savePDDocument(tmpFile);
-            nullSafeCloseQuietly(sourceDocumentHandler);
+            documents.close(sourceDocumentHandler);
+            documents.close(destinationDocument);
 
             String outName = nameGenerator(parameters.getOutputPrefix()).generate(
-                    nameRequest().originalName(source.getName()).fileNumber(currentStep));
-            outputWriter.addOutput(file(tmpFile).name(outName));
-
-            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(currentStep).outOf(totalSteps);
-        }
+                    nameRequest().originalName(source.getName()).fileNumber(fileNumber));
+            outputs.accept(file(tmpFile).name(outName));
+        }, outputWriter);
 
         parameters.getOutput().accept(outputWriter);
         LOG.debug("Input documents cropped and written to {}", parameters.getOutput());
@@ -225,8 +218,6 @@ public class NupTask extends BaseTask<NupParameters> {
 
     @Override
     public void after() {
-        nullSafeCloseQuietly(sourceDocumentHandler);
-        pagesLookup.clear();
-        nullSafeCloseQuietly(destinationDocument);
+        nullSafeCloseQuietly(documents);
     }
 }
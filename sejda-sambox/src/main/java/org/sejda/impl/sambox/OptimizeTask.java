@@ -17,7 +17,6 @@
 package org.sejda.impl.sambox;
 
 import static org.sejda.common.ComponentsUtility.nullSafeCloseQuietly;
-import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
 import static org.sejda.core.support.io.IOUtils.createTemporaryPdfBuffer;
 import static org.sejda.core.support.io.model.FileOutput.file;
 import static org.sejda.core.support.prefix.NameGenerator.nameGenerator;
@@ -25,6 +24,8 @@ import static org.sejda.core.support.prefix.model.NameGenerationRequest.nameRequ
 
 import java.io.File;
 
+import org.sejda.core.support.concurrent.MultipleSourcesProcessor;
+import org.sejda.core.support.concurrent.OpenResources;
 import org.sejda.core.support.io.MultipleOutputWriter;
 import org.sejda.core.support.io.OutputWriters;
 import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
@@ -48,43 +49,39 @@ public class OptimizeTask extends BaseTask<OptimizeParameters> {
 
     private static final Logger LOG = LoggerFactory.getLogger(OptimizeTask.class);
 
-    private int totalSteps;
-    private PDDocumentHandler documentHandler = null;
+    private final OpenResources documents = new OpenResources();
     private MultipleOutputWriter outputWriter;
-    private DocumentOptimizer documentOptimizer;
-    private PagesOptimizer pagesOptimizer;
     private PdfSourceOpener<PDDocumentHandler> documentLoader;
+    private MultipleSourcesProcessor<PdfSource<?>> sourcesProcessor;
 
     @Override
     public void before(OptimizeParameters parameters, TaskExecutionContext executionContext) throws TaskException {
         super.before(parameters, executionContext);
-        totalSteps = parameters.getSourceList().size();
         documentLoader = new DefaultPdfSourceOpener();
         outputWriter = OutputWriters.newMultipleOutputWriter(parameters.getExistingOutputPolicy(), executionContext);
+        sourcesProcessor = new MultipleSourcesProcessor<>(executionContext, parameters.getSourcesParallelism());
     }
 
     @Override
     public void execute(OptimizeParameters parameters) throws TaskException {
-
-        int currentStep = 0;
-        for (PdfSource<?> source : parameters.getSourceList()) {
-            executionContext().assertTaskNotCancelled();
-            currentStep++;
+        sourcesProcessor.process(parameters.getSourceList(), (source, fileNumber, outputs) -> {
             LOG.debug("Opening {}", source);
-            documentHandler = source.open(documentLoader);
+            PDDocumentHandler documentHandler = documents.add(source.open(documentLoader));
             documentHandler.setCreatorOnPDDocument();
 
             File tmpFile = createTemporaryPdfBuffer();
             LOG.debug("Created output on temporary buffer {}", tmpFile);
 
-            documentOptimizer = new DocumentOptimizer(parameters.getOptimizations());
-            pagesOptimizer = new PagesOptimizer(parameters);
+            DocumentOptimizer documentOptimizer = new DocumentOptimizer(parameters.getOptimizations());
+            PagesOptimizer pagesOptimizer = documents.add(new PagesOptimizer(parameters));
 
             LOG.debug("Starting optimization");
             for (PDPage p : documentHandler.getPages()) {
                 executionContext().assertTaskNotCancelled();
                 pagesOptimizer.accept(p);
             }
+            executionContext().assertTaskNotCancelled();
+            pagesOptimizer.complete();
             documentOptimizer.accept(documentHandler.getUnderlyingPDDocument());
 
             documentHandler.setVersionOnPDDocument(parameters.getVersion());
@@ -92,13 +89,12 @@ public class OptimizeTask extends BaseTask<OptimizeParameters> {
             documentHandler.savePDDocument(tmpFile);
 
             String outName = nameGenerator(parameters.getOutputPrefix())
-                    .generate(nameRequest().originalName(source.getName()).fileNumber(currentStep));
-            outputWriter.addOutput(file(tmpFile).name(outName));
-
-            nullSafeCloseQuietly(documentHandler);
+                    .generate(nameRequest().originalName(source.getName()).fileNumber(fileNumber));
+            outputs.accept(file(tmpFile).name(outName));
 
-            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(currentStep).outOf(totalSteps);
-        }
+            documents.close(documentHandler);
+            documents.close(pagesOptimizer);
+        }, outputWriter);
 
         parameters.getOutput().accept(outputWriter);
         LOG.debug("Input documents optimized and written to {}", parameters.getOutput());
@@ -106,7 +102,7 @@ public class OptimizeTask extends BaseTask<OptimizeParameters> {
 
     @Override
     public void after() {
-        nullSafeCloseQuietly(documentHandler);
+        nullSafeCloseQuietly(documents);
     }
 
 }
@@ -23,6 +23,8 @@ import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.sejda.core.support.concurrent.MultipleSourcesProcessor;
+import org.sejda.core.support.concurrent.OpenResources;
 import org.sejda.core.support.io.MultipleOutputWriter;
 import org.sejda.core.support.io.OutputWriters;
 import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
@@ -48,7 +50,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.sejda.common.ComponentsUtility.nullSafeCloseQuietly;
-import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
 import static org.sejda.core.support.io.IOUtils.createTemporaryBuffer;
 import static org.sejda.core.support.io.model.FileOutput.file;
 import static org.sejda.core.support.prefix.NameGenerator.nameGenerator;
@@ -57,34 +58,29 @@ import static org.sejda.core.support.prefix.model.NameGenerationRequest.nameRequ
 public class PdfToExcelTask extends BaseTask<PdfToExcelParameters> {
     private static final Logger LOG = LoggerFactory.getLogger(PdfToExcelTask.class);
 
-    private PDDocumentHandler sourceDocumentHandler = null;
-    private PDDocumentHandler destinationDocument = null;
+    private final OpenResources documents = new OpenResources();
     private MultipleOutputWriter outputWriter;
     private PdfSourceOpener<PDDocumentHandler> documentLoader;
+    private MultipleSourcesProcessor<PdfSource<?>> sourcesProcessor;
 
     @Override
     public void before(PdfToExcelParameters parameters, TaskExecutionContext executionContext) throws TaskException {
         super.before(parameters, executionContext);
         documentLoader = new DefaultPdfSourceOpener();
         outputWriter = OutputWriters.newMultipleOutputWriter(parameters.getExistingOutputPolicy(), executionContext);
+        sourcesProcessor = new MultipleSourcesProcessor<>(executionContext, parameters.getSourcesParallelism());
     }
 
     @Override
     public void execute(PdfToExcelParameters parameters) throws TaskException {
-        int currentStep = 0;
-        int totalSteps = parameters.getSourceList().size();
-        for (PdfSource<?> source : parameters.getSourceList()) {
-            executionContext().assertTaskNotCancelled();
-
-            currentStep++;
-
+        sourcesProcessor.process(parameters.getSourceList(), (source, fileNumber, outputs) -> {
             LOG.debug("Opening {}", source);
-            sourceDocumentHandler = source.open(documentLoader);
+            PDDocumentHandler sourceDocumentHandler = documents.add(source.open(documentLoader));
 
             File tmpFile = createTemporaryBuffer(".xlsx");
             LOG.debug("Created output temporary buffer {}", tmpFile);
 
-            this.destinationDocument = new PDDocumentHandler();
+            PDDocumentHandler destinationDocument = documents.add(new PDDocumentHandler());
             destinationDocument.setVersionOnPDDocument(parameters.getVersion());
             destinationDocument.initialiseBasedOn(sourceDocumentHandler.getUnderlyingPDDocument());
             destinationDocument.setCompress(parameters.isCompress());
@@ -126,13 +122,12 @@ public class PdfToExcelTask extends BaseTask<PdfToExcelParameters> {
             writeExcelFile(all, tmpFile);
 
             String outName = nameGenerator(parameters.getOutputPrefix()).generate(
-                    nameRequest("xlsx").originalName(source.getName()).fileNumber(currentStep));
-            outputWriter.addOutput(file(tmpFile).name(outName));
+                    nameRequest("xlsx").originalName(source.getName()).fileNumber(fileNumber));
+            outputs.accept(file(tmpFile).name(outName));
 
-            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(currentStep).outOf(totalSteps);
-
-            nullSafeCloseQuietly(sourceDocumentHandler);
-        }
+            documents.close(sourceDocumentHandler);
+            documents.close(destinationDocument);
+        }, outputWriter);
 
         parameters.getOutput().accept(outputWriter);
         LOG.debug("Input documents cropped and written to {}", parameters.getOutput());
@@ -170,7 +165,6 @@ public class PdfToExcelTask extends BaseTask<PdfToExcelParameters> {
 
     @Override
     public void after() {
-        nullSafeCloseQuietly(sourceDocumentHandler);
-        nullSafeCloseQuietly(destinationDocument);
+        nullSafeCloseQuietly(documents);
     }
 }
@@ -27,17 +27,27 @@ import static org.sejda.core.support.prefix.model.NameGenerationRequest.nameRequ
 
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.apache.commons.lang3.mutable.MutableInt;
 import org.sejda.core.support.io.MultipleOutputWriter;
 import org.sejda.core.support.io.OutputWriters;
+import org.sejda.core.support.io.StreamingOutput;
 import org.sejda.core.writer.context.ImageWriterContext;
 import org.sejda.core.writer.model.ImageWriter;
 import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
 import org.sejda.impl.sambox.component.PDDocumentHandler;
+import org.sejda.impl.sambox.component.ParallelPagesRenderer;
+import org.sejda.impl.sambox.component.ParallelPagesRenderer.EncodedPageHandler;
+import org.sejda.impl.sambox.component.ParallelPagesRenderer.RenderedPageHandler;
 import org.sejda.model.exception.TaskException;
 import org.sejda.model.exception.TaskExecutionException;
+import org.sejda.model.image.RasterizationMode;
+import org.sejda.model.input.PdfFileSource;
 import org.sejda.model.input.PdfSourceOpener;
+import org.sejda.model.output.StreamTaskOutput;
 import org.sejda.model.parameter.image.PdfToJpegParameters;
 import org.sejda.model.task.BaseTask;
 import org.sejda.model.task.TaskExecutionContext;
@@ -49,15 +59,36 @@ public class PdfToMultipleImageTask extends BaseTask<PdfToJpegParameters> {
     private static final Logger LOG = LoggerFactory.getLogger(PdfToMultipleImageTask.class);
 
     private MultipleOutputWriter outputWriter;
+    private StreamingOutput streamingOutput;
     private PdfSourceOpener<PDDocumentHandler> sourceOpener = new DefaultPdfSourceOpener();
     private PDDocumentHandler documentHandler = null;
     private ImageWriter<PdfToJpegParameters> writer;
+    // image writers are not thread safe, each rendering thread encodes its images with its own writer
+    private final ThreadLocal<ImageWriter<PdfToJpegParameters>> workerWriter = new ThreadLocal<>();
+    private final List<ImageWriter<PdfToJpegParameters>> workerWriters = new CopyOnWriteArrayList<>();
 
     @Override
     public void before(PdfToJpegParameters parameters, TaskExecutionContext executionContext) throws TaskException {
         super.before(parameters, executionContext);
+        if (parameters.getRasterizationMode() != RasterizationMode.FULL_PAGE) {
+            throw new TaskExecutionException(
+                    String.format("Rasterization mode %s is not supported, pages can only be rasterized as %s",
+                            parameters.getRasterizationMode(), RasterizationMode.FULL_PAGE));
+        }
         outputWriter = OutputWriters.newMultipleOutputWriter(parameters.getExistingOutputPolicy(), executionContext);
-        writer = ImageWriterContext.getContext().getImageWriterFactory().createImageWriter(parameters);
+        streamingOutput = null;
+        if (parameters.getOutput() instanceof StreamTaskOutput) {
+            // images are encoded directly to the destination zip stream, no temporary buffers to copy them from
+            streamingOutput = StreamingOutput.zipped((StreamTaskOutput) parameters.getOutput(), executionContext);
+        }
+        writer = newImageWriter(parameters);
+        LOG.trace("Found image writer {}", writer);
+    }
+
+    private static ImageWriter<PdfToJpegParameters> newImageWriter(PdfToJpegParameters parameters)
+            throws TaskExecutionException {
+        ImageWriter<PdfToJpegParameters> writer = ImageWriterContext.getContext().getImageWriterFactory()
+                .createImageWriter(parameters);
         if (writer == null) {
             LOG.info("Unable to create an ImageWriter using the provided factory, falling back on default factory.");
             writer = ImageWriterContext.getContext().getDefaultImageWriterFactory().createImageWriter(parameters);
@@ -65,7 +96,7 @@ public class PdfToMultipleImageTask extends BaseTask<PdfToJpegParameters> {
         if (writer == null) {
             throw new TaskExecutionException(String.format("No suitable ImageWriter found for %s.", parameters));
         }
-        LOG.trace("Found image writer {}", writer);
+        return writer;
     }
 
     @Override
@@ -77,39 +108,97 @@ public class PdfToMultipleImageTask extends BaseTask<PdfToJpegParameters> {
             throw new TaskExecutionException("No page has been selected for conversion.");
         }
 
-        int currentStep = 0;
         int totalSteps = requestedPages.size();
         LOG.trace("Found {} pages to convert", totalSteps);
 
-        for (int currentPage : requestedPages) {
-            currentStep++;
-
-            File tmpFile = createTemporaryBuffer();
-            LOG.debug("Created output temporary buffer {} ", tmpFile);
-            LOG.trace("Writing page {}", currentPage);
+        MutableInt currentStep = new MutableInt(0);
+        EncodedPageHandler<File> encodedPageWriter = (currentPage, encoded) -> {
+            currentStep.increment();
+            outputWriter.addOutput(file(encoded).name(outName(parameters, currentPage, currentStep.intValue())));
+            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(currentStep.intValue())
+                    .outOf(totalSteps);
+        };
+        RenderedPageHandler encoder = (currentPage, pageImage) -> {
+            if (streamingOutput != null) {
+                currentStep.increment();
+                streamingOutput.write(outName(parameters, currentPage, currentStep.intValue()), out -> {
+                    writer.openWriteDestination(out, parameters);
+                    LOG.trace("Writing page {}", currentPage);
+                    writer.write(pageImage, parameters);
+                    writer.closeDestination();
+                });
+                notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(currentStep.intValue())
+                        .outOf(totalSteps);
+            } else {
+                encodedPageWriter.onPage(currentPage, encode(writer, currentPage, pageImage, parameters));
+            }
+        };
+
+        int parallelism = Math.min(parameters.getRenderingParallelism(), totalSteps);
+        // each rendering thread opens its own instance of the document so the source must be one we can open multiple times
+        if (parallelism > 1 && parameters.getSource() instanceof PdfFileSource) {
+            try (ParallelPagesRenderer renderer = new ParallelPagesRenderer(parameters.getSource(), sourceOpener,
+                    parallelism)) {
+                if (streamingOutput != null) {
+                    // images are written one after the other to the zip stream, they are encoded on this thread in pages order
+                    renderer.render(requestedPages, parameters.getResolutionInDpi(), encoder);
+                } else {
+                    // each image goes to its own buffer, they are encoded by the rendering threads and named in pages order here
+                    renderer.render(requestedPages, parameters.getResolutionInDpi(),
+                            (currentPage, pageImage) -> encode(workerWriter(parameters), currentPage, pageImage,
+                                    parameters),
+                            encodedPageWriter);
+                }
+            }
+        } else {
+            for (int currentPage : requestedPages) {
+                LOG.trace("Rendering page {}", currentPage);
+                encoder.onPage(currentPage,
+                        documentHandler.renderImage(currentPage, parameters.getResolutionInDpi()));
+            }
+        }
 
-            BufferedImage pageImage = documentHandler.renderImage(currentPage, parameters.getResolutionInDpi());
+        if (streamingOutput != null) {
+            streamingOutput.finish();
+        } else {
+            parameters.getOutput().accept(outputWriter);
+        }
+        LOG.debug("Document converted to {} and saved to {}", parameters.getOutputImageType(), parameters.getOutput());
+    }
 
-            writer.openWriteDestination(tmpFile, parameters);
-            LOG.trace("Writing page {}", currentPage);
-            writer.write(pageImage, parameters);
-            writer.closeDestination();
+    private String outName(PdfToJpegParameters parameters, int page, int fileNumber) {
+        return nameGenerator(parameters.getOutputPrefix())
+                .generate(nameRequest(parameters.getOutputImageType().getExtension()).page(page)
+                        .originalName(parameters.getSource().getName()).fileNumber(fileNumber));
+    }
 
-            String outName = nameGenerator(parameters.getOutputPrefix()).generate(
-                    nameRequest(parameters.getOutputImageType().getExtension()).page(currentPage)
-                            .originalName(parameters.getSource().getName()).fileNumber(currentStep));
-            outputWriter.addOutput(file(tmpFile).name(outName));
+    private static File encode(ImageWriter<PdfToJpegParameters> writer, int page, BufferedImage pageImage,
+            PdfToJpegParameters parameters) throws TaskException {
+        File tmpFile = createTemporaryBuffer();
+        LOG.debug("Created output temporary buffer {} ", tmpFile);
+        writer.openWriteDestination(tmpFile, parameters);
+        LOG.trace("Writing page {}", page);
+        writer.write(pageImage, parameters);
+        writer.closeDestination();
+        return tmpFile;
+    }
 
-            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(currentStep).outOf(totalSteps);
+    private ImageWriter<PdfToJpegParameters> workerWriter(PdfToJpegParameters parameters)
+            throws TaskExecutionException {
+        ImageWriter<PdfToJpegParameters> current = workerWriter.get();
+        if (current == null) {
+            current = newImageWriter(parameters);
+            workerWriters.add(current);
+            workerWriter.set(current);
         }
-
-        parameters.getOutput().accept(outputWriter);
-        LOG.debug("Document converted to {} and saved to {}", parameters.getOutputImageType(), parameters.getOutput());
+        return current;
     }
 
     @Override
     public void after() {
         nullSafeCloseQuietly(documentHandler);
         nullSafeCloseQuietly(writer);
+        workerWriters.forEach(w -> nullSafeCloseQuietly(w));
+        workerWriters.clear();
     }
 }
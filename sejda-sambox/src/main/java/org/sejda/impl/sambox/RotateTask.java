@@ -19,7 +19,6 @@
 package org.sejda.impl.sambox;
 
 import static org.sejda.common.ComponentsUtility.nullSafeCloseQuietly;
-import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
 import static org.sejda.core.support.io.IOUtils.createTemporaryPdfBuffer;
 import static org.sejda.core.support.io.model.FileOutput.file;
 import static org.sejda.core.support.prefix.NameGenerator.nameGenerator;
@@ -27,6 +26,8 @@ import static org.sejda.core.support.prefix.model.NameGenerationRequest.nameRequ
 
 import java.io.File;
 
+import org.sejda.core.support.concurrent.MultipleSourcesProcessor;
+import org.sejda.core.support.concurrent.OpenResources;
 import org.sejda.core.support.io.MultipleOutputWriter;
 import org.sejda.core.support.io.OutputWriters;
 import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
@@ -52,29 +53,25 @@ public class RotateTask extends BaseTask<RotateParameters> {
 
     private static final Logger LOG = LoggerFactory.getLogger(RotateTask.class);
 
-    private int totalSteps;
-    private PDDocumentHandler documentHandler = null;
+    private final OpenResources documents = new OpenResources();
     private MultipleOutputWriter outputWriter;
     private PdfSourceOpener<PDDocumentHandler> documentLoader;
+    private MultipleSourcesProcessor<PdfSource<?>> sourcesProcessor;
 
     @Override
     public void before(RotateParameters parameters, TaskExecutionContext executionContext) throws TaskException {
         super.before(parameters, executionContext);
-        totalSteps = parameters.getSourceList().size();
         documentLoader = new DefaultPdfSourceOpener();
         outputWriter = OutputWriters.newMultipleOutputWriter(parameters.getExistingOutputPolicy(), executionContext);
+        sourcesProcessor = new MultipleSourcesProcessor<>(executionContext, parameters.getSourcesParallelism());
     }
 
     @Override
     public void execute(RotateParameters parameters) throws TaskException {
-        int currentStep = 0;
-
-        for (PdfSource<?> source : parameters.getSourceList()) {
-            executionContext().assertTaskNotCancelled();
-            currentStep++;
+        sourcesProcessor.process(parameters.getSourceList(), (source, fileNumber, outputs) -> {
             LOG.debug("Opening {}", source);
+            PDDocumentHandler documentHandler = documents.add(source.open(documentLoader));
             try {
-                documentHandler = source.open(documentLoader);
                 documentHandler.getPermissions().ensurePermission(PdfAccessPermission.ASSEMBLE);
                 documentHandler.setCreatorOnPDDocument();
 
@@ -92,14 +89,12 @@ public class RotateTask extends BaseTask<RotateParameters> {
                 documentHandler.savePDDocument(tmpFile);
 
                 String outName = nameGenerator(parameters.getOutputPrefix())
-                        .generate(nameRequest().originalName(source.getName()).fileNumber(currentStep));
-                outputWriter.addOutput(file(tmpFile).name(outName));
+                        .generate(nameRequest().originalName(source.getName()).fileNumber(fileNumber));
+                outputs.accept(file(tmpFile).name(outName));
             } finally {
-                nullSafeCloseQuietly(documentHandler);
+                documents.close(documentHandler);
             }
-
-            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(currentStep).outOf(totalSteps);
-        }
+        }, outputWriter);
 
         parameters.getOutput().accept(outputWriter);
         LOG.debug("Input documents rotated and written to {}", parameters.getOutput());
@@ -107,7 +102,7 @@ public class RotateTask extends BaseTask<RotateParameters> {
 
     @Override
     public void after() {
-        nullSafeCloseQuietly(documentHandler);
+        nullSafeCloseQuietly(documents);
     }
 
 }
\ No newline at end of file
@@ -30,6 +30,8 @@ import static org.sejda.impl.sambox.component.SignatureClipper.clipSignatures;
 import java.io.File;
 
 import org.sejda.common.LookupTable;
+import org.sejda.core.support.concurrent.MultipleSourcesProcessor;
+import org.sejda.core.support.concurrent.OpenResources;
 import org.sejda.core.support.io.MultipleOutputWriter;
 import org.sejda.core.support.io.OutputWriters;
 import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
@@ -61,33 +63,29 @@ public class SplitDownTheMiddleTask extends BaseTask<SplitDownTheMiddleParameter
 
     private static final Logger LOG = LoggerFactory.getLogger(SplitDownTheMiddleTask.class);
 
-    private int totalSteps;
-    private PDDocumentHandler sourceHandler = null;
-    private PDDocumentHandler destinationHandler = null;
+    private final OpenResources documents = new OpenResources();
     private MultipleOutputWriter outputWriter;
     private PdfSourceOpener<PDDocumentHandler> documentLoader;
+    private MultipleSourcesProcessor<PdfSource<?>> sourcesProcessor;
 
     @Override
     public void before(SplitDownTheMiddleParameters parameters, TaskExecutionContext executionContext)
             throws TaskException {
         super.before(parameters, executionContext);
-        totalSteps = parameters.getSourceList().size();
         documentLoader = new DefaultPdfSourceOpener();
         outputWriter = OutputWriters.newMultipleOutputWriter(parameters.getExistingOutputPolicy(), executionContext);
+        sourcesProcessor = new MultipleSourcesProcessor<>(executionContext, parameters.getSourcesParallelism());
     }
 
     @Override
     public void execute(SplitDownTheMiddleParameters parameters) throws TaskException {
 
-        int currentStep = 0;
-        for (PdfSource<?> source : parameters.getSourceList()) {
-            executionContext().assertTaskNotCancelled();
-            currentStep++;
+        sourcesProcessor.process(parameters.getSourceList(), (source, fileNumber, outputs) -> {
             LOG.debug("Opening {}", source);
-            sourceHandler = source.open(documentLoader);
+            PDDocumentHandler sourceHandler = documents.add(source.open(documentLoader));
             sourceHandler.getPermissions().ensurePermission(PdfAccessPermission.COPY_AND_EXTRACT);
 
-            destinationHandler = new PDDocumentHandler();
+            PDDocumentHandler destinationHandler = documents.add(new PDDocumentHandler());
             destinationHandler.setVersionOnPDDocument(parameters.getVersion());
             destinationHandler.initialiseBasedOn(sourceHandler.getUnderlyingPDDocument());
             destinationHandler.setCompress(parameters.isCompress());
@@ -108,11 +106,11 @@ public class SplitDownTheMiddleTask extends BaseTask<SplitDownTheMiddleParameter
                         boolean leftFirst = page.getRotation() != 270 && page.getRotation() != 180;
 
                         if (leftFirst) {
-                            importLeftPage(page, lookup);
-                            importRightPage(page, lookup);
+                            importLeftPage(page, destinationHandler, lookup);
+                            importRightPage(page, destinationHandler, lookup);
                         } else {
-                            importRightPage(page, lookup);
-                            importLeftPage(page, lookup);
+                            importRightPage(page, destinationHandler, lookup);
+                            importLeftPage(page, destinationHandler, lookup);
                         }
 
                     } else {
@@ -121,11 +119,11 @@ public class SplitDownTheMiddleTask extends BaseTask<SplitDownTheMiddleParameter
                         boolean topFirst = page.getRotation() != 90 && page.getRotation() != 180;
 
                         if (topFirst) {
-                            importTopPage(page, lookup);
-                            importBottomPage(page, lookup);
+                            importTopPage(page, destinationHandler, lookup);
+                            importBottomPage(page, destinationHandler, lookup);
                         } else {
-                            importBottomPage(page, lookup);
-                            importTopPage(page, lookup);
+                            importBottomPage(page, destinationHandler, lookup);
+                            importTopPage(page, destinationHandler, lookup);
                         }
 
                     }
@@ -163,20 +161,19 @@ public class SplitDownTheMiddleTask extends BaseTask<SplitDownTheMiddleParameter
             destinationHandler.savePDDocument(tmpFile);
 
             String outName = nameGenerator(parameters.getOutputPrefix())
-                    .generate(nameRequest().originalName(source.getName()).fileNumber(currentStep));
-            outputWriter.addOutput(file(tmpFile).name(outName));
+                    .generate(nameRequest().originalName(source.getName()).fileNumber(fileNumber));
+            outputs.accept(file(tmpFile).name(outName));
 
-            closeResources();
-
-            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(currentStep).outOf(totalSteps);
-        }
+            documents.close(sourceHandler);
+            documents.close(destinationHandler);
+        }, outputWriter);
 
         parameters.getOutput().accept(outputWriter);
         LOG.debug("Text extracted from input documents and written to {}", parameters.getOutput());
 
     }
 
-    private void importLeftPage(PDPage page, LookupTable<PDPage> lookup){
+    private void importLeftPage(PDPage page, PDDocumentHandler destinationHandler, LookupTable<PDPage> lookup){
         PDRectangle trimBox = page.getTrimBox();
         PDPage leftPage = destinationHandler.importPage(page);
         lookup.addLookupEntry(page, leftPage);
@@ -191,7 +188,7 @@ public class SplitDownTheMiddleTask extends BaseTask<SplitDownTheMiddleParameter
         leftPage.setMediaBox(leftSide);
     }
 
-    private void importRightPage(PDPage page, LookupTable<PDPage> lookup){
+    private void importRightPage(PDPage page, PDDocumentHandler destinationHandler, LookupTable<PDPage> lookup){
         PDRectangle trimBox = page.getTrimBox();
         PDPage rightPage = destinationHandler.importPage(page);
         lookup.addLookupEntry(page, rightPage);
@@ -206,7 +203,7 @@ public class SplitDownTheMiddleTask extends BaseTask<SplitDownTheMiddleParameter
         rightPage.setMediaBox(rightSide);
     }
 
-    private void importTopPage(PDPage page, LookupTable<PDPage> lookup){
+    private void importTopPage(PDPage page, PDDocumentHandler destinationHandler, LookupTable<PDPage> lookup){
         PDRectangle trimBox = page.getTrimBox();
         PDPage topPage = destinationHandler.importPage(page);
         lookup.addLookupEntry(page, topPage);
@@ -221,7 +218,7 @@ public class SplitDownTheMiddleTask extends BaseTask<SplitDownTheMiddleParameter
         topPage.setMediaBox(upperSide);
     }
 
-    private void importBottomPage(PDPage page, LookupTable<PDPage> lookup){
+    private void importBottomPage(PDPage page, PDDocumentHandler destinationHandler, LookupTable<PDPage> lookup){
         PDRectangle trimBox = page.getTrimBox();
         PDPage bottomPage = destinationHandler.importPage(page);
         lookup.addLookupEntry(page, bottomPage);
@@ -238,11 +235,6 @@ public class SplitDownTheMiddleTask extends BaseTask<SplitDownTheMiddleParameter
 
     @Override
     public void after() {
-        closeResources();
-    }
-
-    private void closeResources() {
-        nullSafeCloseQuietly(sourceHandler);
-        nullSafeCloseQuietly(destinationHandler);
+        nullSafeCloseQuietly(documents);
     }
 }
@@ -21,7 +21,6 @@ package org.sejda.impl.sambox;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
 import static org.sejda.common.ComponentsUtility.nullSafeCloseQuietly;
-import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
 import static org.sejda.core.support.io.IOUtils.createTemporaryBuffer;
 import static org.sejda.core.support.io.model.FileOutput.file;
 
@@ -30,11 +29,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.apache.commons.io.FileUtils;
+import org.sejda.core.support.concurrent.MultipleSourcesProcessor;
+import org.sejda.core.support.concurrent.OpenResources;
 import org.sejda.core.support.io.MultipleOutputWriter;
 import org.sejda.core.support.io.OutputWriters;
+import org.sejda.core.support.io.model.PopulatedFileOutput;
 import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
 import org.sejda.impl.sambox.component.PDDocumentHandler;
 import org.sejda.model.exception.TaskException;
@@ -60,30 +63,25 @@ import org.slf4j.LoggerFactory;
 public class UnpackTask extends BaseTask<UnpackParameters> {
 
     private static final Logger LOG = LoggerFactory.getLogger(UnpackTask.class);
-    private int totalSteps;
-    private PDDocumentHandler sourceDocumentHandler = null;
+    private final OpenResources documents = new OpenResources();
     private MultipleOutputWriter outputWriter;
     private PdfSourceOpener<PDDocumentHandler> documentLoader;
+    private MultipleSourcesProcessor<PdfSource<?>> sourcesProcessor;
 
     @Override
     public void before(UnpackParameters parameters, TaskExecutionContext executionContext) throws TaskException {
         super.before(parameters, executionContext);
-        totalSteps = parameters.getSourceList().size();
         documentLoader = new DefaultPdfSourceOpener();
         outputWriter = OutputWriters.newMultipleOutputWriter(parameters.getExistingOutputPolicy(), executionContext);
+        sourcesProcessor = new MultipleSourcesProcessor<>(executionContext, parameters.getSourcesParallelism());
     }
 
     @Override
     public void execute(UnpackParameters parameters) throws TaskException {
-        int currentStep = 0;
-
-        for (PdfSource<?> source : parameters.getSourceList()) {
-            executionContext().assertTaskNotCancelled();
-            currentStep++;
+        sourcesProcessor.process(parameters.getSourceList(), (source, fileNumber, outputs) -> {
+            LOG.debug("Opening {}", source);
+            PDDocumentHandler sourceDocumentHandler = documents.add(source.open(documentLoader));
             try {
-                LOG.debug("Opening {}", source);
-                sourceDocumentHandler = source.open(documentLoader);
-
                 Map<String, PDComplexFileSpecification> names = new HashMap<>();
                 PDEmbeddedFilesNameTreeNode ef = ofNullable(
                         sourceDocumentHandler.getUnderlyingPDDocument().getDocumentCatalog().getNames())
@@ -93,20 +91,18 @@ public class UnpackTask extends BaseTask<UnpackParameters> {
                         .flatMap(p -> p.getAnnotations().stream()).filter(a -> a instanceof PDAnnotationFileAttachment)
                         .map(a -> (PDAnnotationFileAttachment) a).map(PDAnnotationFileAttachment::getFile)
                         .filter(f -> f instanceof PDComplexFileSpecification).map(f -> (PDComplexFileSpecification) f))
-                        .forEach(f -> unpack(f));
+                        .forEach(f -> unpack(f, outputs));
 
             } finally {
-                nullSafeCloseQuietly(sourceDocumentHandler);
+                documents.close(sourceDocumentHandler);
             }
-
-            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(currentStep).outOf(totalSteps);
-        }
+        }, outputWriter);
 
         parameters.getOutput().accept(outputWriter);
         LOG.debug("Attachments unpacked and written to {}", parameters.getOutput());
     }
 
-    private void unpack(PDComplexFileSpecification file) {
+    private void unpack(PDComplexFileSpecification file, Consumer<PopulatedFileOutput> outputs) {
 
         ofNullable(file.getBestEmbeddedFile()).ifPresent(e -> {
             try {
@@ -116,7 +112,7 @@ public class UnpackTask extends BaseTask<UnpackParameters> {
                     FileUtils.copyInputStreamToFile(is, tmpFile);
                     LOG.debug("Attachment '{}' unpacked to temporary buffer", file.getFilename());
                 }
-                outputWriter.addOutput(file(tmpFile).name(file.getFilename()));
+                outputs.accept(file(tmpFile).name(file.getFilename()));
             } catch (IOException | TaskIOException ioe) {
                 LOG.error("Unable to extract file", ioe);
             }
@@ -144,6 +140,6 @@ public class UnpackTask extends BaseTask<UnpackParameters> {
 
     @Override
     public void after() {
-        nullSafeCloseQuietly(sourceDocumentHandler);
+        nullSafeCloseQuietly(documents);
     }
 }
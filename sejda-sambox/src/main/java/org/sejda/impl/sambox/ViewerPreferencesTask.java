@@ -19,7 +19,6 @@
 package org.sejda.impl.sambox;
 
 import static org.sejda.common.ComponentsUtility.nullSafeCloseQuietly;
-import static org.sejda.core.notification.dsl.ApplicationEventsNotifier.notifyEvent;
 import static org.sejda.core.support.io.IOUtils.createTemporaryPdfBuffer;
 import static org.sejda.core.support.io.model.FileOutput.file;
 import static org.sejda.core.support.prefix.NameGenerator.nameGenerator;
@@ -32,6 +31,8 @@ import static org.sejda.impl.sambox.util.ViewerPreferencesUtils.setBooleanPrefer
 
 import java.io.File;
 
+import org.sejda.core.support.concurrent.MultipleSourcesProcessor;
+import org.sejda.core.support.concurrent.OpenResources;
 import org.sejda.core.support.io.MultipleOutputWriter;
 import org.sejda.core.support.io.OutputWriters;
 import org.sejda.impl.sambox.component.DefaultPdfSourceOpener;
@@ -60,28 +61,25 @@ public class ViewerPreferencesTask extends BaseTask<ViewerPreferencesParameters>
 
     private static final Logger LOG = LoggerFactory.getLogger(ViewerPreferencesTask.class);
 
-    private PDDocumentHandler documentHandler = null;
-    private int totalSteps;
+    private final OpenResources documents = new OpenResources();
     private MultipleOutputWriter outputWriter;
     private PdfSourceOpener<PDDocumentHandler> documentLoader;
+    private MultipleSourcesProcessor<PdfSource<?>> sourcesProcessor;
 
     @Override
     public void before(ViewerPreferencesParameters parameters, TaskExecutionContext executionContext)
             throws TaskException {
         super.before(parameters, executionContext);
-        totalSteps = parameters.getSourceList().size();
         documentLoader = new DefaultPdfSourceOpener();
         outputWriter = OutputWriters.newMultipleOutputWriter(parameters.getExistingOutputPolicy(), executionContext);
+        sourcesProcessor = new MultipleSourcesProcessor<>(executionContext, parameters.getSourcesParallelism());
     }
 
     @Override
     public void execute(ViewerPreferencesParameters parameters) throws TaskException {
-        int currentStep = 0;
-        for (PdfSource<?> source : parameters.getSourceList()) {
-            executionContext().assertTaskNotCancelled();
-            currentStep++;
+        sourcesProcessor.process(parameters.getSourceList(), (source, fileNumber, outputs) -> {
             LOG.debug("Opening {}", source);
-            documentHandler = source.open(documentLoader);
+            PDDocumentHandler documentHandler = documents.add(source.open(documentLoader));
             documentHandler.setCreatorOnPDDocument();
 
             File tmpFile = createTemporaryPdfBuffer();
@@ -92,24 +90,22 @@ public class ViewerPreferencesTask extends BaseTask<ViewerPreferencesParameters>
             documentHandler.setPageModeOnDocument(parameters.getPageMode());
             documentHandler.setPageLayoutOnDocument(parameters.getPageLayout());
 
-            setViewerPreferences(parameters);
+            setViewerPreferences(documentHandler, parameters);
 
             documentHandler.savePDDocument(tmpFile);
             String outName = nameGenerator(parameters.getOutputPrefix()).generate(
-                    nameRequest().originalName(source.getName()).fileNumber(currentStep));
-            outputWriter.addOutput(file(tmpFile).name(outName));
+                    nameRequest().originalName(source.getName()).fileNumber(fileNumber));
+            outputs.accept(file(tmpFile).name(outName));
 
-            nullSafeCloseQuietly(documentHandler);
-
-            notifyEvent(executionContext().notifiableTaskMetadata()).stepsCompleted(currentStep).outOf(totalSteps);
-        }
+            documents.close(documentHandler);
+        }, outputWriter);
 
         parameters.getOutput().accept(outputWriter);
         LOG.debug("Viewer preferences set on input documents and written to {}", parameters.getOutput());
 
     }
 
-    private void setViewerPreferences(ViewerPreferencesParameters parameters) throws TaskException {
+    private void setViewerPreferences(PDDocumentHandler documentHandler, ViewerPreferencesParameters parameters) throws TaskException {
         PDViewerPreferences preferences = documentHandler.getViewerPreferences();
         setBooleanPreferences(preferences, parameters.getEnabledPreferences());
         if (parameters.getDirection() != null) {
@@ -135,7 +131,7 @@ public class ViewerPreferencesTask extends BaseTask<ViewerPreferencesParameters>
 
     @Override
     public void after() {
-        nullSafeCloseQuietly(documentHandler);
+        nullSafeCloseQuietly(documents);
     }
 
 }
@@ -18,6 +18,7 @@
  */
 package org.sejda.impl.sambox.component;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -105,6 +106,10 @@ public class AcroFormsMerger {
     private PDAcroForm form;
     private String random = Long.toString(UUID.randomUUID().getMostSignificantBits(), 36);
     private Long counter = 0L;
+    /**
+     * fully qualified name to field index of the fields in the resulting form, lazily created and incrementally updated
+     */
+    private Map<String, PDField> fieldsIndex;
 
     private final BiFunction<PDTerminalField, LookupTable<PDField>, PDTerminalField> createOrReuseTerminalField = (
             PDTerminalField existing, LookupTable<PDField> fieldsLookup) -> {
@@ -152,7 +157,34 @@ public class AcroFormsMerger {
             return null;
         }
 
-        return form.getField(fullyQualifiedName);
+        return fieldsIndex().get(fullyQualifiedName);
+    }
+
+    private Map<String, PDField> fieldsIndex() {
+        if (isNull(fieldsIndex)) {
+            fieldsIndex = new HashMap<>();
+            for (PDField field : form.getFieldTree()) {
+                index(field);
+            }
+        }
+        return fieldsIndex;
+    }
+
+    /**
+     * Adds the given field to the index. In case of fields with the same fully qualified name, the first one in the fields tree wins,
+     * consistently with {@link PDAcroForm#getField(String)}
+     */
+    private void index(PDField field) {
+        ofNullable(field.getFullyQualifiedName()).ifPresent(name -> fieldsIndex.putIfAbsent(name, field));
+    }
+
+    private void indexSubtree(PDField field) {
+        index(field);
+        if (field instanceof PDNonTerminalField) {
+            for (PDField child : ((PDNonTerminalField) field).getChildren()) {
+                indexSubtree(child);
+            }
+        }
     }
 
     private final BiConsumer<PDField, LookupTable<PDField>> createRenamingNonTerminalField = (PDField field,
@@ -249,8 +281,12 @@ public class AcroFormsMerger {
                 }
             }
         }
-        this.form.addFields(originalForm.getFields().stream().map(fieldsLookup::lookup).filter(Objects::nonNull)
-                .collect(Collectors.toList()));
+        List<PDField> added = originalForm.getFields().stream().map(fieldsLookup::lookup).filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        this.form.addFields(added);
+        if (nonNull(fieldsIndex)) {
+            added.forEach(this::indexSubtree);
+        }
     }
 
     private void mergeFormDictionary(PDAcroForm originalForm) {
@@ -330,6 +366,8 @@ public class AcroFormsMerger {
             form.flatten(fields, true);
         } catch(IOException ex) {
             LOG.warn("Failed to flatten form", ex);
+        } finally {
+            fieldsIndex = null;
         }
     }
 
@@ -352,6 +390,7 @@ public class AcroFormsMerger {
                 form.setSignaturesExist(true);
             }
         }
+        fieldsIndex = null;
         return form;
     }
 }
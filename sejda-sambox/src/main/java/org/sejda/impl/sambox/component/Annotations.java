@@ -124,7 +124,8 @@ public final class Annotations {
                 }
             }
             if (destination instanceof PDNamedDestination) {
-                destination = pageOwner.getDocumentCatalog().findNamedDestinationPage((PDNamedDestination) destination);
+                destination = NamedDestinations.resolve(pageOwner.getDocumentCatalog(),
+                        (PDNamedDestination) destination);
             }
             return destination;
         } catch(Exception e){
@@ -19,6 +19,8 @@ package org.sejda.impl.sambox.component;
 
 import java.io.IOException;
 
+import org.sejda.core.support.metrics.ThreadLocalTaskMetrics;
+import org.sejda.io.SeekableSource;
 import org.sejda.io.SeekableSources;
 import org.sejda.model.exception.TaskIOException;
 import org.sejda.model.exception.TaskWrongPasswordException;
@@ -26,6 +28,8 @@ import org.sejda.model.input.PdfFileSource;
 import org.sejda.model.input.PdfSourceOpener;
 import org.sejda.model.input.PdfStreamSource;
 import org.sejda.model.input.PdfURLSource;
+import org.sejda.model.task.TaskCounter;
+import org.sejda.model.task.TaskPhase;
 import org.sejda.sambox.input.PDFParser;
 import org.sejda.sambox.pdmodel.PDDocument;
 import org.sejda.sambox.pdmodel.encryption.InvalidPasswordException;
@@ -44,10 +48,8 @@ public class DefaultPdfSourceOpener implements PdfSourceOpener<PDDocumentHandler
     @Override
     public PDDocumentHandler open(PdfURLSource source) throws TaskIOException {
         try {
-            PDDocument document = PDFParser.parse(
-                    SeekableSources.onTempFileSeekableSourceFrom(source.getSource().openStream()),
+            return parse(SeekableSources.onTempFileSeekableSourceFrom(source.getSource().openStream()),
                     source.getPassword());
-            return new PDDocumentHandler(document);
         } catch (InvalidPasswordException ipe) {
             throw new TaskWrongPasswordException(WRONG_PWD_MESSAGE, ipe);
         } catch (IOException e) {
@@ -58,9 +60,7 @@ public class DefaultPdfSourceOpener implements PdfSourceOpener<PDDocumentHandler
     @Override
     public PDDocumentHandler open(PdfFileSource source) throws TaskIOException {
         try {
-            PDDocument document = PDFParser.parse(SeekableSources.seekableSourceFrom(source.getSource()),
-                    source.getPassword());
-            return new PDDocumentHandler(document);
+            return parse(SeekableSources.seekableSourceFrom(source.getSource()), source.getPassword());
         } catch (InvalidPasswordException ipe) {
             throw new TaskWrongPasswordException(WRONG_PWD_MESSAGE, ipe);
         } catch (IOException e) {
@@ -71,13 +71,19 @@ public class DefaultPdfSourceOpener implements PdfSourceOpener<PDDocumentHandler
     @Override
     public PDDocumentHandler open(PdfStreamSource source) throws TaskIOException {
         try {
-            PDDocument document = PDFParser.parse(SeekableSources.onTempFileSeekableSourceFrom(source.getSource()),
-                    source.getPassword());
-            return new PDDocumentHandler(document);
+            return parse(SeekableSources.onTempFileSeekableSourceFrom(source.getSource()), source.getPassword());
         } catch (InvalidPasswordException ipe) {
             throw new TaskWrongPasswordException(WRONG_PWD_MESSAGE, ipe);
         } catch (IOException e) {
             throw new TaskIOException(String.format(ERROR_MESSAGE, source), e);
         }
     }
+
+    private static PDDocumentHandler parse(SeekableSource seekableSource, String password) throws IOException {
+        long start = System.nanoTime();
+        PDDocument document = PDFParser.parse(seekableSource, password);
+        ThreadLocalTaskMetrics.phaseSince(TaskPhase.PARSE, start);
+        ThreadLocalTaskMetrics.count(TaskCounter.BYTES_READ, seekableSource.size());
+        return new PDDocumentHandler(document);
+    }
 }
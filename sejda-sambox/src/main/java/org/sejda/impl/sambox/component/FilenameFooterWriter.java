@@ -19,6 +19,7 @@
 package org.sejda.impl.sambox.component;
 
 import java.awt.Color;
+import java.io.IOException;
 
 import org.sejda.model.HorizontalAlign;
 import org.sejda.model.VerticalAlign;
@@ -39,10 +40,12 @@ public class FilenameFooterWriter {
     private static final Logger LOG = LoggerFactory.getLogger(FilenameFooterWriter.class);
 
     private boolean addFooter = false;
+    private PageContentStreams streams;
     private PageTextWriter writer;
 
     public FilenameFooterWriter(boolean addFooter, PDDocument document) {
-        this.writer = new PageTextWriter(document);
+        this.streams = new PageContentStreams(document);
+        this.writer = new PageTextWriter(document, streams);
         this.addFooter = addFooter;
     }
 
@@ -53,7 +56,8 @@ public class FilenameFooterWriter {
                         Color.BLACK);
                 writer.write(page, HorizontalAlign.RIGHT, VerticalAlign.BOTTOM, Long.toString(pageNumber),
                         PDType1Font.HELVETICA, 10d, Color.BLACK);
-            } catch (TaskIOException e) {
+                streams.close();
+            } catch (TaskIOException | IOException e) {
                 LOG.warn("Unable to write the page footer", e);
             }
         }
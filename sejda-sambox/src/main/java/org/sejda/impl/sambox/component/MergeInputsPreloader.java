@@ -0,0 +1,192 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.impl.sambox.component;
+
+import static java.util.Optional.ofNullable;
+import static org.sejda.common.ComponentsUtility.nullSafeCloseQuietly;
+import static org.sejda.core.support.concurrent.WorkerThreads.newFixedThreadPool;
+import static org.sejda.core.support.concurrent.WorkerThreads.waitFor;
+
+import java.io.Closeable;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.input.PdfMergeInput;
+import org.sejda.model.input.PdfSourceOpener;
+import org.sejda.sambox.cos.COSName;
+import org.sejda.sambox.pdmodel.PDDocumentCatalog;
+import org.sejda.sambox.pdmodel.PDPage;
+import org.sejda.sambox.pdmodel.PageNotFoundException;
+import org.sejda.sambox.pdmodel.interactive.documentnavigation.outline.PDOutlineItem;
+import org.sejda.sambox.pdmodel.interactive.documentnavigation.outline.PDOutlineNode;
+import org.sejda.sambox.pdmodel.interactive.form.PDField;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Component that opens the {@link PdfMergeInput}s of a merge, in the order they are given. When a look ahead greater than zero is
+ * specified, up to that number of upcoming inputs are opened and pre-loaded (page tree, pages resources and annotations, outline and
+ * AcroForm) by a pool of worker threads while the caller is processing the current one. A document returned by {@link #next()} is
+ * never accessed again by the worker threads, it's up to the caller to close it.
+ *
+ * @author agent
+ *
+ */
+public class MergeInputsPreloader implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MergeInputsPreloader.class);
+
+    private final Iterator<PdfMergeInput> inputs;
+    private final PdfSourceOpener<PDDocumentHandler> opener;
+    private final int lookAhead;
+    private final Deque<Future<PDDocumentHandler>> loading = new LinkedList<>();
+    private ExecutorService executor;
+    private volatile boolean closed = false;
+
+    /**
+     * @param inputs
+     *            the inputs to open
+     * @param opener
+     *            the opener used to open the sources
+     * @param lookAhead
+     *            number of inputs to load in parallel ahead of the one currently processed. Zero or less means the inputs are
+     *            sequentially opened on the caller thread when {@link #next()} is called.
+     */
+    public MergeInputsPreloader(List<PdfMergeInput> inputs, PdfSourceOpener<PDDocumentHandler> opener,
+            int lookAhead) {
+        this.inputs = inputs.iterator();
+        this.opener = opener;
+        this.lookAhead = Math.max(0, lookAhead);
+        if (this.lookAhead > 0) {
+            LOG.debug("Pre-loading up to {} merge inputs in parallel", this.lookAhead);
+            this.executor = newFixedThreadPool(Math.max(1, Math.min(this.lookAhead, inputs.size())),
+                    "sejda-merge-preloader");
+            fill();
+        }
+    }
+
+    /**
+     * @return the handler for the next input, in the order the inputs were given
+     * @throws TaskException
+     *             if an error occurred opening the source
+     * @throws NoSuchElementException
+     *             if all the inputs have been already returned
+     */
+    public PDDocumentHandler next() throws TaskException {
+        if (executor == null) {
+            PdfMergeInput input = inputs.next();
+            LOG.debug("Opening {}", input.getSource());
+            return input.getSource().open(opener);
+        }
+        Future<PDDocumentHandler> current = loading.poll();
+        if (current == null) {
+            throw new NoSuchElementException();
+        }
+        fill();
+        return waitFor(current, "loading the input");
+    }
+
+    private void fill() {
+        while (loading.size() < lookAhead && inputs.hasNext()) {
+            PdfMergeInput input = inputs.next();
+            loading.add(executor.submit(() -> load(input)));
+        }
+    }
+
+    private PDDocumentHandler load(PdfMergeInput input) throws TaskException {
+        if (closed) {
+            return null;
+        }
+        LOG.debug("Opening {}", input.getSource());
+        PDDocumentHandler handler = input.getSource().open(opener);
+        try {
+            if (!closed) {
+                preload(handler, input);
+            }
+        } catch (RuntimeException e) {
+            // whatever failed here will fail again, and be reported, when the document is actually processed
+            LOG.warn("Unable to pre-load " + input.getSource(), e);
+        }
+        if (closed) {
+            nullSafeCloseQuietly(handler);
+            return null;
+        }
+        return handler;
+    }
+
+    private static void preload(PDDocumentHandler handler, PdfMergeInput input) {
+        LOG.trace("Pre-loading {}", input.getSource());
+        for (Integer pageNumber : input.getPages(handler.getNumberOfPages())) {
+            try {
+                PDPage page = handler.getPage(pageNumber);
+                page.getMediaBox();
+                page.getCropBox();
+                page.getResources();
+                page.getAnnotations();
+            } catch (PageNotFoundException e) {
+                // reported when the page is imported
+            }
+        }
+        PDDocumentCatalog catalog = handler.catalog();
+        preloadOutline(catalog.getDocumentOutline());
+        ofNullable(catalog.getAcroForm()).ifPresent(f -> {
+            for (PDField field : f.getFieldTree()) {
+                field.getWidgets();
+            }
+        });
+    }
+
+    private static void preloadOutline(PDOutlineNode node) {
+        if (node != null) {
+            for (PDOutlineItem current : node.children()) {
+                current.getCOSObject().getDictionaryObject(COSName.DEST);
+                current.getCOSObject().getDictionaryObject(COSName.A);
+                preloadOutline(current);
+            }
+        }
+    }
+
+    /**
+     * Stops pre-loading and closes any document that has been loaded but not yet returned by {@link #next()}
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (executor != null) {
+            Future<PDDocumentHandler> current;
+            while ((current = loading.poll()) != null) {
+                try {
+                    nullSafeCloseQuietly(current.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    LOG.trace("Failed to load input", e);
+                }
+            }
+            executor.shutdown();
+        }
+    }
+}
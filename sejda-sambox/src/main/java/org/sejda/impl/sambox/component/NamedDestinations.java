@@ -0,0 +1,88 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.impl.sambox.component;
+
+import static java.util.Objects.isNull;
+import static org.sejda.util.RequireUtils.requireNotNullArg;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+import org.sejda.sambox.pdmodel.PDDocumentCatalog;
+import org.sejda.sambox.pdmodel.interactive.documentnavigation.destination.PDNamedDestination;
+import org.sejda.sambox.pdmodel.interactive.documentnavigation.destination.PDPageDestination;
+
+/**
+ * Resolution of named destinations to page destinations. Resolved destinations are cached per document catalog, so that every name is
+ * looked up in the document Dests dictionary or names tree only once, no matter how many links or outline items point to it. The cache of
+ * a document is released when the document is garbage collected or explicitly, using {@link #release(PDDocumentCatalog)}.
+ * 
+ * @author agent
+ *
+ */
+public final class NamedDestinations {
+
+    // values don't reference the catalog, so catalogs can be collected together with their document
+    private static final Map<PDDocumentCatalog, Map<String, Optional<PDPageDestination>>> RESOLVED = new WeakHashMap<>();
+
+    private NamedDestinations() {
+        // hide
+    }
+
+    /**
+     * @param catalog
+     *            catalog of the document owning the named destination
+     * @param destination
+     * @return the page destination the given named destination points to or null if there is no such destination
+     * @throws IOException
+     */
+    public static PDPageDestination resolve(PDDocumentCatalog catalog, PDNamedDestination destination) throws IOException {
+        requireNotNullArg(catalog, "Cannot resolve a named destination in a null catalog");
+        String name = destination.getNamedDestination();
+        if (isNull(name)) {
+            return catalog.findNamedDestinationPage(destination);
+        }
+        Map<String, Optional<PDPageDestination>> resolved;
+        synchronized (RESOLVED) {
+            resolved = RESOLVED.computeIfAbsent(catalog, c -> new HashMap<>());
+        }
+        synchronized (resolved) {
+            Optional<PDPageDestination> pageDestination = resolved.get(name);
+            if (isNull(pageDestination)) {
+                pageDestination = Optional.ofNullable(catalog.findNamedDestinationPage(destination));
+                resolved.put(name, pageDestination);
+            }
+            return pageDestination.orElse(null);
+        }
+    }
+
+    /**
+     * Releases the cached destinations of the given document catalog
+     * 
+     * @param catalog
+     */
+    public static void release(PDDocumentCatalog catalog) {
+        synchronized (RESOLVED) {
+            RESOLVED.remove(catalog);
+        }
+    }
+}
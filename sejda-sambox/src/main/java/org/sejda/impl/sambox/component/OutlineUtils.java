@@ -93,7 +93,7 @@ public final class OutlineUtils {
      * @param catalog
      *            the catalog to look for in case of {@link PDNamedDestination}
      * @return the {@link PDPageDestination} for the given {@link PDOutlineItem} or an empty {@link Optional} if the destination is not a page. In case the outline item has a named
-     *         destination, it is resolved against the given names tree.
+     *         destination, it is resolved against the given names tree using {@link NamedDestinations}.
      */
     public static Optional<PDPageDestination> toPageDestination(PDOutlineItem current, PDDocumentCatalog catalog) {
         try {
@@ -105,7 +105,7 @@ public final class OutlineUtils {
                 }
             }
             if (dest instanceof PDNamedDestination && catalog != null) {
-                dest = catalog.findNamedDestinationPage((PDNamedDestination) dest);
+                dest = NamedDestinations.resolve(catalog, (PDNamedDestination) dest);
             }
             if (dest instanceof PDPageDestination) {
                 return Optional.of((PDPageDestination) dest);
@@ -143,17 +143,29 @@ public final class OutlineUtils {
      * @return A sorted flat representation of the document outline
      */
     public static List<OutlineItem> getFlatOutline(PDDocument document) {
-        return ofNullable(document.getDocumentCatalog().getDocumentOutline()).map(PDDocumentOutline::children)
-                .map(c -> recurseFlatOutline(document, c, 1)).orElseGet(ArrayList::new).stream()
-                .sorted(Comparator.comparingInt(i -> i.page)).collect(Collectors.toList());
+        return getFlatOutline(document, new PageTreeIndex(document));
     }
 
-    private static List<OutlineItem> recurseFlatOutline(PDDocument document, Iterable<PDOutlineItem> items, int level) {
+    /**
+     * @param document
+     * @param pages
+     *            index of the document pages used to resolve the destinations page number
+     * @return A sorted flat representation of the document outline
+     */
+    static List<OutlineItem> getFlatOutline(PDDocument document, PageTreeIndex pages) {
         List<OutlineItem> result = new ArrayList<>();
+        ofNullable(document.getDocumentCatalog().getDocumentOutline()).map(PDDocumentOutline::children)
+                .ifPresent(c -> recurseFlatOutline(document, pages, c, 1, result));
+        result.sort(Comparator.comparingInt(i -> i.page));
+        return result;
+    }
+
+    private static void recurseFlatOutline(PDDocument document, PageTreeIndex pages, Iterable<PDOutlineItem> items,
+            int level, List<OutlineItem> result) {
         for (PDOutlineItem item : items) {
             toPageDestination(item, document.getDocumentCatalog()).ifPresent(d -> {
                 int pageNumber = ofNullable(d.getPage())
-                        .map(p -> document.getPages().indexOf(p) + 1 /* 0-based index */ )
+                        .map(p -> pages.indexOf(p) + 1 /* 0-based index */ )
                         .orElseGet(() -> d.getPageNumber());
 
                 boolean specificLocationInPage = false;
@@ -167,8 +179,7 @@ public final class OutlineUtils {
 
                 result.add(new OutlineItem(item.getTitle(), pageNumber, level, specificLocationInPage));
             });
-            result.addAll(recurseFlatOutline(document, item.children(), level + 1));
+            recurseFlatOutline(document, pages, item.children(), level + 1, result);
         }
-        return result;
     }
 }
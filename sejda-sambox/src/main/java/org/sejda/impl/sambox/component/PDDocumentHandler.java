@@ -29,11 +29,13 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
 import org.sejda.core.Sejda;
+import org.sejda.core.support.metrics.ThreadLocalTaskMetrics;
 import org.sejda.impl.sambox.util.PageLabelUtils;
 import org.sejda.model.exception.TaskException;
 import org.sejda.model.exception.TaskIOException;
@@ -41,6 +43,8 @@ import org.sejda.model.pdf.PdfVersion;
 import org.sejda.model.pdf.label.PdfPageLabel;
 import org.sejda.model.pdf.viewerpreference.PdfPageLayout;
 import org.sejda.model.pdf.viewerpreference.PdfPageMode;
+import org.sejda.model.task.TaskCounter;
+import org.sejda.model.task.TaskPhase;
 import org.sejda.sambox.cos.COSDictionary;
 import org.sejda.sambox.cos.COSName;
 import org.sejda.sambox.encryption.StandardSecurity;
@@ -219,6 +223,7 @@ public class PDDocumentHandler implements Closeable {
 
     @Override
     public void close() throws IOException {
+        NamedDestinations.release(document.getDocumentCatalog());
         document.close();
     }
 
@@ -240,6 +245,7 @@ public class PDDocumentHandler implements Closeable {
      * @throws TaskException
      */
     public void savePDDocument(File file, StandardSecurity security) throws TaskException {
+        long start = System.nanoTime();
         try {
             if (Boolean.getBoolean(SAMBOX_USE_ASYNC_WRITER)) {
                 LOG.trace("Saving document to {} using async writer", file);
@@ -249,6 +255,8 @@ public class PDDocumentHandler implements Closeable {
                 document.writeTo(file, security,
                         concat(of(WriteOption.SYNC_BODY_WRITE), writeOptions.stream()).toArray(WriteOption[]::new));
             }
+            ThreadLocalTaskMetrics.phaseSince(TaskPhase.SAVE, start);
+            ThreadLocalTaskMetrics.count(TaskCounter.BYTES_WRITTEN, file.length());
         } catch (IOException e) {
             throw new TaskIOException("Unable to save to temporary file.", e);
         }
@@ -273,12 +281,16 @@ public class PDDocumentHandler implements Closeable {
      * @return The newly created page
      */
     public PDPage importPage(PDPage page) {
+        long start = System.nanoTime();
         PDPage imported = new PDPage(page.getCOSObject().duplicate());
         imported.setCropBox(page.getCropBox());
         imported.setMediaBox(page.getMediaBox());
         imported.setResources(page.getResources());
         imported.setRotation(page.getRotation());
-        return addPage(imported);
+        addPage(imported);
+        ThreadLocalTaskMetrics.phaseSince(TaskPhase.PAGES_IMPORT, start);
+        ThreadLocalTaskMetrics.increment(TaskCounter.PAGES_PROCESSED);
+        return imported;
     }
 
     /**
@@ -301,6 +313,17 @@ public class PDDocumentHandler implements Closeable {
         document.removePage(pageNumber - 1);
     }
 
+    /**
+     * Removes the given pages from the underlying {@link PDDocument} rewriting the page tree once, regardless of the number of pages
+     * removed
+     *
+     * @param pageNumbers
+     *            1-based numbers of the pages to remove
+     */
+    public void removePages(Set<Integer> pageNumbers) {
+        new PageTreeRewriter(document.getPages().getCOSObject()).rewrite(pageNumbers, Collections.emptySet(), null);
+    }
+
     /**
      * Moves designated page to the end of the document.
      *
@@ -340,7 +363,9 @@ public class PDDocumentHandler implements Closeable {
     public BufferedImage renderImage(int pageNumber, int dpi) throws TaskException {
         try {
             PDFRenderer pdfRenderer = new PDFRenderer(document);
-            return pdfRenderer.renderImageWithDPI(pageNumber - 1, dpi, ImageType.RGB);
+            BufferedImage image = pdfRenderer.renderImageWithDPI(pageNumber - 1, dpi, ImageType.RGB);
+            ThreadLocalTaskMetrics.increment(TaskCounter.PAGES_PROCESSED);
+            return image;
         } catch (IOException ex) {
             LOG.error("Failed to render page " + pageNumber, ex);
             throw new TaskException("Failed to render page " + pageNumber, ex);
@@ -389,4 +414,17 @@ public class PDDocumentHandler implements Closeable {
         PDPage target = document.getPage(pageNumber - 1);
         document.getPages().insertBefore(new PDPage(target.getMediaBox()), target);
     }
+
+    /**
+     * Adds blank pages to the underlying {@link PDDocument} rewriting the page tree once, regardless of the number of pages added. Blank
+     * pages get the media box of the page preceding them, or of the one following them if they are at the beginning of the document.
+     * 
+     * @param pageNumbers
+     *            1-based numbers the blank pages will have in the resulting document
+     * @param mediaBox
+     *            media box for the blank pages added to a document without pages
+     */
+    public void addBlankPages(Set<Integer> pageNumbers, PDRectangle mediaBox) {
+        new PageTreeRewriter(document.getPages().getCOSObject()).rewrite(Collections.emptySet(), pageNumbers, mediaBox);
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.impl.sambox.component;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.sejda.util.RequireUtils.requireNotNullArg;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.sejda.sambox.cos.COSDictionary;
+import org.sejda.sambox.pdmodel.PDDocument;
+import org.sejda.sambox.pdmodel.PDPage;
+import org.sejda.sambox.pdmodel.PDPageContentStream;
+import org.sejda.sambox.pdmodel.PDPageContentStream.AppendMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Component collecting the content written on top of the pages of a document, so that all the content written on a page goes to a single
+ * appended content stream instead of one stream per write. Each write is isolated in its own save/restore of the graphics state. Streams
+ * are kept open, for a bounded number of pages, until this component is closed; when the limit is reached the stream of the least
+ * recently written page is closed and further writes on that page go to a new stream. Streams must be closed before the document is
+ * saved.
+ * 
+ * @author agent
+ *
+ */
+public class PageContentStreams implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PageContentStreams.class);
+    private static final int DEFAULT_MAX_OPEN_STREAMS = 256;
+
+    private final PDDocument document;
+    private final int maxOpenStreams;
+    // in access order, the first one is the least recently written
+    private final Map<COSDictionary, PDPageContentStream> streams = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * @param document
+     *            the document where we want to write
+     */
+    public PageContentStreams(PDDocument document) {
+        this(document, DEFAULT_MAX_OPEN_STREAMS);
+    }
+
+    /**
+     * @param document
+     *            the document where we want to write
+     * @param maxOpenStreams
+     *            max number of pages with an open stream. With 0 every write goes to its own stream, closed right after writing.
+     */
+    public PageContentStreams(PDDocument document, int maxOpenStreams) {
+        requireNotNullArg(document, "Document cannot be null");
+        this.document = document;
+        this.maxOpenStreams = Math.max(0, maxOpenStreams);
+    }
+
+    /**
+     * Writes the given content on top of the given page
+     * 
+     * @param page
+     * @param content
+     * @throws IOException
+     */
+    public void write(PDPage page, PageContent content) throws IOException {
+        PDPageContentStream stream = streams.get(page.getCOSObject());
+        if (isNull(stream)) {
+            evict();
+            stream = new PDPageContentStream(document, page, AppendMode.APPEND, true, true);
+            streams.put(page.getCOSObject(), stream);
+        }
+        boolean written = false;
+        stream.saveGraphicsState();
+        try {
+            content.writeTo(stream);
+            written = true;
+        } finally {
+            try {
+                stream.restoreGraphicsState();
+            } finally {
+                // a failed write leaves the stream in an unknown state, following writes go to a new one
+                if (!written || maxOpenStreams == 0) {
+                    streams.remove(page.getCOSObject());
+                    stream.close();
+                }
+            }
+        }
+    }
+
+    private void evict() throws IOException {
+        Iterator<PDPageContentStream> iterator = streams.values().iterator();
+        while (streams.size() >= maxOpenStreams && iterator.hasNext()) {
+            PDPageContentStream eldest = iterator.next();
+            iterator.remove();
+            eldest.close();
+        }
+    }
+
+    /**
+     * Closes the open streams. The component can still be used, following writes go to new streams.
+     */
+    @Override
+    public void close() throws IOException {
+        LOG.trace("Closing {} page content streams", streams.size());
+        List<PDPageContentStream> open = new ArrayList<>(streams.values());
+        streams.clear();
+        IOException failure = null;
+        for (PDPageContentStream stream : open) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (nonNull(failure)) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Content written on top of a page
+     */
+    @FunctionalInterface
+    public interface PageContent {
+        void writeTo(PDPageContentStream stream) throws IOException;
+    }
+}
@@ -22,17 +22,24 @@ import org.sejda.model.exception.TaskIOException;
 import org.sejda.model.parameter.edit.Shape;
 import org.sejda.sambox.pdmodel.PDDocument;
 import org.sejda.sambox.pdmodel.PDPage;
-import org.sejda.sambox.pdmodel.PDPageContentStream;
 
 import java.awt.*;
 import java.awt.geom.Point2D;
 import java.io.IOException;
 
 public class PageGeometricalShapeWriter {
-    private PDDocument document;
+    private PageContentStreams streams;
 
     public PageGeometricalShapeWriter(PDDocument document) {
-        this.document = document;
+        this(new PageContentStreams(document, 0));
+    }
+
+    /**
+     * @param streams
+     *            where the shapes are drawn, the caller is responsible for closing it before the document is saved
+     */
+    public PageGeometricalShapeWriter(PageContentStreams streams) {
+        this.streams = streams;
     }
 
     public void drawShape(Shape shape, PDPage page, Point2D position, float width, float height,
@@ -52,7 +59,7 @@ public class PageGeometricalShapeWriter {
     public void drawRectangle(PDPage page, Point2D position, float width, float height,
                               Color borderColor, Color backgroundColor, float borderWidth) throws TaskIOException {
         try {
-            try (PDPageContentStream contentStream = new PDPageContentStream(document, page, PDPageContentStream.AppendMode.APPEND, true, true)) {
+            streams.write(page, contentStream -> {
 
                 contentStream.setLineWidth(borderWidth);
                 if (backgroundColor != null) {
@@ -66,8 +73,7 @@ public class PageGeometricalShapeWriter {
                 } else {
                     contentStream.closeAndStroke();
                 }
-                contentStream.close();
-            }
+            });
         } catch (IOException e) {
             throw new TaskIOException("An error occurred writing image to the page.", e);
         }
@@ -76,7 +82,7 @@ public class PageGeometricalShapeWriter {
     public void drawEllipse(PDPage page, Point2D position, float width, float height,
                             Color borderColor, Color backgroundColor, float borderWidth) throws TaskIOException {
         try {
-            try (PDPageContentStream contentStream = new PDPageContentStream(document, page, PDPageContentStream.AppendMode.APPEND, true, true)) {
+            streams.write(page, contentStream -> {
 
                 contentStream.setLineWidth(borderWidth);
                 if (backgroundColor != null) {
@@ -105,8 +111,7 @@ public class PageGeometricalShapeWriter {
                 } else {
                     contentStream.closeAndStroke();
                 }
-                contentStream.close();
-            }
+            });
         } catch (IOException e) {
             throw new TaskIOException("An error occurred writing image to the page.", e);
         }
@@ -40,7 +40,6 @@ import org.sejda.model.input.SourceDispatcher;
 import org.sejda.model.input.StreamSource;
 import org.sejda.sambox.pdmodel.PDDocument;
 import org.sejda.sambox.pdmodel.PDPage;
-import org.sejda.sambox.pdmodel.PDPageContentStream;
 import org.sejda.sambox.pdmodel.graphics.image.PDImageXObject;
 import org.sejda.sambox.pdmodel.graphics.image.UnsupportedTiffImageException;
 import org.slf4j.Logger;
@@ -49,19 +48,24 @@ import org.slf4j.LoggerFactory;
 public class PageImageWriter {
     private static final Logger LOG = LoggerFactory.getLogger(PageImageWriter.class);
 
-    private PDDocument document;
+    private PageContentStreams streams;
 
     public PageImageWriter(PDDocument document) {
-        this.document = document;
+        this(new PageContentStreams(document, 0));
+    }
+
+    /**
+     * @param streams
+     *            where the images are drawn, the caller is responsible for closing it before the document is saved
+     */
+    public PageImageWriter(PageContentStreams streams) {
+        this.streams = streams;
     }
 
     public void write(PDPage page, PDImageXObject image, Point2D position, float width, float height) throws TaskIOException {
         try {
-            try (PDPageContentStream contentStream = new PDPageContentStream(document, page, PDPageContentStream.AppendMode.APPEND, true, true)) {
-
-                contentStream.drawImage(image, (float) position.getX(), (float) position.getY(), width, height);
-                contentStream.close();
-            }
+            streams.write(page, contentStream -> contentStream.drawImage(image, (float) position.getX(),
+                    (float) position.getY(), width, height));
         } catch (IOException e) {
             throw new TaskIOException("An error occurred writing image to the page.", e);
         }
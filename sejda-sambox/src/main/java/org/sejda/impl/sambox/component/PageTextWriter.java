@@ -21,7 +21,6 @@ package org.sejda.impl.sambox.component;
 import static java.util.Objects.isNull;
 import static org.sejda.impl.sambox.util.FontUtils.canDisplay;
 import static org.sejda.impl.sambox.util.FontUtils.findFontFor;
-import static org.sejda.impl.sambox.util.FontUtils.fontOrFallback;
 
 import java.awt.*;
 import java.awt.geom.AffineTransform;
@@ -34,8 +33,6 @@ import org.sejda.model.VerticalAlign;
 import org.sejda.model.exception.TaskIOException;
 import org.sejda.sambox.pdmodel.PDDocument;
 import org.sejda.sambox.pdmodel.PDPage;
-import org.sejda.sambox.pdmodel.PDPageContentStream;
-import org.sejda.sambox.pdmodel.PDPageContentStream.AppendMode;
 import org.sejda.sambox.pdmodel.common.PDRectangle;
 import org.sejda.sambox.pdmodel.font.PDFont;
 import org.sejda.sambox.util.Matrix;
@@ -52,16 +49,32 @@ public class PageTextWriter {
     private static final Logger LOG = LoggerFactory.getLogger(PageTextWriter.class);
 
     private PDDocument document;
+    private PageContentStreams streams;
     // TODO define as a params member
     private static final Float DEFAULT_MARGIN = 30F;
     private PDFont latestSuitablefont;
+    // whether a code point can be displayed, by font
+    private final Map<PDFont, Map<Integer, Boolean>> displayable = new HashMap<>();
+    // fallback fonts found for each code point
+    private final Map<Integer, PDFont> fallbackFonts = new HashMap<>();
 
     /**
      * @param document
      *            the document where we want to write the footer
      */
     public PageTextWriter(PDDocument document) {
+        this(document, new PageContentStreams(document, 0));
+    }
+
+    /**
+     * @param document
+     *            the document where we want to write the footer
+     * @param streams
+     *            where the text is written, the caller is responsible for closing it before the document is saved
+     */
+    public PageTextWriter(PDDocument document, PageContentStreams streams) {
         this.document = document;
+        this.streams = streams;
     }
 
     public void write(PDPage page, HorizontalAlign hAlign, VerticalAlign vAlign, String rawLabel, PDFont font,
@@ -93,66 +106,73 @@ public class PageTextWriter {
         String label = removeControlCharacters(rawLabel);
 
         LinkedHashMap<String, PDFont> resolvedStringsToFonts = resolveFonts(label, font);
-        int offset = 0;
-
         PDRectangle pageSize = page.getCropBox().rotate(page.getRotation());
 
-        for(Map.Entry<String, PDFont> stringAndFont: resolvedStringsToFonts.entrySet()) {
-            try {
-                PDFont resolvedFont = stringAndFont.getValue();
-                String resolvedLabel = stringAndFont.getKey();
-                Point2D resolvedPosition = new Point((int) position.getX() + offset, (int)position.getY());
-
-                //LOG.debug("Will write string {} using font {} at offset {}", resolvedLabel, resolvedFont.getName(), offset);
+        try {
+            streams.write(page, contentStream -> {
+                int offset = 0;
+                for (Map.Entry<String, PDFont> stringAndFont : resolvedStringsToFonts.entrySet()) {
+                    PDFont resolvedFont = stringAndFont.getValue();
+                    String resolvedLabel = stringAndFont.getKey();
+                    Point2D resolvedPosition = new Point((int) position.getX() + offset, (int) position.getY());
 
-                try (PDPageContentStream contentStream = new PDPageContentStream(document, page, AppendMode.APPEND, true,
-                        true)) {
                     contentStream.beginText();
                     contentStream.setFont(resolvedFont, fontSize.floatValue());
                     contentStream.setNonStrokingColor(color);
 
                     if (page.getRotation() > 0) {
-                        Point2D rotatedPosition = findPositionInRotatedPage(page.getRotation(), pageSize, resolvedPosition);
+                        Point2D rotatedPosition = findPositionInRotatedPage(page.getRotation(), pageSize,
+                                resolvedPosition);
 
-                        AffineTransform tx = AffineTransform.getTranslateInstance(rotatedPosition.getX(), rotatedPosition.getY());
+                        AffineTransform tx = AffineTransform.getTranslateInstance(rotatedPosition.getX(),
+                                rotatedPosition.getY());
                         tx.rotate(Math.toRadians(page.getRotation()));
                         contentStream.setTextMatrix(new Matrix(tx));
 
                     } else {
-                        contentStream.setTextMatrix(
-                                new Matrix(AffineTransform.getTranslateInstance(resolvedPosition.getX(), resolvedPosition.getY())));
+                        contentStream.setTextMatrix(new Matrix(
+                                AffineTransform.getTranslateInstance(resolvedPosition.getX(), resolvedPosition.getY())));
                     }
 
                     LOG.trace("Text position {}", resolvedPosition);
                     contentStream.showText(resolvedLabel);
                     contentStream.endText();
-                }
 
-                offset += resolvedFont.getStringWidth(resolvedLabel) / 1000 * fontSize;
-            } catch (IOException e) {
-                throw new TaskIOException("An error occurred writing the header or footer of the page.", e);
-            }
+                    offset += resolvedFont.getStringWidth(resolvedLabel) / 1000 * fontSize;
+                }
+            });
+        } catch (IOException e) {
+            throw new TaskIOException("An error occurred writing the header or footer of the page.", e);
         }
     }
 
-    private PDFont resolveFont(String label, PDFont font) throws TaskIOException {
-        // check the label can be written with the selected font. Fallback to matching unicode font otherwise. Try Unicode Serif as last resort.
-        // Type 1 fonts only support 8-bit code points.
-        latestSuitablefont = fontOrFallback(label, font, () -> {
-            if (canDisplay(label, latestSuitablefont)) {
-                return latestSuitablefont;
-            }
-            return findFontFor(document, label);
-        });
+    private PDFont resolveFont(int codePoint, String label, PDFont font) throws TaskIOException {
+        // check the label can be written with the selected font. Fallback to the latest suitable font if it can display the label, to a
+        // matching unicode font otherwise. Try Unicode Serif as last resort. Type 1 fonts only support 8-bit code points.
+        if (isDisplayable(codePoint, label, font)) {
+            latestSuitablefont = font;
+        } else if (!isDisplayable(codePoint, label, latestSuitablefont)) {
+            LOG.info("Text cannot be written with font {}, using fallback", font.getName());
+            latestSuitablefont = fallbackFonts.computeIfAbsent(codePoint, c -> findFontFor(document, label));
+        }
         if (isNull(latestSuitablefont)) {
             throw new TaskIOException("Unable to find suitable font for the given label \"" + label + "\"");
         }
         return latestSuitablefont;
     }
 
+    private boolean isDisplayable(int codePoint, String label, PDFont font) {
+        if (isNull(font)) {
+            return false;
+        }
+        return displayable.computeIfAbsent(font, f -> new HashMap<>()).computeIfAbsent(codePoint,
+                c -> canDisplay(label, font));
+    }
+
     /**
      * Supports writing labels which require multiple fonts (eg: mixing thai and english words)
-     * Returns a map of string to font. Keys are ordered in the same order the strings appear in the original label.
+     * Returns a map of string to font. Keys are ordered in the same order the strings appear in the original label. Fonts are resolved
+     * once per code point and font, the latest suitable font is still preferred over a different fallback.
      *
      * @param label
      * @param font
@@ -166,9 +186,9 @@ public class PageTextWriter {
         // we want to keep the insertion order
         LinkedHashMap<String, PDFont> result = new LinkedHashMap<>();
 
-        for(Character c: label.toCharArray()) {
-            String s = c.toString();
-            PDFont f = resolveFont(s, font);
+        for (int codePoint : label.codePoints().toArray()) {
+            String s = new String(Character.toChars(codePoint));
+            PDFont f = resolveFont(codePoint, s, font);
             if(isNull(currentFont) || currentFont == f) {
                 currentString.append(s);
             } else {
@@ -0,0 +1,65 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.impl.sambox.component;
+
+import static java.util.Objects.isNull;
+import static org.sejda.util.RequireUtils.requireNotNullArg;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.sejda.sambox.cos.COSDictionary;
+import org.sejda.sambox.pdmodel.PDDocument;
+import org.sejda.sambox.pdmodel.PDPage;
+import org.sejda.sambox.pdmodel.PDPageTree;
+
+/**
+ * Position of the pages of a document, built with a single pass on the page tree the first time it's used. {@link PDPageTree#indexOf(PDPage)}
+ * walks the page tree every time it's called, this can be used when many pages of the same document have to be looked up. Pages added or
+ * removed from the document after the index is built are not reflected.
+ * 
+ * @author agent
+ *
+ */
+public class PageTreeIndex {
+
+    private final PDDocument document;
+    private Map<COSDictionary, Integer> indexes;
+
+    public PageTreeIndex(PDDocument document) {
+        requireNotNullArg(document, "Cannot index pages of a null document");
+        this.document = document;
+    }
+
+    /**
+     * @param page
+     * @return the zero based index of the given page or -1 if the page is not in the document, same as {@link PDPageTree#indexOf(PDPage)}
+     */
+    public int indexOf(PDPage page) {
+        if (isNull(indexes)) {
+            // page dictionaries are compared by identity, same as the page tree does
+            indexes = new IdentityHashMap<>(document.getNumberOfPages());
+            int index = 0;
+            for (PDPage current : document.getPages()) {
+                indexes.putIfAbsent(current.getCOSObject(), index++);
+            }
+        }
+        return indexes.getOrDefault(page.getCOSObject(), -1);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.impl.sambox.component;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Optional.ofNullable;
+import static org.sejda.util.RequireUtils.requireArg;
+import static org.sejda.util.RequireUtils.requireNotNullArg;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.sejda.model.pdf.page.SortedPagesSet;
+import org.sejda.sambox.cos.COSArray;
+import org.sejda.sambox.cos.COSBase;
+import org.sejda.sambox.cos.COSDictionary;
+import org.sejda.sambox.cos.COSName;
+import org.sejda.sambox.pdmodel.PDPage;
+import org.sejda.sambox.pdmodel.PDPageTree;
+import org.sejda.sambox.pdmodel.common.PDRectangle;
+
+/**
+ * Removes and inserts pages in a page tree with a single pass on the tree, rewriting the kids and the count of each node once, no matter
+ * how many pages are removed or inserted. {@link PDPageTree#remove(int)} and {@link PDPageTree#insertAfter(PDPage, PDPage)} walk the tree
+ * and update the counts of the parent nodes every time they are called, making large edits quadratic. The structure of the tree is kept,
+ * intermediate nodes left without pages are removed. Blank pages are inserted in the node of the page preceding them, or of the page
+ * following them at the beginning of the document, so they inherit the same attributes (rotation, resources, boxes) that page inherits.
+ * 
+ * @author agent
+ *
+ */
+final class PageTreeRewriter {
+
+    private final COSDictionary root;
+    private SortedPagesSet removed;
+    private SortedPagesSet inserted;
+    private PDRectangle defaultMediaBox;
+    // pages of the original tree visited so far
+    private int current;
+    // pages of the resulting tree written so far
+    private int resulting;
+    private COSDictionary previous;
+
+    PageTreeRewriter(COSDictionary root) {
+        requireNotNullArg(root, "Page tree root cannot be null");
+        this.root = root;
+    }
+
+    /**
+     * Removes the given pages and inserts blank pages at the given positions
+     * 
+     * @param removedPages
+     *            1-based numbers of the pages to remove, in the current tree
+     * @param insertedPages
+     *            1-based numbers blank pages will have in the resulting tree
+     * @param defaultMediaBox
+     *            media box of blank pages inserted in a tree left without pages, blank pages otherwise get the media box of the page
+     *            preceding them or of the one following them if they are at the beginning of the document
+     */
+    void rewrite(Set<Integer> removedPages, Set<Integer> insertedPages, PDRectangle defaultMediaBox) {
+        this.removed = new SortedPagesSet(removedPages);
+        this.inserted = new SortedPagesSet(insertedPages);
+        int count = root.getInt(COSName.COUNT, 0);
+        if (!removed.isEmpty()) {
+            requireArg(removed.first() >= 1 && removed.last() <= count, "Cannot remove pages out of the document");
+        }
+        if (!inserted.isEmpty()) {
+            requireArg(inserted.first() >= 1 && inserted.last() <= count - removed.size() + inserted.size(),
+                    "Cannot insert pages out of the resulting document");
+        }
+        this.defaultMediaBox = ofNullable(defaultMediaBox).orElse(PDRectangle.LETTER);
+        this.current = 0;
+        this.resulting = 0;
+        this.previous = null;
+        rewrite(root);
+    }
+
+    private int rewrite(COSDictionary node) {
+        COSArray kids = node.getDictionaryObject(COSName.KIDS, COSArray.class);
+        if (isNull(kids)) {
+            kids = new COSArray();
+            node.setItem(COSName.KIDS, kids);
+        }
+        List<COSBase> rewritten = new ArrayList<>(kids.size());
+        int count = 0;
+        for (int i = 0; i < kids.size(); i++) {
+            COSBase kid = kids.getObject(i);
+            if (kid instanceof COSDictionary) {
+                COSDictionary dictionary = (COSDictionary) kid;
+                if (PDPageTree.isPageTreeNode(dictionary)) {
+                    int kidCount = rewrite(dictionary);
+                    if (kidCount > 0) {
+                        rewritten.add(kids.get(i));
+                        count += kidCount;
+                    }
+                } else if (!removed.contains(++current)) {
+                    if (isNull(previous)) {
+                        // blank pages at the beginning of the document
+                        count += insertBlankPages(rewritten, node, dictionary);
+                    }
+                    rewritten.add(kids.get(i));
+                    resulting++;
+                    count++;
+                    previous = dictionary;
+                    count += insertBlankPages(rewritten, node, dictionary);
+                }
+            } else {
+                // not a page or a node, we leave it where it is
+                rewritten.add(kids.get(i));
+            }
+        }
+        if (node == root) {
+            // the resulting tree has no other page
+            count += insertBlankPages(rewritten, node, null);
+        }
+        kids.clear();
+        kids.addAll(rewritten);
+        node.setInt(COSName.COUNT, count);
+        return count;
+    }
+
+    private int insertBlankPages(List<COSBase> kids, COSDictionary parent, COSDictionary neighbour) {
+        int count = 0;
+        while (inserted.contains(resulting + 1)) {
+            PDRectangle mediaBox = defaultMediaBox;
+            if (nonNull(neighbour)) {
+                mediaBox = new PDPage(neighbour).getMediaBox();
+            }
+            PDPage blank = new PDPage(mediaBox);
+            blank.getCOSObject().setItem(COSName.PARENT, parent);
+            kids.add(blank.getCOSObject());
+            resulting++;
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.impl.sambox.component;
+
+import static java.util.Objects.nonNull;
+import static org.sejda.core.support.io.IOUtils.createTemporaryBuffer;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Set;
+import java.util.SortedSet;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.NullWriter;
+import org.sejda.core.support.metrics.ThreadLocalTaskMetrics;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.exception.TaskExecutionException;
+import org.sejda.model.pdf.page.SortedPagesSet;
+import org.sejda.model.task.TaskCounter;
+import org.sejda.sambox.pdmodel.PDDocument;
+import org.sejda.sambox.pdmodel.PDPage;
+import org.sejda.sambox.text.PDFTextStripper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Component extracting the text of a selection of pages of a document, writing the text of each page to its own temporary file. The
+ * document is processed in a single pass, using the same text stripper for all the pages.
+ * 
+ * @author agent
+ *
+ */
+public class PagesTextExtractor {
+    private static final Logger LOG = LoggerFactory.getLogger(PagesTextExtractor.class);
+
+    private String encoding;
+
+    public PagesTextExtractor(String encoding) {
+        this.encoding = encoding;
+    }
+
+    /**
+     * Extracts the text of the given pages of the given document. The handler is notified once for each page, in ascending pages order,
+     * with the file where the text of that page has been written. Pages without content are notified with an empty file.
+     * 
+     * @param document
+     * @param pages
+     *            1-based page numbers
+     * @param handler
+     * @throws TaskException
+     */
+    public void extract(PDDocument document, Set<Integer> pages, PageTextHandler handler) throws TaskException {
+        if (document == null) {
+            throw new TaskException("Unable to extract text from a null document.");
+        }
+        if (pages == null || pages.isEmpty()) {
+            return;
+        }
+        try {
+            PagesTextStripper stripper = new PagesTextStripper(new SortedPagesSet(pages), (page, text) -> {
+                ThreadLocalTaskMetrics.increment(TaskCounter.PAGES_PROCESSED);
+                handler.onPage(page, text);
+            });
+            stripper.writeText(document, new NullWriter());
+            stripper.completeUpTo(Integer.MAX_VALUE);
+            if (nonNull(stripper.failure)) {
+                throw stripper.failure;
+            }
+        } catch (IOException e) {
+            throw new TaskExecutionException("An error occurred extracting text from a pdf source.", e);
+        }
+    }
+
+    /**
+     * Receives the text of the pages
+     */
+    @FunctionalInterface
+    public static interface PageTextHandler {
+        /**
+         * @param page
+         *            1-based page number
+         * @param text
+         *            file holding the text of the page
+         * @throws TaskException
+         */
+        void onPage(int page, File text) throws TaskException;
+    }
+
+    /**
+     * Text stripper switching its output at pages boundaries. Pages not selected are skipped without being processed.
+     */
+    private class PagesTextStripper extends PDFTextStripper {
+
+        private final SortedSet<Integer> pages;
+        private final PageTextHandler handler;
+        private TaskException failure;
+
+        PagesTextStripper(SortedSet<Integer> pages, PageTextHandler handler) throws IOException {
+            this.pages = pages;
+            this.handler = handler;
+            setStartPage(pages.first());
+            setEndPage(pages.last());
+        }
+
+        @Override
+        public void processPage(PDPage page) throws IOException {
+            int pageNumber = getCurrentPageNo();
+            if (pages.contains(pageNumber) && completeUpTo(pageNumber)) {
+                try {
+                    pages.remove(pageNumber);
+                    File tmpFile = createTemporaryBuffer();
+                    LOG.debug("Extracting text from page {} to temporary buffer {}", pageNumber, tmpFile);
+                    Writer previous = output;
+                    output = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(tmpFile), encoding));
+                    try {
+                        super.processPage(page);
+                    } finally {
+                        IOUtils.closeQuietly(output);
+                        output = previous;
+                    }
+                    handler.onPage(pageNumber, tmpFile);
+                } catch (TaskException e) {
+                    failure = e;
+                } catch (IOException e) {
+                    failure = new TaskExecutionException("An error occurred extracting text from page " + pageNumber, e);
+                }
+            }
+        }
+
+        /**
+         * Notifies an empty text for the selected pages before the given one that haven't been processed because they have no content
+         * 
+         * @return true if no failure occurred
+         */
+        boolean completeUpTo(int pageNumber) {
+            try {
+                while (failure == null && !pages.isEmpty() && pages.first() < pageNumber) {
+                    int emptyPage = pages.first();
+                    pages.remove(emptyPage);
+                    handler.onPage(emptyPage, createTemporaryBuffer());
+                }
+            } catch (TaskException e) {
+                failure = e;
+            }
+            return failure == null;
+        }
+    }
+}
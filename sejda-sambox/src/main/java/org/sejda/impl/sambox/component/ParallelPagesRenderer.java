@@ -0,0 +1,201 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.impl.sambox.component;
+
+import static java.util.Objects.isNull;
+import static org.sejda.common.ComponentsUtility.nullSafeCloseQuietly;
+import static org.sejda.core.support.concurrent.WorkerThreads.newFixedThreadPool;
+import static org.sejda.core.support.concurrent.WorkerThreads.shutdownAndWait;
+import static org.sejda.core.support.concurrent.WorkerThreads.waitFor;
+
+import java.awt.image.BufferedImage;
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.input.PdfSource;
+import org.sejda.model.input.PdfSourceOpener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Component rendering pages of a {@link PdfSource} to images using a pool of worker threads. Each worker opens its own instance of the
+ * document and renders pages only from it, so no document is ever shared among threads. Rendered images can be encoded by the same
+ * worker that rendered them, and are then handed to the caller, on the caller thread, in the order the pages were requested. The source
+ * must be one that can be opened multiple times.
+ *
+ * @author agent
+ *
+ */
+public class ParallelPagesRenderer implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelPagesRenderer.class);
+
+    private final PdfSource<?> source;
+    private final PdfSourceOpener<PDDocumentHandler> opener;
+    private final int parallelism;
+    private final ExecutorService executor;
+    private final ThreadLocal<PDDocumentHandler> documents = new ThreadLocal<>();
+    private final List<PDDocumentHandler> opened = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param source
+     *            the source to render
+     * @param opener
+     *            the opener used by each worker to open its own instance of the source
+     * @param parallelism
+     *            number of worker threads
+     */
+    public ParallelPagesRenderer(PdfSource<?> source, PdfSourceOpener<PDDocumentHandler> opener, int parallelism) {
+        this.source = source;
+        this.opener = opener;
+        this.parallelism = Math.max(1, parallelism);
+        this.executor = newFixedThreadPool(this.parallelism, "sejda-pages-renderer");
+    }
+
+    /**
+     * Renders the given pages. To limit the memory used by the rendered images, only a bounded number of pages is rendered ahead of the
+     * one currently handled.
+     *
+     * @param pages
+     *            page numbers to render, in the order they have to be handled
+     * @param dpi
+     *            resolution of the rendered images
+     * @param handler
+     *            receives each rendered image, in the given pages order
+     * @throws TaskException
+     *             the first error, in the given pages order, occurred rendering or handling the pages
+     */
+    public void render(Collection<Integer> pages, int dpi, RenderedPageHandler handler) throws TaskException {
+        render(pages, dpi, (page, image) -> image, handler::onPage);
+    }
+
+    /**
+     * Renders the given pages and encodes the rendered images on the worker threads. To limit the memory used by the rendered images,
+     * only a bounded number of pages is rendered ahead of the one currently handled.
+     *
+     * @param pages
+     *            page numbers to render, in the order they have to be handled
+     * @param dpi
+     *            resolution of the rendered images
+     * @param encoder
+     *            encodes each rendered image, on the worker thread that rendered it
+     * @param handler
+     *            receives each encoded image, on the caller thread in the given pages order
+     * @throws TaskException
+     *             the first error, in the given pages order, occurred rendering, encoding or handling the pages
+     */
+    public <T> void render(Collection<Integer> pages, int dpi, RenderedPageEncoder<T> encoder,
+            EncodedPageHandler<T> handler) throws TaskException {
+        LOG.debug("Rendering {} pages using {} threads", pages.size(), parallelism);
+        Iterator<Integer> toRender = pages.iterator();
+        Deque<Future<T>> rendering = new LinkedList<>();
+        for (int page : pages) {
+            while (rendering.size() < parallelism * 2 && toRender.hasNext()) {
+                int current = toRender.next();
+                rendering.add(executor.submit(
+                        () -> encoder.encode(current, documentHandler().renderImage(current, dpi))));
+            }
+            handler.onPage(page, waitFor(rendering.poll(), "rendering page " + page));
+        }
+    }
+
+    private PDDocumentHandler documentHandler() throws TaskException {
+        PDDocumentHandler documentHandler = documents.get();
+        if (isNull(documentHandler)) {
+            LOG.trace("Opening {} on {}", source, Thread.currentThread().getName());
+            documentHandler = source.open(opener);
+            opened.add(documentHandler);
+            documents.set(documentHandler);
+        }
+        return documentHandler;
+    }
+
+    /**
+     * Discards the pages not yet rendered, waits for the workers to complete and closes the documents they opened
+     */
+    @Override
+    public void close() {
+        shutdownAndWait(executor);
+        opened.forEach(d -> nullSafeCloseQuietly(d));
+        opened.clear();
+    }
+
+    /**
+     * Encoder for the rendered pages, it's called by the worker threads
+     *
+     * @author agent
+     *
+     */
+    @FunctionalInterface
+    public static interface RenderedPageEncoder<T> {
+        /**
+         * @param page
+         *            the rendered page number
+         * @param image
+         *            the rendered image
+         * @return the encoded image
+         * @throws TaskException
+         */
+        T encode(int page, BufferedImage image) throws TaskException;
+    }
+
+    /**
+     * Handler for the encoded pages
+     *
+     * @author agent
+     *
+     */
+    @FunctionalInterface
+    public static interface EncodedPageHandler<T> {
+        /**
+         * @param page
+         *            the rendered page number
+         * @param encoded
+         *            the encoded image
+         * @throws TaskException
+         */
+        void onPage(int page, T encoded) throws TaskException;
+    }
+
+    /**
+     * Handler for the rendered pages
+     *
+     * @author agent
+     *
+     */
+    @FunctionalInterface
+    public static interface RenderedPageHandler {
+        /**
+         * @param page
+         *            the rendered page number
+         * @param image
+         *            the rendered image
+         * @throws TaskException
+         */
+        void onPage(int page, BufferedImage image) throws TaskException;
+    }
+}
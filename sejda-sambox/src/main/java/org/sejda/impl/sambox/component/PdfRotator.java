@@ -20,7 +20,9 @@ package org.sejda.impl.sambox.component;
 
 import static org.sejda.model.rotation.Rotation.getRotation;
 
+import org.sejda.core.support.metrics.ThreadLocalTaskMetrics;
 import org.sejda.model.rotation.Rotation;
+import org.sejda.model.task.TaskCounter;
 import org.sejda.sambox.pdmodel.PDDocument;
 import org.sejda.sambox.pdmodel.PDPage;
 import org.slf4j.Logger;
@@ -47,5 +49,6 @@ public final class PdfRotator {
         LOG.debug("Applying rotation of {} degrees to page {}", rotation.getDegrees(), pageNumber);
         PDPage page = document.getPage(pageNumber - 1);
         page.setRotation(rotation.addRotation(getRotation(page.getRotation())).getDegrees());
+        ThreadLocalTaskMetrics.increment(TaskCounter.PAGES_PROCESSED);
     }
 }
\ No newline at end of file
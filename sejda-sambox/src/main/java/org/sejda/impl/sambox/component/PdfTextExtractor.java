@@ -30,8 +30,10 @@ import java.io.Writer;
 import org.apache.commons.io.IOUtils;
 import org.sejda.sambox.pdmodel.PDDocument;
 import org.sejda.sambox.text.PDFTextStripper;
+import org.sejda.core.support.metrics.ThreadLocalTaskMetrics;
 import org.sejda.model.exception.TaskException;
 import org.sejda.model.exception.TaskExecutionException;
+import org.sejda.model.task.TaskCounter;
 
 /**
  * Component responsible for extracting text from an input pdf document.
@@ -78,6 +80,8 @@ public class PdfTextExtractor implements Closeable {
         try {
             outputWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(output), encoding));
             textStripper.writeText(document, outputWriter);
+            ThreadLocalTaskMetrics.count(TaskCounter.PAGES_PROCESSED, Math.max(0,
+                    Math.min(textStripper.getEndPage(), document.getNumberOfPages()) - textStripper.getStartPage() + 1));
         } catch (IOException e) {
             throw new TaskExecutionException("An error occurred extracting text from a pdf source.", e);
         }
@@ -18,6 +18,8 @@
  */
 package org.sejda.impl.sambox.component;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
 import static org.sejda.util.RequireUtils.requireIOCondition;
@@ -28,10 +30,14 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.util.GregorianCalendar;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.DeflaterInputStream;
 
+import org.sejda.core.support.io.ThreadLocalTemporaryBuffersManager;
 import org.sejda.io.SeekableSource;
 import org.sejda.model.exception.SejdaRuntimeException;
 import org.sejda.model.exception.TaskIOException;
@@ -39,6 +45,7 @@ import org.sejda.model.input.FileSource;
 import org.sejda.model.input.Source;
 import org.sejda.model.input.SourceDispatcher;
 import org.sejda.model.input.StreamSource;
+import org.sejda.model.task.TemporaryBuffersManager;
 import org.sejda.sambox.cos.COSBase;
 import org.sejda.sambox.cos.COSDictionary;
 import org.sejda.sambox.cos.COSName;
@@ -46,30 +53,62 @@ import org.sejda.sambox.cos.COSStream;
 import org.sejda.sambox.cos.IndirectCOSObjectIdentifier;
 import org.sejda.sambox.pdmodel.graphics.color.PDColorSpace;
 import org.sejda.util.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A read only, filtered, encryptable, indirect reference length {@link COSStream} whose purpose is to be read by the PDF writer during the write process. This can allow to create
  * streams from File input streams and predefine the expected dictionary without having to read anything into memory.
+ * <p>
+ * Streams created from a {@link StreamSupplier} are opened only when the writer asks for the filtered stream and closed as soon as the
+ * writer is done with them, so that creating thousands of these doesn't mean keeping thousands of files open. The number of such streams
+ * open at the same time is bounded by the {@link TemporaryBuffersManager#openStreams()} budget of the task creating them, if any. When no
+ * permit becomes available in a reasonable time the stream is opened anyway, exceeding the budget rather than risking to wait forever.
+ * </p>
  * 
  * @author Andrea Vacondio
  *
  */
 public class ReadOnlyFilteredCOSStream extends COSStream {
+    private static final Logger LOG = LoggerFactory.getLogger(ReadOnlyFilteredCOSStream.class);
+    private static final long OPEN_STREAM_TIMEOUT_SECONDS = 10;
+
+    private final StreamSupplier supplier;
+    private final Semaphore openStreams;
     private InputStream stream;
+    private boolean opened = false;
     private long length;
     private COSDictionary wrapped;
 
     ReadOnlyFilteredCOSStream(COSDictionary existingDictionary, InputStream stream, long length) {
+        this(existingDictionary, null, stream, length);
+        requireNotNullArg(stream, "input stream cannot be null");
+    }
+
+    private ReadOnlyFilteredCOSStream(COSDictionary existingDictionary, StreamSupplier supplier, InputStream stream,
+            long length) {
         super(ofNullable(existingDictionary)
                 .orElseThrow(() -> new IllegalArgumentException("wrapped dictionary cannot be null")));
-        requireNotNullArg(stream, "input stream cannot be null");
+        this.supplier = supplier;
+        // worker threads of the WorkerThreads pools, like the images optimizer ones, have the manager of the task bound too
+        this.openStreams = ofNullable(ThreadLocalTemporaryBuffersManager.getManager())
+                .map(TemporaryBuffersManager::openStreams).orElse(null);
         this.stream = stream;
         this.length = length;
         this.wrapped = existingDictionary;
     }
 
     @Override
-    protected InputStream doGetFilteredStream() {
+    protected InputStream doGetFilteredStream() throws IOException {
+        if (nonNull(supplier) && isNull(stream)) {
+            opened = acquire();
+            try {
+                stream = supplier.open();
+            } catch (IOException | RuntimeException e) {
+                release();
+                throw e;
+            }
+        }
         return stream;
     }
 
@@ -157,6 +196,35 @@ public class ReadOnlyFilteredCOSStream extends COSStream {
     @Override
     public void close() {
         IOUtils.closeQuietly(stream);
+        if (nonNull(supplier)) {
+            // opened again if the stream is requested again
+            stream = null;
+            release();
+        }
+    }
+
+    private boolean acquire() throws InterruptedIOException {
+        if (isNull(openStreams)) {
+            return false;
+        }
+        try {
+            if (openStreams.tryAcquire(OPEN_STREAM_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                return true;
+            }
+            LOG.warn("No open streams permit available after {} seconds, opening the stream anyway",
+                    OPEN_STREAM_TIMEOUT_SECONDS);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to open the stream");
+        }
+    }
+
+    private void release() {
+        if (opened) {
+            opened = false;
+            openStreams.release();
+        }
     }
 
     /**
@@ -168,6 +236,8 @@ public class ReadOnlyFilteredCOSStream extends COSStream {
      */
     public static ReadOnlyFilteredCOSStream readOnly(COSStream existing) throws IOException {
         requireNotNullArg(existing, "input stream cannot be null");
+        // the filtered stream of an existing COSStream is a view on the already open source of its document, there's no file handle to
+        // save by opening it lazily
         // let's make sure we get the unencrypted and filtered
         existing.setEncryptor(null);
         return new ReadOnlyFilteredCOSStream(existing, existing.getFilteredStream(), existing.getFilteredLength());
@@ -184,11 +254,61 @@ public class ReadOnlyFilteredCOSStream extends COSStream {
      * @param colorSpace
      * @return
      * @throws FileNotFoundException
+     *             if the image file doesn't exist. The file is opened only when the stream is written.
      */
     public static ReadOnlyFilteredCOSStream readOnlyJpegImage(File imageFile, int width, int height,
             int bitsPerComponent, PDColorSpace colorSpace) throws FileNotFoundException {
         requireNotNullArg(imageFile, "input file cannot be null");
         requireNotNullArg(colorSpace, "color space cannot be null");
+        requireFile(imageFile);
+        return readOnlyJpegImage(() -> new FileInputStream(imageFile), imageFile.length(), width, height,
+                bitsPerComponent, colorSpace);
+    }
+
+    /**
+     * a {@link ReadOnlyFilteredCOSStream} that represents an xobject JPEG image
+     * 
+     * @param imageStream
+     *            the image bytes
+     * @param length
+     *            number of bytes of the image
+     * @param width
+     * @param height
+     * @param bitsPerComponent
+     * @param colorSpace
+     * @return
+     */
+    public static ReadOnlyFilteredCOSStream readOnlyJpegImage(InputStream imageStream, long length, int width,
+            int height, int bitsPerComponent, PDColorSpace colorSpace) {
+        requireNotNullArg(imageStream, "input stream cannot be null");
+        requireNotNullArg(colorSpace, "color space cannot be null");
+        return new ReadOnlyFilteredCOSStream(jpegImageDictionary(width, height, bitsPerComponent, colorSpace),
+                imageStream, length);
+    }
+
+    /**
+     * a {@link ReadOnlyFilteredCOSStream} that represents an xobject JPEG image whose bytes are opened only when the stream is written
+     * 
+     * @param imageStream
+     *            supplier of the image bytes
+     * @param length
+     *            number of bytes of the image
+     * @param width
+     * @param height
+     * @param bitsPerComponent
+     * @param colorSpace
+     * @return
+     */
+    public static ReadOnlyFilteredCOSStream readOnlyJpegImage(StreamSupplier imageStream, long length, int width,
+            int height, int bitsPerComponent, PDColorSpace colorSpace) {
+        requireNotNullArg(imageStream, "input stream supplier cannot be null");
+        requireNotNullArg(colorSpace, "color space cannot be null");
+        return new ReadOnlyFilteredCOSStream(jpegImageDictionary(width, height, bitsPerComponent, colorSpace),
+                imageStream, null, length);
+    }
+
+    private static COSDictionary jpegImageDictionary(int width, int height, int bitsPerComponent,
+            PDColorSpace colorSpace) {
         COSDictionary dictionary = new COSDictionary();
         dictionary.setItem(COSName.TYPE, COSName.XOBJECT);
         dictionary.setItem(COSName.SUBTYPE, COSName.IMAGE);
@@ -197,7 +317,7 @@ public class ReadOnlyFilteredCOSStream extends COSStream {
         dictionary.setInt(COSName.HEIGHT, height);
         dictionary.setInt(COSName.WIDTH, width);
         of(colorSpace).map(PDColorSpace::getCOSObject).ifPresent(cs -> dictionary.setItem(COSName.COLORSPACE, cs));
-        return new ReadOnlyFilteredCOSStream(dictionary, new FileInputStream(imageFile), imageFile.length());
+        return dictionary;
     }
 
     /**
@@ -215,8 +335,9 @@ public class ReadOnlyFilteredCOSStream extends COSStream {
             @Override
             public ReadOnlyFilteredCOSStream dispatch(FileSource source) throws TaskIOException {
                 try {
+                    requireFile(source.getSource());
                     ReadOnlyFilteredCOSStream retVal = new ReadOnlyFilteredCOSStream(dictionary,
-                            new DeflaterInputStream(new FileInputStream(source.getSource())), -1);
+                            () -> new DeflaterInputStream(new FileInputStream(source.getSource())), null, -1);
                     retVal.setEmbeddedInt(COSName.PARAMS.getName(), COSName.SIZE, source.getSource().length());
                     GregorianCalendar calendar = new GregorianCalendar();
                     calendar.setTimeInMillis(source.getSource().lastModified());
@@ -229,8 +350,23 @@ public class ReadOnlyFilteredCOSStream extends COSStream {
 
             @Override
             public ReadOnlyFilteredCOSStream dispatch(StreamSource source) {
+                // the stream is already open and owned by the caller, it cannot be opened again once closed
                 return new ReadOnlyFilteredCOSStream(dictionary, new DeflaterInputStream(source.getSource()), -1);
             }
         });
     }
+
+    private static void requireFile(File file) throws FileNotFoundException {
+        if (!file.isFile()) {
+            throw new FileNotFoundException(file.getAbsolutePath() + " does not exist or is not a file");
+        }
+    }
+
+    /**
+     * Supplier of the filtered bytes of a {@link ReadOnlyFilteredCOSStream}, asked to open a new stream when the writer needs it
+     */
+    @FunctionalInterface
+    public static interface StreamSupplier {
+        InputStream open() throws IOException;
+    }
 }
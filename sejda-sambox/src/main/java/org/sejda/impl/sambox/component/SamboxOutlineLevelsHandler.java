@@ -18,6 +18,7 @@
  */
 package org.sejda.impl.sambox.component;
 
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.sejda.impl.sambox.component.OutlineUtils.getMaxOutlineLevel;
@@ -30,7 +31,6 @@ import java.util.regex.Pattern;
 import org.sejda.model.outline.OutlineExtractPageDestinations;
 import org.sejda.model.outline.OutlinePageDestinations;
 import org.sejda.sambox.pdmodel.PDDocument;
-import org.sejda.sambox.pdmodel.PDPageTree;
 import org.sejda.sambox.pdmodel.interactive.documentnavigation.destination.PDPageDestination;
 import org.sejda.sambox.pdmodel.interactive.documentnavigation.outline.PDOutlineItem;
 import org.sejda.sambox.pdmodel.interactive.documentnavigation.outline.PDOutlineNode;
@@ -45,12 +45,12 @@ public class SamboxOutlineLevelsHandler implements org.sejda.model.outline.Outli
 
     private Pattern titleMatchingPattern = Pattern.compile(".+");
     private PDDocument document;
-    private PDPageTree pages;
+    private PageTreeIndex pages;
 
     public SamboxOutlineLevelsHandler(PDDocument document, String matchingTitleRegEx) {
         requireNonNull(document, "Unable to retrieve bookmarks from a null document.");
         this.document = document;
-        this.pages = document.getPages();
+        this.pages = new PageTreeIndex(document);
         if (isNotBlank(matchingTitleRegEx)) {
             this.titleMatchingPattern = Pattern.compile(matchingTitleRegEx);
         }
@@ -101,35 +101,28 @@ public class SamboxOutlineLevelsHandler implements org.sejda.model.outline.Outli
     public OutlineExtractPageDestinations getExtractPageDestinations(int level) {
         OutlineExtractPageDestinations destinations = new OutlineExtractPageDestinations();
 
-        List<OutlineItem> flatOutline = OutlineUtils.getFlatOutline(document);
-
-        for(int i = 0; i < flatOutline.size(); i++) {
-            OutlineItem item = flatOutline.get(i);
-            if(item.level == level) {
-                int startPage = item.page;
-                String title = item.title;
-
-                if (isNotBlank(title)) {
-                    if (titleMatchingPattern.matcher(title).matches()) {
-                        int endPage = document.getNumberOfPages();
-                        for(int j = i + 1; j < flatOutline.size(); j++) {
-                            OutlineItem after = flatOutline.get(j);
-                            if(after.level <= item.level) {
-                                // This is technically more accurate, but in practice outlines contain non xyzDestinations for sections that start half-page
-                                // resulting in the last half page missing from the extract.
-                                // Let's see. Maybe better to error on the safe side and include one extra page than have parts missing?
-                                // The downside with adding one extra page is that batched payslips or any other doc that needs precise splitting will be worse
-                                // with the extra page from the next item in there
-                                // For now choosing the precise split and we'll see if we need to change our minds
-                                endPage = after.xyzDestination ? after.page : after.page - 1;
-                                // endPage = after.page;
-                                break;
-                            }
-                        }
-                        destinations.add(startPage, title, endPage);
-                    }
-                }
+        List<OutlineItem> flatOutline = OutlineUtils.getFlatOutline(document, pages);
+
+        // the section of an item ends where the next item at the same or an upper level starts. Items at the level are boundaries for the
+        // previous one, so there's at most one section waiting for its end
+        OutlineItem pending = null;
+        for (OutlineItem item : flatOutline) {
+            if (item.level <= level && nonNull(pending)) {
+                // This is technically more accurate, but in practice outlines contain non xyzDestinations for sections that start half-page
+                // resulting in the last half page missing from the extract.
+                // Let's see. Maybe better to error on the safe side and include one extra page than have parts missing?
+                // The downside with adding one extra page is that batched payslips or any other doc that needs precise splitting will be worse
+                // with the extra page from the next item in there
+                // For now choosing the precise split and we'll see if we need to change our minds
+                destinations.add(pending.page, pending.title, item.xyzDestination ? item.page : item.page - 1);
+                pending = null;
             }
+            if (item.level == level && isNotBlank(item.title) && titleMatchingPattern.matcher(item.title).matches()) {
+                pending = item;
+            }
+        }
+        if (nonNull(pending)) {
+            destinations.add(pending.page, pending.title, document.getNumberOfPages());
         }
 
         return destinations;
@@ -22,6 +22,7 @@ import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
 import static org.sejda.impl.sambox.util.FontUtils.getStandardType1Font;
 
 import java.io.Closeable;
+import java.io.IOException;
 import java.util.SortedSet;
 
 import org.apache.commons.io.IOUtils;
@@ -47,6 +48,7 @@ public class SetHeaderFooterWriter implements Closeable {
     private static final Logger LOG = LoggerFactory.getLogger(SetHeaderFooterWriter.class);
 
     private PDDocumentHandler documentHandler;
+    private PageContentStreams streams;
     private PageTextWriter headerFooterWriter;
     private int totalPages;
 
@@ -56,7 +58,8 @@ public class SetHeaderFooterWriter implements Closeable {
      */
     public SetHeaderFooterWriter(PDDocumentHandler documentHandler) {
         this.documentHandler = documentHandler;
-        this.headerFooterWriter = new PageTextWriter(documentHandler.getUnderlyingPDDocument());
+        this.streams = new PageContentStreams(documentHandler.getUnderlyingPDDocument());
+        this.headerFooterWriter = new PageTextWriter(documentHandler.getUnderlyingPDDocument(), streams);
         this.totalPages = documentHandler.getNumberOfPages();
     }
 
@@ -98,6 +101,11 @@ public class SetHeaderFooterWriter implements Closeable {
                 LOG.warn(warning, ex);
             }
         }
+        try {
+            streams.close();
+        } catch (IOException e) {
+            throw new TaskIOException("An error occurred writing the header or footer of the page.", e);
+        }
     }
 
     @Override
@@ -19,24 +19,36 @@
 package org.sejda.impl.sambox.component.optimizaton;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
-import static org.sejda.sambox.pdmodel.graphics.image.JPEGFactory.getColorSpaceFromAWT;
-import static org.sejda.sambox.pdmodel.graphics.image.JPEGFactory.readJpegFile;
+import static org.sejda.core.support.concurrent.WorkerThreads.newFixedThreadPool;
+import static org.sejda.core.support.concurrent.WorkerThreads.shutdownAndWait;
+import static org.sejda.core.support.concurrent.WorkerThreads.waitFor;
 
 import java.awt.image.BufferedImage;
-import java.io.File;
+import java.io.Closeable;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.util.Base64;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
+import org.sejda.core.support.io.ThreadLocalTemporaryBuffersManager;
+import org.sejda.core.support.metrics.ThreadLocalTaskMetrics;
 import org.sejda.core.writer.model.ImageOptimizer;
+import org.sejda.core.writer.model.OptimizedImage;
 import org.sejda.impl.sambox.component.ReadOnlyFilteredCOSStream;
+import org.sejda.model.exception.TaskException;
 import org.sejda.model.optimization.Optimization;
 import org.sejda.model.parameter.OptimizeParameters;
+import org.sejda.model.task.TaskCounter;
+import org.sejda.model.task.TaskPhase;
 import org.sejda.sambox.contentstream.PDFStreamEngine;
 import org.sejda.sambox.contentstream.operator.DrawObject;
 import org.sejda.sambox.contentstream.operator.MissingOperandException;
@@ -52,34 +64,42 @@ import org.sejda.sambox.cos.COSDictionary;
 import org.sejda.sambox.cos.COSName;
 import org.sejda.sambox.cos.COSStream;
 import org.sejda.sambox.cos.IndirectCOSObjectIdentifier;
-import org.sejda.sambox.encryption.MessageDigests;
 import org.sejda.sambox.pdmodel.MissingResourceException;
 import org.sejda.sambox.pdmodel.PDPage;
 import org.sejda.sambox.pdmodel.graphics.PDXObject;
+import org.sejda.sambox.pdmodel.graphics.color.PDDeviceRGB;
 import org.sejda.sambox.pdmodel.graphics.form.PDFormXObject;
 import org.sejda.sambox.pdmodel.graphics.image.PDImageXObject;
 import org.sejda.sambox.pdmodel.interactive.annotation.PDAnnotation;
 import org.sejda.sambox.util.Matrix;
+import org.sejda.util.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Component that parses the page content stream and its annotations appearance stream and performs some optimization, depending on the input {@link OptimizeParameters}. It tries
- * to identify equal image xobjects and reuse them.
+ * to identify equal image xobjects and reuse them. Images to compress are collected while pages are accepted, together with the maximum size
+ * they are displayed at, and they are compressed once {@link #optimizeImages()} is called. Compressed images are kept in memory, up to the
+ * total size given by the parameters, until this optimizer is closed, which has to happen once the document has been written.
  * 
  * @author Andrea Vacondio
  *
  */
-class ImagesOptimizer extends PDFStreamEngine implements Consumer<PDPage> {
+class ImagesOptimizer extends PDFStreamEngine implements Consumer<PDPage>, Closeable {
 
     private static final Logger LOG = LoggerFactory.getLogger(ImagesOptimizer.class);
 
     private Map<String, ReadOnlyFilteredCOSStream> optimizedByHash = new HashMap<>();
     private Map<IndirectCOSObjectIdentifier, ReadOnlyFilteredCOSStream> optimizedById = new HashMap<>();
+    private Map<IndirectCOSObjectIdentifier, ImageCandidate> candidates = new LinkedHashMap<>();
+    private List<OptimizedImage> retained = new ArrayList<>();
+    private final AtomicLong availableMemory;
+    private final Object documentLock = new Object();
     private OptimizeParameters parameters;
 
     ImagesOptimizer(OptimizeParameters parameters) {
         this.parameters = parameters;
+        this.availableMemory = new AtomicLong(parameters.getMaxInMemoryImagesSize());
         addOperator(new Concatenate());
         addOperator(new DrawObject());
         addOperator(new SetGraphicsStateParameters());
@@ -121,12 +141,8 @@ class ImagesOptimizer extends PDFStreamEngine implements Consumer<PDPage> {
                                 }
 
                                 if (unfilteredSize > parameters.getImageMinBytesSize() && !jbig2Image) {
-                                    long start = System.currentTimeMillis();
                                     PDXObject xobject = PDXObject.createXObject(stream.getCOSObject(),
                                             context.getResources());
-                                    long elapsed = System.currentTimeMillis() - start;
-                                    if (elapsed > 500)
-                                        LOG.debug("Loading PDXObject took " + elapsed + "ms");
 
                                     PDImageXObject image = (PDImageXObject) xobject;
 
@@ -142,7 +158,7 @@ class ImagesOptimizer extends PDFStreamEngine implements Consumer<PDPage> {
                                             objectName.getName(), image.getHeight(), image.getWidth(), displayHeight,
                                             displayWidth, imageYScale, imageXScale, unfilteredSize);
 
-                                    optimize(objectName, image, stream.id(), displayWidth, displayHeight);
+                                    collect(objectName, image, stream.id(), displayWidth, displayHeight);
                                 }
                             }
                         } else if (COSName.FORM.getName().equals(subtype)) {
@@ -159,65 +175,28 @@ class ImagesOptimizer extends PDFStreamEngine implements Consumer<PDPage> {
             }
         }
 
-        private void optimize(COSName objectName, PDImageXObject image, IndirectCOSObjectIdentifier id,
+        private void collect(COSName objectName, PDImageXObject image, IndirectCOSObjectIdentifier id,
                 int displayWidth, int displayHeight) {
-            try {
-                LOG.debug("Optimizing image {} {} with dimensions {}x{}", objectName.getName(), id.toString(),
-                        image.getWidth(), image.getHeight());
-                ReadOnlyFilteredCOSStream optimizedImage = optimizedById.get(id);
-
-                if (optimizedImage == null) {
-                    long start = System.currentTimeMillis();
-                    File tmpImageFile = ImageOptimizer.optimize(image.getImageWithoutMasks(),
-                            parameters.getImageQuality(), parameters.getImageDpi(), displayWidth, displayHeight);
-
-                    long elapsed = System.currentTimeMillis() - start;
-                    if (elapsed > 500)
-                        LOG.debug("Optimizing image took " + elapsed + "ms");
-
-                    // we wrap the existing so we can identify it later as "in use" and already processed
-                    optimizedImage = ReadOnlyFilteredCOSStream.readOnly(image.getCOSObject());
-
-                    double sizeRate = tmpImageFile.length() * 100.0 / image.getCOSObject().getFilteredLength();
-                    // can be compressed
-                    if (sizeRate < 100) {
-                        String hash = Base64.getEncoder()
-                                .encodeToString(MessageDigests.md5().digest(Files.readAllBytes(tmpImageFile.toPath())));
-                        optimizedImage = optimizedByHash.get(hash);
-                        // is it the same as something we already compressed?
-                        if (isNull(optimizedImage)) {
-                            LOG.debug(String.format("Compressed image to %.2f%% of original size", sizeRate));
-                            optimizedImage = createFromJpegFile(tmpImageFile);
-                            optimizedByHash.put(hash, optimizedImage);
-                            optimizedById.put(id, optimizedImage);
-                        } else {
-                            LOG.debug("Reusing previously optimized image");
-                        }
-                    } else {
-                        LOG.debug(String.format("Skipping already compressed image, result is %.2f%% of original size",
-                                sizeRate));
-                    }
-                } else {
-                    LOG.debug(String.format("Skipping already compressed image with id %s", id));
-                }
-
-                COSDictionary resources = context.getResources().getCOSObject();
-                COSDictionary xobjects = ofNullable(resources.getDictionaryObject(COSName.XOBJECT))
-                        .filter(b -> b instanceof COSDictionary).map(b -> (COSDictionary) b).orElseGet(() -> {
-                            COSDictionary ret = new COSDictionary();
-                            resources.setItem(COSName.XOBJECT, ret);
-                            return ret;
-                        });
+            if (isNull(id)) {
+                LOG.warn("Unable to identify image {}, skipping and continuing with next.", objectName.getName());
+                return;
+            }
+            COSDictionary resources = context.getResources().getCOSObject();
+            COSDictionary xobjects = ofNullable(resources.getDictionaryObject(COSName.XOBJECT))
+                    .filter(b -> b instanceof COSDictionary).map(b -> (COSDictionary) b).orElseGet(() -> {
+                        COSDictionary ret = new COSDictionary();
+                        resources.setItem(COSName.XOBJECT, ret);
+                        return ret;
+                    });
+            ReadOnlyFilteredCOSStream optimizedImage = optimizedById.get(id);
+            if (nonNull(optimizedImage)) {
+                LOG.debug(String.format("Skipping already compressed image with id %s", id));
                 xobjects.setItem(objectName, optimizedImage);
-                // free up resources used by the underlying COSStream
-                // which stores both the filtered and unfiltered bytes[] and DecodeResult
-                // potentially creating a large memory footprint
-                image.getCOSObject().unDecode();
-                LOG.debug("Used memory: {} Mb",
-                        (Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory()) / 1000 / 1000);
-
-            } catch (IOException | RuntimeException ex) {
-                LOG.warn("Failed to optimize image, skipping and continuing with next.", ex);
+            } else {
+                LOG.debug("Found image {} {} to optimize with dimensions {}x{}", objectName.getName(), id,
+                        image.getWidth(), image.getHeight());
+                candidates.computeIfAbsent(id, k -> new ImageCandidate(image, id)).addReference(xobjects, objectName,
+                        displayWidth, displayHeight);
             }
         }
 
@@ -247,6 +226,7 @@ class ImagesOptimizer extends PDFStreamEngine implements Consumer<PDPage> {
 
     @Override
     public void accept(PDPage page) {
+        long start = System.nanoTime();
         try {
             this.processPage(page);
             for (PDAnnotation annotation : page.getAnnotations()) {
@@ -255,21 +235,234 @@ class ImagesOptimizer extends PDFStreamEngine implements Consumer<PDPage> {
             }
         } catch (IOException e) {
             LOG.warn("Failed to optimize page, skipping and continuing with next.", e);
+        } finally {
+            ThreadLocalTaskMetrics.phaseSince(TaskPhase.OPTIMIZATION, start);
         }
     }
 
-    public static ReadOnlyFilteredCOSStream createFromJpegFile(File file) throws IOException {
-        // read image
-        BufferedImage awtImage = readJpegFile(file);
-        if (awtImage.getColorModel().hasAlpha()) {
-            throw new UnsupportedOperationException("alpha channel not implemented");
+    /**
+     * Recompresses the images collected from the pages accepted so far and replaces their references in the resource dictionaries. Images
+     * are recompressed by a pool of worker threads when the parameters ask for an image compression parallelism greater than one.
+     * 
+     * @throws TaskException
+     *             if a worker failed or the wait for the workers has been interrupted
+     */
+    public void optimizeImages() throws TaskException {
+        if (!candidates.isEmpty()) {
+            long start = System.nanoTime();
+            List<ImageCandidate> toOptimize = new ArrayList<>(candidates.values());
+            candidates.clear();
+            int threads = Math.min(parameters.getImageCompressionParallelism(), toOptimize.size());
+            if (threads <= 1) {
+                for (ImageCandidate candidate : toOptimize) {
+                    replace(candidate, compress(candidate));
+                }
+            } else {
+                LOG.debug("Compressing {} images using {} threads", toOptimize.size(), threads);
+                ExecutorService executor = newFixedThreadPool(threads, "sejda-images-optimizer");
+                List<Future<CompressedImage>> results = new ArrayList<>(toOptimize.size());
+                int replaced = 0;
+                try {
+                    for (ImageCandidate candidate : toOptimize) {
+                        results.add(executor.submit(() -> compress(candidate)));
+                    }
+                    for (; replaced < toOptimize.size(); replaced++) {
+                        replace(toOptimize.get(replaced), waitFor(results.get(replaced), "optimizing an image"));
+                    }
+                } finally {
+                    shutdownAndWait(executor);
+                    // on failure the images compressed by the other workers are never replaced
+                    results.subList(Math.min(replaced, results.size()), results.size()).forEach(this::discard);
+                }
+            }
+            ThreadLocalTaskMetrics.phaseSince(TaskPhase.OPTIMIZATION, start);
+        }
+    }
+
+    /**
+     * Decodes and recompresses the given image. Decoding reads from the document, which is not thread safe, so it's synchronized while
+     * the expensive part (scaling and encoding) is not.
+     * 
+     * @return the compressed image or null if the image could not be compressed
+     */
+    private CompressedImage compress(ImageCandidate candidate) {
+        long reserved = reserveMemory();
+        try {
+            BufferedImage decoded;
+            long originalSize;
+            synchronized (documentLock) {
+                decoded = candidate.image.getImageWithoutMasks();
+                originalSize = candidate.image.getCOSObject().getFilteredLength();
+                // free up resources used by the underlying COSStream
+                // which stores both the filtered and unfiltered bytes[] and DecodeResult
+                // potentially creating a large memory footprint
+                candidate.image.getCOSObject().unDecode();
+            }
+            OptimizedImage optimized = ImageOptimizer.optimize(decoded, parameters.getImageQuality(),
+                    parameters.getImageDpi(), candidate.displayWidth, candidate.displayHeight, reserved,
+                    ThreadLocalTemporaryBuffersManager.getManager());
+
+            CompressedImage compressed = new CompressedImage(optimized.size() * 100.0 / originalSize);
+            // can be compressed
+            if (compressed.sizeRate < 100) {
+                compressed.image = optimized;
+                if (optimized.isInMemory()) {
+                    availableMemory.addAndGet(-optimized.size());
+                }
+                compressed.stream = ReadOnlyFilteredCOSStream.readOnlyJpegImage(optimized::openStream,
+                        optimized.size(), optimized.getWidth(), optimized.getHeight(), 8, PDDeviceRGB.INSTANCE);
+            } else {
+                optimized.close();
+            }
+            return compressed;
+        } catch (IOException | RuntimeException ex) {
+            LOG.warn("Failed to optimize image, skipping and continuing with next.", ex);
+            return null;
+        } finally {
+            availableMemory.addAndGet(reserved);
+        }
+    }
+
+    /**
+     * Reserves the memory an image can use while it's encoded, so that the images compressed at the same time don't exceed the total
+     * in memory size. The reservation has to be given back once the image is encoded.
+     * 
+     * @return the size in bytes over which the image has to be moved to a temporary file
+     */
+    private long reserveMemory() {
+        long available = availableMemory.getAndUpdate(a -> a - Math.min(a, parameters.getMaxInMemoryImageSize()));
+        return Math.min(available, parameters.getMaxInMemoryImageSize());
+    }
+
+    /**
+     * Closes the given image, giving back the memory it used
+     */
+    private void release(OptimizedImage image) {
+        if (image.isInMemory()) {
+            availableMemory.addAndGet(image.size());
         }
-        return ReadOnlyFilteredCOSStream.readOnlyJpegImage(file, awtImage.getWidth(), awtImage.getHeight(),
-                awtImage.getColorModel().getComponentSize(0), getColorSpaceFromAWT(awtImage));
+        image.close();
+    }
+
+    /**
+     * Releases the compressed image of the given result, if the worker completed it
+     */
+    private void discard(Future<CompressedImage> result) {
+        if (result.isDone() && !result.isCancelled()) {
+            try {
+                CompressedImage compressed = result.get();
+                if (nonNull(compressed) && nonNull(compressed.image)) {
+                    IOUtils.closeQuietly(compressed.stream);
+                    release(compressed.image);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                LOG.trace("Failed to optimize image", e);
+            }
+        }
+    }
+
+    private void replace(ImageCandidate candidate, CompressedImage compressed) {
+        if (nonNull(compressed)) {
+            synchronized (documentLock) {
+                try {
+                    ReadOnlyFilteredCOSStream optimizedImage;
+                    if (compressed.sizeRate < 100) {
+                        optimizedImage = optimizedByHash.get(compressed.image.hash());
+                        // is it the same as something we already compressed?
+                        if (isNull(optimizedImage)) {
+                            LOG.debug(String.format("Compressed image to %.2f%% of original size", compressed.sizeRate));
+                            optimizedImage = compressed.stream;
+                            optimizedByHash.put(compressed.image.hash(), optimizedImage);
+                            retained.add(compressed.image);
+                            ThreadLocalTaskMetrics.increment(TaskCounter.IMAGES_RECOMPRESSED);
+                        } else {
+                            LOG.debug("Reusing previously optimized image");
+                            IOUtils.closeQuietly(compressed.stream);
+                            release(compressed.image);
+                        }
+                        optimizedById.put(candidate.id, optimizedImage);
+                    } else {
+                        LOG.debug(String.format("Skipping already compressed image, result is %.2f%% of original size",
+                                compressed.sizeRate));
+                        // we wrap the existing so we can identify it later as "in use" and already processed
+                        optimizedImage = ReadOnlyFilteredCOSStream.readOnly(candidate.image.getCOSObject());
+                    }
+                    for (ImageReference reference : candidate.references) {
+                        COSBase current = reference.xobjects.getDictionaryObject(reference.name);
+                        // the image might have been wrapped as in use in the meantime
+                        if (current instanceof ReadOnlyFilteredCOSStream && current != optimizedImage) {
+                            IOUtils.closeQuietly((ReadOnlyFilteredCOSStream) current);
+                        }
+                        reference.xobjects.setItem(reference.name, optimizedImage);
+                    }
+                    LOG.debug("Used memory: {} Mb",
+                            (Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory()) / 1000 / 1000);
+                } catch (IOException | RuntimeException ex) {
+                    LOG.warn("Failed to optimize image, skipping and continuing with next.", ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Releases the compressed images. The document must have been written already since the images streams read from them.
+     */
+    @Override
+    public void close() {
+        retained.forEach(this::release);
+        retained.clear();
+        optimizedByHash.clear();
+        optimizedById.clear();
     }
 
     public static boolean canOptimizeFor(Optimization o) {
         return o == Optimization.COMPRESS_IMAGES || o == Optimization.DISCARD_ALTERNATE_IMAGES
                 || o == Optimization.DISCARD_PIECE_INFO || o == Optimization.DISCARD_METADATA;
     }
+
+    /**
+     * An image to optimize with the places where it's referenced and the maximum size it's displayed at
+     */
+    private static class ImageCandidate {
+        private final PDImageXObject image;
+        private final IndirectCOSObjectIdentifier id;
+        private final List<ImageReference> references = new ArrayList<>();
+        private int displayWidth;
+        private int displayHeight;
+
+        ImageCandidate(PDImageXObject image, IndirectCOSObjectIdentifier id) {
+            this.image = image;
+            this.id = id;
+        }
+
+        void addReference(COSDictionary xobjects, COSName name, int displayWidth, int displayHeight) {
+            if (references.stream().noneMatch(r -> r.xobjects == xobjects && r.name.equals(name))) {
+                references.add(new ImageReference(xobjects, name));
+            }
+            this.displayWidth = Math.max(this.displayWidth, displayWidth);
+            this.displayHeight = Math.max(this.displayHeight, displayHeight);
+        }
+    }
+
+    private static class ImageReference {
+        private final COSDictionary xobjects;
+        private final COSName name;
+
+        ImageReference(COSDictionary xobjects, COSName name) {
+            this.xobjects = xobjects;
+            this.name = name;
+        }
+    }
+
+    private static class CompressedImage {
+        private final double sizeRate;
+        private OptimizedImage image;
+        private ReadOnlyFilteredCOSStream stream;
+
+        CompressedImage(double sizeRate) {
+            this.sizeRate = sizeRate;
+        }
+    }
 }
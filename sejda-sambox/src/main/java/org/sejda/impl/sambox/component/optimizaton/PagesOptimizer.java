@@ -19,16 +19,21 @@
 package org.sejda.impl.sambox.component.optimizaton;
 
 import static java.util.Collections.emptySet;
+import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
 import static org.sejda.impl.sambox.component.optimizaton.Optimizers.pageOptimizer;
 import static org.sejda.model.optimization.Optimization.DISCARD_UNUSED_IMAGES;
 import static org.sejda.model.optimization.Optimization.DISCARD_UNUSED_RESOURCES;
 
+import java.io.Closeable;
 import java.util.Set;
 import java.util.function.Consumer;
 
+import org.sejda.core.support.metrics.ThreadLocalTaskMetrics;
+import org.sejda.model.exception.TaskException;
 import org.sejda.model.optimization.Optimization;
 import org.sejda.model.parameter.OptimizeParameters;
+import org.sejda.model.task.TaskCounter;
 import org.sejda.sambox.pdmodel.PDPage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,11 +44,12 @@ import org.slf4j.LoggerFactory;
  * @author Andrea Vacondio
  *
  */
-public class PagesOptimizer implements Consumer<PDPage> {
+public class PagesOptimizer implements Consumer<PDPage>, Closeable {
 
     private static final Logger LOG = LoggerFactory.getLogger(DocumentOptimizer.class);
 
     private Consumer<PDPage> optimizer = (p) -> LOG.trace("Optimizing page");
+    private ImagesOptimizer imagesOptimizer;
 
     public PagesOptimizer(OptimizeParameters parameters) {
         Set<Optimization> optimizations = ofNullable(parameters).map(OptimizeParameters::getOptimizations)
@@ -52,7 +58,8 @@ public class PagesOptimizer implements Consumer<PDPage> {
             ofNullable(pageOptimizer(o, parameters)).ifPresent(toAdd -> optimizer = optimizer.andThen(toAdd));
         });
         if (optimizations.stream().anyMatch(ImagesOptimizer::canOptimizeFor)) {
-            optimizer = optimizer.andThen(new ImagesOptimizer(parameters));
+            imagesOptimizer = new ImagesOptimizer(parameters);
+            optimizer = optimizer.andThen(imagesOptimizer);
         }
         // we want to be sure this is not performed before images optimization
         if (optimizations.contains(DISCARD_UNUSED_RESOURCES) || optimizations.contains(DISCARD_UNUSED_IMAGES)) {
@@ -63,6 +70,26 @@ public class PagesOptimizer implements Consumer<PDPage> {
     @Override
     public void accept(PDPage d) {
         optimizer.accept(d);
+        ThreadLocalTaskMetrics.increment(TaskCounter.PAGES_PROCESSED);
+    }
+
+    /**
+     * Completes the optimization of the pages accepted so far. It has to be called once all the pages have been accepted.
+     * 
+     * @throws TaskException
+     */
+    public void complete() throws TaskException {
+        if (nonNull(imagesOptimizer)) {
+            imagesOptimizer.optimizeImages();
+        }
+    }
+
+    /**
+     * Releases the resources used by the optimized pages. It has to be called once the document has been written.
+     */
+    @Override
+    public void close() {
+        ofNullable(imagesOptimizer).ifPresent(ImagesOptimizer::close);
     }
 
 }
@@ -93,7 +93,7 @@ public class ResourcesHitter extends PDFStreamEngine implements Consumer<PDPage>
                         if (COSName.IMAGE.getName().equals(subtype)) {
                             LOG.trace("Hit image with name {}", objectName.getName());
                             // we wrap the existing so we can identify it later as "in use" and already processed
-                            xobjects.get().setItem(objectName, ReadOnlyFilteredCOSStream.readOnly(imageStream));
+                            xobjects.get().setItem(objectName, inUse(imageStream));
                         } else if (COSName.FORM.getName().equals(subtype)) {
                             PDXObject xobject = PDXObject.createXObject(imageStream, context.getResources());
                             if (xobject instanceof PDTransparencyGroup) {
@@ -167,6 +167,16 @@ public class ResourcesHitter extends PDFStreamEngine implements Consumer<PDPage>
         }
     }
 
+    /**
+     * @param image
+     *            an image xobject found in the content stream
+     * @return the read only stream replacing the given image in the resource dictionary
+     * @throws IOException
+     */
+    protected ReadOnlyFilteredCOSStream inUse(COSStream image) throws IOException {
+        return ReadOnlyFilteredCOSStream.readOnly(image);
+    }
+
     @Override
     public void accept(PDPage page) {
         try {
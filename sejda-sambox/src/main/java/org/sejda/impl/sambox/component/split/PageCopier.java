@@ -18,29 +18,51 @@
  */
 package org.sejda.impl.sambox.component.split;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
 
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Objects;
 
+import org.sejda.impl.sambox.component.ReadOnlyFilteredCOSStream;
 import org.sejda.impl.sambox.component.optimizaton.ResourceDictionaryCleaner;
 import org.sejda.impl.sambox.component.optimizaton.ResourcesHitter;
 import org.sejda.sambox.cos.COSArray;
 import org.sejda.sambox.cos.COSBase;
 import org.sejda.sambox.cos.COSDictionary;
 import org.sejda.sambox.cos.COSName;
+import org.sejda.sambox.cos.COSStream;
 import org.sejda.sambox.pdmodel.PDPage;
 import org.sejda.sambox.pdmodel.PDResources;
+import org.sejda.util.IOUtils;
 
 /**
- * Component providing copies of pages that can be fed to the ExistingPagesSizePredictor
+ * Component providing copies of pages that can be fed to the ExistingPagesSizePredictor. When optimizing, images shared among the copied
+ * pages are wrapped only once, the first time they are hit, so they are the same object for the predictor and their size is counted once
+ * until {@link #reset()} is called. Resources of a page are duplicated, hit and cleaned only the first time its resource dictionary, content
+ * stream and annotations are seen, following copies of the same page content reuse the cleaned resources.
  * 
  * @author Andrea Vacondio
  */
 class PageCopier {
     private boolean optimize;
-    private ResourcesHitter hitter = new ResourcesHitter();
+    private Map<COSStream, ReadOnlyFilteredCOSStream> hitImages = new IdentityHashMap<>();
+    private ResourcesHitter hitter = new ResourcesHitter() {
+        @Override
+        protected ReadOnlyFilteredCOSStream inUse(COSStream image) throws IOException {
+            ReadOnlyFilteredCOSStream hit = hitImages.get(image);
+            if (isNull(hit)) {
+                hit = super.inUse(image);
+                hitImages.put(image, hit);
+            }
+            return hit;
+        }
+    };
     private ResourceDictionaryCleaner cleaner = new ResourceDictionaryCleaner();
+    private Map<COSDictionary, CleanedResources> cleanedResources = new IdentityHashMap<>();
 
     public PageCopier(boolean optimize) {
         this.optimize = optimize;
@@ -68,10 +90,18 @@ class PageCopier {
             copy.getCOSObject().setItem(COSName.ANNOTS, cleanedAnnotationsCopy);
         }
         if (optimize) {
+            COSDictionary original = copy.getResources().getCOSObject();
+            COSBase contents = page.getCOSObject().getDictionaryObject(COSName.CONTENTS);
+            CleanedResources cleaned = ofNullable(original).map(cleanedResources::get)
+                    .filter(c -> c.contents == contents && c.annots == annots).orElse(null);
+            if (nonNull(cleaned)) {
+                // same resources used by the same content, the result of the hit and clean would be the same
+                copy.setResources(new PDResources(cleaned.resources));
+                return copy;
+            }
             // each page must have it's own resource dic and it's own xobject and font name dic
             // so we don't optimize shared resource dic or xobjects/fonts name dictionaries
-            COSDictionary resources = ofNullable(copy.getResources().getCOSObject()).map(COSDictionary::duplicate)
-                    .orElseGet(COSDictionary::new);
+            COSDictionary resources = ofNullable(original).map(COSDictionary::duplicate).orElseGet(COSDictionary::new);
             // resources are cached in the PDPage so make sure they are replaced
             copy.setResources(new PDResources(resources));
             ofNullable(resources.getDictionaryObject(COSName.XOBJECT, COSDictionary.class)).filter(Objects::nonNull)
@@ -80,7 +110,34 @@ class PageCopier {
                     .map(COSDictionary::duplicate).ifPresent(d -> resources.setItem(COSName.FONT, d));
             hitter.accept(copy);
             cleaner.clean(copy);
+            if (nonNull(original)) {
+                cleanedResources.put(original, new CleanedResources(contents, annots, resources));
+            }
         }
         return copy;
     }
+
+    /**
+     * Releases the images hit since the last reset
+     */
+    public void reset() {
+        cleanedResources.clear();
+        hitImages.values().forEach(IOUtils::closeQuietly);
+        hitImages.clear();
+    }
+
+    /**
+     * Resources cleaned for the given page content and annotations
+     */
+    private static class CleanedResources {
+        final COSBase contents;
+        final COSArray annots;
+        final COSDictionary resources;
+
+        CleanedResources(COSBase contents, COSArray annots, COSDictionary resources) {
+            this.contents = contents;
+            this.annots = annots;
+            this.resources = resources;
+        }
+    }
 }
@@ -140,6 +140,7 @@ public class SizePdfSplitter extends AbstractPdfSplitter<SplitBySizeParameters>
         public void closePredictor() {
             IOUtils.closeQuietly(predictor);
             this.predictor = null;
+            copier.reset();
         }
 
         @Override
@@ -0,0 +1,104 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.impl.sambox.util;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.fontbox.ttf.CmapSubtable;
+import org.apache.fontbox.ttf.TTFParser;
+import org.apache.fontbox.ttf.TrueTypeFont;
+import org.sejda.model.pdf.FontResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the unicode code points covered by the bundled fonts. The coverage of a font is read from its unicode cmap the first time it's
+ * needed and kept for the lifetime of the JVM, so that telling if a font can display a text doesn't require to load the font in a
+ * document.
+ * 
+ * @author agent
+ *
+ */
+public final class FontCoverage {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FontCoverage.class);
+    private static final BitSet EMPTY = new BitSet(0);
+    private static final ConcurrentMap<FontResource, BitSet> COVERAGE = new ConcurrentHashMap<>();
+
+    private FontCoverage() {
+        // hide
+    }
+
+    /**
+     * @param font
+     * @param text
+     * @return true if the given font has a glyph for every code point of the given text
+     */
+    public static boolean covers(FontResource font, String text) {
+        BitSet coverage = coverage(font);
+        return text.codePoints().allMatch(coverage::get);
+    }
+
+    /**
+     * @param font
+     * @return the code points the given font has a glyph for
+     */
+    static BitSet coverage(FontResource font) {
+        return COVERAGE.computeIfAbsent(font, FontCoverage::read);
+    }
+
+    private static BitSet read(FontResource font) {
+        InputStream in = font.getFontStream();
+        if (isNull(in)) {
+            LOG.warn("Font {} not available", font);
+            return EMPTY;
+        }
+        try (TrueTypeFont ttf = new TTFParser().parse(in)) {
+            CmapSubtable cmap = ttf.getUnicodeCmap(false);
+            BitSet coverage = new BitSet();
+            if (isNull(cmap)) {
+                LOG.warn("Font {} has no unicode cmap", font);
+                return coverage;
+            }
+            // glyph 0 is .notdef
+            for (int gid = 1; gid < ttf.getNumberOfGlyphs(); gid++) {
+                List<Integer> codes = cmap.getCharCodes(gid);
+                if (nonNull(codes)) {
+                    codes.forEach(coverage::set);
+                }
+            }
+            LOG.trace("Font {} covers {} code points", font, coverage.cardinality());
+            return coverage;
+        } catch (IOException e) {
+            LOG.warn("Failed to read coverage of font " + font, e);
+            return EMPTY;
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+    }
+}
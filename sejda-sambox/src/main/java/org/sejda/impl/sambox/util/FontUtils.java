@@ -18,20 +18,28 @@
  */
 package org.sejda.impl.sambox.util;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
 import java.util.function.Supplier;
 
 import org.apache.commons.io.IOUtils;
+import org.sejda.core.support.metrics.ThreadLocalTaskMetrics;
 import org.sejda.fonts.OptionalUnicodeType0Font;
 import org.sejda.fonts.UnicodeType0Font;
 import org.sejda.model.pdf.FontResource;
 import org.sejda.model.pdf.StandardType1Font;
+import org.sejda.model.task.TaskCounter;
 import org.sejda.sambox.pdmodel.PDDocument;
 import org.sejda.sambox.pdmodel.font.PDFont;
 import org.sejda.sambox.pdmodel.font.PDType0Font;
@@ -54,6 +62,10 @@ public final class FontUtils {
     }
 
     private static final Map<StandardType1Font, PDType1Font> STANDARD_TYPE1_FONTS;
+    // fonts loaded in a document are kept for as long as the document is, so that they are loaded once per document. Loaded fonts
+    // reference their document, values are weak references to avoid keeping the keys alive. Fonts are strongly referenced by the
+    // document until it's written, as fonts to subset.
+    private static final Map<PDDocument, Map<FontResource, Reference<PDFont>>> LOADED_FONTS = new WeakHashMap<>();
 
     static {
         Map<StandardType1Font, PDType1Font> fontsCache = new EnumMap<>(StandardType1Font.class);
@@ -100,11 +112,29 @@ public final class FontUtils {
         return font;
     }
 
+    private static PDFont cachedFont(PDDocument document, FontResource font) {
+        Map<FontResource, Reference<PDFont>> documentFonts;
+        synchronized (LOADED_FONTS) {
+            documentFonts = LOADED_FONTS.computeIfAbsent(document, d -> new HashMap<>());
+        }
+        synchronized (documentFonts) {
+            PDFont loaded = Optional.ofNullable(documentFonts.get(font)).map(Reference::get).orElse(null);
+            if (isNull(loaded)) {
+                loaded = loadFont(document, font);
+                if (nonNull(loaded)) {
+                    documentFonts.put(font, new WeakReference<>(loaded));
+                }
+            }
+            return loaded;
+        }
+    }
+
     private static PDFont loadFont(PDDocument document, FontResource font) {
         InputStream in = font.getFontStream();
         try {
             PDType0Font loaded = PDType0Font.load(document, in);
             LOG.trace("Loaded font {}", loaded.getName());
+            ThreadLocalTaskMetrics.increment(TaskCounter.FONTS_LOADED);
             return loaded;
         } catch (IOException e) {
             LOG.warn("Failed to load font " + font, e);
@@ -118,7 +148,8 @@ public final class FontUtils {
      * 
      * @param document
      * @param text
-     * @return a font capable of displaying the given string or null
+     * @return a font capable of displaying the given string or null. Fonts are loaded once per document, following calls with the same
+     *         document return the same font instance.
      */
     public static final PDFont findFontFor(PDDocument document, String text) {
         try {
@@ -139,10 +170,13 @@ public final class FontUtils {
 
     private static PDFont findFontAmong(PDDocument document, String text, FontResource... fonts) {
         for (FontResource font : fonts) {
-            PDFont loaded = loadFont(document, font);
-            if (canDisplay(text, loaded)) {
-                LOG.debug("Found suitable font {}", loaded.getName());
-                return loaded;
+            // fonts are loaded only if they have a glyph for every code point
+            if (FontCoverage.covers(font, text)) {
+                PDFont loaded = cachedFont(document, font);
+                if (canDisplay(text, loaded)) {
+                    LOG.debug("Found suitable font {}", loaded.getName());
+                    return loaded;
+                }
             }
         }
         return null;
@@ -16,11 +16,13 @@
  */
 package org.sejda.impl.sambox;
 
+import org.junit.Test;
 import org.sejda.core.service.EditTaskTest;
 import org.sejda.impl.sambox.component.ImageLocationsExtractor;
 import org.sejda.impl.sambox.component.PdfTextExtractorByArea;
 import org.sejda.model.exception.TaskIOException;
 import org.sejda.model.parameter.EditParameters;
+import org.sejda.model.parameter.edit.InsertPageOperation;
 import org.sejda.model.task.Task;
 import org.sejda.sambox.pdmodel.PDDocument;
 import org.sejda.sambox.pdmodel.PDPage;
@@ -28,10 +30,14 @@ import org.sejda.sambox.pdmodel.PDPage;
 import java.awt.*;
 import java.awt.geom.Point2D;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
 
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
@@ -68,4 +74,40 @@ public class EditSamboxTaskTest extends EditTaskTest {
             fail(e.getMessage());
         }
     }
+
+    @Test
+    public void blankPagesNumbers() {
+        // inserting before the first page shifts the page inserted before
+        assertEquals(Arrays.asList(1, 3), new ArrayList<>(EditTask.blankPagesNumbers(
+                Arrays.asList(new InsertPageOperation(2), new InsertPageOperation(1)), 3)));
+        assertEquals(Arrays.asList(2, 3), new ArrayList<>(EditTask.blankPagesNumbers(
+                Arrays.asList(new InsertPageOperation(2), new InsertPageOperation(3)), 3)));
+        // without pages blank pages are just added
+        assertEquals(Arrays.asList(1, 2), new ArrayList<>(EditTask.blankPagesNumbers(
+                Arrays.asList(new InsertPageOperation(5), new InsertPageOperation(1)), 0)));
+    }
+
+    @Test
+    public void blankPagesNumbersAsInsertedOneByOne() {
+        Random random = new Random(42);
+        int pages = 50;
+        ArrayList<InsertPageOperation> operations = new ArrayList<>();
+        // true for blank pages, inserted one after the other
+        ArrayList<Boolean> document = new ArrayList<>();
+        for (int i = 0; i < pages; i++) {
+            document.add(Boolean.FALSE);
+        }
+        for (int i = 0; i < 200; i++) {
+            int position = random.nextInt(document.size() + 1) + 1;
+            operations.add(new InsertPageOperation(position));
+            document.add(position - 1, Boolean.TRUE);
+        }
+        ArrayList<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < document.size(); i++) {
+            if (document.get(i)) {
+                expected.add(i + 1);
+            }
+        }
+        assertEquals(expected, new ArrayList<>(EditTask.blankPagesNumbers(operations, pages)));
+    }
 }
@@ -1,6 +1,15 @@
 package org.sejda.impl.sambox;
 
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.sejda.core.TestListenerFactory;
+import org.sejda.core.TestListenerFactory.TestListenerFailed;
+import org.sejda.core.notification.context.ThreadLocalNotificationContext;
 import org.sejda.core.service.MultipleJpegConversionTaskTest;
+import org.sejda.model.image.RasterizationMode;
 import org.sejda.model.parameter.image.PdfToJpegParameters;
 import org.sejda.model.task.Task;
 
@@ -10,4 +19,27 @@ public class MultipleJpgConversionSamboxTaskTest extends MultipleJpegConversionT
     public Task<PdfToJpegParameters> getTask() {
         return new PdfToMultipleImageTask();
     }
+
+    @Override
+    @Test
+    public void testExecuteStreamToMultipleImagePooled() throws IOException {
+        assertNotSupported(RasterizationMode.POOLED);
+    }
+
+    @Override
+    @Test
+    public void testExecuteStreamToMultipleImageBanded() throws IOException {
+        assertNotSupported(RasterizationMode.BANDED);
+    }
+
+    private void assertNotSupported(RasterizationMode mode) throws IOException {
+        PdfToJpegParameters parameters = getMultipleImageParametersWithoutSource();
+        parameters.setSource(shortInput());
+        parameters.setRasterizationMode(mode);
+        testContext.directoryOutputTo(parameters);
+        TestListenerFailed failListener = TestListenerFactory.newFailedListener();
+        ThreadLocalNotificationContext.getContext().addListener(failListener);
+        execute(parameters);
+        assertTrue(failListener.isFailed());
+    }
 }
@@ -25,6 +25,8 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.junit.After;
 import org.junit.Before;
@@ -282,4 +284,48 @@ public class AcroFormsMergerTest {
         assertNotNull(procSet);
         assertEquals(2, ((COSArray) procSet).size());
     }
+
+    @Test
+    public void mergeSameMultipleTimes() throws IOException {
+        PDDocument destination = new PDDocument();
+        AcroFormsMerger victim = new AcroFormsMerger(AcroFormPolicy.MERGE, destination);
+        for (int i = 0; i < 3; i++) {
+            mergeSimpleForm(victim);
+        }
+        assertTrue(victim.hasForm());
+        assertEquals(4, victim.getForm().getFields().size());
+        for (PDField field : victim.getForm().getFieldTree()) {
+            if (field instanceof PDRadioButton) {
+                assertEquals(6, ((PDTerminalField) field).getWidgets().size());
+            } else {
+                assertEquals(3, ((PDTerminalField) field).getWidgets().size());
+            }
+        }
+    }
+
+    @Test
+    public void mergeRenamingMultipleTimes() throws IOException {
+        PDDocument destination = new PDDocument();
+        AcroFormsMerger victim = new AcroFormsMerger(AcroFormPolicy.MERGE_RENAMING_EXISTING_FIELDS, destination);
+        for (int i = 0; i < 3; i++) {
+            mergeSimpleForm(victim);
+        }
+        assertTrue(victim.hasForm());
+        assertEquals(12, victim.getForm().getFields().size());
+        Set<String> names = new HashSet<>();
+        for (PDField field : victim.getForm().getFieldTree()) {
+            assertTrue(names.add(field.getFullyQualifiedName()));
+        }
+        assertEquals(12, names.size());
+    }
+
+    private void mergeSimpleForm(AcroFormsMerger victim) throws IOException {
+        mapping.clear();
+        PDDocument doc = PDFParser.parse(SeekableSources.inMemorySeekableSourceFrom(
+                getClass().getClassLoader().getResourceAsStream("pdf/forms/simple_form.pdf")));
+        for (PDPage current : doc.getPages()) {
+            mapping.addLookupEntry(current, new PDPage());
+        }
+        victim.mergeForm(doc.getDocumentCatalog().getAcroForm(), Annotations.processAnnotations(mapping, doc));
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.impl.sambox.component;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.sejda.common.ComponentsUtility.nullSafeCloseQuietly;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sejda.core.support.metrics.ThreadLocalTaskMetrics;
+import org.sejda.model.exception.TaskException;
+import org.sejda.model.input.PdfMergeInput;
+import org.sejda.model.input.PdfStreamSource;
+import org.sejda.model.task.OutputDeliveryCounters;
+import org.sejda.model.task.TaskCounter;
+import org.sejda.model.task.TaskMetrics;
+import org.sejda.model.task.TaskPhase;
+
+/**
+ * @author agent
+ *
+ */
+public class MergeInputsPreloaderTest {
+
+    private TaskMetrics metrics = new TaskMetrics(new OutputDeliveryCounters());
+
+    @Before
+    public void setUp() {
+        ThreadLocalTaskMetrics.bind(metrics);
+    }
+
+    @After
+    public void tearDown() {
+        ThreadLocalTaskMetrics.unbind();
+    }
+
+    @Test
+    public void inputsInOrder() throws TaskException {
+        try (MergeInputsPreloader victim = new MergeInputsPreloader(
+                Arrays.asList(input("pdf/one_page.pdf"), input("pdf/2_pages.pdf"), input("pdf/one_page.pdf")),
+                new DefaultPdfSourceOpener(), 2)) {
+            assertPages(1, victim.next());
+            assertPages(2, victim.next());
+            assertPages(1, victim.next());
+        }
+    }
+
+    @Test
+    public void workersAccountedToTheTaskMetrics() throws TaskException {
+        try (MergeInputsPreloader victim = new MergeInputsPreloader(
+                Arrays.asList(input("pdf/one_page.pdf"), input("pdf/2_pages.pdf")), new DefaultPdfSourceOpener(), 2)) {
+            nullSafeCloseQuietly(victim.next());
+            nullSafeCloseQuietly(victim.next());
+        }
+        assertTrue(metrics.value(TaskCounter.BYTES_READ) > 0);
+        assertTrue(metrics.time(TaskPhase.PARSE, TimeUnit.NANOSECONDS) > 0);
+    }
+
+    private static void assertPages(int expected, PDDocumentHandler handler) {
+        try {
+            assertEquals(expected, handler.getNumberOfPages());
+        } finally {
+            nullSafeCloseQuietly(handler);
+        }
+    }
+
+    private PdfMergeInput input(String name) {
+        return new PdfMergeInput(
+                PdfStreamSource.newInstanceNoPassword(getClass().getClassLoader().getResourceAsStream(name), name));
+    }
+}
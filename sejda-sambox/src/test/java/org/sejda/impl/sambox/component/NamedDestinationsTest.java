@@ -0,0 +1,81 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.impl.sambox.component;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.sejda.sambox.pdmodel.PDDocumentCatalog;
+import org.sejda.sambox.pdmodel.interactive.documentnavigation.destination.PDNamedDestination;
+import org.sejda.sambox.pdmodel.interactive.documentnavigation.destination.PDPageFitDestination;
+
+/**
+ * @author agent
+ *
+ */
+public class NamedDestinationsTest {
+
+    @Test
+    public void resolvedOnce() throws IOException {
+        PDPageFitDestination dest = new PDPageFitDestination();
+        PDNamedDestination destination = new PDNamedDestination();
+        destination.setNamedDestination("ChuckNorris");
+        PDDocumentCatalog catalog = mock(PDDocumentCatalog.class);
+        when(catalog.findNamedDestinationPage(any())).thenReturn(dest);
+        assertEquals(dest, NamedDestinations.resolve(catalog, destination));
+        assertEquals(dest, NamedDestinations.resolve(catalog, destination));
+        verify(catalog, times(1)).findNamedDestinationPage(any());
+    }
+
+    @Test
+    public void missingResolvedOnce() throws IOException {
+        PDNamedDestination destination = new PDNamedDestination();
+        destination.setNamedDestination("ChuckNorris");
+        PDDocumentCatalog catalog = mock(PDDocumentCatalog.class);
+        assertNull(NamedDestinations.resolve(catalog, destination));
+        assertNull(NamedDestinations.resolve(catalog, destination));
+        verify(catalog, times(1)).findNamedDestinationPage(any());
+    }
+
+    @Test
+    public void release() throws IOException {
+        PDPageFitDestination dest = new PDPageFitDestination();
+        PDNamedDestination destination = new PDNamedDestination();
+        destination.setNamedDestination("ChuckNorris");
+        PDDocumentCatalog catalog = mock(PDDocumentCatalog.class);
+        when(catalog.findNamedDestinationPage(any())).thenReturn(dest);
+        NamedDestinations.resolve(catalog, destination);
+        NamedDestinations.release(catalog);
+        NamedDestinations.resolve(catalog, destination);
+        verify(catalog, times(2)).findNamedDestinationPage(any());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nullCatalog() throws IOException {
+        NamedDestinations.resolve(null, new PDNamedDestination());
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.impl.sambox.component;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.apache.commons.io.IOUtils;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.sejda.model.HorizontalAlign;
+import org.sejda.model.VerticalAlign;
+import org.sejda.sambox.pdmodel.PDDocument;
+import org.sejda.sambox.pdmodel.PDPage;
+import org.sejda.sambox.pdmodel.PDPageContentStream;
+import org.sejda.sambox.pdmodel.PDPageContentStream.AppendMode;
+import org.sejda.sambox.pdmodel.common.PDStream;
+import org.sejda.sambox.pdmodel.font.PDType1Font;
+
+/**
+ * @author agent
+ *
+ */
+public class PageContentStreamsTest {
+
+    private PDDocument document;
+    private PDPage page;
+
+    @Before
+    public void setUp() throws IOException {
+        document = new PDDocument();
+        page = newPage();
+    }
+
+    private PDPage newPage() throws IOException {
+        PDPage page = new PDPage();
+        document.addPage(page);
+        try (PDPageContentStream stream = new PDPageContentStream(document, page, AppendMode.APPEND, true, true)) {
+            stream.addRect(10, 10, 10, 10);
+            stream.fill();
+        }
+        return page;
+    }
+
+    @Test
+    public void singleStreamPerPage() throws IOException {
+        int initial = countContentStreams(page);
+        try (PageContentStreams victim = new PageContentStreams(document)) {
+            victim.write(page, s -> s.addRect(20, 20, 10, 10));
+            victim.write(page, s -> s.addRect(30, 30, 10, 10));
+            victim.write(page, s -> s.addRect(40, 40, 10, 10));
+        }
+        int afterOne = countContentStreams(page) - initial;
+        try (PageContentStreams victim = new PageContentStreams(document)) {
+            victim.write(page, s -> s.addRect(20, 20, 10, 10));
+        }
+        assertEquals(afterOne, countContentStreams(page) - initial - afterOne);
+    }
+
+    @Test
+    public void unbatched() throws IOException {
+        int initial = countContentStreams(page);
+        PageContentStreams victim = new PageContentStreams(document, 0);
+        victim.write(page, s -> s.addRect(20, 20, 10, 10));
+        int afterOne = countContentStreams(page) - initial;
+        victim.write(page, s -> s.addRect(30, 30, 10, 10));
+        assertEquals(2 * afterOne, countContentStreams(page) - initial);
+    }
+
+    @Test
+    public void evictsLeastRecentlyWritten() throws IOException {
+        PDPage other = newPage();
+        try (PageContentStreams victim = new PageContentStreams(document, 1)) {
+            victim.write(page, s -> s.addRect(20, 20, 10, 10));
+            victim.write(other, s -> s.addRect(20, 20, 10, 10));
+            victim.write(page, s -> s.addRect(30, 30, 10, 10));
+            victim.write(page, s -> s.addRect(40, 40, 10, 10));
+        }
+        // page got a stream before and one after the eviction, other got one
+        PDPage expectedPage = newPage();
+        PDPage expectedOther = newPage();
+        PageContentStreams unbatched = new PageContentStreams(document, 0);
+        unbatched.write(expectedPage, s -> s.addRect(20, 20, 10, 10));
+        unbatched.write(expectedPage, s -> s.addRect(30, 30, 10, 10));
+        unbatched.write(expectedOther, s -> s.addRect(20, 20, 10, 10));
+        assertEquals(countContentStreams(expectedPage), countContentStreams(page));
+        assertEquals(countContentStreams(expectedOther), countContentStreams(other));
+    }
+
+    @Test
+    public void failedWriteIsBalancedAndClosed() throws IOException {
+        int initial = countContentStreams(page);
+        try (PageContentStreams victim = new PageContentStreams(document)) {
+            try {
+                victim.write(page, s -> {
+                    s.addRect(20, 20, 10, 10);
+                    throw new IOException("Chuck Norris");
+                });
+                fail("Exception expected");
+            } catch (IOException e) {
+                assertEquals("Chuck Norris", e.getMessage());
+            }
+            int afterFailure = countContentStreams(page) - initial;
+            victim.write(page, s -> s.addRect(30, 30, 10, 10));
+            // the stream of the failed write has been closed, the following write goes to a new one
+            assertEquals(afterFailure, countContentStreams(page) - initial - afterFailure);
+        }
+        assertEquals(countOperators(page, "q"), countOperators(page, "Q"));
+    }
+
+    @Test
+    public void textIsWritten() throws Exception {
+        try (PageContentStreams streams = new PageContentStreams(document)) {
+            PageTextWriter writer = new PageTextWriter(document, streams);
+            writer.write(page, HorizontalAlign.LEFT, VerticalAlign.BOTTOM, "Chuck", PDType1Font.HELVETICA, 10d,
+                    Color.BLACK);
+            writer.write(page, HorizontalAlign.RIGHT, VerticalAlign.BOTTOM, "Norris", PDType1Font.HELVETICA, 10d,
+                    Color.BLACK);
+        }
+        assertThat(new PdfTextExtractorByArea().extractFooterText(page).trim(), is("Chuck Norris"));
+    }
+
+    private static long countOperators(PDPage page, String operator) throws IOException {
+        long count = 0;
+        for (Iterator<PDStream> streams = page.getContentStreams(); streams.hasNext();) {
+            try (InputStream content = streams.next().createInputStream()) {
+                count += Arrays.stream(IOUtils.toString(content, StandardCharsets.ISO_8859_1).split("\\s+"))
+                        .filter(operator::equals).count();
+            }
+        }
+        return count;
+    }
+
+    private static int countContentStreams(PDPage page) {
+        int count = 0;
+        for (Iterator<PDStream> streams = page.getContentStreams(); streams.hasNext(); streams.next()) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.impl.sambox.component;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.sejda.sambox.pdmodel.PDDocument;
+import org.sejda.sambox.pdmodel.PDPage;
+
+/**
+ * @author agent
+ *
+ */
+public class PageTreeIndexTest {
+
+    @Test
+    public void indexOf() {
+        PDDocument document = new PDDocument();
+        for (int i = 0; i < 10; i++) {
+            document.addPage(new PDPage());
+        }
+        PageTreeIndex victim = new PageTreeIndex(document);
+        for (int i = 0; i < 10; i++) {
+            PDPage page = document.getPage(i);
+            assertEquals(document.getPages().indexOf(page), victim.indexOf(page));
+            assertEquals(i, victim.indexOf(page));
+        }
+    }
+
+    @Test
+    public void notFound() {
+        PDDocument document = new PDDocument();
+        document.addPage(new PDPage());
+        assertEquals(-1, new PageTreeIndex(document).indexOf(new PDPage()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nullDocument() {
+        new PageTreeIndex(null);
+    }
+}
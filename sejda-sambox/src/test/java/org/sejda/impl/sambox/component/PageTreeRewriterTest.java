@@ -0,0 +1,180 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.impl.sambox.component;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.sejda.sambox.cos.COSArray;
+import org.sejda.sambox.cos.COSDictionary;
+import org.sejda.sambox.cos.COSName;
+import org.sejda.sambox.pdmodel.PDPage;
+import org.sejda.sambox.pdmodel.PDPageTree;
+import org.sejda.sambox.pdmodel.common.PDRectangle;
+
+/**
+ * @author agent
+ *
+ */
+public class PageTreeRewriterTest {
+
+    private COSDictionary root;
+    private COSDictionary first;
+    private COSDictionary second;
+    private List<COSDictionary> pages;
+
+    @Before
+    public void setUp() {
+        root = node(null);
+        first = node(root);
+        second = node(root);
+        pages = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            PDPage page = new PDPage(new PDRectangle(100 + i, 100 + i));
+            COSDictionary parent = i < 2 ? first : second;
+            page.getCOSObject().setItem(COSName.PARENT, parent);
+            parent.getDictionaryObject(COSName.KIDS, COSArray.class).add(page.getCOSObject());
+            parent.setInt(COSName.COUNT, parent.getInt(COSName.COUNT) + 1);
+            pages.add(page.getCOSObject());
+        }
+        root.getDictionaryObject(COSName.KIDS, COSArray.class).add(first);
+        root.getDictionaryObject(COSName.KIDS, COSArray.class).add(second);
+        root.setInt(COSName.COUNT, 5);
+    }
+
+    private static COSDictionary node(COSDictionary parent) {
+        COSDictionary node = new COSDictionary();
+        node.setItem(COSName.TYPE, COSName.PAGES);
+        node.setItem(COSName.KIDS, new COSArray());
+        node.setInt(COSName.COUNT, 0);
+        if (parent != null) {
+            node.setItem(COSName.PARENT, parent);
+        }
+        return node;
+    }
+
+    private List<COSDictionary> resulting() {
+        List<COSDictionary> result = new ArrayList<>();
+        new PDPageTree(root).forEach(p -> result.add(p.getCOSObject()));
+        return result;
+    }
+
+    @Test
+    public void remove() {
+        new PageTreeRewriter(root).rewrite(new HashSet<>(asList(2, 4)), Collections.emptySet(), null);
+        assertEquals(asList(pages.get(0), pages.get(2), pages.get(4)), resulting());
+        assertEquals(3, root.getInt(COSName.COUNT));
+        assertEquals(1, first.getInt(COSName.COUNT));
+        assertEquals(2, second.getInt(COSName.COUNT));
+    }
+
+    @Test
+    public void removeEmptiesNode() {
+        new PageTreeRewriter(root).rewrite(new HashSet<>(asList(1, 2)), Collections.emptySet(), null);
+        assertEquals(asList(pages.get(2), pages.get(3), pages.get(4)), resulting());
+        assertEquals(1, root.getDictionaryObject(COSName.KIDS, COSArray.class).size());
+        assertEquals(3, root.getInt(COSName.COUNT));
+    }
+
+    @Test
+    public void removeAll() {
+        new PageTreeRewriter(root).rewrite(new HashSet<>(asList(1, 2, 3, 4, 5)), Collections.emptySet(), null);
+        assertEquals(0, root.getInt(COSName.COUNT));
+        assertEquals(0, root.getDictionaryObject(COSName.KIDS, COSArray.class).size());
+    }
+
+    @Test
+    public void insert() {
+        new PageTreeRewriter(root).rewrite(Collections.emptySet(), new HashSet<>(asList(1, 4, 8)), null);
+        List<COSDictionary> result = resulting();
+        assertEquals(8, result.size());
+        assertEquals(8, root.getInt(COSName.COUNT));
+        assertEquals(asList(pages.get(0), pages.get(1), pages.get(2), pages.get(3), pages.get(4)),
+                asList(result.get(1), result.get(2), result.get(4), result.get(5), result.get(6)));
+        // media box of the following page at the beginning, of the preceding one otherwise
+        assertEquals(new PDPage(pages.get(0)).getMediaBox(), new PDPage(result.get(0)).getMediaBox());
+        assertEquals(new PDPage(pages.get(1)).getMediaBox(), new PDPage(result.get(3)).getMediaBox());
+        assertEquals(new PDPage(pages.get(4)).getMediaBox(), new PDPage(result.get(7)).getMediaBox());
+        // node of the following page at the beginning, of the preceding one otherwise
+        assertSame(first, result.get(0).getDictionaryObject(COSName.PARENT));
+        assertSame(first, result.get(3).getDictionaryObject(COSName.PARENT));
+        assertSame(second, result.get(7).getDictionaryObject(COSName.PARENT));
+        assertEquals(4, first.getInt(COSName.COUNT));
+        assertEquals(4, second.getInt(COSName.COUNT));
+    }
+
+    @Test
+    public void insertInheritsFromPrecedingPageNode() {
+        first.setInt(COSName.ROTATE, 90);
+        new PageTreeRewriter(root).rewrite(Collections.emptySet(), new HashSet<>(asList(3)), null);
+        List<COSDictionary> result = resulting();
+        assertEquals(6, result.size());
+        assertEquals(pages.get(2), result.get(3));
+        // the blank page follows the second page, it's rotated like the pages of its node
+        assertEquals(90, new PDPage(result.get(2)).getRotation());
+        assertEquals(0, new PDPage(result.get(3)).getRotation());
+    }
+
+    @Test
+    public void insertAfterRemovedPage() {
+        new PageTreeRewriter(root).rewrite(new HashSet<>(asList(3)), new HashSet<>(asList(3)), null);
+        List<COSDictionary> result = resulting();
+        assertEquals(5, result.size());
+        assertEquals(asList(pages.get(0), pages.get(1), pages.get(3), pages.get(4)),
+                asList(result.get(0), result.get(1), result.get(3), result.get(4)));
+        assertSame(first, result.get(2).getDictionaryObject(COSName.PARENT));
+        assertEquals(new PDPage(pages.get(1)).getMediaBox(), new PDPage(result.get(2)).getMediaBox());
+    }
+
+    @Test
+    public void insertInEmptyTree() {
+        COSDictionary empty = node(null);
+        new PageTreeRewriter(empty).rewrite(Collections.emptySet(), new HashSet<>(asList(1, 2)), PDRectangle.A4);
+        assertEquals(2, empty.getInt(COSName.COUNT));
+        new PDPageTree(empty).forEach(p -> assertEquals(PDRectangle.A4, p.getMediaBox()));
+    }
+
+    @Test
+    public void removeAndInsert() {
+        new PageTreeRewriter(root).rewrite(new HashSet<>(asList(1)), new HashSet<>(asList(1)), null);
+        List<COSDictionary> result = resulting();
+        assertEquals(5, result.size());
+        assertNotEquals(pages.get(0), result.get(0));
+        assertEquals(pages.subList(1, 5), result.subList(1, 5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void removeOutOfRange() {
+        new PageTreeRewriter(root).rewrite(new HashSet<>(asList(6)), Collections.emptySet(), null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void insertOutOfRange() {
+        new PageTreeRewriter(root).rewrite(Collections.emptySet(), new HashSet<>(asList(7)), null);
+    }
+}
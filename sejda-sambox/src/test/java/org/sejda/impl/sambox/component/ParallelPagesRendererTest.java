@@ -0,0 +1,106 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.impl.sambox.component;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sejda.core.support.metrics.ThreadLocalTaskMetrics;
+import org.sejda.model.input.PdfFileSource;
+import org.sejda.model.task.OutputDeliveryCounters;
+import org.sejda.model.task.TaskCounter;
+import org.sejda.model.task.TaskMetrics;
+import org.sejda.model.task.TaskPhase;
+
+/**
+ * @author agent
+ *
+ */
+public class ParallelPagesRendererTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    private TaskMetrics metrics = new TaskMetrics(new OutputDeliveryCounters());
+    private PdfFileSource source;
+
+    @Before
+    public void setUp() throws Exception {
+        File file = folder.newFile("test.pdf");
+        try (InputStream stream = getClass().getClassLoader().getResourceAsStream("pdf/multipage-test-a.pdf")) {
+            Files.copy(stream, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        source = PdfFileSource.newInstanceNoPassword(file);
+        ThreadLocalTaskMetrics.bind(metrics);
+    }
+
+    @After
+    public void tearDown() {
+        ThreadLocalTaskMetrics.unbind();
+    }
+
+    @Test
+    public void pagesRenderedInOrder() throws Exception {
+        List<Integer> rendered = new ArrayList<>();
+        try (ParallelPagesRenderer victim = new ParallelPagesRenderer(source, new DefaultPdfSourceOpener(), 2)) {
+            victim.render(Arrays.asList(3, 1, 2), 10, (page, image) -> rendered.add(page));
+        }
+        assertEquals(Arrays.asList(3, 1, 2), rendered);
+    }
+
+    @Test
+    public void pagesEncodedOnWorkersAndHandledInOrder() throws Exception {
+        List<Integer> handled = new ArrayList<>();
+        String caller = Thread.currentThread().getName();
+        try (ParallelPagesRenderer victim = new ParallelPagesRenderer(source, new DefaultPdfSourceOpener(), 2)) {
+            victim.render(Arrays.asList(3, 1, 2), 10, (page, image) -> Thread.currentThread().getName(),
+                    (page, encodedBy) -> {
+                        assertNotEquals(caller, encodedBy);
+                        handled.add(page);
+                    });
+        }
+        assertEquals(Arrays.asList(3, 1, 2), handled);
+    }
+
+    @Test
+    public void workersAccountedToTheTaskMetrics() throws Exception {
+        try (ParallelPagesRenderer victim = new ParallelPagesRenderer(source, new DefaultPdfSourceOpener(), 2)) {
+            victim.render(Arrays.asList(1, 2, 3, 1), 10, (page, image) -> {
+                // nothing
+            });
+        }
+        assertEquals(4, metrics.value(TaskCounter.PAGES_PROCESSED));
+        assertTrue(metrics.value(TaskCounter.BYTES_READ) > 0);
+        assertTrue(metrics.time(TaskPhase.PARSE, TimeUnit.NANOSECONDS) > 0);
+    }
+}
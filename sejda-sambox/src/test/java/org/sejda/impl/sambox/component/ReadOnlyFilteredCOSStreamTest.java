@@ -25,23 +25,31 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.zip.DeflaterInputStream;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
-import org.sejda.impl.sambox.component.ReadOnlyFilteredCOSStream;
+import org.sejda.core.support.concurrent.WorkerThreads;
+import org.sejda.core.support.io.ThreadLocalTemporaryBuffersManager;
+import org.sejda.impl.sambox.component.ReadOnlyFilteredCOSStream.StreamSupplier;
 import org.sejda.model.exception.SejdaRuntimeException;
 import org.sejda.model.input.StreamSource;
+import org.sejda.model.task.TemporaryBuffersManager;
 import org.sejda.sambox.cos.COSDictionary;
 import org.sejda.sambox.cos.COSInteger;
 import org.sejda.sambox.cos.COSName;
@@ -215,4 +223,86 @@ public class ReadOnlyFilteredCOSStreamTest {
         assertEquals(10, victim.getInt(COSName.WIDTH));
         assertEquals(COSInteger.TWO, victim.getItem(COSName.COLORSPACE));
     }
+
+    @Test(expected = FileNotFoundException.class)
+    public void readOnlyJpegImageMissingFile() throws IOException {
+        ReadOnlyFilteredCOSStream.readOnlyJpegImage(new File(folder.getRoot(), "missing.jpg"), 10, 10, 1,
+                mock(PDColorSpace.class));
+    }
+
+    @Test
+    public void supplierIsOpenedLazily() throws IOException {
+        InputStream stream = mock(InputStream.class);
+        StreamSupplier supplier = mock(StreamSupplier.class);
+        when(supplier.open()).thenReturn(stream);
+        victim = ReadOnlyFilteredCOSStream.readOnlyJpegImage(supplier, 10, 10, 20, 8, mock(PDColorSpace.class));
+        verify(supplier, never()).open();
+        assertEquals(stream, victim.doGetFilteredStream());
+        assertEquals(stream, victim.doGetFilteredStream());
+        verify(supplier).open();
+        victim.close();
+        verify(stream).close();
+    }
+
+    @Test
+    public void supplierIsOpenedAgainAfterClose() throws IOException {
+        StreamSupplier supplier = mock(StreamSupplier.class);
+        when(supplier.open()).thenReturn(mock(InputStream.class));
+        victim = ReadOnlyFilteredCOSStream.readOnlyJpegImage(supplier, 10, 10, 20, 8, mock(PDColorSpace.class));
+        // more than the default budget, each one is closed before opening the next one
+        for (int i = 0; i < 100; i++) {
+            victim.doGetFilteredStream();
+            victim.close();
+        }
+        verify(supplier, times(100)).open();
+    }
+
+    @Test
+    public void openStreamsBudgetOfTheTask() throws IOException {
+        Semaphore openStreams = new Semaphore(1);
+        TemporaryBuffersManager manager = mock(TemporaryBuffersManager.class);
+        when(manager.openStreams()).thenReturn(openStreams);
+        StreamSupplier supplier = mock(StreamSupplier.class);
+        when(supplier.open()).thenReturn(mock(InputStream.class));
+        ThreadLocalTemporaryBuffersManager.bind(manager);
+        try {
+            victim = ReadOnlyFilteredCOSStream.readOnlyJpegImage(supplier, 10, 10, 20, 8, mock(PDColorSpace.class));
+        } finally {
+            ThreadLocalTemporaryBuffersManager.unbind();
+        }
+        victim.doGetFilteredStream();
+        assertEquals(0, openStreams.availablePermits());
+        victim.close();
+        assertEquals(1, openStreams.availablePermits());
+    }
+
+    @Test
+    public void openStreamsBudgetOfTheTaskOnWorkerThreads() throws Exception {
+        Semaphore openStreams = new Semaphore(1);
+        TemporaryBuffersManager manager = mock(TemporaryBuffersManager.class);
+        when(manager.openStreams()).thenReturn(openStreams);
+        StreamSupplier supplier = mock(StreamSupplier.class);
+        when(supplier.open()).thenReturn(mock(InputStream.class));
+        ExecutorService executor = WorkerThreads.newFixedThreadPool(1, "test-workers");
+        ThreadLocalTemporaryBuffersManager.bind(manager);
+        try {
+            victim = executor.submit(() -> ReadOnlyFilteredCOSStream.readOnlyJpegImage(supplier, 10, 10, 20, 8,
+                    mock(PDColorSpace.class))).get();
+        } finally {
+            ThreadLocalTemporaryBuffersManager.unbind();
+            WorkerThreads.shutdownAndWait(executor);
+        }
+        victim.doGetFilteredStream();
+        assertEquals(0, openStreams.availablePermits());
+        victim.close();
+        assertEquals(1, openStreams.availablePermits());
+    }
+
+    @Test
+    public void closeNotOpened() throws IOException {
+        StreamSupplier supplier = mock(StreamSupplier.class);
+        victim = ReadOnlyFilteredCOSStream.readOnlyJpegImage(supplier, 10, 10, 20, 8, mock(PDColorSpace.class));
+        victim.close();
+        verify(supplier, never()).open();
+    }
 }
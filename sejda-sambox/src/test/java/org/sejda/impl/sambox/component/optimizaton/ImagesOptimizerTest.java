@@ -22,11 +22,15 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
 
 import java.io.IOException;
+import java.io.InputStream;
 
+import org.apache.commons.io.IOUtils;
 import org.junit.Before;
 import org.junit.Test;
+import org.sejda.impl.sambox.component.ReadOnlyFilteredCOSStream;
 import org.sejda.io.SeekableSources;
 import org.sejda.model.optimization.Optimization;
 import org.sejda.model.parameter.OptimizeParameters;
@@ -113,6 +117,7 @@ public class ImagesOptimizerTest {
         assertNotEquals(image, getImage(document.getPage(2), "X0"));
         assertNotEquals(image, getImage(document.getPage(3), "X0"));
         document.getPages().forEach(optimizer::accept);
+        optimizer.optimizeImages();
         COSBase compressed = getImage(document.getPage(0), "X0");
         assertEquals(compressed, getImage(document.getPage(0), "X0"));
         assertEquals(compressed, getImage(document.getPage(1), "X0"));
@@ -131,10 +136,58 @@ public class ImagesOptimizerTest {
         ImagesOptimizer optimizer = new ImagesOptimizer(params);
         COSBase image = getImage(document.getPage(0), "Im1");
         document.getPages().forEach(optimizer::accept);
+        optimizer.optimizeImages();
         COSBase compressed = getImage(document.getPage(0), "Im1");
         assertNotEquals(image, compressed);
     }
 
+    @Test
+    public void optimizeReuseImagesInParallel() throws Exception {
+        params.addOptimization(Optimization.COMPRESS_IMAGES);
+        params.setImageQuality(0.8f);
+        params.setImageDpi(72);
+        params.setImageCompressionParallelism(3);
+        document = PDFParser.parse(SeekableSources.inMemorySeekableSourceFrom(
+                getClass().getClassLoader().getResourceAsStream("pdf/test_optimize_repeated_images.pdf")));
+        ImagesOptimizer optimizer = new ImagesOptimizer(params);
+        COSBase image = getImage(document.getPage(0), "X0");
+        document.getPages().forEach(optimizer::accept);
+        assertEquals(image, getImage(document.getPage(0), "X0"));
+        optimizer.optimizeImages();
+        COSBase compressed = getImage(document.getPage(0), "X0");
+        assertNotEquals(image, compressed);
+        assertEquals(compressed, getImage(document.getPage(1), "X0"));
+        assertEquals(compressed, getImage(document.getPage(2), "X0"));
+        assertEquals(compressed, getImage(document.getPage(3), "X0"));
+    }
+
+    @Test
+    public void closeDeletesImagesStoredInTemporaryFiles() throws Exception {
+        params.addOptimization(Optimization.COMPRESS_IMAGES);
+        params.setImageQuality(0.8f);
+        params.setImageDpi(72);
+        params.setImageCompressionParallelism(3);
+        params.setMaxInMemoryImagesSize(0);
+        document = PDFParser.parse(SeekableSources.inMemorySeekableSourceFrom(
+                getClass().getClassLoader().getResourceAsStream("pdf/test_optimize_repeated_images.pdf")));
+        ImagesOptimizer optimizer = new ImagesOptimizer(params);
+        document.getPages().forEach(optimizer::accept);
+        optimizer.optimizeImages();
+        ReadOnlyFilteredCOSStream compressed = (ReadOnlyFilteredCOSStream) getImage(document.getPage(0), "X0");
+        try (InputStream stream = compressed.getFilteredStream()) {
+            assertEquals(compressed.getFilteredLength(), IOUtils.toByteArray(stream).length);
+        } finally {
+            compressed.close();
+        }
+        optimizer.close();
+        try {
+            compressed.getFilteredStream();
+            fail("Temporary file expected to be deleted");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
     private COSBase getImage(PDPage page, String name) {
         return ((COSDictionary) page.getResources().getCOSObject().getDictionaryObject(COSName.XOBJECT))
                 .getDictionaryObject(COSName.getPDFName(name)).getCOSObject();
@@ -21,11 +21,17 @@ package org.sejda.impl.sambox.component.split;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 
 import org.junit.Test;
+import org.sejda.impl.sambox.component.ReadOnlyFilteredCOSStream;
 import org.sejda.io.SeekableSources;
+import org.sejda.sambox.cos.COSBase;
+import org.sejda.sambox.cos.COSDictionary;
 import org.sejda.sambox.cos.COSName;
 import org.sejda.sambox.input.PDFParser;
 import org.sejda.sambox.pdmodel.PDDocument;
@@ -53,6 +59,43 @@ public class PageCopierTest {
         }
     }
 
+    @Test
+    public void sharedImagesHitOnce() throws IOException {
+        try (PDDocument document = PDFParser.parse(SeekableSources.inMemorySeekableSourceFrom(
+                getClass().getClassLoader().getResourceAsStream("pdf/shared_resource_dic_w_images.pdf")))) {
+            PageCopier victim = new PageCopier(true);
+            COSBase first = firstImage(victim.copyOf(document.getPage(0)));
+            assertTrue(first instanceof ReadOnlyFilteredCOSStream);
+            assertSame(first, firstImage(victim.copyOf(document.getPage(1))));
+            victim.reset();
+            assertNotSame(first, firstImage(victim.copyOf(document.getPage(1))));
+        }
+    }
+
+    @Test
+    public void sameContentCleanedOnce() throws IOException {
+        try (PDDocument document = PDFParser.parse(SeekableSources.inMemorySeekableSourceFrom(
+                getClass().getClassLoader().getResourceAsStream("pdf/shared_resource_dic_w_images.pdf")))) {
+            PageCopier victim = new PageCopier(true);
+            PDPage first = victim.copyOf(document.getPage(0));
+            PDPage second = victim.copyOf(document.getPage(0));
+            assertNotSame(first.getCOSObject(), second.getCOSObject());
+            assertSame(first.getResources().getCOSObject(), second.getResources().getCOSObject());
+            assertNotSame(first.getResources().getCOSObject(),
+                    victim.copyOf(document.getPage(1)).getResources().getCOSObject());
+            victim.reset();
+            assertNotSame(first.getResources().getCOSObject(),
+                    victim.copyOf(document.getPage(0)).getResources().getCOSObject());
+        }
+    }
+
+    private static COSBase firstImage(PDPage page) {
+        COSDictionary xobjects = page.getResources().getCOSObject().getDictionaryObject(COSName.XOBJECT,
+                COSDictionary.class);
+        return xobjects.getValues().stream().map(COSBase::getCOSObject)
+                .filter(x -> x instanceof ReadOnlyFilteredCOSStream).findFirst().orElse(null);
+    }
+
     @Test
     public void pageWithAnnots() throws IOException {
         try (PDDocument document = PDFParser.parse(SeekableSources.inMemorySeekableSourceFrom(
@@ -0,0 +1,53 @@
+/*
+ * Created on 18 ott 2026
+ * Copyright 2026 by agent (agent@local).
+ * This file is part of Sejda.
+ *
+ * Sejda is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Sejda is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Sejda.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.sejda.impl.sambox.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.sejda.fonts.UnicodeType0Font;
+
+/**
+ * @author agent
+ *
+ */
+public class FontCoverageTest {
+
+    @Test
+    public void covers() {
+        assertTrue(FontCoverage.covers(UnicodeType0Font.NOTO_SANS_THAI_REGULAR, "ทดสอบ"));
+        assertTrue(FontCoverage.covers(UnicodeType0Font.NOTO_SANS_DEVANAGARI_REGULAR, "कसौटी"));
+        assertTrue(FontCoverage.covers(UnicodeType0Font.NOTO_SANS_REGULAR, "Chuck"));
+        assertTrue(FontCoverage.covers(UnicodeType0Font.NOTO_SANS_REGULAR, ""));
+    }
+
+    @Test
+    public void doesntCover() {
+        assertFalse(FontCoverage.covers(UnicodeType0Font.NOTO_SANS_REGULAR, "ทดสอบ"));
+        assertFalse(FontCoverage.covers(UnicodeType0Font.NOTO_SANS_THAI_REGULAR, "Chuck ทดสอบ വീട്"));
+    }
+
+    @Test
+    public void computedOnce() {
+        assertSame(FontCoverage.coverage(UnicodeType0Font.NOTO_SANS_HEBREW_REGULAR),
+                FontCoverage.coverage(UnicodeType0Font.NOTO_SANS_HEBREW_REGULAR));
+    }
+}
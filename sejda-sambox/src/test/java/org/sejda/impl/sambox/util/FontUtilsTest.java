@@ -21,7 +21,9 @@ package org.sejda.impl.sambox.util;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.sejda.impl.sambox.util.FontUtils.canDisplay;
 import static org.sejda.impl.sambox.util.FontUtils.findFontFor;
@@ -71,6 +73,13 @@ public class FontUtilsTest {
         assertNull(findFontFor(new PDDocument(), "വീട്"));
     }
 
+    @Test
+    public void findFontForLoadsOncePerDocument() {
+        PDDocument document = new PDDocument();
+        assertSame(findFontFor(document, "ทดสอบ"), findFontFor(document, "สอบ"));
+        assertNotSame(findFontFor(document, "ทดสอบ"), findFontFor(new PDDocument(), "ทดสอบ"));
+    }
+
     @Test
     public void testFontOrFallbackPositive() {
         PDType1Font expected = getStandardType1Font(StandardType1Font.HELVETICA_BOLD_OBLIQUE);